@@ -94,7 +94,11 @@ enum Capability {
     /**
      * {@link  com.djrapitops.plan.delivery.web.ResolverService#registerPermissions(String...)}
      */
-    PAGE_EXTENSION_USER_PERMISSIONS;
+    PAGE_EXTENSION_USER_PERMISSIONS,
+    /**
+     * {@link com.djrapitops.plan.delivery.web.resolver.Resolver#resolveAsync(com.djrapitops.plan.delivery.web.resolver.request.Request)}
+     */
+    PAGE_EXTENSION_ASYNC_RESOLVERS;
 
     static Optional<Capability> getByName(String name) {
         if (name == null) {
@@ -22,6 +22,7 @@ import com.djrapitops.plan.delivery.web.resolver.request.URIPath;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -94,6 +95,14 @@ public final class CompositeResolver implements Resolver {
         return getResolver(forThis.getPath()).flatMap(resolver -> resolver.resolve(forThis));
     }
 
+    @Override
+    public CompletableFuture<Optional<Response>> resolveAsync(Request request) {
+        Request forThis = request.omitFirstInPath();
+        return getResolver(forThis.getPath())
+                .map(resolver -> resolver.resolveAsync(forThis))
+                .orElseGet(() -> CompletableFuture.completedFuture(Optional.empty()));
+    }
+
     @Override
     public boolean requiresAuth(Request request) {
         Request forThis = request.omitFirstInPath();
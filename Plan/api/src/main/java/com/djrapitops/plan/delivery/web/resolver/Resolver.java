@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface for resolving requests of Plan webserver.
@@ -51,6 +52,23 @@ public interface Resolver {
      */
     Optional<Response> resolve(Request request);
 
+    /**
+     * Override to resolve the request without holding a webserver thread.
+     * <p>
+     * Useful when the response requires slow operations like database queries.
+     * The webserver thread is released while the returned future is incomplete,
+     * and the response is sent once the future completes.
+     * <p>
+     * Exceptions that complete the future exceptionally are handled the same way as ones thrown by {@link #resolve(Request)}.
+     *
+     * @param request HTTP request, contains all information necessary to resolve the request.
+     * @return Future that completes with Response or empty if the response should be 404 (not found).
+     * @see #resolve(Request) for default implementation that is used if this method is not overridden.
+     */
+    default CompletableFuture<Optional<Response>> resolveAsync(Request request) {
+        return CompletableFuture.completedFuture(resolve(request));
+    }
+
     default ResponseBuilder newResponseBuilder() {
         return Response.builder();
     }
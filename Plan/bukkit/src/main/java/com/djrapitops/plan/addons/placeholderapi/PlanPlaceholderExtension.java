@@ -18,20 +18,22 @@ package com.djrapitops.plan.addons.placeholderapi;
 
 import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.placeholder.PlanPlaceholders;
-import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import com.djrapitops.plan.version.VersionChecker;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import me.clip.placeholderapi.PlaceholderAPIPlugin;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Placeholder expansion used to provide data from Plan on Bukkit.
@@ -40,28 +42,20 @@ import java.util.concurrent.TimeUnit;
  */
 public class PlanPlaceholderExtension extends PlaceholderExpansion {
 
+    private static final long LOAD_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+
     private final ErrorLogger errorLogger;
     private final VersionChecker versionChecker;
     private final PlanPlaceholders placeholders;
 
-    private final Set<String> currentlyProcessing;
-    private final Processing processing;
-    private final Cache<String, String> cache;
-
     public PlanPlaceholderExtension(
             PlanPlaceholders placeholders,
             PlanSystem system,
             ErrorLogger errorLogger
     ) {
         this.placeholders = placeholders;
-        processing = system.getProcessing();
         this.versionChecker = system.getVersionChecker();
         this.errorLogger = errorLogger;
-
-        currentlyProcessing = Collections.newSetFromMap(new ConcurrentHashMap<>());
-        cache = Caffeine.newBuilder()
-                .expireAfterWrite(60, TimeUnit.SECONDS)
-                .build();
     }
 
     @Override
@@ -93,12 +87,12 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
     public String onRequest(OfflinePlayer player, @Untrusted String params) {
         try {
             UUID uuid = player != null ? player.getUniqueId() : null;
-            if ("Server thread".equalsIgnoreCase(Thread.currentThread().getName())) {
-                return getCached(params, uuid);
+            if (Bukkit.isPrimaryThread()) {
+                // Never block the server thread, values are loaded in the background
+                return replaceBooleans(placeholders.onCachedPlaceholderRequest(uuid, parseRequest(params), parseParameters(params)));
             }
 
-            return Optional.ofNullable(getCached(params, uuid))
-                    .orElseGet(() -> getPlaceholderValue(params, uuid));
+            return getPlaceholderValue(params, uuid);
         } catch (IllegalStateException e) {
             if ("zip file closed".equals(e.getMessage())) {
                 return null; // Plan is disabled.
@@ -110,19 +104,28 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
 
     private String getPlaceholderValue(@Untrusted String params, UUID uuid) {
         try {
-            String value = placeholders.onPlaceholderRequest(uuid, parseRequest(params), parseParameters(params));
-
-            if ("true".equals(value)) { //hack
-                value = PlaceholderAPIPlugin.booleanTrue();
-            } else if ("false".equals(value)) {
-                value = PlaceholderAPIPlugin.booleanFalse();
-            }
-
-            return value;
-        } catch (Exception e) {
-            errorLogger.warn(e, ErrorContext.builder().whatToDo("Report this").related("Placeholder Request", params, uuid).build());
+            // Wait is bounded so that other threads don't pile up behind a saturated processing pool
+            return replaceBooleans(placeholders.loadPlaceholderValue(uuid, parseRequest(params), parseParameters(params))
+                    .get(LOAD_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             return null;
+        } catch (TimeoutException e) {
+            return null; // Value is stored in memory when the load finishes, next request gets it.
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) return null; // Plan is disabling.
+            errorLogger.warn(e.getCause() != null ? e.getCause() : e, ErrorContext.builder().whatToDo("Report this").related("Placeholder Request", params, uuid).build());
+            return null;
+        }
+    }
+
+    private String replaceBooleans(String value) {
+        if ("true".equals(value)) { //hack
+            return PlaceholderAPIPlugin.booleanTrue();
+        } else if ("false".equals(value)) {
+            return PlaceholderAPIPlugin.booleanFalse();
         }
+        return value;
     }
 
     @Untrusted
@@ -143,22 +146,4 @@ public class PlanPlaceholderExtension extends PlaceholderExpansion {
         }
         return parameters;
     }
-
-    private String getCached(@Untrusted String params, UUID uuid) {
-        @Untrusted String key = params + "-" + uuid;
-
-        if (!currentlyProcessing.contains(key)) {
-            currentlyProcessing.add(key);
-            processing.submitNonCritical(() -> {
-                String value = getPlaceholderValue(params, uuid);
-
-                if (value != null) {
-                    cache.put(key, value);
-                }
-                currentlyProcessing.remove(key);
-            });
-        }
-
-        return cache.getIfPresent(key);
-    }
 }
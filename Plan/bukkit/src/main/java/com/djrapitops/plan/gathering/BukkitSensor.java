@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 public class BukkitSensor implements ServerSensor<World> {
 
     private final Server server;
+    private final IncrementalWorldCounts worldCounts;
 
     private final boolean hasTPSMethod;
     private final boolean hasEntityCountMethod;
@@ -37,9 +38,11 @@ public class BukkitSensor implements ServerSensor<World> {
 
     @Inject
     public BukkitSensor(
-            Server server
+            Server server,
+            IncrementalWorldCounts worldCounts
     ) {
         this.server = server;
+        this.worldCounts = worldCounts;
         boolean hasPaper = isPaperAvailable();
         hasTPSMethod = hasPaper && hasPaperMethod(Server.class, "getTPS");
         hasEntityCountMethod = hasPaper && hasPaperMethod(World.class, "getEntityCount");
@@ -74,6 +77,9 @@ public class BukkitSensor implements ServerSensor<World> {
                 // Use spigot method
             }
         }
+        if (usesIncrementalWorldCounts()) {
+            return worldCounts.getChunkCount(world.getName(), () -> getChunkCountSpigotWay(world));
+        }
         return getChunkCountSpigotWay(world);
     }
 
@@ -94,6 +100,9 @@ public class BukkitSensor implements ServerSensor<World> {
                 // Use spigot method
             }
         }
+        if (usesIncrementalWorldCounts()) {
+            return worldCounts.getEntityCount(world.getName(), () -> getEntitiesSpigotWay(world));
+        }
         return getEntitiesSpigotWay(world);
     }
 
@@ -105,6 +114,17 @@ public class BukkitSensor implements ServerSensor<World> {
         return world.getEntityCount();
     }
 
+    /**
+     * Check if entity and chunk counts are kept up to date with events.
+     * <p>
+     * Paper can count entities and chunks without copying them, so events are not needed there.
+     *
+     * @return true if {@link com.djrapitops.plan.gathering.listeners.bukkit.WorldCountListener} should be registered.
+     */
+    public boolean usesIncrementalWorldCounts() {
+        return (!hasEntityCountMethod || !hasChunkCountMethod) && worldCounts.isEnabled();
+    }
+
     @Override
     public int getOnlinePlayerCount() {
         return server.getOnlinePlayers().size();
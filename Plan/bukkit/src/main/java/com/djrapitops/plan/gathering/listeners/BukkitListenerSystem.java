@@ -19,14 +19,17 @@ package com.djrapitops.plan.gathering.listeners;
 import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.api.events.PlanBukkitEnableEvent;
 import com.djrapitops.plan.capability.CapabilitySvc;
+import com.djrapitops.plan.gathering.BukkitSensor;
 import com.djrapitops.plan.gathering.listeners.bukkit.*;
 import net.playeranalytics.plugin.server.Listeners;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 
 import javax.inject.Inject;
 
 public class BukkitListenerSystem extends ListenerSystem {
 
+    private final PlanPlugin plugin;
     private final Listeners listeners;
 
     private final Status status;
@@ -36,9 +39,13 @@ public class BukkitListenerSystem extends ListenerSystem {
     private final WorldChangeListener worldChangeListener;
     private final DeathEventListener deathEventListener;
     private final BukkitAFKListener afkListener;
+    private final WorldCountListener worldCountListener;
+    private final TickDurationListener tickDurationListener;
+    private final BukkitSensor sensor;
 
     @Inject
     public BukkitListenerSystem(
+            PlanPlugin plugin,
             Listeners listeners,
             Status status,
             PlayerOnlineListener playerOnlineListener,
@@ -46,8 +53,12 @@ public class BukkitListenerSystem extends ListenerSystem {
             GameModeChangeListener gamemodeChangeListener,
             WorldChangeListener worldChangeListener,
             DeathEventListener deathEventListener,
-            BukkitAFKListener afkListener
+            BukkitAFKListener afkListener,
+            WorldCountListener worldCountListener,
+            TickDurationListener tickDurationListener,
+            BukkitSensor sensor
     ) {
+        this.plugin = plugin;
         this.listeners = listeners;
         this.status = status;
 
@@ -57,6 +68,9 @@ public class BukkitListenerSystem extends ListenerSystem {
         this.worldChangeListener = worldChangeListener;
         this.deathEventListener = deathEventListener;
         this.afkListener = afkListener;
+        this.worldCountListener = worldCountListener;
+        this.tickDurationListener = tickDurationListener;
+        this.sensor = sensor;
     }
 
     @Override
@@ -67,6 +81,11 @@ public class BukkitListenerSystem extends ListenerSystem {
         listeners.registerListener(worldChangeListener);
         listeners.registerListener(deathEventListener);
         listeners.registerListener(afkListener);
+        if (sensor.usesIncrementalWorldCounts()) {
+            listeners.registerListener(worldCountListener);
+            worldCountListener.registerEntityEvents((Plugin) plugin);
+        }
+        tickDurationListener.registerTickEndEvent((Plugin) plugin);
         status.setCountKicks(true);
     }
 
@@ -0,0 +1,78 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.bukkit;
+
+import com.djrapitops.plan.gathering.timed.TickDurationRecorder;
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import javax.inject.Inject;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener that gives {@link TickDurationRecorder} the time the server spent working on each tick.
+ * <p>
+ * Uses Paper's ServerTickEndEvent, on Spigot and CraftBukkit tick durations are not recorded.
+ *
+ * @author AuroraLS3
+ */
+public class TickDurationListener implements Listener {
+
+    private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private final TickDurationRecorder tickDurations;
+
+    @Inject
+    public TickDurationListener(TickDurationRecorder tickDurations) {
+        this.tickDurations = tickDurations;
+    }
+
+    /**
+     * Register ServerTickEndEvent if the server has it (Paper).
+     * <p>
+     * The event is not in the API Plan compiles against, so it is registered reflectively.
+     *
+     * @param plugin Plugin to register the event for.
+     */
+    public void registerTickEndEvent(Plugin plugin) {
+        try {
+            Class<? extends Event> tickEndEvent = Class.forName("com.destroystokyo.paper.event.server.ServerTickEndEvent").asSubclass(Event.class);
+            Method getTickDuration = tickEndEvent.getMethod("getTickDuration");
+
+            Bukkit.getPluginManager().registerEvent(tickEndEvent, this, EventPriority.MONITOR, (listener, event) -> {
+                if (!tickEndEvent.isInstance(event)) return;
+                recordTick(getTickDuration, event);
+            }, plugin);
+        } catch (ClassNotFoundException | NoSuchMethodException | ClassCastException notPaper) {
+            // Tick durations are not recorded
+        }
+    }
+
+    private void recordTick(Method getTickDuration, Event event) {
+        try {
+            double durationMs = (double) getTickDuration.invoke(event);
+            tickDurations.recordTick((long) (durationMs * NANOS_PER_MS));
+        } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
+            // Tick is left out of the percentiles
+        }
+    }
+}
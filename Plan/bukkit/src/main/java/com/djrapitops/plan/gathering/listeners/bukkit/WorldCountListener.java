@@ -0,0 +1,176 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.bukkit;
+
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import javax.inject.Inject;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * Listener that keeps {@link IncrementalWorldCounts} up to date so that entities and chunks don't need to be counted every minute.
+ * <p>
+ * Minecraft 1.17+ loads entities separately from chunks, so EntitiesLoadEvent and EntitiesUnloadEvent are used there
+ * instead of {@link Chunk#getEntities()}, which would copy the entities of every chunk.
+ * <p>
+ * Bukkit has no single event for entity removal. Picked up experience orbs, landed projectiles, broken vehicles and
+ * hanging entities, and entities removed by other plugins are not seen, so the entity count drifts upwards until
+ * the next full count corrects it.
+ *
+ * @author AuroraLS3
+ */
+public class WorldCountListener implements Listener {
+
+    private final IncrementalWorldCounts worldCounts;
+
+    private boolean countsEntitiesWithEntityEvents = false;
+
+    @Inject
+    public WorldCountListener(IncrementalWorldCounts worldCounts) {
+        this.worldCounts = worldCounts;
+    }
+
+    /**
+     * Register EntitiesLoadEvent and EntitiesUnloadEvent if the server has them (1.17+).
+     * <p>
+     * The events are not in the API Plan compiles against, so they are registered reflectively.
+     *
+     * @param plugin Plugin to register the events for.
+     */
+    public void registerEntityEvents(Plugin plugin) {
+        try {
+            Class<? extends Event> loadEvent = Class.forName("org.bukkit.event.world.EntitiesLoadEvent").asSubclass(Event.class);
+            Class<? extends Event> unloadEvent = Class.forName("org.bukkit.event.world.EntitiesUnloadEvent").asSubclass(Event.class);
+            Method getLoadedEntities = loadEvent.getMethod("getEntities");
+            Method getUnloadedEntities = unloadEvent.getMethod("getEntities");
+
+            Bukkit.getPluginManager().registerEvent(loadEvent, this, EventPriority.MONITOR, (listener, event) -> {
+                if (!loadEvent.isInstance(event)) return;
+                worldCounts.entitiesAdded(getWorldName(event), getEntityCount(getLoadedEntities, event));
+            }, plugin);
+            Bukkit.getPluginManager().registerEvent(unloadEvent, this, EventPriority.MONITOR, (listener, event) -> {
+                if (!unloadEvent.isInstance(event)) return;
+                worldCounts.entitiesRemoved(getWorldName(event), getEntityCount(getUnloadedEntities, event));
+            }, plugin);
+            countsEntitiesWithEntityEvents = true;
+        } catch (ClassNotFoundException | NoSuchMethodException | ClassCastException beforeMinecraft1_17) {
+            // Entities are counted from chunk events
+        }
+    }
+
+    private static String getWorldName(Event event) {
+        return ((ChunkEvent) event).getWorld().getName();
+    }
+
+    private static int getEntityCount(Method getEntities, Event event) {
+        try {
+            return ((Collection<?>) getEntities.invoke(event)).size();
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return 0; // Full count corrects the count
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        String world = chunk.getWorld().getName();
+        worldCounts.chunkLoaded(world);
+        if (!countsEntitiesWithEntityEvents) {
+            worldCounts.entitiesAdded(world, chunk.getEntities().length);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        String world = chunk.getWorld().getName();
+        worldCounts.chunkUnloaded(world);
+        if (!countsEntitiesWithEntityEvents) {
+            worldCounts.entitiesRemoved(world, chunk.getEntities().length);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        worldCounts.worldUnloaded(event.getWorld().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent event) {
+        worldCounts.entitiesAdded(event.getLocation().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        if (event.getEntity() instanceof Player) return; // Players are removed on quit
+        worldCounts.entitiesRemoved(event.getEntity().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemDespawn(ItemDespawnEvent event) {
+        worldCounts.entitiesRemoved(event.getEntity().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemPickup(EntityPickupItemEvent event) {
+        if (event.getRemaining() > 0) return; // Part of the stack is left on the ground
+        worldCounts.entitiesRemoved(event.getItem().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemMerge(ItemMergeEvent event) {
+        worldCounts.entitiesRemoved(event.getEntity().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        worldCounts.entitiesAdded(event.getPlayer().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        worldCounts.entitiesRemoved(event.getPlayer().getWorld().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        worldCounts.entitiesRemoved(event.getFrom().getName(), 1);
+        worldCounts.entitiesAdded(event.getPlayer().getWorld().getName(), 1);
+    }
+}
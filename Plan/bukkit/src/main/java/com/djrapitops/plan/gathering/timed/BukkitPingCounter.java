@@ -24,13 +24,11 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.Listeners;
@@ -43,8 +41,8 @@ import org.bukkit.event.player.PlayerQuitEvent;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -60,12 +58,7 @@ import java.util.logging.Logger;
 @Singleton
 public class BukkitPingCounter extends TaskSystem.Task implements Listener {
 
-    //the server is pinging the client every 40 Ticks (2 sec) - so check it then
-    //https://github.com/bergerkiller/CraftSource/blob/master/net.minecraft.server/PlayerConnection.java#L178
-
-
-    private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -86,8 +79,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        pingCollector = new PingCollector();
 
         Optional<PingMethod> pingMethod = loadPingMethod();
         if (pingMethod.isPresent()) {
@@ -123,13 +115,14 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
         return Optional.empty();
     }
 
-
     @Override
     public void register(RunnableFactory runnableFactory) {
         Long startDelay = config.get(TimeSettings.PING_SERVER_ENABLE_DELAY);
         if (startDelay < TimeUnit.HOURS.toMillis(1L) && config.isTrue(DataGatheringSettings.PING)) {
             listeners.registerListener(this);
             long delay = TimeAmount.toTicks(startDelay, TimeUnit.MILLISECONDS);
+            //the server is pinging the client every 40 Ticks (2 sec) - so check it then
+            //https://github.com/bergerkiller/CraftSource/blob/master/net.minecraft.server/PlayerConnection.java#L178
             long period = 40L;
             runnableFactory.create(this).runTaskTimer(delay, period);
         }
@@ -138,49 +131,23 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            Player player = Bukkit.getPlayer(uuid);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        pingCollector.addPlayer(uuid);
     }
 
     public void removePlayer(Player player) {
-        startRecording.remove(player.getUniqueId());
-        playerHistory.remove(player.getUniqueId());
+        pingCollector.removePlayer(player.getUniqueId());
+    }
+
+    private int getPingOf(UUID playerUUID) {
+        Player player = Bukkit.getPlayer(playerUUID);
+        return player != null ? getPing(player) : PingCollector.PLAYER_OFFLINE;
     }
 
     private int getPing(Player player) {
@@ -197,7 +164,7 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
     }
 
     @EventHandler
@@ -206,6 +173,6 @@ public class BukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 }
@@ -24,13 +24,11 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.ServerConnectedEvent;
@@ -43,8 +41,7 @@ import net.playeranalytics.plugin.server.Listeners;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,8 +52,7 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class BungeePingCounter extends TaskSystem.Task implements Listener {
 
-    private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -74,45 +70,15 @@ public class BungeePingCounter extends TaskSystem.Task implements Listener {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        pingCollector = new PingCollector();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            ProxiedPlayer player = ProxyServer.getInstance().getPlayer(uuid);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
@@ -129,12 +95,16 @@ public class BungeePingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        pingCollector.addPlayer(uuid);
     }
 
     public void removePlayer(ProxiedPlayer player) {
-        playerHistory.remove(player.getUniqueId());
-        startRecording.remove(player.getUniqueId());
+        pingCollector.removePlayer(player.getUniqueId());
+    }
+
+    private int getPingOf(UUID playerUUID) {
+        ProxiedPlayer player = ProxyServer.getInstance().getPlayer(playerUUID);
+        return player != null ? getPing(player) : PingCollector.PLAYER_OFFLINE;
     }
 
     private int getPing(ProxiedPlayer player) {
@@ -148,7 +118,7 @@ public class BungeePingCounter extends TaskSystem.Task implements Listener {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
     }
 
     @EventHandler
@@ -157,6 +127,6 @@ public class BungeePingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 }
@@ -38,6 +38,7 @@ import com.djrapitops.plan.settings.SchedulerSvc;
 import com.djrapitops.plan.settings.SettingsSvc;
 import com.djrapitops.plan.settings.locale.LocaleSystem;
 import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerLifecycleEventTransaction;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -46,6 +47,9 @@ import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PlanSystem contains everything Plan needs to run.
@@ -60,6 +64,8 @@ public class PlanSystem implements SubSystem {
     private static final long SERVER_ENABLE_TIME = System.currentTimeMillis();
 
     private boolean enabled = false;
+    private Map<String, Long> enableTimes = Collections.emptyMap();
+    private long enableTimeMs = -1;
 
     private final PlanFiles files;
     private final ConfigSystem configSystem;
@@ -179,19 +185,28 @@ public class PlanSystem implements SubSystem {
         schedulerService.register();
         queryService.register();
 
-        enableSystems(
-                processing,
-                files,
-                localeSystem,
-                versionChecker,
-                databaseSystem,
-                webServerSystem,
-                serverInfo,
-                importSystem,
-                exportSystem,
-                cacheSystem,
-                listenerSystem,
-                taskSystem
+        long enableStart = System.nanoTime();
+        // Web server waits for the database since request handlers and cookie reload query it immediately.
+        // Locale is loaded before the database so that patches that log use the loaded locale.
+        enableTimes = new SubSystemEnabler(4)
+                .add("Processing", processing)
+                .add("Files", files)
+                .add("Version checker", versionChecker)
+                .add("Locale", localeSystem, files)
+                .add("Database", databaseSystem, files, processing, localeSystem)
+                .add("Webserver", webServerSystem, files, processing, localeSystem, databaseSystem)
+                .addOnCallingThread("Server info", serverInfo, databaseSystem, webServerSystem)
+                .add("Import", importSystem, processing, databaseSystem)
+                .add("Export", exportSystem, serverInfo)
+                .add("Cache", cacheSystem, files, processing, localeSystem, databaseSystem)
+                .addOnCallingThread("Listeners", listenerSystem, processing, files, localeSystem, versionChecker,
+                        databaseSystem, webServerSystem, serverInfo, importSystem, exportSystem, cacheSystem)
+                .addOnCallingThread("Tasks", taskSystem, listenerSystem)
+                .enable();
+        enableTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enableStart);
+
+        databaseSystem.getDatabase().executeTransaction(
+                StoreServerLifecycleEventTransaction.started(serverInfo.getServerUUID(), SERVER_ENABLE_TIME)
         );
 
         // Disables Webserver if Proxy is detected in the database
@@ -239,9 +254,9 @@ public class PlanSystem implements SubSystem {
                 listenerSystem,
                 importSystem,
                 exportSystem,
+                webServerSystem, // Stores buffered access log, so disabled before database
                 processing,
                 databaseSystem,
-                webServerSystem,
                 serverInfo,
                 localeSystem,
                 configSystem,
@@ -320,6 +335,24 @@ public class PlanSystem implements SubSystem {
         return deliveryUtilities;
     }
 
+    /**
+     * Get how long it took to enable each system during last enable.
+     *
+     * @return Map: System name - Milliseconds, in enable order. Systems were enabled in parallel so values overlap.
+     */
+    public Map<String, Long> getEnableTimes() {
+        return enableTimes;
+    }
+
+    /**
+     * Get how long it took to enable the systems during last enable.
+     *
+     * @return Milliseconds, -1 if not enabled yet.
+     */
+    public long getEnableTimeMs() {
+        return enableTimeMs;
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
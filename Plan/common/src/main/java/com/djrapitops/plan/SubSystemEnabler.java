@@ -0,0 +1,172 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan;
+
+import com.djrapitops.plan.exceptions.EnableException;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Enables {@link SubSystem}s according to their dependencies, so that independent systems are enabled at the same time.
+ * <p>
+ * Systems are enabled on a bounded thread pool once all their dependencies are enabled, except systems added with
+ * {@link #addOnCallingThread(String, SubSystem, SubSystem...)} which are enabled on the thread calling {@link #enable()}.
+ *
+ * @author AuroraLS3
+ */
+public class SubSystemEnabler {
+
+    private final int maxThreads;
+    private final Map<SubSystem, Node> nodes = new LinkedHashMap<>();
+
+    public SubSystemEnabler(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Add a system that can be enabled on another thread.
+     *
+     * @param name         Name shown in enable timings.
+     * @param system       System to enable.
+     * @param dependencies Systems that need to be enabled first, these need to have been added before.
+     * @return this enabler.
+     * @throws IllegalArgumentException If a dependency has not been added.
+     */
+    public SubSystemEnabler add(String name, SubSystem system, SubSystem... dependencies) {
+        return add(new Node(name, system, false, getNodes(dependencies)));
+    }
+
+    /**
+     * Add a system that needs to be enabled on the thread calling {@link #enable()}.
+     *
+     * @param name         Name shown in enable timings.
+     * @param system       System to enable.
+     * @param dependencies Systems that need to be enabled first, these need to have been added before.
+     * @return this enabler.
+     * @throws IllegalArgumentException If a dependency has not been added.
+     */
+    public SubSystemEnabler addOnCallingThread(String name, SubSystem system, SubSystem... dependencies) {
+        return add(new Node(name, system, true, getNodes(dependencies)));
+    }
+
+    private SubSystemEnabler add(Node node) {
+        nodes.put(node.system, node);
+        return this;
+    }
+
+    private List<Node> getNodes(SubSystem... systems) {
+        List<Node> found = new ArrayList<>();
+        for (SubSystem system : systems) {
+            Node node = nodes.get(system);
+            if (node == null) {
+                throw new IllegalArgumentException("Dependency " + system + " has not been added before its dependant");
+            }
+            found.add(node);
+        }
+        return found;
+    }
+
+    /**
+     * Enable all added systems.
+     * <p>
+     * If a system fails to enable the systems depending on it are not enabled, and the exception is thrown once
+     * systems that were already enabling have finished.
+     *
+     * @return Map: Name of the system - Milliseconds it took to enable, in the order the systems were added.
+     * @throws EnableException If a system failed to enable.
+     */
+    public Map<String, Long> enable() {
+        ExecutorService executor = Executors.newFixedThreadPool(maxThreads, new BasicThreadFactory.Builder()
+                .namingPattern("Plan Enable-%d")
+                .daemon(true)
+                .build());
+        try {
+            for (Node node : nodes.values()) {
+                CompletableFuture<Void> dependencies = CompletableFuture.allOf(node.dependencies.stream()
+                        .map(dependency -> dependency.enabled)
+                        .toArray(CompletableFuture[]::new));
+                if (node.onCallingThread) {
+                    waitFor(dependencies);
+                    node.enabled = CompletableFuture.runAsync(node::enable, Runnable::run);
+                } else {
+                    node.enabled = dependencies.thenRunAsync(node::enable, executor);
+                }
+            }
+            waitFor(CompletableFuture.allOf(nodes.values().stream()
+                    .map(node -> node.enabled)
+                    .toArray(CompletableFuture[]::new)));
+        } catch (RuntimeException | Error e) {
+            waitForStartedToFinish();
+            throw e;
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<String, Long> durations = new LinkedHashMap<>();
+        for (Node node : nodes.values()) {
+            durations.put(node.name, TimeUnit.NANOSECONDS.toMillis(node.durationNs));
+        }
+        return durations;
+    }
+
+    private void waitFor(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new EnableException("Failed to enable: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void waitForStartedToFinish() {
+        for (Node node : nodes.values()) {
+            if (node.enabled == null) continue;
+            try {
+                node.enabled.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // The first failure is thrown.
+            }
+        }
+    }
+
+    private static class Node {
+        private final String name;
+        private final SubSystem system;
+        private final boolean onCallingThread;
+        private final List<Node> dependencies;
+
+        private CompletableFuture<Void> enabled;
+        private volatile long durationNs;
+
+        private Node(String name, SubSystem system, boolean onCallingThread, List<Node> dependencies) {
+            this.name = name;
+            this.system = system;
+            this.onCallingThread = onCallingThread;
+            this.dependencies = dependencies;
+        }
+
+        private void enable() {
+            long start = System.nanoTime();
+            system.enable();
+            durationNs = System.nanoTime() - start;
+        }
+    }
+}
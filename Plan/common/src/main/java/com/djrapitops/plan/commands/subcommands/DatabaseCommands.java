@@ -57,6 +57,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -140,7 +141,7 @@ public class DatabaseCommands {
             sender.send(locale.getString(CommandLang.DB_BACKUP_CREATE, fileName, dbName));
             toDB = sqliteFactory.usingFileCalled(fileName);
             toDB.init();
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, progressReporter(sender))).get();
         } catch (DBOpException | ExecutionException e) {
             errorLogger.error(e, ErrorContext.builder().related(sender, arguments).build());
         } catch (InterruptedException e) {
@@ -199,7 +200,7 @@ public class DatabaseCommands {
             fromDB.init();
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getType().getName()));
-            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB)).get();
+            toDB.executeTransaction(new BackupCopyTransaction(fromDB, toDB, progressReporter(sender))).get();
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -209,6 +210,10 @@ public class DatabaseCommands {
         }
     }
 
+    private BiConsumer<Long, Long> progressReporter(CMDSender sender) {
+        return (copied, total) -> sender.send(locale.getString(CommandLang.PROGRESS, copied, total));
+    }
+
     public void onMove(CMDSender sender, @Untrusted Arguments arguments) {
         DBType fromDB = arguments.get(0).flatMap(DBType::getForName)
                 .orElseThrow(() -> new IllegalArgumentException(locale.getString(CommandLang.FAIL_INCORRECT_DB, arguments.get(0).orElse(SUPPORTED_DB_OPTIONS))));
@@ -242,7 +247,7 @@ public class DatabaseCommands {
 
             sender.send(locale.getString(CommandLang.DB_WRITE, toDB.getName()));
 
-            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase)).get();
+            toDatabase.executeTransaction(new BackupCopyTransaction(fromDatabase, toDatabase, progressReporter(sender))).get();
 
             sender.send(locale.getString(CommandLang.PROGRESS_SUCCESS));
 
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.commands.subcommands;
 
 import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.PlanSystem;
 import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.commands.use.CMDSender;
 import com.djrapitops.plan.gathering.listeners.Status;
@@ -35,6 +36,7 @@ import net.playeranalytics.plugin.PluginInformation;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.StringJoiner;
 
 @Singleton
 public class PluginStatusCommands {
@@ -118,9 +120,17 @@ public class PluginStatusCommands {
                 locale.getString(CommandLang.INFO_DATABASE, database.getType().getName() + " (" + database.getState().name() + ")"),
                 locale.getString(CommandLang.INFO_PROXY_CONNECTION, proxyAvailable),
                 locale.getString(CommandLang.INFO_SERVER_UUID, serverInfo.getServerUUID()),
+                locale.getString(CommandLang.INFO_ENABLE_TIME, getEnableTimes()),
                 "",
                 ">"
         };
         sender.send(messages);
     }
+
+    private String getEnableTimes() {
+        PlanSystem system = plugin.getSystem();
+        StringJoiner subsystemTimes = new StringJoiner(", ", " (", ")").setEmptyValue("");
+        system.getEnableTimes().forEach((name, ms) -> subsystemTimes.add(name + " " + ms + "ms"));
+        return system.getEnableTimeMs() + "ms" + subsystemTimes;
+    }
 }
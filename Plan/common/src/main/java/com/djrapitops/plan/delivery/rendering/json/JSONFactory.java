@@ -18,6 +18,7 @@ package com.djrapitops.plan.delivery.rendering.json;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.delivery.domain.RetentionData;
+import com.djrapitops.plan.delivery.domain.TablePlayer;
 import com.djrapitops.plan.delivery.domain.datatransfer.ServerDto;
 import com.djrapitops.plan.delivery.domain.mutators.PlayerKillMutator;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
@@ -47,6 +48,7 @@ import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerRetentionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePage;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
 import com.djrapitops.plan.utilities.comparators.SessionStartComparator;
 import com.djrapitops.plan.utilities.dev.Untrusted;
@@ -56,6 +58,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -118,6 +121,82 @@ public class JSONFactory {
 
         Database database = dbSystem.getDatabase();
 
+        return new PlayersTableJSONCreator(
+                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
+                networkExtensionTableData(serverUUID -> new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers)),
+                openPlayerLinksInNewTab,
+                formatters, locale,
+                true // players page
+        ).toJSONMap();
+    }
+
+    /**
+     * Create a single page of the server players table, sorted and filtered in the database.
+     *
+     * @param serverUUID UUID of the server
+     * @param page       Page to create, limit is capped to the configured amount of players.
+     * @return JSON map with columns, data and total counts of the table.
+     */
+    public Map<String, Object> serverPlayersTablePageJSON(ServerUUID serverUUID, PlayersTablePage page) {
+        PlayersTablePage cappedPage = capLimit(page, config.get(DisplaySettings.PLAYERS_PER_SERVER_PAGE));
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        List<TablePlayer> players = database.query(new ServerTablePlayersQuery(serverUUID, System.currentTimeMillis(), playtimeThreshold, cappedPage));
+        Map<String, Object> json = new HashMap<>(new PlayersTableJSONCreator(
+                players,
+                database.query(new ExtensionServerTableDataQuery(serverUUID, getUUIDs(players))),
+                openPlayerLinksInNewTab,
+                formatters, locale
+        ).toJSONMap());
+        json.put("recordsTotal", database.query(ServerTablePlayersQuery.countPlayers(serverUUID, PlayersTablePage.mostRecentlySeen(0))));
+        json.put("recordsFiltered", database.query(ServerTablePlayersQuery.countPlayers(serverUUID, cappedPage)));
+        return json;
+    }
+
+    /**
+     * Create a single page of the network players table, sorted and filtered in the database.
+     *
+     * @param page Page to create, limit is capped to the configured amount of players.
+     * @return JSON map with columns, data and total counts of the table.
+     */
+    public Map<String, Object> networkPlayersTablePageJSON(PlayersTablePage page) {
+        PlayersTablePage cappedPage = capLimit(page, config.get(DisplaySettings.PLAYERS_PER_PLAYERS_PAGE));
+        Long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+        boolean openPlayerLinksInNewTab = config.isTrue(DisplaySettings.OPEN_PLAYER_LINKS_IN_NEW_TAB);
+
+        Database database = dbSystem.getDatabase();
+
+        List<TablePlayer> players = database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, cappedPage));
+        List<UUID> playerUUIDs = getUUIDs(players);
+        Map<String, Object> json = new HashMap<>(new PlayersTableJSONCreator(
+                players,
+                networkExtensionTableData(serverUUID -> new ExtensionServerTableDataQuery(serverUUID, playerUUIDs)),
+                openPlayerLinksInNewTab,
+                formatters, locale,
+                true // players page
+        ).toJSONMap());
+        json.put("recordsTotal", database.query(NetworkTablePlayersQuery.countPlayers(PlayersTablePage.mostRecentlySeen(0))));
+        json.put("recordsFiltered", database.query(NetworkTablePlayersQuery.countPlayers(cappedPage)));
+        return json;
+    }
+
+    private static PlayersTablePage capLimit(PlayersTablePage page, int maxLimit) {
+        if (page.getLimit() <= maxLimit) return page;
+        return new PlayersTablePage(page.getOffset(), maxLimit, page.getSortBy(), page.isAscending(), page.getSearch().orElse(null));
+    }
+
+    private static List<UUID> getUUIDs(List<TablePlayer> players) {
+        return players.stream()
+                .map(TablePlayer::getPlayerUUID)
+                .collect(Collectors.toList());
+    }
+
+    private Map<UUID, ExtensionTabData> networkExtensionTableData(Function<ServerUUID, ExtensionServerTableDataQuery> queryForServer) {
+        Database database = dbSystem.getDatabase();
+
         List<ServerUUID> mainServerUUIDs = database.query(ServerQueries.fetchProxyServers())
                 .stream()
                 .map(Server::getUuid)
@@ -127,7 +206,7 @@ public class JSONFactory {
         Map<UUID, ExtensionTabData> allPluginData = new HashMap<>();
 
         for (ServerUUID serverUUID : mainServerUUIDs) {
-            Map<UUID, ExtensionTabData> pluginData = database.query(new ExtensionServerTableDataQuery(serverUUID, xMostRecentPlayers));
+            Map<UUID, ExtensionTabData> pluginData = database.query(queryForServer.apply(serverUUID));
             for (Map.Entry<UUID, ExtensionTabData> entry : pluginData.entrySet()) {
                 UUID playerUUID = entry.getKey();
                 ExtensionTabData dataFromServer = entry.getValue();
@@ -139,15 +218,7 @@ public class JSONFactory {
                 }
             }
         }
-
-
-        return new PlayersTableJSONCreator(
-                database.query(new NetworkTablePlayersQuery(System.currentTimeMillis(), playtimeThreshold, xMostRecentPlayers)),
-                allPluginData,
-                openPlayerLinksInNewTab,
-                formatters, locale,
-                true // players page
-        ).toJSONMap();
+        return allPluginData;
     }
 
     public List<RetentionData> playerRetentionAsJSONMap(ServerUUID serverUUID) {
@@ -16,10 +16,9 @@
  */
 package com.djrapitops.plan.delivery.rendering.json;
 
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
@@ -33,7 +32,6 @@ import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -77,28 +75,28 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        List<TPS> tpsData = db.query(TPSQueries.fetchTPSDataOfServer(monthAgo, now, serverUUID));
+        TPSSeries tpsData = db.query(TPSQueries.fetchTPSSeriesOfServer(monthAgo, now, serverUUID));
 
-        serverOverview.put("numbers", createNumbersMap(tpsData));
-        serverOverview.put("insights", createInsightsMap(tpsData));
+        Double tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
+        TPSSeries.Aggregates tpsDataMonth = tpsData.aggregate(tpsThreshold);
+        serverOverview.put("numbers", createNumbersMap(tpsData, tpsDataMonth, tpsThreshold));
+        serverOverview.put("insights", createInsightsMap(tpsDataMonth.lowTps()));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(List<TPS> tpsData) {
+    private Map<String, Object> createNumbersMap(TPSSeries tpsData, TPSSeries.Aggregates tpsDataMonth, double tpsThreshold) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
         Map<String, Object> numbers = new HashMap<>();
 
-        TPSMutator tpsDataMonth = new TPSMutator(tpsData);
-        TPSMutator tpsDataWeek = tpsDataMonth.filterDataBetween(weekAgo, now);
-        TPSMutator tpsDataDay = tpsDataWeek.filterDataBetween(dayAgo, now);
+        TPSSeries.Aggregates tpsDataWeek = tpsData.between(weekAgo, now).aggregate(tpsThreshold);
+        TPSSeries.Aggregates tpsDataDay = tpsData.between(dayAgo, now).aggregate(tpsThreshold);
 
-        Double tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
-        numbers.put("low_tps_spikes_30d", tpsDataMonth.lowTpsSpikeCount(tpsThreshold));
-        numbers.put("low_tps_spikes_7d", tpsDataWeek.lowTpsSpikeCount(tpsThreshold));
-        numbers.put("low_tps_spikes_24h", tpsDataDay.lowTpsSpikeCount(tpsThreshold));
+        numbers.put("low_tps_spikes_30d", tpsDataMonth.lowTpsSpikeCount());
+        numbers.put("low_tps_spikes_7d", tpsDataWeek.lowTpsSpikeCount());
+        numbers.put("low_tps_spikes_24h", tpsDataDay.lowTpsSpikeCount());
 
         numbers.put("server_downtime_30d", timeAmount.apply(tpsDataMonth.serverDownTime()));
         numbers.put("server_downtime_7d", timeAmount.apply(tpsDataWeek.serverDownTime()));
@@ -145,11 +143,7 @@ public class PerformanceJSONCreator implements ServerTabJSONCreator<Map<String,
         return value != -1 ? percentage.apply(value / 100.0) : locale.get(GenericLang.UNAVAILABLE).toString();
     }
 
-    private Map<String, Object> createInsightsMap(List<TPS> tpsData) {
-        TPSMutator tpsMutator = new TPSMutator(tpsData);
-        Double tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
-        TPSMutator lowTPS = tpsMutator.filterTPSBetween(-1, tpsThreshold);
-
+    private Map<String, Object> createInsightsMap(TPSSeries.Aggregates lowTPS) {
         Map<String, Object> insights = new HashMap<>();
 
         double averageTPS = lowTPS.averageTPS();
@@ -51,16 +51,17 @@ import com.djrapitops.plan.settings.theme.Theme;
 import com.djrapitops.plan.settings.theme.ThemeVal;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexHistoryQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.PlayerCountQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.sql.tables.JoinAddressTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSRollupTable;
 import com.djrapitops.plan.utilities.comparators.DateHolderOldestComparator;
 import com.djrapitops.plan.utilities.comparators.PieSliceComparator;
 import com.djrapitops.plan.utilities.java.Lists;
 import com.djrapitops.plan.utilities.java.Maps;
-import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -133,7 +134,8 @@ public class GraphJSONCreator {
         long twoMonthsAgo = now - TimeUnit.DAYS.toMillis(60);
         long monthAgo = now - TimeUnit.DAYS.toMillis(30);
 
-        long lowestResolution = TimeUnit.MINUTES.toMillis(20);
+        // Hourly rollups are kept after per-minute data has been removed
+        long lowestResolution = TPSRollupTable.HOURLY;
         long lowResolution = TimeUnit.MINUTES.toMillis(5);
         Database db = dbSystem.getDatabase();
         TPSMutator lowestResolutionData = new TPSMutator(db.query(TPSQueries.fetchTPSDataOfServerInResolution(0, twoMonthsAgo, lowestResolution, serverUUID)));
@@ -167,7 +169,7 @@ public class GraphJSONCreator {
         )));
 
         return Maps.builder(String.class, Object.class)
-                .put("keys", new String[]{"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk"})
+                .put("keys", new String[]{"date", "playersOnline", "tps", "cpu", "ram", "entities", "chunks", "disk", "msptP50", "msptP95", "msptP99", "msptMax"})
                 .put("values", values)
                 .put("colors", Maps.builder(String.class, Object.class)
                         .put("playersOnline", theme.getValue(ThemeVal.GRAPH_PLAYERS_ONLINE))
@@ -327,9 +329,11 @@ public class GraphJSONCreator {
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
         DateMap<Map<String, Integer>> activityData = new DateMap<>();
-        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(time, serverUUID, threshold)));
-        }
+        activityData.put(date, db.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID, threshold)));
+
+        List<Long> snapshotDates = ActivityIndexHistoryQueries.getSnapshotDates(date);
+        // Snapshots are calculated by ActivityIndexHistoryTask, points without one are left out until then.
+        activityData.putAll(db.query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(serverUUID, snapshotDates, threshold)));
 
         return createActivityGraphJSON(activityData);
     }
@@ -352,9 +356,11 @@ public class GraphJSONCreator {
         Long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
 
         DateMap<Map<String, Integer>> activityData = new DateMap<>();
-        for (long time = date; time >= date - TimeAmount.MONTH.toMillis(2L); time -= TimeAmount.WEEK.toMillis(1L)) {
-            activityData.put(time, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(time, threshold)));
-        }
+        activityData.put(date, db.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, threshold)));
+
+        List<Long> snapshotDates = ActivityIndexHistoryQueries.getSnapshotDates(date);
+        // Snapshots are calculated by ActivityIndexHistoryTask, points without one are left out until then.
+        activityData.putAll(db.query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(snapshotDates, threshold)));
 
         return createActivityGraphJSON(activityData);
     }
@@ -0,0 +1,145 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import com.djrapitops.plan.delivery.web.resource.WebResource;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import com.djrapitops.plan.storage.file.Resource;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import net.playeranalytics.plugin.server.PluginLogger;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of the web assets in the jar, read once when the webserver is enabled.
+ * <p>
+ * Assets are served from the same byte arrays with the ETag computed at indexing time, so requests for static files
+ * do not read the jar or decode the contents. The arrays are shared between responses and must not be modified.
+ * <p>
+ * Customized files in public_html are kept in memory as well, and are read again only when the file is modified.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class WebAssetIndex {
+
+    private final PlanFiles files;
+    private final AssetVersions assetVersions;
+    private final PluginLogger logger;
+
+    private volatile Map<String, WebResource> jarAssets = Collections.emptyMap();
+    private final Map<String, WebResource> customizedAssets = new ConcurrentHashMap<>();
+
+    @Inject
+    public WebAssetIndex(
+            PlanFiles files,
+            AssetVersions assetVersions,
+            PluginLogger logger
+    ) {
+        this.files = files;
+        this.assetVersions = assetVersions;
+        this.logger = logger;
+    }
+
+    public void prepare() {
+        List<String> assetPaths;
+        try {
+            assetPaths = assetVersions.getAssetPaths();
+        } catch (IOException e) {
+            logger.warn("Could not read web asset versions, web assets will be read from the jar on each request: " + e.getMessage());
+            return;
+        }
+
+        Map<String, WebResource> indexed = new HashMap<>();
+        long totalBytes = 0L;
+        for (String configPath : assetPaths) {
+            String path = configPath.replace(',', '.');
+            Optional<WebResource> asset = readFromJar(path, assetVersions.getAssetVersion(path).orElseGet(System::currentTimeMillis));
+            if (asset.isPresent()) {
+                indexed.put(path, asset.get());
+                totalBytes += asset.get().asBytes().length;
+            }
+        }
+        jarAssets = Collections.unmodifiableMap(indexed);
+        customizedAssets.clear();
+        logger.info("Indexed " + indexed.size() + " web assets (" + totalBytes / 1024 + " KB)");
+    }
+
+    private Optional<WebResource> readFromJar(String path, long lastModified) {
+        try {
+            return Optional.of(new WebResource.ByteResource(files.getResourceFromJar("web/" + path).asBytes(), lastModified));
+        } catch (FileNotFoundException notInWebFolder) {
+            // AssetVersion.yml also lists locale files.
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Could not index web asset '" + path + "': " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void clear() {
+        jarAssets = Collections.emptyMap();
+        customizedAssets.clear();
+    }
+
+    /**
+     * Get a web asset from the jar.
+     *
+     * @param resourceName Path to the file inside jar/assets/plan/web/ folder.
+     * @return the indexed asset, or empty if the asset was not indexed.
+     */
+    public Optional<WebResource> getJarAsset(@Untrusted String resourceName) {
+        return Optional.ofNullable(jarAssets.get(resourceName));
+    }
+
+    /**
+     * Get a customized file, reading it only if it has been modified since the last read.
+     *
+     * @param customized Customized file found in public_html.
+     * @return the file contents.
+     * @throws UncheckedIOException If reading the file fails.
+     */
+    public WebResource getCustomizedAsset(Resource customized) {
+        @Untrusted String resourceName = customized.getResourceName();
+        long lastModified = customized.getLastModifiedDate();
+        WebResource found = customizedAssets.get(resourceName);
+        if (found != null && found.getLastModified().map(modified -> modified == lastModified).orElse(false)) {
+            return found;
+        }
+        try {
+            WebResource read = new WebResource.ByteResource(customized.asBytes(), lastModified);
+            customizedAssets.put(resourceName, read);
+            return read;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read '" + resourceName + "'", e);
+        }
+    }
+
+    public int getIndexedAssetCount() {
+        return jarAssets.size();
+    }
+}
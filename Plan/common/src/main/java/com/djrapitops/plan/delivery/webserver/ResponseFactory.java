@@ -25,6 +25,7 @@ import com.djrapitops.plan.delivery.rendering.html.icon.Icon;
 import com.djrapitops.plan.delivery.rendering.pages.Page;
 import com.djrapitops.plan.delivery.rendering.pages.PageFactory;
 import com.djrapitops.plan.delivery.web.ResourceService;
+import com.djrapitops.plan.delivery.web.WebAssetIndex;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.ResponseBuilder;
@@ -43,7 +44,6 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.storage.file.PublicHtmlFiles;
-import com.djrapitops.plan.storage.file.Resource;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Maps;
 import com.djrapitops.plan.utilities.java.UnaryChain;
@@ -73,6 +73,7 @@ public class ResponseFactory {
     private final PlanFiles files;
     private final PlanConfig config;
     private final PublicHtmlFiles publicHtmlFiles;
+    private final WebAssetIndex assetIndex;
     private final PageFactory pageFactory;
     private final Locale locale;
     private final DBSystem dbSystem;
@@ -84,6 +85,7 @@ public class ResponseFactory {
     public ResponseFactory(
             PlanFiles files,
             PlanConfig config, PublicHtmlFiles publicHtmlFiles,
+            WebAssetIndex assetIndex,
             PageFactory pageFactory,
             Locale locale,
             DBSystem dbSystem,
@@ -94,6 +96,7 @@ public class ResponseFactory {
         this.files = files;
         this.config = config;
         this.publicHtmlFiles = publicHtmlFiles;
+        this.assetIndex = assetIndex;
         this.pageFactory = pageFactory;
         this.locale = locale;
         this.dbSystem = dbSystem;
@@ -108,7 +111,12 @@ public class ResponseFactory {
      */
     public WebResource getResource(@Untrusted String resourceName) {
         return ResourceService.getInstance().getResource("Plan", resourceName,
-                () -> files.getResourceFromJar("web/" + resourceName).asWebResource());
+                () -> getJarResource(resourceName));
+    }
+
+    private WebResource getJarResource(@Untrusted String resourceName) {
+        return assetIndex.getJarAsset(resourceName)
+                .orElseGet(() -> files.getResourceFromJar("web/" + resourceName).asWebResource());
     }
 
     /**
@@ -116,8 +124,8 @@ public class ResponseFactory {
      */
     private WebResource getPublicOrJarResource(@Untrusted String resourceName) {
         return publicHtmlFiles.findPublicHtmlResource(resourceName)
-                .orElseGet(() -> files.getResourceFromJar("web/" + resourceName))
-                .asWebResource();
+                .map(assetIndex::getCustomizedAsset)
+                .orElseGet(() -> getJarResource(resourceName));
     }
 
     private static Response browserCachedNotChangedResponse() {
@@ -376,7 +384,7 @@ public class ResponseFactory {
     public Response publicHtmlResourceResponse(long modified, @Untrusted String fileName, String mimeType) {
         // Slightly different from getCachedOrNew
         WebResource resource = publicHtmlFiles.findPublicHtmlResource(fileName)
-                .map(Resource::asWebResource)
+                .map(assetIndex::getCustomizedAsset)
                 .orElse(null);
         if (resource == null) return null;
 
@@ -391,7 +399,7 @@ public class ResponseFactory {
     public Response publicHtmlResourceResponse(@Untrusted String fileName, String mimeType) {
         try {
             WebResource resource = publicHtmlFiles.findPublicHtmlResource(fileName)
-                    .map(Resource::asWebResource)
+                    .map(assetIndex::getCustomizedAsset)
                     .orElse(null);
             if (resource == null) return null;
 
@@ -518,6 +526,18 @@ public class ResponseFactory {
                 .build();
     }
 
+    public Response dataNotReady503() {
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(Maps.builder(String.class, Object.class)
+                        .put("status", 503)
+                        .put("error", "Data is still being generated, please try again in a moment.")
+                        .build())
+                .setHeader("Retry-After", "5")
+                .setStatus(503)
+                .build();
+    }
+
     public Response playerPageResponse(@Untrusted Request request, UUID playerUUID) {
         try {
             Database db = dbSystem.getDatabase();
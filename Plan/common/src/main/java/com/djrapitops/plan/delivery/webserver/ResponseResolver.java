@@ -47,6 +47,8 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
@@ -182,16 +184,42 @@ public class ResponseResolver {
         return request -> Optional.of(response.get());
     }
 
-    public Response getResponse(@Untrusted Request request) {
+    /**
+     * Get response for the request.
+     * <p>
+     * The returned future is incomplete if a resolver is still waiting for data, see {@link Resolver#resolveAsync(Request)}.
+     *
+     * @param request Request to resolve.
+     * @return Future that completes with the response.
+     * @throws WebUserAuthException If authentication is required, can also complete the future exceptionally.
+     */
+    public CompletableFuture<Response> getResponseAsync(@Untrusted Request request) {
+        CompletableFuture<Response> response;
         try {
-            return tryToGetResponse(request);
-        } catch (NotFoundException e) {
-            return responseFactory.notFound404(e.getMessage());
-        } catch (BadRequestException e) {
-            return responseFactory.badRequest(e.getMessage(), request.getPath().asString());
+            response = tryToGetResponse(request);
         } catch (WebUserAuthException e) {
             throw e; // Pass along
         } catch (Exception e) {
+            return CompletableFuture.completedFuture(getErrorResponse(request, e));
+        }
+        return response.handle((resolved, throwable) -> {
+            if (throwable == null) return resolved;
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            if (cause instanceof WebUserAuthException) {
+                throw (WebUserAuthException) cause; // Pass along
+            }
+            return getErrorResponse(request, cause);
+        });
+    }
+
+    private Response getErrorResponse(@Untrusted Request request, Throwable e) {
+        if (e instanceof NotFoundException) {
+            return responseFactory.notFound404(e.getMessage());
+        } else if (e instanceof BadRequestException) {
+            return responseFactory.badRequest(e.getMessage(), request.getPath().asString());
+        } else {
             errorLogger.error(e, ErrorContext.builder().related(request).build());
             return responseFactory.internalErrorResponse(e, "Failed to get a response");
         }
@@ -201,39 +229,42 @@ public class ResponseResolver {
      * @throws NotFoundException   In some cases when page was not found, not all.
      * @throws BadRequestException If the request did not have required things.
      */
-    private Response tryToGetResponse(@Untrusted Request request) {
+    private CompletableFuture<Response> tryToGetResponse(@Untrusted Request request) {
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
             // https://developer.mozilla.org/en-US/docs/Web/HTTP/Methods/OPTIONS
-            return Response.builder().setStatus(204).build();
+            return CompletableFuture.completedFuture(Response.builder().setStatus(204).build());
         }
 
         Optional<WebUser> user = request.getUser();
 
         List<Resolver> foundResolvers = resolverService.getResolvers(request.getPath().asString());
-        if (foundResolvers.isEmpty()) return responseFactory.pageNotFound404();
-
-        for (Resolver resolver : foundResolvers) {
-            boolean isAuthRequired = webServer.get().isAuthRequired() && resolver.requiresAuth(request);
-            if (isAuthRequired) {
-                if (user.isEmpty()) {
-                    if (webServer.get().isUsingHTTPS()) {
-                        throw new WebUserAuthException(FailReason.NO_USER_PRESENT);
-                    } else {
-                        return responseFactory.forbidden403();
-                    }
-                }
+        if (foundResolvers.isEmpty()) return CompletableFuture.completedFuture(responseFactory.pageNotFound404());
+
+        return tryToResolve(request, user, foundResolvers, 0);
+    }
 
-                if (resolver.canAccess(request)) {
-                    Optional<Response> resolved = resolver.resolve(request);
-                    if (resolved.isPresent()) return resolved.get();
+    private CompletableFuture<Response> tryToResolve(@Untrusted Request request, Optional<WebUser> user, List<Resolver> foundResolvers, int index) {
+        if (index >= foundResolvers.size()) return CompletableFuture.completedFuture(responseFactory.pageNotFound404());
+
+        Resolver resolver = foundResolvers.get(index);
+        boolean isAuthRequired = webServer.get().isAuthRequired() && resolver.requiresAuth(request);
+        if (isAuthRequired) {
+            if (user.isEmpty()) {
+                if (webServer.get().isUsingHTTPS()) {
+                    throw new WebUserAuthException(FailReason.NO_USER_PRESENT);
                 } else {
-                    return responseFactory.forbidden403();
+                    return CompletableFuture.completedFuture(responseFactory.forbidden403());
                 }
-            } else {
-                Optional<Response> resolved = resolver.resolve(request);
-                if (resolved.isPresent()) return resolved.get();
+            }
+
+            if (!resolver.canAccess(request)) {
+                return CompletableFuture.completedFuture(responseFactory.forbidden403());
             }
         }
-        return responseFactory.pageNotFound404();
+
+        // Next resolver is tried if this one did not resolve the request
+        return resolver.resolveAsync(request).thenCompose(resolved -> resolved
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> tryToResolve(request, user, foundResolvers, index + 1)));
     }
 }
@@ -18,10 +18,13 @@ package com.djrapitops.plan.delivery.webserver;
 
 import com.djrapitops.plan.SubSystem;
 import com.djrapitops.plan.delivery.web.ResourceService;
+import com.djrapitops.plan.delivery.web.WebAssetIndex;
 import com.djrapitops.plan.delivery.webserver.auth.ActiveCookieStore;
+import com.djrapitops.plan.delivery.webserver.http.AccessLogger;
 import com.djrapitops.plan.delivery.webserver.http.WebServer;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.storage.file.PublicHtmlFiles;
 import net.playeranalytics.plugin.server.PluginLogger;
 
@@ -40,7 +43,9 @@ public class WebServerSystem implements SubSystem {
     private final Addresses addresses;
     private final ActiveCookieStore activeCookieStore;
     private final PublicHtmlFiles publicHtmlFiles;
+    private final WebAssetIndex assetIndex;
     private final WebServer webServer;
+    private final AccessLogger accessLogger;
     private final PluginLogger logger;
 
     @Inject
@@ -49,19 +54,26 @@ public class WebServerSystem implements SubSystem {
             Addresses addresses,
             ActiveCookieStore activeCookieStore,
             PublicHtmlFiles publicHtmlFiles,
+            WebAssetIndex assetIndex,
             WebServer webServer,
+            AccessLogger accessLogger,
             PluginLogger logger) {
         this.config = config;
         this.addresses = addresses;
         this.activeCookieStore = activeCookieStore;
         this.publicHtmlFiles = publicHtmlFiles;
+        this.assetIndex = assetIndex;
         this.webServer = webServer;
+        this.accessLogger = accessLogger;
         this.logger = logger;
     }
 
     @Override
     public void enable() {
         activeCookieStore.enable();
+        if (config.isFalse(WebserverSettings.DISABLED)) {
+            assetIndex.prepare();
+        }
         webServer.enable();
         if (config.isTrue(PluginSettings.LEGACY_FRONTEND)) {
             if (!webServer.isAuthRequired()) {
@@ -87,7 +99,9 @@ public class WebServerSystem implements SubSystem {
     @Override
     public void disable() {
         webServer.disable();
+        accessLogger.storeBufferedRequests();
         activeCookieStore.disable();
+        assetIndex.clear();
     }
 
     public WebServer getWebServer() {
@@ -27,15 +27,19 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Service for resolving json asynchronously in order to move database queries off server thread.
+ * <p>
+ * Concurrent requests for the same json share a single creation task.
+ * If {@link WebserverSettings#STALE_WHILE_REVALIDATE} is enabled, previous version of the json is
+ * returned immediately while it is being refreshed, as long as it is not older than the maximum stale age.
  *
  * @author AuroraLS3
  */
@@ -45,9 +49,8 @@ public class AsyncJSONResolverService {
     private final PlanConfig config;
     private final Processing processing;
     private final JSONStorage jsonStorage;
-    private final Map<String, Future<JSONStorage.StoredJSON>> currentlyProcessing;
+    private final Map<String, CompletableFuture<JSONStorage.StoredJSON>> currentlyProcessing;
     private final Map<String, Long> previousUpdates;
-    private final ReentrantLock accessLock; // Access lock prevents double processing same resource
     private final Formatter<Long> httpLastModifiedFormatter;
 
     @Inject
@@ -63,51 +66,77 @@ public class AsyncJSONResolverService {
 
         currentlyProcessing = new ConcurrentHashMap<>();
         previousUpdates = new ConcurrentHashMap<>();
-        accessLock = new ReentrantLock();
 
         httpLastModifiedFormatter = formatters.httpLastModifiedLong();
     }
 
     public <T> JSONStorage.StoredJSON resolve(
             Optional<Long> newerThanTimestamp, DataID dataID, ServerUUID serverUUID, Function<ServerUUID, T> creator
+    ) {
+        return waitAndGetUpdated(resolveAsync(newerThanTimestamp, dataID, serverUUID, creator));
+    }
+
+
+    public <T> JSONStorage.StoredJSON resolve(
+            Optional<Long> newerThanTimestamp, DataID dataID, Supplier<T> jsonCreator
+    ) {
+        return waitAndGetUpdated(resolveAsync(newerThanTimestamp, dataID, jsonCreator));
+    }
+
+    /**
+     * Resolve json without blocking the calling thread if there is no cached version available.
+     *
+     * @return Future that is already completed if the json was found in cache.
+     * The future completes with null if the json could not be created.
+     */
+    public <T> CompletableFuture<JSONStorage.StoredJSON> resolveAsync(
+            Optional<Long> newerThanTimestamp, DataID dataID, ServerUUID serverUUID, Function<ServerUUID, T> creator
     ) {
         String identifier = dataID.of(serverUUID);
         Supplier<T> jsonCreator = () -> creator.apply(serverUUID);
         return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
     }
 
-
-    public <T> JSONStorage.StoredJSON resolve(
+    /**
+     * Resolve json without blocking the calling thread if there is no cached version available.
+     *
+     * @return Future that is already completed if the json was found in cache.
+     * The future completes with null if the json could not be created.
+     */
+    public <T> CompletableFuture<JSONStorage.StoredJSON> resolveAsync(
             Optional<Long> newerThanTimestamp, DataID dataID, Supplier<T> jsonCreator
     ) {
         String identifier = dataID.name();
         return getStoredOrCreateJSON(newerThanTimestamp, identifier, jsonCreator);
     }
 
-    private <T> JSONStorage.StoredJSON getStoredOrCreateJSON(
+    private <T> CompletableFuture<JSONStorage.StoredJSON> getStoredOrCreateJSON(
             Optional<Long> givenTimestamp, String identifier, Supplier<T> jsonCreator
     ) {
-        JSONStorage.StoredJSON storedJSON = null;
-        Future<JSONStorage.StoredJSON> updatedJSON = null;
-        if (givenTimestamp.isPresent()) {
-            long timestamp = givenTimestamp.get();
-            storedJSON = getNewFromCache(timestamp, identifier);
-            if (storedJSON != null) return storedJSON;
-
-            // No new enough version, let's refresh and send old version of the file
-            updatedJSON = scheduleJSONForUpdate(timestamp, identifier, jsonCreator);
-            storedJSON = getOldFromCache(timestamp, identifier).orElse(null);
+        boolean serveStale = config.isTrue(WebserverSettings.STALE_WHILE_REVALIDATE);
+        if (givenTimestamp.isEmpty() && !serveStale) {
+            return getOrSubmitUpdate(identifier, jsonCreator);
+        }
+
+        // Without a timestamp any version made before now is stale.
+        long timestamp = givenTimestamp.orElseGet(System::currentTimeMillis);
+        JSONStorage.StoredJSON storedJSON = getNewFromCache(timestamp, identifier);
+        if (storedJSON != null) return CompletableFuture.completedFuture(storedJSON);
+
+        // No new enough version, let's refresh and send old version of the file
+        CompletableFuture<JSONStorage.StoredJSON> updatedJSON = scheduleJSONForUpdate(timestamp, identifier, jsonCreator);
+        Optional<JSONStorage.StoredJSON> oldJSON = getOldFromCache(timestamp, identifier);
+        if (serveStale) {
+            long maxStaleAge = config.get(WebserverSettings.STALE_WHILE_REVALIDATE_MAX_AGE);
+            oldJSON = oldJSON.filter(old -> timestamp - old.timestamp <= maxStaleAge);
         }
 
-        if (storedJSON != null) {
-            return storedJSON; // Found old from cache
+        if (oldJSON.isPresent()) {
+            return CompletableFuture.completedFuture(oldJSON.get()); // Found old from cache
         } else {
             // Update not performed if the last update was recent and the file is deleted before next update
             // Fall back to waiting for the updated file if old version of the file doesn't exist.
-            if (updatedJSON == null) {
-                updatedJSON = submitToProcessing(identifier, jsonCreator);
-            }
-            return waitAndGetUpdated(updatedJSON);
+            return updatedJSON != null ? updatedJSON : getOrSubmitUpdate(identifier, jsonCreator);
         }
     }
 
@@ -133,33 +162,51 @@ public class AsyncJSONResolverService {
                         .orElse(null));
     }
 
-    private <T> Future<JSONStorage.StoredJSON> scheduleJSONForUpdate(long newerThanTimestamp, String identifier, Supplier<T> jsonCreator) {
+    private <T> CompletableFuture<JSONStorage.StoredJSON> scheduleJSONForUpdate(long newerThanTimestamp, String identifier, Supplier<T> jsonCreator) {
         long updateThreshold = config.get(WebserverSettings.REDUCED_REFRESH_BARRIER);
 
-        Future<JSONStorage.StoredJSON> updatedJSON;
-        accessLock.lock();
-        try {
-            // Check if the json is already being created
-            updatedJSON = currentlyProcessing.get(identifier);
-            if (updatedJSON == null && previousUpdates.getOrDefault(identifier, 0L) < newerThanTimestamp - updateThreshold) {
-                // Submit a task to refresh the data if the json is old
-                updatedJSON = submitToProcessing(identifier, jsonCreator);
-                currentlyProcessing.put(identifier, updatedJSON);
-            }
-        } finally {
-            accessLock.unlock();
+        // Check if the json is already being created
+        CompletableFuture<JSONStorage.StoredJSON> updatedJSON = currentlyProcessing.get(identifier);
+        if (updatedJSON == null && previousUpdates.getOrDefault(identifier, 0L) < newerThanTimestamp - updateThreshold) {
+            // Submit a task to refresh the data if the json is old
+            updatedJSON = getOrSubmitUpdate(identifier, jsonCreator);
         }
         return updatedJSON;
     }
 
-    private <T> Future<JSONStorage.StoredJSON> submitToProcessing(String identifier, Supplier<T> jsonCreator) {
-        return processing.submitNonCritical(() -> {
-            JSONStorage.StoredJSON created = jsonStorage.storeJson(identifier, jsonCreator.get());
-            currentlyProcessing.remove(identifier);
-            jsonStorage.invalidateOlder(identifier, created.timestamp);
-            previousUpdates.put(identifier, created.timestamp);
-            return created;
+    /**
+     * Get the json that is currently being created, or submit a task to create it.
+     * <p>
+     * Only one task per identifier is processing at a time, other callers receive the same future.
+     */
+    private <T> CompletableFuture<JSONStorage.StoredJSON> getOrSubmitUpdate(String identifier, Supplier<T> jsonCreator) {
+        CompletableFuture<JSONStorage.StoredJSON> updatedJSON = new CompletableFuture<>();
+        CompletableFuture<JSONStorage.StoredJSON> alreadyProcessing = currentlyProcessing.putIfAbsent(identifier, updatedJSON);
+        if (alreadyProcessing != null) return alreadyProcessing;
+
+        CompletableFuture<JSONStorage.StoredJSON> processed = processing.submitNonCritical(() -> createJSON(identifier, jsonCreator));
+        if (processed == null) {
+            // Processing does not accept new tasks when it has been shut down.
+            currentlyProcessing.remove(identifier, updatedJSON);
+            updatedJSON.complete(null);
+            return updatedJSON;
+        }
+        processed.whenComplete((created, failure) -> {
+            currentlyProcessing.remove(identifier, updatedJSON);
+            if (failure != null) {
+                updatedJSON.completeExceptionally(failure);
+            } else {
+                updatedJSON.complete(created);
+            }
         });
+        return updatedJSON;
+    }
+
+    private <T> JSONStorage.StoredJSON createJSON(String identifier, Supplier<T> jsonCreator) {
+        JSONStorage.StoredJSON created = jsonStorage.storeJson(identifier, jsonCreator.get());
+        jsonStorage.invalidateOlder(identifier, created.timestamp);
+        previousUpdates.put(identifier, created.timestamp);
+        return created;
     }
 
     public Formatter<Long> getHttpLastModifiedFormatter() {
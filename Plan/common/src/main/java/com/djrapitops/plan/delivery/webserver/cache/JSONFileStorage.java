@@ -36,12 +36,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.function.BiPredicate;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -64,6 +64,8 @@ public class JSONFileStorage implements JSONStorage {
 
     private final Formatter<Long> dateFormatter;
 
+    private volatile NavigableMap<String, NavigableSet<Long>> catalog;
+
     @Inject
     public JSONFileStorage(
             PlanFiles files,
@@ -87,23 +89,33 @@ public class JSONFileStorage implements JSONStorage {
         jsonDirectory = files.getJSONStorageDirectory();
     }
 
+    @Override
+    public void enable() {
+        getCatalog();
+    }
+
     @Override
     public StoredJSON storeJson(String identifier, String json, long timestamp) {
         Path writingTo = jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION);
         String jsonToWrite = addMissingTimestamp(json, timestamp);
-        write(writingTo, jsonToWrite);
+        if (write(writingTo, jsonToWrite)) {
+            addToCatalog(identifier, timestamp);
+        }
         return new StoredJSON(jsonToWrite, timestamp);
     }
 
-    private void write(Path writingTo, String jsonToWrite) {
+    private boolean write(Path writingTo, String jsonToWrite) {
+        AtomicBoolean written = new AtomicBoolean(false);
         readWriteProtectionLock.performWriteOperation(() -> {
             try {
                 if (!Files.isSymbolicLink(jsonDirectory)) Files.createDirectories(jsonDirectory);
                 Files.write(writingTo, jsonToWrite.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                written.set(true);
             } catch (IOException e) {
                 logger.warn("Could not write a file to " + writingTo.toFile().getAbsolutePath() + ": " + e.getMessage());
             }
         });
+        return written.get();
     }
 
     private String addMissingTimestamp(String json, long timestamp) {
@@ -127,17 +139,20 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchJSON(String identifier) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
+        NavigableSet<Long> timestamps = getCatalog().get(identifier);
+        if (timestamps == null || timestamps.isEmpty()) return Optional.empty();
+        return fetchStored(identifier, timestamps.last());
+    }
 
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                return Optional.ofNullable(readStoredJSON(file));
-            }
+    private Optional<StoredJSON> fetchStored(String identifier, Long timestamp) {
+        if (timestamp == null) return Optional.empty();
+        File file = jsonDirectory.resolve(identifier + '-' + timestamp + JSON_FILE_EXTENSION).toFile();
+        if (!file.exists()) {
+            // File was removed by something else than Plan.
+            removeFromCatalog(identifier, timestamp);
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.ofNullable(readStoredJSON(file));
     }
 
     private StoredJSON readStoredJSON(File from) {
@@ -163,109 +178,79 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<StoredJSON> fetchExactJson(String identifier, long timestamp) {
-        File found = jsonDirectory.resolve(identifier + "-" + timestamp + JSON_FILE_EXTENSION).toFile();
-        if (!found.exists()) return Optional.empty();
-        return Optional.ofNullable(readStoredJSON(found));
+        NavigableSet<Long> timestamps = getCatalog().get(identifier);
+        if (timestamps == null || !timestamps.contains(timestamp)) return Optional.empty();
+        return fetchStored(identifier, timestamp);
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeBefore(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) < time);
+        NavigableSet<Long> timestamps = getCatalog().get(identifier);
+        if (timestamps == null) return Optional.empty();
+        return fetchStored(identifier, timestamps.lower(timestamp));
     }
 
     @Override
     public Optional<StoredJSON> fetchJsonMadeAfter(String identifier, long timestamp) {
-        return fetchJSONWithTimestamp(identifier, timestamp, (timestampMatch, time) -> Long.parseLong(timestampMatch.group(1)) > time);
-    }
-
-    private Optional<StoredJSON> fetchJSONWithTimestamp(String identifier, long timestamp, BiPredicate<Matcher, Long> timestampComparator) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
-
-        String lookForStart = identifier + '-';
-        for (File file : stored) {
-            try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find() && timestampComparator.test(timestampMatch, timestamp)) {
-                        return Optional.ofNullable(readStoredJSON(file));
-                    }
-                }
-            } catch (NumberFormatException e) {
-                // Ignore this file, malformed timestamp
-            }
-        }
-        return Optional.empty();
+        NavigableSet<Long> timestamps = getCatalog().get(identifier);
+        if (timestamps == null) return Optional.empty();
+        Long newest = timestamps.isEmpty() ? null : timestamps.last();
+        return newest != null && newest > timestamp ? fetchStored(identifier, newest) : Optional.empty();
     }
 
+    /**
+     * Delete files older than given timestamp.
+     *
+     * @param identifier Identifier of the json, also deletes json of identifiers starting with '{identifier}-'
+     * @param timestamp  Epoch ms, files older than this are deleted.
+     */
     @Override
     public void invalidateOlder(String identifier, long timestamp) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return;
+        NavigableMap<String, NavigableSet<Long>> catalog = getCatalog();
 
         List<File> toDelete = new ArrayList<>();
-        for (File file : stored) {
-            if (shouldDeleteFile(identifier, timestamp, file)) {
-                toDelete.add(file);
-            }
+        collectOlder(identifier, timestamp, toDelete);
+        String prefix = identifier + '-';
+        for (String matching : catalog.subMap(prefix, true, prefix + Character.MAX_VALUE, true).keySet()) {
+            collectOlder(matching, timestamp, toDelete);
         }
         deleteFiles(toDelete);
     }
 
-    private boolean shouldDeleteFile(String identifier, long timestamp, File file) {
-        try {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(identifier + '-')) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                if (timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp) {
-                    return true;
-                }
+    private void collectOlder(String identifier, long timestamp, List<File> toDelete) {
+        // Identifiers without files are removed so that the catalog doesn't grow with every identifier ever stored.
+        getCatalog().computeIfPresent(identifier, (key, timestamps) -> {
+            for (Long older : new ArrayList<>(timestamps.headSet(timestamp, false))) {
+                timestamps.remove(older);
+                toDelete.add(jsonDirectory.resolve(identifier + '-' + older + JSON_FILE_EXTENSION).toFile());
             }
-        } catch (NumberFormatException e) {
-            // Ignore this file, malformed timestamp
-        }
-        return false;
+            return timestamps.isEmpty() ? null : timestamps;
+        });
     }
 
     private void invalidateOlderButIgnore(long timestamp, String... ignoredIdentifiers) {
-        File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return;
-
         List<File> toDelete = new ArrayList<>();
-        for (File file : stored) {
-            if (shouldDeleteFile(timestamp, file, ignoredIdentifiers)) {
-                toDelete.add(file);
+        for (String identifier : getCatalog().keySet()) {
+            if (!isIgnored(identifier, ignoredIdentifiers)) {
+                collectOlder(identifier, timestamp, toDelete);
             }
         }
-
         deleteFiles(toDelete);
     }
 
-    private boolean shouldDeleteFile(long timestamp, File file, String[] ignoredIdentifiers) {
-        try {
-            String fileName = file.getName();
-            if (fileName.endsWith(JSON_FILE_EXTENSION)) {
-                Matcher timestampMatch = timestampRegex.matcher(fileName);
-                boolean isOlder = timestampMatch.find() && Long.parseLong(timestampMatch.group(1)) < timestamp;
-                if (isOlder) {
-                    for (String ignoredIdentifier : ignoredIdentifiers) {
-                        if (fileName.startsWith(ignoredIdentifier + "-")) return false;
-                    }
-                    return true;
-                }
-            }
-        } catch (NumberFormatException e) {
-            // Ignore this file, malformed timestamp
+    private boolean isIgnored(String identifier, String[] ignoredIdentifiers) {
+        for (String ignoredIdentifier : ignoredIdentifiers) {
+            if (identifier.equals(ignoredIdentifier) || identifier.startsWith(ignoredIdentifier + "-")) return true;
         }
         return false;
     }
 
     private void deleteFiles(List<File> toDelete) {
+        if (toDelete.isEmpty()) return;
         readWriteProtectionLock.performWriteOperation(() -> {
             for (File fileToDelete : toDelete) {
                 try {
-                    Files.delete(fileToDelete.toPath());
+                    Files.deleteIfExists(fileToDelete.toPath());
                 } catch (IOException e) {
                     // Failed to delete, set for deletion on next server shutdown.
                     fileToDelete.deleteOnExit();
@@ -276,24 +261,66 @@ public class JSONFileStorage implements JSONStorage {
 
     @Override
     public Optional<Long> getTimestamp(String identifier) {
+        NavigableSet<Long> timestamps = getCatalog().get(identifier);
+        if (timestamps == null || timestamps.isEmpty()) return Optional.empty();
+        return Optional.of(timestamps.last());
+    }
+
+    private NavigableMap<String, NavigableSet<Long>> getCatalog() {
+        if (catalog == null) {
+            synchronized (this) {
+                if (catalog == null) catalog = loadCatalog();
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Lists the json directory once to find out which json files are stored.
+     * <p>
+     * The catalog is kept up to date when files are stored or deleted so that lookups don't need to list the directory.
+     *
+     * @return Map of identifier - timestamps of the stored files.
+     */
+    private NavigableMap<String, NavigableSet<Long>> loadCatalog() {
+        NavigableMap<String, NavigableSet<Long>> loaded = new ConcurrentSkipListMap<>();
         File[] stored = jsonDirectory.toFile().listFiles();
-        if (stored == null) return Optional.empty();
+        if (stored == null) return loaded;
 
-        String lookForStart = identifier + '-';
         for (File file : stored) {
+            String fileName = file.getName();
+            if (!fileName.endsWith(JSON_FILE_EXTENSION)) continue;
+            Matcher timestampMatch = timestampRegex.matcher(fileName);
+            if (!timestampMatch.find()) continue;
             try {
-                String fileName = file.getName();
-                if (fileName.endsWith(JSON_FILE_EXTENSION) && fileName.startsWith(lookForStart)) {
-                    Matcher timestampMatch = timestampRegex.matcher(fileName);
-                    if (timestampMatch.find()) {
-                        return Optional.of(Long.parseLong(timestampMatch.group(1)));
-                    }
-                }
+                long timestamp = Long.parseLong(timestampMatch.group(1));
+                String identifier = fileName.substring(0, timestampMatch.start(1) - 1);
+                loaded.computeIfAbsent(identifier, key -> new ConcurrentSkipListSet<>()).add(timestamp);
             } catch (NumberFormatException e) {
                 // Ignore this file, malformed timestamp
             }
         }
-        return Optional.empty();
+        return loaded;
+    }
+
+    // VisibleForTesting
+    Set<String> getCatalogedIdentifiers() {
+        return getCatalog().keySet();
+    }
+
+    private void addToCatalog(String identifier, long timestamp) {
+        getCatalog().compute(identifier, (key, timestamps) -> {
+            NavigableSet<Long> updated = timestamps != null ? timestamps : new ConcurrentSkipListSet<>();
+            updated.add(timestamp);
+            return updated;
+        });
+    }
+
+    private void removeFromCatalog(String identifier, long timestamp) {
+        getCatalog().computeIfPresent(identifier, (key, timestamps) -> {
+            timestamps.remove(timestamp);
+            return timestamps.isEmpty() ? null : timestamps;
+        });
     }
 
     @Singleton
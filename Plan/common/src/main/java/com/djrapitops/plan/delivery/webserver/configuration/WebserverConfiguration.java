@@ -57,6 +57,18 @@ public class WebserverConfiguration {
         return config.isTrue(WebserverSettings.LOG_ACCESS_TO_CONSOLE);
     }
 
+    public long getAccessLogStoreInterval() {
+        return config.get(WebserverSettings.ACCESS_LOG_STORE_INTERVAL);
+    }
+
+    public int getAccessLogBufferSize() {
+        return config.get(WebserverSettings.ACCESS_LOG_BUFFER_SIZE);
+    }
+
+    public long getWaitForDataTimeout() {
+        return config.get(WebserverSettings.WAIT_FOR_DATA_TIMEOUT);
+    }
+
     public boolean isAuthenticationDisabled() {
         return config.isTrue(WebserverSettings.DISABLED_AUTHENTICATION);
     }
@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.request.Request;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Represents a single request waiting to be stored in the access log.
+ * <p>
+ * Only the stored values are kept so that the request and response can be garbage collected.
+ *
+ * @author AuroraLS3
+ */
+public class AccessLogEntry {
+
+    private final long time;
+    @Untrusted
+    private final String fromIp;
+    @Untrusted
+    private final String requestMethod;
+    @Untrusted
+    private final String requestUri;
+    private final int responseCode;
+
+    public AccessLogEntry(long time, @Untrusted String fromIp, @Untrusted String requestMethod, @Untrusted String requestUri, int responseCode) {
+        this.time = time;
+        this.fromIp = fromIp;
+        this.requestMethod = requestMethod;
+        this.requestUri = requestUri;
+        this.responseCode = responseCode;
+    }
+
+    public static AccessLogEntry of(WebserverConfiguration webserverConfiguration, @Untrusted InternalRequest internalRequest, @Untrusted Request request, Response response) {
+        @Untrusted String method = internalRequest.getMethod();
+        @Untrusted String uri = request != null ? request.getPath().asString() + request.getQuery().asString()
+                : internalRequest.getRequestedURIString();
+        if (uri == null) {
+            uri = "non-HTTP request, missing URI";
+        }
+        return new AccessLogEntry(
+                internalRequest.getTimestamp(),
+                internalRequest.getAccessAddress(webserverConfiguration),
+                method != null ? method : "?",
+                StringUtils.truncate(uri, 65000),
+                response.getCode()
+        );
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    @Untrusted
+    public String getFromIp() {
+        return fromIp;
+    }
+
+    @Untrusted
+    public String getRequestMethod() {
+        return requestMethod;
+    }
+
+    @Untrusted
+    public String getRequestUri() {
+        return requestUri;
+    }
+
+    public int getResponseCode() {
+        return responseCode;
+    }
+}
@@ -16,29 +16,51 @@
  */
 package com.djrapitops.plan.delivery.webserver.http;
 
+import com.djrapitops.plan.TaskSystem;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
 import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTransaction;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.server.PluginLogger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Logs requests to console and buffers them to be stored in the access log.
+ * <p>
+ * The buffer is stored to the database in one batch at the configured interval.
+ * If the buffer fills up before that the oldest requests are dropped.
+ * Remaining requests are stored when the webserver is disabled.
+ *
+ * @author AuroraLS3
+ */
 @Singleton
-public class AccessLogger {
+public class AccessLogger extends TaskSystem.Task {
 
     private final WebserverConfiguration webserverConfiguration;
     private final DBSystem dbSystem;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
+    private final Deque<AccessLogEntry> buffer = new ArrayDeque<>();
+    private final AtomicLong droppedEntries = new AtomicLong();
+    private final AtomicLong droppedEntriesTotal = new AtomicLong();
+
     @Inject
     public AccessLogger(WebserverConfiguration webserverConfiguration, DBSystem dbSystem, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
@@ -74,18 +96,70 @@ public class AccessLogger {
                     break;
             }
         }
+        buffer(AccessLogEntry.of(webserverConfiguration, internalRequest, request, response));
+    }
+
+    private void buffer(AccessLogEntry entry) {
+        int bufferSize = webserverConfiguration.getAccessLogBufferSize();
+        synchronized (buffer) {
+            while (buffer.size() >= bufferSize) {
+                buffer.pollFirst();
+                droppedEntries.incrementAndGet();
+                droppedEntriesTotal.incrementAndGet();
+            }
+            buffer.addLast(entry);
+        }
+    }
+
+    @Override
+    public void register(RunnableFactory runnableFactory) {
+        long storeInterval = webserverConfiguration.getAccessLogStoreInterval();
+        runnableFactory.create(this).runTaskTimerAsynchronously(storeInterval, storeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        storeBufferedRequests();
+    }
+
+    public void storeBufferedRequests() {
+        long dropped = droppedEntries.getAndSet(0L);
+        if (dropped > 0) {
+            logger.warn("Access log buffer was full, " + dropped + " requests were not stored. " +
+                    "Consider increasing '" + WebserverSettings.ACCESS_LOG_BUFFER_SIZE.getPath() + "'");
+        }
+
+        List<AccessLogEntry> batch;
+        synchronized (buffer) {
+            if (buffer.isEmpty()) return;
+            batch = new ArrayList<>(buffer);
+            buffer.clear();
+        }
         try {
-            dbSystem.getDatabase().executeTransaction(
-                    new StoreRequestTransaction(webserverConfiguration, internalRequest, request, response)
-            );
+            dbSystem.getDatabase().executeTransaction(new StoreRequestTransaction(batch));
         } catch (CompletionException | DBOpException e) {
             errorLogger.warn(e, ErrorContext.builder()
-                    .related("Logging request failed")
-                    .related(getRequestURI(internalRequest, request))
+                    .related("Logging requests failed")
+                    .related(batch.size() + " requests")
                     .build());
         }
     }
 
+    public int getBufferedEntryCount() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * Get how many requests have not been stored because the buffer was full.
+     *
+     * @return Count of dropped requests since the plugin was started.
+     */
+    public long getDroppedEntryCount() {
+        return droppedEntriesTotal.get();
+    }
+
     @Untrusted
     private String getRequestURI(InternalRequest internalRequest, Request request) {
         return request != null ? request.getPath().asString() + request.getQuery().asString()
@@ -0,0 +1,129 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.jetty.http.HttpHeader;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory cache for gzip compressed versions of responses that have an ETag.
+ * <p>
+ * Bundle files and cached json are the same for many requests, so they are compressed only once
+ * (with higher compression level) instead of on every request.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class CompressedResponseCache {
+
+    private static final long MAX_CACHED_BYTES = 32L * 1024L * 1024L;
+
+    private final Cache<VariantKey, byte[]> gzipped;
+
+    @Inject
+    public CompressedResponseCache() {
+        gzipped = Caffeine.newBuilder()
+                .maximumWeight(MAX_CACHED_BYTES)
+                .weigher((VariantKey key, byte[] value) -> value.length)
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get gzip compressed bytes of the response.
+     *
+     * @param requestURI URI of the request the response is for, including the query.
+     * @param response   Response to compress.
+     * @return compressed bytes, from cache if response has an ETag and was compressed before.
+     * @throws UncheckedIOException if compression fails.
+     */
+    public byte[] getGzipped(@Untrusted String requestURI, Response response) {
+        byte[] bytes = response.getBytes();
+        String etag = response.getHeaders().get(HttpHeader.ETAG.asString());
+        if (etag == null) {
+            return gzip(bytes, Deflater.DEFAULT_COMPRESSION);
+        }
+        return gzipped.get(new VariantKey(requestURI, etag, bytes), key -> gzip(bytes, Deflater.BEST_COMPRESSION));
+    }
+
+    public void invalidateAll() {
+        gzipped.invalidateAll();
+    }
+
+    static byte[] gzip(byte[] bytes, int level) {
+        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream(Math.max(32, bytes.length / 4));
+             GZIPOutputStream gzipStream = new LeveledGZIPOutputStream(bufferStream, level)
+        ) {
+            gzipStream.write(bytes);
+            gzipStream.finish();
+            return bufferStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class LeveledGZIPOutputStream extends GZIPOutputStream {
+        LeveledGZIPOutputStream(ByteArrayOutputStream out, int level) throws IOException {
+            super(out, 8192);
+            def.setLevel(level);
+        }
+    }
+
+    private static class VariantKey {
+        private final String requestURI;
+        private final String etag;
+        private final int length;
+        private final long checksum;
+
+        VariantKey(String requestURI, String etag, byte[] bytes) {
+            this.requestURI = requestURI;
+            this.etag = etag;
+            this.length = bytes.length;
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            this.checksum = crc.getValue();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            VariantKey that = (VariantKey) o;
+            return length == that.length && checksum == that.checksum
+                    && Objects.equals(requestURI, that.requestURI) && Objects.equals(etag, that.etag);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requestURI, etag, length, checksum);
+        }
+    }
+}
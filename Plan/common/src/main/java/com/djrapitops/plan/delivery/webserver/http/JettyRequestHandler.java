@@ -24,6 +24,7 @@ import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import jakarta.servlet.AsyncContext;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -34,6 +35,7 @@ import org.eclipse.jetty.server.handler.AbstractHandler;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 @Singleton
 public class JettyRequestHandler extends AbstractHandler {
@@ -42,16 +44,18 @@ public class JettyRequestHandler extends AbstractHandler {
     private final AuthenticationExtractor authenticationExtractor;
     private final Addresses addresses;
     private final RequestHandler requestHandler;
+    private final CompressedResponseCache compressedResponseCache;
     private final PlanConfig config;
     private final PluginLogger logger;
     private final ErrorLogger errorLogger;
 
     @Inject
-    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
+    public JettyRequestHandler(WebserverConfiguration webserverConfiguration, AuthenticationExtractor authenticationExtractor, Addresses addresses, RequestHandler requestHandler, CompressedResponseCache compressedResponseCache, PlanConfig config, PluginLogger logger, ErrorLogger errorLogger) {
         this.webserverConfiguration = webserverConfiguration;
         this.authenticationExtractor = authenticationExtractor;
         this.addresses = addresses;
         this.requestHandler = requestHandler;
+        this.compressedResponseCache = compressedResponseCache;
         this.config = config;
         this.logger = logger;
         this.errorLogger = errorLogger;
@@ -61,18 +65,50 @@ public class JettyRequestHandler extends AbstractHandler {
     public void handle(String target, Request baseRequest, HttpServletRequest servletRequest, HttpServletResponse servletResponse) throws IOException, ServletException {
         try {
             InternalRequest internalRequest = new JettyInternalRequest(baseRequest, servletRequest, webserverConfiguration, authenticationExtractor);
-            Response response = requestHandler.getResponse(internalRequest);
-            new JettyResponseSender(response, servletRequest, servletResponse, addresses).send();
+            CompletableFuture<Response> response = requestHandler.getResponseAsync(internalRequest);
+            if (response.isDone() || !servletRequest.isAsyncSupported()) {
+                new JettyResponseSender(response.join(), servletRequest, servletResponse, addresses, compressedResponseCache).send();
+            } else {
+                sendWhenComplete(response, target, baseRequest, servletRequest, servletResponse);
+            }
             baseRequest.setHandled(true);
         } catch (Exception e) {
-            if (config.isTrue(PluginSettings.DEV_MODE)) {
-                logger.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
-                errorLogger.warn(e, ErrorContext.builder()
-                        .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
-                        .related(baseRequest.getMethod(), baseRequest.getRemoteAddr(), target, baseRequest.getRequestURI())
-                        .build());
-            }
+            logDevModeError(e, target, baseRequest.getMethod(), baseRequest.getRemoteAddr(), baseRequest.getRequestURI());
         }
+    }
+
+    private void sendWhenComplete(CompletableFuture<Response> response, String target, Request baseRequest, HttpServletRequest servletRequest, HttpServletResponse servletResponse) {
+        String method = baseRequest.getMethod();
+        String remoteAddress = baseRequest.getRemoteAddr();
+        String requestURI = baseRequest.getRequestURI();
 
+        // Webserver thread is released until the response is ready to be sent.
+        AsyncContext asyncContext = servletRequest.startAsync();
+        // RequestHandler completes the response when waiting for data times out.
+        asyncContext.setTimeout(0);
+        response.whenComplete((resolved, throwable) -> {
+            try {
+                if (throwable != null) {
+                    logDevModeError(throwable, target, method, remoteAddress, requestURI);
+                    servletResponse.setStatus(500);
+                } else {
+                    new JettyResponseSender(resolved, servletRequest, servletResponse, addresses, compressedResponseCache).send();
+                }
+            } catch (Exception e) {
+                logDevModeError(e, target, method, remoteAddress, requestURI);
+            } finally {
+                asyncContext.complete();
+            }
+        });
+    }
+
+    private void logDevModeError(Throwable e, String target, String method, String remoteAddress, String requestURI) {
+        if (config.isTrue(PluginSettings.DEV_MODE)) {
+            logger.warn("THIS ERROR IS ONLY LOGGED IN DEV MODE:");
+            errorLogger.warn(e, ErrorContext.builder()
+                    .whatToDo("THIS ERROR IS ONLY LOGGED IN DEV MODE")
+                    .related(method, remoteAddress, target, requestURI)
+                    .build());
+        }
     }
 }
@@ -19,17 +19,15 @@ package com.djrapitops.plan.delivery.webserver.http;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.webserver.Addresses;
+import com.djrapitops.plan.utilities.dev.Untrusted;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jetty.http.HttpHeader;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
-import java.util.zip.GZIPOutputStream;
 
 public class JettyResponseSender {
 
@@ -37,12 +35,14 @@ public class JettyResponseSender {
     private final HttpServletRequest servletRequest;
     private final HttpServletResponse servletResponse;
     private final Addresses addresses;
+    private final CompressedResponseCache compressedResponseCache;
 
-    public JettyResponseSender(Response response, HttpServletRequest servletRequest, HttpServletResponse servletResponse, Addresses addresses) {
+    public JettyResponseSender(Response response, HttpServletRequest servletRequest, HttpServletResponse servletResponse, Addresses addresses, CompressedResponseCache compressedResponseCache) {
         this.response = response;
         this.servletRequest = servletRequest;
         this.servletResponse = servletResponse;
         this.addresses = addresses;
+        this.compressedResponseCache = compressedResponseCache;
     }
 
     public void send() throws IOException {
@@ -60,7 +60,38 @@ public class JettyResponseSender {
     private boolean canGzip() {
         String method = servletRequest.getMethod();
         String mimeType = response.getHeaders().get(HttpHeader.CONTENT_TYPE.asString());
-        return "GET".equals(method) && StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain");
+        if (!"GET".equals(method) || !StringUtils.containsAny(mimeType, MimeType.HTML, MimeType.CSS, MimeType.JS, MimeType.JSON, "text/plain")) {
+            return false;
+        }
+        response.getHeaders().put(HttpHeader.VARY.asString(), HttpHeader.ACCEPT_ENCODING.asString());
+        return acceptsGzip(servletRequest.getHeader(HttpHeader.ACCEPT_ENCODING.asString()));
+    }
+
+    // VisibleForTesting
+    static boolean acceptsGzip(@Untrusted String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        boolean wildcardAccepted = false;
+        for (String encoding : StringUtils.split(acceptEncoding, ',')) {
+            String[] parts = StringUtils.split(encoding, ';');
+            if (parts.length == 0) continue;
+            String name = parts[0].trim();
+            boolean accepted = parts.length < 2 || !isZeroQuality(parts[1].trim());
+            if ("gzip".equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+                return accepted;
+            } else if ("*".equals(name)) {
+                wildcardAccepted = accepted;
+            }
+        }
+        return wildcardAccepted;
+    }
+
+    private static boolean isZeroQuality(@Untrusted String qualityParameter) {
+        if (!qualityParameter.startsWith("q=")) return false;
+        try {
+            return Double.parseDouble(qualityParameter.substring(2)) <= 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
     }
 
     public void sendHeadResponse() throws IOException {
@@ -93,7 +124,7 @@ public class JettyResponseSender {
         response.getHeaders().remove(HttpHeader.ACCEPT_RANGES.asString());
         response.getHeaders().put(HttpHeader.CONTENT_ENCODING.asString(), "gzip");
 
-        byte[] gzipped = gzip();
+        byte[] gzipped = compressedResponseCache.getGzipped(getRequestURI(), response);
         try (OutputStream out = servletResponse.getOutputStream()) {
             response.getHeaders().put(HttpHeader.CONTENT_LENGTH.asString(), String.valueOf(gzipped.length));
             setResponseHeaders();
@@ -104,15 +135,9 @@ public class JettyResponseSender {
         }
     }
 
-    private byte[] gzip() throws IOException {
-        try (ByteArrayOutputStream bufferStream = new ByteArrayOutputStream();
-             GZIPOutputStream gzipStream = new GZIPOutputStream(bufferStream)
-        ) {
-            gzipStream.write(response.getBytes());
-            gzipStream.finish();
-            gzipStream.flush();
-            return bufferStream.toByteArray();
-        }
+    private String getRequestURI() {
+        String query = servletRequest.getQueryString();
+        return query != null ? servletRequest.getRequestURI() + '?' + query : servletRequest.getRequestURI();
     }
 
     private void beginSend() {
@@ -142,14 +167,6 @@ public class JettyResponseSender {
     }
 
     private void send(OutputStream out, byte[] bytes) throws IOException {
-        try (
-                ByteArrayInputStream bis = new ByteArrayInputStream(bytes)
-        ) {
-            byte[] buffer = new byte[2048];
-            int count;
-            while ((count = bis.read(buffer)) != -1) {
-                out.write(buffer, 0, count);
-            }
-        }
+        out.write(bytes);
     }
 }
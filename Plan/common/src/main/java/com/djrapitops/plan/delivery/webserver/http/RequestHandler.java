@@ -31,6 +31,9 @@ import org.eclipse.jetty.http.HttpHeader;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 @Singleton
 public class RequestHandler {
@@ -52,41 +55,68 @@ public class RequestHandler {
         bruteForceGuard = new PassBruteForceGuard();
     }
 
-    public Response getResponse(InternalRequest internalRequest) {
+    /**
+     * Get response for the request.
+     * <p>
+     * The returned future is incomplete if the response is still waiting for data,
+     * it is completed with an error response if the data is not ready within {@link WebserverConfiguration#getWaitForDataTimeout()}.
+     *
+     * @param internalRequest Request to respond to.
+     * @return Future that completes with the response.
+     */
+    public CompletableFuture<Response> getResponseAsync(InternalRequest internalRequest) {
         @Untrusted String accessAddress = internalRequest.getAccessAddress(webserverConfiguration);
 
-        Response response;
+        CompletableFuture<Response> response;
         @Untrusted Request request = null;
         if (bruteForceGuard.shouldPreventRequest(accessAddress)) {
-            response = responseFactory.failedLoginAttempts403();
+            response = CompletableFuture.completedFuture(responseFactory.failedLoginAttempts403());
         } else if (!webserverConfiguration.getAllowedIpList().isAllowed(accessAddress)) {
             webserverConfiguration.getWebserverLogMessages()
                     .warnAboutWhitelistBlock(accessAddress, internalRequest.getRequestedURIString());
-            response = responseFactory.ipWhitelist403(accessAddress);
+            response = CompletableFuture.completedFuture(responseFactory.ipWhitelist403(accessAddress));
         } else {
             try {
                 request = internalRequest.toRequest();
-                response = attemptToResolve(request, accessAddress);
+                response = attemptToResolve(internalRequest, request, accessAddress);
             } catch (WebUserAuthException thrownByAuthentication) {
-                response = processFailedAuthentication(internalRequest, accessAddress, thrownByAuthentication);
+                response = CompletableFuture.completedFuture(processFailedAuthentication(internalRequest, accessAddress, thrownByAuthentication));
             }
         }
 
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Origin", webserverConfiguration.getAllowedCorsOrigin());
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
-        response.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
-        response.getHeaders().putIfAbsent("X-Robots-Tag", "noindex, nofollow");
+        @Untrusted Request resolvedRequest = request;
+        return response.thenApply(resolved -> {
+            resolved.getHeaders().putIfAbsent("Access-Control-Allow-Origin", webserverConfiguration.getAllowedCorsOrigin());
+            resolved.getHeaders().putIfAbsent("Access-Control-Allow-Methods", "GET, OPTIONS");
+            resolved.getHeaders().putIfAbsent("Access-Control-Allow-Credentials", "true");
+            resolved.getHeaders().putIfAbsent("X-Robots-Tag", "noindex, nofollow");
 
-        accessLogger.log(internalRequest, request, response);
+            accessLogger.log(internalRequest, resolvedRequest, resolved);
 
-        return response;
+            return resolved;
+        });
     }
 
-    private Response attemptToResolve(@Untrusted Request request, @Untrusted String accessAddress) {
-        Response response = protocolUpgradeResponse(request)
-                .orElseGet(() -> responseResolver.getResponse(request));
-        request.getUser().ifPresent(user -> processSuccessfulLogin(response.getCode(), accessAddress));
-        return response;
+    private CompletableFuture<Response> attemptToResolve(InternalRequest internalRequest, @Untrusted Request request, @Untrusted String accessAddress) {
+        Optional<Response> upgradeResponse = protocolUpgradeResponse(request);
+        CompletableFuture<Response> response = upgradeResponse.isPresent()
+                ? CompletableFuture.completedFuture(upgradeResponse.get())
+                : responseResolver.getResponseAsync(request)
+                .completeOnTimeout(responseFactory.dataNotReady503(), webserverConfiguration.getWaitForDataTimeout(), TimeUnit.MILLISECONDS);
+
+        return response.handle((resolved, throwable) -> {
+            if (throwable == null) {
+                request.getUser().ifPresent(user -> processSuccessfulLogin(resolved.getCode(), accessAddress));
+                return resolved;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            if (cause instanceof WebUserAuthException) {
+                return processFailedAuthentication(internalRequest, accessAddress, (WebUserAuthException) cause);
+            }
+            return responseFactory.internalErrorResponse(cause, "Failed to get a response");
+        });
     }
 
     private Optional<Response> protocolUpgradeResponse(@Untrusted Request request) {
@@ -44,6 +44,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Resolves /v1/graph JSON requests.
@@ -137,36 +138,35 @@ public class GraphsJSONResolver extends JSONResolver {
     )
     @Override
     public Optional<Response> resolve(Request request) {
-        return Optional.of(getResponse(request));
+        return resolveAsync(request).join();
     }
 
-    private Response getResponse(Request request) {
+    @Override
+    public CompletableFuture<Optional<Response>> resolveAsync(Request request) {
         @Untrusted String type = request.getQuery().get("type")
                 .orElseThrow(() -> new BadRequestException("'type' parameter was not defined."));
 
         DataID dataID = getDataID(type);
 
-        JSONStorage.StoredJSON storedJSON = getGraphJSON(request, dataID);
-        return getCachedOrNewResponse(request, storedJSON);
+        return getGraphJSON(request, dataID)
+                .thenApply(storedJSON -> Optional.of(getCachedOrNewResponse(request, storedJSON)));
     }
 
-    private JSONStorage.StoredJSON getGraphJSON(@Untrusted Request request, DataID dataID) {
+    private CompletableFuture<JSONStorage.StoredJSON> getGraphJSON(@Untrusted Request request, DataID dataID) {
         Optional<Long> timestamp = Identifiers.getTimestamp(request);
 
-        JSONStorage.StoredJSON storedJSON;
         if (request.getQuery().get("server").isPresent()) {
             ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
-            storedJSON = jsonResolverService.resolve(
+            return jsonResolverService.resolveAsync(
                     timestamp, dataID, serverUUID,
                     theServerUUID -> generateGraphDataJSONOfType(dataID, theServerUUID, request.getQuery())
             );
         } else {
             // Assume network
-            storedJSON = jsonResolverService.resolve(
+            return jsonResolverService.resolveAsync(
                     timestamp, dataID, () -> generateGraphDataJSONOfType(dataID, request.getQuery())
             );
         }
-        return storedJSON;
     }
 
     private DataID getDataID(@Untrusted String type) {
@@ -17,7 +17,6 @@
 package com.djrapitops.plan.delivery.webserver.resolver.json;
 
 import com.djrapitops.plan.delivery.domain.auth.WebPermission;
-import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
 import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.formatting.Formatters;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
@@ -25,7 +24,7 @@ import com.djrapitops.plan.delivery.web.resolver.Resolver;
 import com.djrapitops.plan.delivery.web.resolver.Response;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
-import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DisplaySettings;
@@ -130,43 +129,40 @@ public class NetworkPerformanceJSONResolver implements Resolver {
         Database db = dbSystem.getDatabase();
         long now = System.currentTimeMillis();
         long monthAgo = now - TimeUnit.DAYS.toMillis(30L);
-        Map<Integer, List<TPS>> tpsData = db.query(TPSQueries.fetchTPSDataOfServers(monthAgo, now, serverUUIDs));
+        Map<Integer, TPSSeries> tpsData = db.query(TPSQueries.fetchTPSSeriesOfServers(monthAgo, now, serverUUIDs));
 
         serverOverview.put("numbers", createNumbersMap(tpsData));
         return serverOverview;
     }
 
-    private Map<String, Object> createNumbersMap(Map<Integer, List<TPS>> tpsData) {
+    private Map<String, Object> createNumbersMap(Map<Integer, TPSSeries> tpsData) {
         long now = System.currentTimeMillis();
         long dayAgo = now - TimeUnit.DAYS.toMillis(1L);
         long weekAgo = now - TimeUnit.DAYS.toMillis(7L);
 
         Map<String, Object> numbers = new HashMap<>();
 
-        List<TPS> tpsDataOfAllServers = new ArrayList<>();
-        tpsData.values().forEach(tpsDataOfAllServers::addAll);
-        TPSMutator tpsDataMonth = new TPSMutator(tpsDataOfAllServers);
-        TPSMutator tpsDataWeek = tpsDataMonth.filterDataBetween(weekAgo, now);
-        TPSMutator tpsDataDay = tpsDataWeek.filterDataBetween(dayAgo, now);
-
-        Map<Integer, TPSMutator> mutatorsOfServersMonth = new HashMap<>();
-        Map<Integer, TPSMutator> mutatorsOfServersWeek = new HashMap<>();
-        Map<Integer, TPSMutator> mutatorsOfServersDay = new HashMap<>();
-        for (Map.Entry<Integer, List<TPS>> entry : tpsData.entrySet()) {
-            TPSMutator mutator = new TPSMutator(entry.getValue());
-            mutatorsOfServersMonth.put(entry.getKey(), mutator);
-            mutatorsOfServersWeek.put(entry.getKey(), mutator.filterDataBetween(weekAgo, now));
-            mutatorsOfServersDay.put(entry.getKey(), mutator.filterDataBetween(dayAgo, now));
-        }
-
         Double tpsThreshold = config.get(DisplaySettings.GRAPH_TPS_THRESHOLD_MED);
-        numbers.put("low_tps_spikes_30d", tpsDataMonth.lowTpsSpikeCount(tpsThreshold));
-        numbers.put("low_tps_spikes_7d", tpsDataWeek.lowTpsSpikeCount(tpsThreshold));
-        numbers.put("low_tps_spikes_24h", tpsDataDay.lowTpsSpikeCount(tpsThreshold));
-
-        long downtimeMonth = getTotalDowntime(mutatorsOfServersMonth);
-        long downtimeWeek = getTotalDowntime(mutatorsOfServersWeek);
-        long downtimeDay = getTotalDowntime(mutatorsOfServersDay);
+        List<TPSSeries.Aggregates> aggregatesOfServersMonth = new ArrayList<>();
+        List<TPSSeries.Aggregates> aggregatesOfServersWeek = new ArrayList<>();
+        List<TPSSeries.Aggregates> aggregatesOfServersDay = new ArrayList<>();
+        for (TPSSeries series : tpsData.values()) {
+            aggregatesOfServersMonth.add(series.aggregate(tpsThreshold));
+            aggregatesOfServersWeek.add(series.between(weekAgo, now).aggregate(tpsThreshold));
+            aggregatesOfServersDay.add(series.between(dayAgo, now).aggregate(tpsThreshold));
+        }
+        TPSSeries.Aggregates tpsDataMonth = TPSSeries.Aggregates.combine(aggregatesOfServersMonth);
+        TPSSeries.Aggregates tpsDataWeek = TPSSeries.Aggregates.combine(aggregatesOfServersWeek);
+        TPSSeries.Aggregates tpsDataDay = TPSSeries.Aggregates.combine(aggregatesOfServersDay);
+
+        numbers.put("low_tps_spikes_30d", tpsDataMonth.lowTpsSpikeCount());
+        numbers.put("low_tps_spikes_7d", tpsDataWeek.lowTpsSpikeCount());
+        numbers.put("low_tps_spikes_24h", tpsDataDay.lowTpsSpikeCount());
+
+        // Combined downtime is the sum of downtime of each server
+        long downtimeMonth = tpsDataMonth.serverDownTime();
+        long downtimeWeek = tpsDataWeek.serverDownTime();
+        long downtimeDay = tpsDataDay.serverDownTime();
         numbers.put("server_downtime_30d", timeAmount.apply(downtimeMonth));
         numbers.put("server_downtime_7d", timeAmount.apply(downtimeWeek));
         numbers.put("server_downtime_24h", timeAmount.apply(downtimeDay));
@@ -203,14 +199,6 @@ public class NetworkPerformanceJSONResolver implements Resolver {
         return numbers;
     }
 
-    private long getTotalDowntime(Map<Integer, TPSMutator> mutatorsOfServersMonth) {
-        long downTime = 0L;
-        for (TPSMutator tpsMutator : mutatorsOfServersMonth.values()) {
-            downTime += tpsMutator.serverDownTime();
-        }
-        return downTime;
-    }
-
     private String format(double value) {
         return value != -1 ? decimals.apply(value) : locale.get(GenericLang.UNAVAILABLE).toString();
     }
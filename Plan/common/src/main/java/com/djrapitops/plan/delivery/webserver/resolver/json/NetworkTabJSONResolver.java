@@ -24,10 +24,10 @@ import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
-import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 /**
@@ -62,11 +62,12 @@ public class NetworkTabJSONResolver<T> extends JSONResolver {
 
     @Override
     public Optional<Response> resolve(Request request) {
-        return Optional.of(getResponse(request));
+        return resolveAsync(request).join();
     }
 
-    private Response getResponse(Request request) {
-        JSONStorage.StoredJSON json = asyncJSONResolverService.resolve(Identifiers.getTimestamp(request), dataID, jsonCreator);
-        return getCachedOrNewResponse(request, json);
+    @Override
+    public CompletableFuture<Optional<Response>> resolveAsync(Request request) {
+        return asyncJSONResolverService.resolveAsync(Identifiers.getTimestamp(request), dataID, jsonCreator)
+                .thenApply(json -> Optional.of(getCachedOrNewResponse(request, json)));
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.djrapitops.plan.delivery.formatting.Formatter;
 import com.djrapitops.plan.delivery.rendering.json.JSONFactory;
 import com.djrapitops.plan.delivery.web.resolver.MimeType;
 import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.web.resolver.exception.BadRequestException;
 import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
@@ -28,6 +29,7 @@ import com.djrapitops.plan.delivery.webserver.cache.DataID;
 import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePage;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,6 +43,7 @@ import jakarta.ws.rs.Path;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -87,11 +90,18 @@ public class PlayersTableJSONResolver extends JSONResolver {
             responses = {
                     @ApiResponse(responseCode = "200", content = @Content(mediaType = MimeType.JSON)),
             },
-            parameters = @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
-                    @ExampleObject("Server 1"),
-                    @ExampleObject("1"),
-                    @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
-            }),
+            parameters = {
+                    @Parameter(in = ParameterIn.QUERY, name = "server", description = "Server identifier to get data for (optional)", examples = {
+                            @ExampleObject("Server 1"),
+                            @ExampleObject("1"),
+                            @ExampleObject("1fb39d2a-eb82-4868-b245-1fad17d823b3"),
+                    }),
+                    @Parameter(in = ParameterIn.QUERY, name = "limit", description = "Page size, enables server-side paging. Capped to the configured players per page (optional)", examples = @ExampleObject("50")),
+                    @Parameter(in = ParameterIn.QUERY, name = "offset", description = "How many players to skip when paging (optional)", examples = @ExampleObject("100")),
+                    @Parameter(in = ParameterIn.QUERY, name = "orderBy", description = "Column to sort by when paging: name, index, activePlaytime, sessions, registered, seen or geolocation (optional)", examples = @ExampleObject("seen")),
+                    @Parameter(in = ParameterIn.QUERY, name = "order", description = "Sort direction when paging, asc or desc (optional)", examples = @ExampleObject("desc")),
+                    @Parameter(in = ParameterIn.QUERY, name = "search", description = "Part of player name to filter by when paging (optional)", examples = @ExampleObject("Aurora")),
+            },
             requestBody = @RequestBody(content = @Content(examples = @ExampleObject()))
     )
     @Override
@@ -100,10 +110,55 @@ public class PlayersTableJSONResolver extends JSONResolver {
     }
 
     private Response getResponse(Request request) {
+        if (request.getQuery().get("limit").isPresent()) {
+            return getPageResponse(request);
+        }
         JSONStorage.StoredJSON storedJSON = getStoredJSON(request);
         return getCachedOrNewResponse(request, storedJSON);
     }
 
+    private Response getPageResponse(@Untrusted Request request) {
+        PlayersTablePage page = getPage(request);
+        Map<String, Object> json;
+        if (request.getQuery().get("server").isPresent()) {
+            ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
+            json = jsonFactory.serverPlayersTablePageJSON(serverUUID, page);
+        } else {
+            // Assume players page
+            json = jsonFactory.networkPlayersTablePageJSON(page);
+        }
+        return Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setJSONContent(json)
+                .build();
+    }
+
+    private PlayersTablePage getPage(@Untrusted Request request) {
+        int limit = getNonNegativeInt(request, "limit", 0);
+        int offset = getNonNegativeInt(request, "offset", 0);
+        PlayersTablePage.SortBy sortBy = request.getQuery().get("orderBy")
+                .map(orderBy -> PlayersTablePage.SortBy.fromName(orderBy)
+                        .orElseThrow(() -> new BadRequestException("'orderBy' is not a sortable column")))
+                .orElse(PlayersTablePage.SortBy.LAST_SEEN);
+        boolean ascending = request.getQuery().get("order")
+                .map(order -> "asc".equalsIgnoreCase(order))
+                .orElse(false);
+        @Untrusted String search = request.getQuery().get("search").orElse(null);
+        return new PlayersTablePage(offset, limit, sortBy, ascending, search);
+    }
+
+    private int getNonNegativeInt(@Untrusted Request request, String parameter, int defaultValue) {
+        Optional<String> value = request.getQuery().get(parameter);
+        if (value.isEmpty()) return defaultValue;
+        try {
+            int parsed = Integer.parseInt(value.get());
+            if (parsed < 0) throw new BadRequestException("'" + parameter + "' can not be negative");
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("'" + parameter + "' is not a number");
+        }
+    }
+
     private JSONStorage.StoredJSON getStoredJSON(@Untrusted Request request) {
         Optional<Long> timestamp = Identifiers.getTimestamp(request);
         JSONStorage.StoredJSON storedJSON;
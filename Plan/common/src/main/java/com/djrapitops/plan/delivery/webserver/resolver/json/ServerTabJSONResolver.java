@@ -24,12 +24,12 @@ import com.djrapitops.plan.delivery.web.resolver.request.Request;
 import com.djrapitops.plan.delivery.web.resolver.request.WebUser;
 import com.djrapitops.plan.delivery.webserver.cache.AsyncJSONResolverService;
 import com.djrapitops.plan.delivery.webserver.cache.DataID;
-import com.djrapitops.plan.delivery.webserver.cache.JSONStorage;
 import com.djrapitops.plan.identification.Identifiers;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -66,12 +66,13 @@ public class ServerTabJSONResolver<T> extends JSONResolver {
 
     @Override
     public Optional<Response> resolve(Request request) {
-        return Optional.of(getResponse(request));
+        return resolveAsync(request).join();
     }
 
-    private Response getResponse(@Untrusted Request request) {
+    @Override
+    public CompletableFuture<Optional<Response>> resolveAsync(@Untrusted Request request) {
         ServerUUID serverUUID = identifiers.getServerUUID(request); // Can throw BadRequestException
-        JSONStorage.StoredJSON storedJson = asyncJSONResolverService.resolve(Identifiers.getTimestamp(request), dataID, serverUUID, jsonCreator);
-        return getCachedOrNewResponse(request, storedJson);
+        return asyncJSONResolverService.resolveAsync(Identifiers.getTimestamp(request), dataID, serverUUID, jsonCreator)
+                .thenApply(storedJson -> Optional.of(getCachedOrNewResponse(request, storedJson)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactions and provider definitions of a single gather pass of a DataExtension.
+ *
+ * @author AuroraLS3
+ */
+class GatheredResults {
+
+    private final List<Transaction> transactions;
+    private final Map<String, List<Object>> pendingDefinitions;
+
+    GatheredResults() {
+        transactions = new ArrayList<>();
+        pendingDefinitions = new HashMap<>();
+    }
+
+    void add(Transaction transaction) {
+        transactions.add(transaction);
+    }
+
+    boolean isEmpty() {
+        return transactions.isEmpty();
+    }
+
+    List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    Map<String, List<Object>> getPendingDefinitions() {
+        return pendingDefinitions;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.table.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of provider definitions that have already been written to the database.
+ * <p>
+ * Definitions are compared by the values that end up in the provider tables, so unchanged icons and provider
+ * metadata don't need to be re-written on every gather pass.
+ * <p>
+ * Definitions are recorded only after the transaction that stores them has been committed, so that a concurrent
+ * gather pass does not skip a provider that is not in the database yet.
+ *
+ * @author AuroraLS3
+ */
+class ProviderDefinitionCache {
+
+    private final Map<String, List<Object>> storedDefinitions;
+
+    ProviderDefinitionCache() {
+        storedDefinitions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Check if the definition of a provider needs to be stored.
+     *
+     * @param information Information about the provider.
+     * @param table       Table given by a table provider, null for other providers.
+     * @param forPlayer   Is the provider a player provider.
+     * @param pending     Definitions stored by the current gather pass, the definition is added if it should be stored.
+     * @return true if the definition is new or differs from the last recorded one and should be stored.
+     */
+    boolean needsToBeStored(ProviderInformation information, Table table, boolean forPlayer, Map<String, List<Object>> pending) {
+        List<Object> definition = definitionOf(information, table, forPlayer);
+        if (definition.equals(storedDefinitions.get(information.getName()))) return false;
+        pending.put(information.getName(), definition);
+        return true;
+    }
+
+    /**
+     * Record definitions after they have been committed to the database.
+     *
+     * @param stored Definitions given to {@link #needsToBeStored(ProviderInformation, Table, boolean, Map)}.
+     */
+    void recordDefinitions(Map<String, List<Object>> stored) {
+        storedDefinitions.putAll(stored);
+    }
+
+    void forget(Collection<String> providerNames) {
+        for (String providerName : providerNames) {
+            storedDefinitions.remove(providerName);
+        }
+    }
+
+    void clear() {
+        storedDefinitions.clear();
+    }
+
+    private static List<Object> definitionOf(ProviderInformation information, Table table, boolean forPlayer) {
+        List<Object> definition = new ArrayList<>(Arrays.asList(
+                forPlayer,
+                information.getText(),
+                information.getDescription().orElse(null),
+                information.getPriority(),
+                information.getCondition().orElse(null),
+                information.getTab().orElse(null),
+                information.isShownInPlayersTable(),
+                information.isHidden(),
+                information.getProvidedCondition(),
+                information.getFormatType().orElse(null),
+                information.isPlayerName(),
+                information.getTableColor(),
+                definitionOf(information.getIcon())
+        ));
+        if (table != null) {
+            definition.add(Arrays.asList(table.getColumns()));
+            definition.add(Arrays.asList(table.getTableColumnFormats()));
+            for (Icon icon : table.getIcons()) {
+                definition.add(definitionOf(icon));
+            }
+        }
+        return definition;
+    }
+
+    private static List<Object> definitionOf(Icon icon) {
+        return icon != null ? Arrays.asList(icon.getName(), icon.getFamily(), icon.getColor()) : null;
+    }
+}
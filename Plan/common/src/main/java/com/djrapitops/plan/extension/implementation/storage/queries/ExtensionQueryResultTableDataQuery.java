@@ -25,9 +25,8 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
-import com.djrapitops.plan.storage.database.sql.building.Sql;
+import com.djrapitops.plan.storage.database.queries.UserIdsInSetQuery;
 import com.djrapitops.plan.storage.database.sql.tables.*;
-import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -36,6 +35,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
@@ -78,9 +78,13 @@ public class ExtensionQueryResultTableDataQuery implements Query<Map<UUID, Exten
     }
 
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerData() {
+        return new UserIdsInSetQuery<>(userIds, this::createPlayerDataQuery);
+    }
+
+    private QueryStatement<Map<UUID, ExtensionTabData>> createPlayerDataQuery(Supplier<String> userIdsInSet) {
         String selectUuids = SELECT + UsersTable.USER_UUID +
                 FROM + UsersTable.TABLE_NAME +
-                WHERE + UsersTable.ID + " IN (" + Sql.nParameters(userIds.size()) + ")";
+                WHERE + UsersTable.ID + userIdsInSet.get();
 
         String sql = SELECT +
                 "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
@@ -105,19 +109,29 @@ public class ExtensionQueryResultTableDataQuery implements Query<Map<UUID, Exten
                 AND + "p1." + ExtensionProviderTable.IS_PLAYER_NAME + "=?" +
                 AND + "e1." + ExtensionPluginTable.SERVER_UUID + "=?";
 
-        return db -> db.queryMap(sql, this::extractPlayer, HashMap::new,
-                        userIds,
-                        true,  // Select only values that should be shown
-                        false, // Don't select player_name String values
-                        serverUUID)
-                .entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+        return new QueryStatement<>(sql, 1000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setBoolean(1, true);  // Select only values that should be shown
+                statement.setBoolean(2, false); // Don't select player_name String values
+                statement.setString(3, serverUUID.toString());
+            }
+
+            @Override
+            public Map<UUID, ExtensionTabData> processResults(ResultSet set) throws SQLException {
+                return extractDataByPlayer(set);
+            }
+        };
     }
 
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerGroups() {
+        return new UserIdsInSetQuery<>(userIds, this::createPlayerGroupsQuery);
+    }
+
+    private QueryStatement<Map<UUID, ExtensionTabData>> createPlayerGroupsQuery(Supplier<String> userIdsInSet) {
         String selectUuids = SELECT + UsersTable.USER_UUID +
                 FROM + UsersTable.TABLE_NAME +
-                WHERE + UsersTable.ID + " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ")";
+                WHERE + UsersTable.ID + userIdsInSet.get();
 
         String sql = SELECT +
                 "v1." + ExtensionGroupsTable.USER_UUID + " as uuid," +
@@ -30,6 +30,7 @@ import com.djrapitops.plan.storage.database.sql.tables.*;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -38,7 +39,7 @@ import java.util.stream.Collectors;
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
- * Query Extension data of x most recent players on a server.
+ * Query Extension data of x most recent players, or of specific players, on a server.
  * <p>
  * Returns Map: Player UUID - {@link ExtensionTabData} (container for provider based data)
  *
@@ -48,14 +49,29 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
 
     private final ServerUUID serverUUID;
     private final int xMostRecentPlayers;
+    private final Collection<UUID> playerUUIDs;
 
     public ExtensionServerTableDataQuery(ServerUUID serverUUID, int xMostRecentPlayers) {
         this.serverUUID = serverUUID;
         this.xMostRecentPlayers = xMostRecentPlayers;
+        this.playerUUIDs = null;
+    }
+
+    /**
+     * Query Extension data of specific players, such as a page of the players table.
+     *
+     * @param serverUUID  UUID of the server the extension data is from.
+     * @param playerUUIDs UUIDs of the players.
+     */
+    public ExtensionServerTableDataQuery(ServerUUID serverUUID, Collection<UUID> playerUUIDs) {
+        this.serverUUID = serverUUID;
+        this.xMostRecentPlayers = playerUUIDs.size();
+        this.playerUUIDs = playerUUIDs;
     }
 
     @Override
     public Map<UUID, ExtensionTabData> executeQuery(SQLDB db) {
+        if (playerUUIDs != null && playerUUIDs.isEmpty()) return new HashMap<>();
         return combine(db.query(fetchPlayerData()), db.query(fetchPlayerGroups()));
     }
 
@@ -74,12 +90,34 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
         return one;
     }
 
-    private Query<Map<UUID, ExtensionTabData>> fetchPlayerData() {
-        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
+    private String selectUserIds() {
+        if (playerUUIDs != null) {
+            return SELECT + UsersTable.ID + " as user_id" +
+                    FROM + UsersTable.TABLE_NAME +
+                    WHERE + UsersTable.USER_UUID + " IN (" + nParameters(playerUUIDs.size()) + ')';
+        }
+        return SELECT +
                 SessionsTable.USER_ID + ",MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
                 GROUP_BY + SessionsTable.USER_ID +
                 ORDER_BY + "last_seen DESC LIMIT ?";
+    }
+
+    private int setSelectUserIdsParameters(PreparedStatement statement) throws SQLException {
+        if (playerUUIDs != null) {
+            int index = 1;
+            for (UUID playerUUID : playerUUIDs) {
+                statement.setString(index, playerUUID.toString());
+                index++;
+            }
+            return index;
+        }
+        statement.setInt(1, xMostRecentPlayers); // Limit to x most recently seen players
+        return 2;
+    }
+
+    private Query<Map<UUID, ExtensionTabData>> fetchPlayerData() {
+        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = selectUserIds();
 
         String sql = SELECT +
                 "v1." + ExtensionPlayerValueTable.USER_UUID + " as uuid," +
@@ -109,10 +147,10 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
         return new QueryStatement<>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
-                statement.setBoolean(3, true);                  // Select only values that should be shown
-                statement.setBoolean(4, false);                 // Don't select player_name String values
+                int index = setSelectUserIdsParameters(statement);
+                statement.setString(index, serverUUID.toString());
+                statement.setBoolean(index + 1, true);          // Select only values that should be shown
+                statement.setBoolean(index + 2, false);         // Don't select player_name String values
             }
 
             @Override
@@ -123,12 +161,7 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
     }
 
     private Query<Map<UUID, ExtensionTabData>> fetchPlayerGroups() {
-        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = SELECT +
-                SessionsTable.USER_ID + "," +
-                "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
-                FROM + SessionsTable.TABLE_NAME +
-                GROUP_BY + SessionsTable.USER_ID +
-                ORDER_BY + "last_seen DESC LIMIT ?";
+        String selectLimitedNumberOfPlayerUUIDsByLastSeenDate = selectUserIds();
 
         String sql = SELECT +
                 "v1." + ExtensionGroupsTable.USER_UUID + " as uuid," +
@@ -148,8 +181,8 @@ public class ExtensionServerTableDataQuery implements Query<Map<UUID, ExtensionT
         return new QueryStatement<>(sql, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setInt(1, xMostRecentPlayers);       // Limit to x most recently seen players
-                statement.setString(2, serverUUID.toString());
+                int index = setSelectUserIdsParameters(statement);
+                statement.setString(index, serverUUID.toString());
             }
 
             @Override
@@ -18,6 +18,7 @@ package com.djrapitops.plan.extension.implementation.storage.queries;
 
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionGroupsTable;
 import com.djrapitops.plan.storage.database.sql.tables.ExtensionProviderTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -27,7 +28,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -69,7 +69,7 @@ public class ExtensionUserIdsInGroupQuery extends QueryStatement<Set<Integer>> {
 
     @Override
     public Set<Integer> processResults(ResultSet set) throws SQLException {
-        Set<Integer> userIds = new HashSet<>();
+        UserIdBitmap userIds = new UserIdBitmap();
         while (set.next()) {
             userIds.add(set.getInt(UsersTable.ID));
         }
@@ -0,0 +1,50 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.storage.transactions.results;
+
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.List;
+
+/**
+ * Transaction that stores all results of a single gather pass of a DataExtension.
+ * <p>
+ * Icon, provider and result transactions are executed in the given order inside a single database transaction.
+ *
+ * @author AuroraLS3
+ */
+public class StoreGatheredResultsTransaction extends ThrowawayTransaction {
+
+    private final List<Transaction> transactions;
+
+    public StoreGatheredResultsTransaction(List<Transaction> transactions) {
+        this.transactions = transactions;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !transactions.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        for (Transaction transaction : transactions) {
+            executeOther(transaction);
+        }
+    }
+}
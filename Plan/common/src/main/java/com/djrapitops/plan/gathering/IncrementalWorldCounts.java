@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Keeps entity and loaded chunk counts of each world up to date from platform events.
+ * <p>
+ * Counting entities and chunks directly can copy all of them on some platforms,
+ * so the full count is only done once every {@link DataGatheringSettings#WORLD_COUNTS_FULL_COUNT_PERIOD}
+ * to correct counts that drifted due to events that were not listened to.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class IncrementalWorldCounts {
+
+    private final PlanConfig config;
+
+    private final Map<String, Counter> entityCounters;
+    private final Map<String, Counter> chunkCounters;
+
+    @Inject
+    public IncrementalWorldCounts(PlanConfig config) {
+        this.config = config;
+        entityCounters = new ConcurrentHashMap<>();
+        chunkCounters = new ConcurrentHashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return config.isTrue(DataGatheringSettings.INCREMENTAL_WORLD_COUNTS);
+    }
+
+    public void entitiesAdded(String world, int amount) {
+        getCounter(entityCounters, world).value.addAndGet(amount);
+    }
+
+    public void entitiesRemoved(String world, int amount) {
+        getCounter(entityCounters, world).value.addAndGet(-amount);
+    }
+
+    public void chunkLoaded(String world) {
+        getCounter(chunkCounters, world).value.incrementAndGet();
+    }
+
+    public void chunkUnloaded(String world) {
+        getCounter(chunkCounters, world).value.decrementAndGet();
+    }
+
+    public void worldUnloaded(String world) {
+        entityCounters.remove(world);
+        chunkCounters.remove(world);
+    }
+
+    /**
+     * Get entity count of a world.
+     *
+     * @param world     Name of the world.
+     * @param fullCount Counts the entities of the world directly, used when the count is first needed or is due for a recount.
+     * @return Amount of entities in the world.
+     */
+    public int getEntityCount(String world, IntSupplier fullCount) {
+        return getCount(entityCounters, world, fullCount);
+    }
+
+    /**
+     * Get loaded chunk count of a world.
+     *
+     * @param world     Name of the world.
+     * @param fullCount Counts the loaded chunks of the world directly, used when the count is first needed or is due for a recount.
+     * @return Amount of loaded chunks in the world.
+     */
+    public int getChunkCount(String world, IntSupplier fullCount) {
+        return getCount(chunkCounters, world, fullCount);
+    }
+
+    private int getCount(Map<String, Counter> counters, String world, IntSupplier fullCount) {
+        Counter counter = getCounter(counters, world);
+        long now = System.currentTimeMillis();
+        if (counter.lastFullCount == 0L || now - counter.lastFullCount >= config.get(DataGatheringSettings.WORLD_COUNTS_FULL_COUNT_PERIOD)) {
+            counter.value.set(fullCount.getAsInt());
+            counter.lastFullCount = now;
+        }
+        // Missed removal events can make the count go below zero.
+        return Math.max(0, counter.value.get());
+    }
+
+    private Counter getCounter(Map<String, Counter> counters, String world) {
+        return counters.computeIfAbsent(world, key -> new Counter());
+    }
+
+    private static class Counter {
+        private final AtomicInteger value = new AtomicInteger();
+        private volatile long lastFullCount = 0L;
+    }
+}
@@ -21,11 +21,14 @@ import com.djrapitops.plan.gathering.afk.AFKTracker;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.transactions.events.ServerShutdownTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerLifecycleEventTransaction;
 import com.djrapitops.plan.utilities.logging.ErrorContext;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -44,6 +47,7 @@ public abstract class ServerShutdownSave {
 
     protected final PluginLogger logger;
     private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
     private final Locale locale;
     private final ErrorLogger errorLogger;
 
@@ -53,11 +57,13 @@ public abstract class ServerShutdownSave {
     protected ServerShutdownSave(
             Locale locale,
             DBSystem dbSystem,
+            ServerInfo serverInfo,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
         this.locale = locale;
         this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
         this.logger = logger;
         this.errorLogger = errorLogger;
     }
@@ -77,7 +83,7 @@ public abstract class ServerShutdownSave {
 
         Collection<ActiveSession> activeSessions = SessionCache.getActiveSessions();
         if (activeSessions.isEmpty()) {
-            return Optional.empty();
+            return saveStopEvent(System.currentTimeMillis());
         }
 
         // This check ensures that logging is not attempted on JVM shutdown.
@@ -88,9 +94,24 @@ public abstract class ServerShutdownSave {
         return attemptSave(activeSessions);
     }
 
+    private Optional<Future<?>> saveStopEvent(long now) {
+        Optional<ServerUUID> serverUUID = serverInfo.getServerUUIDSafe();
+        if (serverUUID.isEmpty()) return Optional.empty();
+        try {
+            // Database is not opened again only for the stop event, uptime is calculated from TPS data in that case.
+            Database database = dbSystem.getDatabase();
+            if (database.getState() != Database.State.OPEN) return Optional.empty();
+            return Optional.of(database.executeTransaction(StoreServerLifecycleEventTransaction.stopped(serverUUID.get(), now)));
+        } catch (IllegalStateException ignored) {
+            /* Database is not initialized */
+            return Optional.empty();
+        }
+    }
+
     private Optional<Future<?>> attemptSave(Collection<ActiveSession> activeSessions) {
         try {
-            return Optional.of(saveActiveSessions(finishSessions(activeSessions, System.currentTimeMillis())));
+            long now = System.currentTimeMillis();
+            return Optional.of(saveActiveSessions(finishSessions(activeSessions, now), now));
         } catch (DBInitException e) {
             errorLogger.error(e, ErrorContext.builder()
                     .whatToDo("Find the sessions in the error file and save them manually or ignore. Report & delete the error file after.")
@@ -106,7 +127,7 @@ public abstract class ServerShutdownSave {
         }
     }
 
-    private Future<?> saveActiveSessions(Collection<FinishedSession> finishedSessions) {
+    private Future<?> saveActiveSessions(Collection<FinishedSession> finishedSessions, long now) {
         Database database = dbSystem.getDatabase();
         if (database.getState() == Database.State.CLOSED) {
             // Ensure that database is not closed when performing the transaction.
@@ -114,7 +135,7 @@ public abstract class ServerShutdownSave {
             database.init();
         }
 
-        return saveSessions(finishedSessions, database);
+        return saveSessions(finishedSessions, database, now);
     }
 
     Collection<FinishedSession> finishSessions(Collection<ActiveSession> activeSessions, long now) {
@@ -124,8 +145,9 @@ public abstract class ServerShutdownSave {
         }).collect(Collectors.toList());
     }
 
-    private Future<?> saveSessions(Collection<FinishedSession> finishedSessions, Database database) {
-        return database.executeTransaction(new ServerShutdownTransaction(finishedSessions));
+    private Future<?> saveSessions(Collection<FinishedSession> finishedSessions, Database database, long now) {
+        ServerUUID serverUUID = serverInfo.getServerUUIDSafe().orElse(null);
+        return database.executeTransaction(new ServerShutdownTransaction(serverUUID, finishedSessions, now));
     }
 
     private void closeDatabase(Database database) {
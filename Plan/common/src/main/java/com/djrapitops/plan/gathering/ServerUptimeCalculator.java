@@ -23,6 +23,7 @@ import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.ServerLifecycleQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 
 import javax.inject.Inject;
@@ -69,7 +70,11 @@ public class ServerUptimeCalculator {
             return Optional.empty();
         }
 
-        Optional<Long> serverStartDate = database.query(TPSQueries.fetchLatestServerStartTime(serverUUID, dataGapThreshold));
+        // Start events are stored on enable and after gaps in TPS data, older data might not have them.
+        Optional<Long> serverStartDate = database.query(ServerLifecycleQueries.fetchStartTimeIfRunning(serverUUID));
+        if (serverStartDate.isEmpty()) {
+            serverStartDate = database.query(TPSQueries.fetchLatestServerStartTime(serverUUID, dataGapThreshold));
+        }
         return serverStartDate
                 .map(serverStarted -> System.currentTimeMillis() - serverStarted);
     }
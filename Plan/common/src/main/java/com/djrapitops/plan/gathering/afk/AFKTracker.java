@@ -21,19 +21,25 @@ import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 
-import java.util.HashSet;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Keeps track how long player has been afk during a session
+ * <p>
+ * Last movement is stored as a primitive in the {@link ActiveSession} of the player. Actions look the session up
+ * without refreshing its world times, those are updated lazily when the session is read or ended.
  *
  * @author AuroraLS3
  */
 public class AFKTracker {
 
     public static final long IGNORES_AFK = -1L;
+    /**
+     * Movement is only recorded once per this interval, since move events are fired several times per second.
+     */
+    static final long MOVEMENT_SAMPLE_INTERVAL_MS = 1000L;
 
     private final Set<UUID> usedAFKCommand;
     private final PlanConfig config;
@@ -41,7 +47,7 @@ public class AFKTracker {
 
     public AFKTracker(PlanConfig config) {
         this.config = config;
-        usedAFKCommand = new HashSet<>();
+        usedAFKCommand = ConcurrentHashMap.newKeySet();
     }
 
     public long getAfkThreshold() {
@@ -52,52 +58,69 @@ public class AFKTracker {
     }
 
     public void hasIgnorePermission(UUID playerUUID) {
-        storeLastMovement(playerUUID, IGNORES_AFK);
-    }
-
-    private void storeLastMovement(UUID playerUUID, long time) {
-        SessionCache.getCachedSession(playerUUID)
-                .ifPresent(activeSession -> activeSession.setLastMovementForAfkCalculation(time));
-    }
-
-    private long getLastMovement(UUID playerUUID, long time) {
-        return getLastMovement(playerUUID)
-                .orElse(time);
-    }
-
-    private Optional<Long> getLastMovement(UUID playerUUID) {
-        return SessionCache.getCachedSession(playerUUID)
-                .map(ActiveSession::getLastMovementForAfkCalculation);
+        ActiveSession session = SessionCache.getCachedSessionWithoutStateUpdate(playerUUID);
+        if (session != null) session.setLastMovementForAfkCalculation(IGNORES_AFK);
     }
 
     public void usedAfkCommand(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
-        if (lastMoved == IGNORES_AFK) {
+        ActiveSession session = SessionCache.getCachedSessionWithoutStateUpdate(playerUUID);
+        if (session == null || session.getLastMovementForAfkCalculation() == IGNORES_AFK) {
             return;
         }
         usedAFKCommand.add(playerUUID);
-        storeLastMovement(playerUUID, time - getAfkThreshold());
+        session.setLastMovementForAfkCalculation(time - getAfkThreshold());
+    }
+
+    /**
+     * Record a movement of a player.
+     * <p>
+     * Movements closer than {@link #MOVEMENT_SAMPLE_INTERVAL_MS} to the previously recorded one are skipped.
+     *
+     * @param playerUUID UUID of the player.
+     * @param time       Epoch ms of the movement.
+     * @return How long the player was AFK before this movement, 0 if they were not.
+     */
+    public long performedMovement(UUID playerUUID, long time) {
+        ActiveSession session = SessionCache.getCachedSessionWithoutStateUpdate(playerUUID);
+        if (session == null) {
+            usedAFKCommand.remove(playerUUID);
+            return 0L;
+        }
+        long lastMoved = session.getLastMovementForAfkCalculation();
+        if (lastMoved != IGNORES_AFK && time - lastMoved < Math.min(MOVEMENT_SAMPLE_INTERVAL_MS, getAfkThreshold())) {
+            return 0L;
+        }
+        return performedAction(session, playerUUID, time);
     }
 
     public long performedAction(UUID playerUUID, long time) {
-        long lastMoved = getLastMovement(playerUUID, time);
+        ActiveSession session = SessionCache.getCachedSessionWithoutStateUpdate(playerUUID);
+        if (session == null) {
+            usedAFKCommand.remove(playerUUID);
+            return 0L;
+        }
+        return performedAction(session, playerUUID, time);
+    }
+
+    private long performedAction(ActiveSession session, UUID playerUUID, long time) {
+        long lastMoved = session.getLastMovementForAfkCalculation();
         // Ignore afk permission
         if (lastMoved == IGNORES_AFK) {
             return 0L;
         }
-        storeLastMovement(playerUUID, time);
+        session.setLastMovementForAfkCalculation(time);
 
         try {
-            if (time - lastMoved < getAfkThreshold()) {
+            long afkThreshold = getAfkThreshold();
+            if (time - lastMoved < afkThreshold) {
                 // Threshold not crossed, no action required.
                 return 0L;
             }
 
-            long removeAfkCommandEffect = usedAFKCommand.contains(playerUUID) ? getAfkThreshold() : 0;
+            long removeAfkCommandEffect = usedAFKCommand.contains(playerUUID) ? afkThreshold : 0;
             long timeAFK = time - lastMoved - removeAfkCommandEffect;
 
-            SessionCache.getCachedSession(playerUUID)
-                    .ifPresent(session -> session.addAfkTime(timeAFK));
+            session.addAfkTime(timeAFK);
             return timeAFK;
         } finally {
             usedAFKCommand.remove(playerUUID);
@@ -113,10 +136,14 @@ public class AFKTracker {
     public boolean isAfk(UUID playerUUID) {
         long time = System.currentTimeMillis();
 
-        Optional<Long> lastMoved = getLastMovement(playerUUID);
-        if (lastMoved.isEmpty() || lastMoved.get() == IGNORES_AFK) {
+        ActiveSession session = SessionCache.getCachedSessionWithoutStateUpdate(playerUUID);
+        if (session == null) {
+            return false;
+        }
+        long lastMoved = session.getLastMovementForAfkCalculation();
+        if (lastMoved == IGNORES_AFK) {
             return false;
         }
-        return time - lastMoved.get() > getAfkThreshold();
+        return time - lastMoved > getAfkThreshold();
     }
-}
\ No newline at end of file
+}
@@ -64,6 +64,18 @@ public class SessionCache {
         return found;
     }
 
+    /**
+     * Used to get the Session of the player without updating the state of its world times.
+     * <p>
+     * Meant for frequently called code that does not read world times, like AFK tracking.
+     *
+     * @param playerUUID UUID of the player.
+     * @return the session, or null if the player has no active session.
+     */
+    public static ActiveSession getCachedSessionWithoutStateUpdate(UUID playerUUID) {
+        return ACTIVE_SESSIONS.get(playerUUID);
+    }
+
     /**
      * Cache a new session.
      *
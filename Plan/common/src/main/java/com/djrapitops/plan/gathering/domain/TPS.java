@@ -35,6 +35,10 @@ public class TPS implements DateHolder {
     private final int entityCount;
     private final int chunksLoaded;
     private final long freeDiskSpace;
+    private final double msptP50;
+    private final double msptP95;
+    private final double msptP99;
+    private final double msptMax;
 
     /**
      * Constructor.
@@ -57,6 +61,39 @@ public class TPS implements DateHolder {
             int entityCount,
             int chunksLoaded,
             long freeDiskSpace
+    ) {
+        this(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace, -1, -1, -1, -1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param date           time of the TPS calculation.
+     * @param ticksPerSecond average ticksPerSecond for the last minute.
+     * @param players        players for the minute.
+     * @param cpuUsage       CPU usage for the minute
+     * @param usedMemory     used memory (megabytes) at the time of fetching
+     * @param entityCount    amount of entities at the time of fetching
+     * @param chunksLoaded   amount of chunks loaded at the time of fetching
+     * @param freeDiskSpace  free megabytes in the partition the server is running in.
+     * @param msptP50        median milliseconds per tick for the minute, -1 if not recorded.
+     * @param msptP95        95th percentile milliseconds per tick for the minute, -1 if not recorded.
+     * @param msptP99        99th percentile milliseconds per tick for the minute, -1 if not recorded.
+     * @param msptMax        longest tick in milliseconds for the minute, -1 if not recorded.
+     */
+    public TPS(
+            long date,
+            double ticksPerSecond,
+            int players,
+            double cpuUsage,
+            long usedMemory,
+            int entityCount,
+            int chunksLoaded,
+            long freeDiskSpace,
+            double msptP50,
+            double msptP95,
+            double msptP99,
+            double msptMax
     ) {
         this.date = date;
         this.ticksPerSecond = ticksPerSecond;
@@ -66,6 +103,10 @@ public class TPS implements DateHolder {
         this.entityCount = entityCount;
         this.chunksLoaded = chunksLoaded;
         this.freeDiskSpace = freeDiskSpace;
+        this.msptP50 = msptP50;
+        this.msptP95 = msptP95;
+        this.msptP99 = msptP99;
+        this.msptMax = msptMax;
     }
 
     @Override
@@ -136,6 +177,42 @@ public class TPS implements DateHolder {
         return freeDiskSpace;
     }
 
+    /**
+     * Get the median milliseconds per tick for the minute.
+     *
+     * @return Milliseconds, -1 if not recorded.
+     */
+    public double getMsptP50() {
+        return msptP50;
+    }
+
+    /**
+     * Get the 95th percentile milliseconds per tick for the minute.
+     *
+     * @return Milliseconds, -1 if not recorded.
+     */
+    public double getMsptP95() {
+        return msptP95;
+    }
+
+    /**
+     * Get the 99th percentile milliseconds per tick for the minute.
+     *
+     * @return Milliseconds, -1 if not recorded.
+     */
+    public double getMsptP99() {
+        return msptP99;
+    }
+
+    /**
+     * Get the longest tick of the minute.
+     *
+     * @return Milliseconds, -1 if not recorded.
+     */
+    public double getMsptMax() {
+        return msptMax;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -148,12 +225,16 @@ public class TPS implements DateHolder {
                 usedMemory == tps.usedMemory &&
                 entityCount == tps.entityCount &&
                 chunksLoaded == tps.chunksLoaded &&
-                freeDiskSpace == tps.freeDiskSpace;
+                freeDiskSpace == tps.freeDiskSpace &&
+                Double.compare(tps.msptP50, msptP50) == 0 &&
+                Double.compare(tps.msptP95, msptP95) == 0 &&
+                Double.compare(tps.msptP99, msptP99) == 0 &&
+                Double.compare(tps.msptMax, msptMax) == 0;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace);
+        return Objects.hash(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace, msptP50, msptP95, msptP99, msptMax);
     }
 
     @Override
@@ -166,7 +247,11 @@ public class TPS implements DateHolder {
                 "usedMemory=" + usedMemory + ", " +
                 "entityCount=" + entityCount + ", " +
                 "chunksLoaded=" + chunksLoaded + ", " +
-                "freeDiskSpace=" + freeDiskSpace + '}';
+                "freeDiskSpace=" + freeDiskSpace + ", " +
+                "msptP50=" + msptP50 + ", " +
+                "msptP95=" + msptP95 + ", " +
+                "msptP99=" + msptP99 + ", " +
+                "msptMax=" + msptMax + '}';
     }
 
     public Number[] toArray() {
@@ -184,7 +269,11 @@ public class TPS implements DateHolder {
                 ram >= 0 ? ram : null,
                 entities >= 0 ? entities : null,
                 chunks >= 0 ? chunks : null,
-                disk >= 0 ? disk : null
+                disk >= 0 ? disk : null,
+                msptP50 >= 0 ? msptP50 : null,
+                msptP95 >= 0 ? msptP95 : null,
+                msptP99 >= 0 ? msptP99 : null,
+                msptMax >= 0 ? msptMax : null
         };
     }
 }
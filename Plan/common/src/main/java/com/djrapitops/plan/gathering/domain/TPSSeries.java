@@ -0,0 +1,437 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Columnar series of {@link TPS} data points, stored as parallel primitive arrays ordered by date.
+ * <p>
+ * Used instead of a list of TPS objects when a month of data points is aggregated, so that all
+ * values can be calculated in one pass without boxing.
+ *
+ * @author AuroraLS3
+ */
+public class TPSSeries {
+
+    private static final long DOWNTIME_THRESHOLD_MS = TimeUnit.MINUTES.toMillis(3L);
+
+    private long[] dates;
+    private double[] ticksPerSecond;
+    private int[] players;
+    private double[] cpuUsage;
+    private long[] usedMemory;
+    private int[] entityCount;
+    private int[] chunksLoaded;
+    private long[] freeDiskSpace;
+
+    private final boolean view;
+    private final int from;
+    private int to;
+
+    public TPSSeries() {
+        this(64);
+    }
+
+    public TPSSeries(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 1);
+        dates = new long[capacity];
+        ticksPerSecond = new double[capacity];
+        players = new int[capacity];
+        cpuUsage = new double[capacity];
+        usedMemory = new long[capacity];
+        entityCount = new int[capacity];
+        chunksLoaded = new int[capacity];
+        freeDiskSpace = new long[capacity];
+        view = false;
+        from = 0;
+        to = 0;
+    }
+
+    private TPSSeries(TPSSeries of, int from, int to) {
+        dates = of.dates;
+        ticksPerSecond = of.ticksPerSecond;
+        players = of.players;
+        cpuUsage = of.cpuUsage;
+        usedMemory = of.usedMemory;
+        entityCount = of.entityCount;
+        chunksLoaded = of.chunksLoaded;
+        freeDiskSpace = of.freeDiskSpace;
+        view = true;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Add a data point to the end of the series.
+     * <p>
+     * Data points need to be added in date order.
+     *
+     * @throws IllegalStateException If this series is a view created with {@link #between(long, long)}.
+     */
+    public void add(long date, double tps, int playersOnline, double cpu, long ram, int entities, int chunks, long freeDisk) {
+        if (view) throw new IllegalStateException("Can not add to a view of a TPSSeries");
+        if (to == dates.length) grow();
+        dates[to] = date;
+        ticksPerSecond[to] = tps;
+        players[to] = playersOnline;
+        cpuUsage[to] = cpu;
+        usedMemory[to] = ram;
+        entityCount[to] = entities;
+        chunksLoaded[to] = chunks;
+        freeDiskSpace[to] = freeDisk;
+        to++;
+    }
+
+    public void add(TPS tps) {
+        add(tps.getDate(), tps.getTicksPerSecond(), tps.getPlayers(), tps.getCPUUsage(),
+                tps.getUsedMemory(), tps.getEntityCount(), tps.getChunksLoaded(), tps.getFreeDiskSpace());
+    }
+
+    private void grow() {
+        int capacity = dates.length * 2;
+        dates = Arrays.copyOf(dates, capacity);
+        ticksPerSecond = Arrays.copyOf(ticksPerSecond, capacity);
+        players = Arrays.copyOf(players, capacity);
+        cpuUsage = Arrays.copyOf(cpuUsage, capacity);
+        usedMemory = Arrays.copyOf(usedMemory, capacity);
+        entityCount = Arrays.copyOf(entityCount, capacity);
+        chunksLoaded = Arrays.copyOf(chunksLoaded, capacity);
+        freeDiskSpace = Arrays.copyOf(freeDiskSpace, capacity);
+    }
+
+    /**
+     * Shrink the arrays to the amount of data points so that unused capacity is not kept in memory.
+     *
+     * @throws IllegalStateException If this series is a view created with {@link #between(long, long)}.
+     */
+    public void trimToSize() {
+        if (view) throw new IllegalStateException("Can not trim a view of a TPSSeries");
+        if (to == dates.length || to == 0) return;
+        dates = Arrays.copyOf(dates, to);
+        ticksPerSecond = Arrays.copyOf(ticksPerSecond, to);
+        players = Arrays.copyOf(players, to);
+        cpuUsage = Arrays.copyOf(cpuUsage, to);
+        usedMemory = Arrays.copyOf(usedMemory, to);
+        entityCount = Arrays.copyOf(entityCount, to);
+        chunksLoaded = Arrays.copyOf(chunksLoaded, to);
+        freeDiskSpace = Arrays.copyOf(freeDiskSpace, to);
+    }
+
+    public int size() {
+        return to - from;
+    }
+
+    public boolean isEmpty() {
+        return to == from;
+    }
+
+    public long getDate(int index) {
+        return dates[from + index];
+    }
+
+    public double getTicksPerSecond(int index) {
+        return ticksPerSecond[from + index];
+    }
+
+    public int getPlayers(int index) {
+        return players[from + index];
+    }
+
+    public double getCPUUsage(int index) {
+        return cpuUsage[from + index];
+    }
+
+    public long getUsedMemory(int index) {
+        return usedMemory[from + index];
+    }
+
+    public int getEntityCount(int index) {
+        return entityCount[from + index];
+    }
+
+    public int getChunksLoaded(int index) {
+        return chunksLoaded[from + index];
+    }
+
+    public long getFreeDiskSpace(int index) {
+        return freeDiskSpace[from + index];
+    }
+
+    public TPS get(int index) {
+        int i = from + index;
+        return new TPS(dates[i], ticksPerSecond[i], players[i], cpuUsage[i], usedMemory[i], entityCount[i], chunksLoaded[i], freeDiskSpace[i]);
+    }
+
+    /**
+     * Get data points between two dates without copying them.
+     *
+     * @param after  Epoch ms, inclusive.
+     * @param before Epoch ms, inclusive.
+     * @return View of this series, not affected by data points added later.
+     */
+    public TPSSeries between(long after, long before) {
+        int start = firstIndexAtOrAfter(after);
+        int end = Math.max(start, firstIndexAtOrAfter(before + 1));
+        return new TPSSeries(this, start, end);
+    }
+
+    private int firstIndexAtOrAfter(long date) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dates[mid] < date) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Calculate all aggregate values of the series in a single pass.
+     *
+     * @param lowTpsThreshold TPS below which data points count as low TPS.
+     * @return Aggregate values.
+     */
+    public Aggregates aggregate(double lowTpsThreshold) {
+        Aggregates aggregates = new Aggregates();
+        boolean wasLow = false;
+        long lastDate = -1;
+        for (int i = from; i < to; i++) {
+            double tps = ticksPerSecond[i];
+            int playersOnline = players[i];
+            double cpu = cpuUsage[i];
+            int entities = entityCount[i];
+            int chunks = chunksLoaded[i];
+
+            aggregates.count++;
+            aggregates.allPlayersSum += playersOnline;
+            if (playersOnline >= 0) {
+                aggregates.playersSum += playersOnline;
+                aggregates.playersCount++;
+            }
+            if (tps >= 0) {
+                aggregates.tpsSum += tps;
+                aggregates.tpsCount++;
+            }
+            if (cpu >= 0) {
+                aggregates.cpuSum += cpu;
+                aggregates.cpuCount++;
+            }
+            long ram = usedMemory[i];
+            if (ram >= 0) {
+                aggregates.ramSum += ram;
+                aggregates.ramCount++;
+            }
+            if (entities >= 0) {
+                aggregates.entitiesSum += entities;
+                aggregates.entitiesCount++;
+            }
+            if (chunks >= 0) {
+                aggregates.chunksSum += chunks;
+                aggregates.chunksCount++;
+            }
+            long disk = freeDiskSpace[i];
+            if (disk >= 0) {
+                aggregates.diskSum += disk;
+                aggregates.diskCount++;
+                aggregates.diskMax = Math.max(aggregates.diskMax, disk);
+                aggregates.diskMin = aggregates.diskMin == -1 ? disk : Math.min(aggregates.diskMin, disk);
+            }
+
+            boolean low = 0 <= tps && tps < lowTpsThreshold;
+            if (low && !wasLow) aggregates.lowTpsSpikes++;
+            wasLow = low;
+
+            if (tps > -1 && tps < lowTpsThreshold) {
+                Aggregates lowTps = aggregates.lowTps;
+                lowTps.count++;
+                lowTps.allPlayersSum += playersOnline;
+                if (tps >= 0) {
+                    lowTps.tpsSum += tps;
+                    lowTps.tpsCount++;
+                }
+                if (cpu >= 0) {
+                    lowTps.cpuSum += cpu;
+                    lowTps.cpuCount++;
+                }
+                if (entities >= 0) {
+                    lowTps.entitiesSum += entities;
+                    lowTps.entitiesCount++;
+                }
+                if (chunks >= 0) {
+                    lowTps.chunksSum += chunks;
+                    lowTps.chunksCount++;
+                }
+            }
+
+            long date = dates[i];
+            if (lastDate != -1 && date - lastDate > DOWNTIME_THRESHOLD_MS) {
+                aggregates.downTime += date - lastDate;
+            }
+            lastDate = date;
+        }
+        return aggregates;
+    }
+
+    /**
+     * Aggregate values of a {@link TPSSeries}, matching the calculations of TPSMutator.
+     * <p>
+     * Averages return -1 if there was no data.
+     */
+    public static class Aggregates {
+        private long count;
+        private long allPlayersSum;
+        private long playersSum;
+        private long playersCount;
+        private double tpsSum;
+        private long tpsCount;
+        private double cpuSum;
+        private long cpuCount;
+        private double ramSum;
+        private long ramCount;
+        private long entitiesSum;
+        private long entitiesCount;
+        private long chunksSum;
+        private long chunksCount;
+        private double diskSum;
+        private long diskCount;
+        private long diskMax = -1;
+        private long diskMin = -1;
+        private int lowTpsSpikes;
+        private long downTime;
+        private Aggregates lowTps;
+
+        Aggregates() {
+            lowTps = new Aggregates(false);
+        }
+
+        private Aggregates(boolean withLowTps) {
+            lowTps = withLowTps ? new Aggregates() : null;
+        }
+
+        /**
+         * Combine aggregates of multiple series, for example of multiple servers.
+         * <p>
+         * Spike counts and downtime are summed.
+         *
+         * @param aggregates Aggregates to combine.
+         * @return New aggregates.
+         */
+        public static Aggregates combine(Collection<Aggregates> aggregates) {
+            Aggregates combined = new Aggregates();
+            for (Aggregates other : aggregates) {
+                combined.add(other);
+                combined.lowTps.add(other.lowTps);
+            }
+            return combined;
+        }
+
+        private void add(Aggregates other) {
+            count += other.count;
+            allPlayersSum += other.allPlayersSum;
+            playersSum += other.playersSum;
+            playersCount += other.playersCount;
+            tpsSum += other.tpsSum;
+            tpsCount += other.tpsCount;
+            cpuSum += other.cpuSum;
+            cpuCount += other.cpuCount;
+            ramSum += other.ramSum;
+            ramCount += other.ramCount;
+            entitiesSum += other.entitiesSum;
+            entitiesCount += other.entitiesCount;
+            chunksSum += other.chunksSum;
+            chunksCount += other.chunksCount;
+            diskSum += other.diskSum;
+            diskCount += other.diskCount;
+            diskMax = Math.max(diskMax, other.diskMax);
+            if (other.diskMin != -1) {
+                diskMin = diskMin == -1 ? other.diskMin : Math.min(diskMin, other.diskMin);
+            }
+            lowTpsSpikes += other.lowTpsSpikes;
+            downTime += other.downTime;
+        }
+
+        private static double average(double sum, long count) {
+            return count > 0 ? sum / count : -1;
+        }
+
+        public int averagePlayers() {
+            return (int) average(playersSum, playersCount);
+        }
+
+        public double averagePlayersOnline() {
+            return average(allPlayersSum, count);
+        }
+
+        public double averageTPS() {
+            return average(tpsSum, tpsCount);
+        }
+
+        public double averageCPU() {
+            return average(cpuSum, cpuCount);
+        }
+
+        public double averageRAM() {
+            return average(ramSum, ramCount);
+        }
+
+        public double averageEntities() {
+            return average(entitiesSum, entitiesCount);
+        }
+
+        public double averageChunks() {
+            return average(chunksSum, chunksCount);
+        }
+
+        public double averageFreeDisk() {
+            return average(diskSum, diskCount);
+        }
+
+        public long maxFreeDisk() {
+            return diskMax;
+        }
+
+        public long minFreeDisk() {
+            return diskMin;
+        }
+
+        public int lowTpsSpikeCount() {
+            return lowTpsSpikes;
+        }
+
+        public long serverDownTime() {
+            return downTime;
+        }
+
+        /**
+         * Aggregates of data points with TPS between -1 and the low TPS threshold.
+         * <p>
+         * Only averages are calculated for these.
+         *
+         * @return Aggregates of low TPS data points.
+         */
+        public Aggregates lowTps() {
+            return lowTps;
+        }
+    }
+}
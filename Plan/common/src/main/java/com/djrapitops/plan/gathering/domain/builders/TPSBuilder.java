@@ -33,6 +33,10 @@ public class TPSBuilder {
     protected int entityCount = -1;
     protected int chunksLoaded = -1;
     protected long freeDiskSpace = -1;
+    protected double msptP50 = -1;
+    protected double msptP95 = -1;
+    protected double msptP99 = -1;
+    protected double msptMax = -1;
 
     /**
      * Hides constructor.
@@ -45,7 +49,7 @@ public class TPSBuilder {
     }
 
     public TPS toTPS() {
-        return new TPS(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace);
+        return new TPS(date, ticksPerSecond, players, cpuUsage, usedMemory, entityCount, chunksLoaded, freeDiskSpace, msptP50, msptP95, msptP99, msptMax);
     }
 
     public TPSBuilder date(long date) {
@@ -87,4 +91,12 @@ public class TPSBuilder {
         this.freeDiskSpace = freeDiskSpace;
         return this;
     }
+
+    public TPSBuilder msptPercentiles(double p50, double p95, double p99, double max) {
+        msptP50 = p50;
+        msptP95 = p95;
+        msptP99 = p99;
+        msptMax = max;
+        return this;
+    }
 }
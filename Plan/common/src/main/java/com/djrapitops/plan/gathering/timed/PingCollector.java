@@ -0,0 +1,207 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
+import com.djrapitops.plan.utilities.Predicates;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects ping samples of online players into primitive ring buffers.
+ * <p>
+ * Platform ping counters call {@link #collect(long, PingSource)} every 2 seconds,
+ * and once a minute the aggregates of every player are stored with a single {@link PingBatchStoreTransaction}.
+ * <p>
+ * Collecting and aggregating share the buffers and are synchronized,
+ * players can be added and removed from any thread.
+ *
+ * @author AuroraLS3
+ */
+public class PingCollector {
+
+    /**
+     * Value returned by {@link PingSource} when the player is not online.
+     */
+    public static final int PLAYER_OFFLINE = Integer.MIN_VALUE;
+
+    // The server is pinging the client every 40 ticks (2 seconds), 30 samples make a minute.
+    static final int SAMPLES_PER_STORE = 30;
+    private static final long MAX_ACCEPTED_PING = TimeUnit.SECONDS.toMillis(8L);
+
+    private final Map<UUID, Long> startRecording;
+    private final Map<UUID, PingBuffer> playerHistory;
+    private final int[] sortBuffer;
+    private int collectionsSinceStore;
+
+    public PingCollector() {
+        startRecording = new ConcurrentHashMap<>();
+        playerHistory = new ConcurrentHashMap<>();
+        sortBuffer = new int[SAMPLES_PER_STORE];
+    }
+
+    public void startRecording(UUID playerUUID, long startAt) {
+        startRecording.put(playerUUID, startAt);
+    }
+
+    public void addPlayer(UUID playerUUID) {
+        playerHistory.put(playerUUID, new PingBuffer());
+    }
+
+    public void removePlayer(UUID playerUUID) {
+        startRecording.remove(playerUUID);
+        playerHistory.remove(playerUUID);
+    }
+
+    public boolean isRecording(UUID playerUUID) {
+        return playerHistory.containsKey(playerUUID);
+    }
+
+    public synchronized void clear() {
+        startRecording.clear();
+        playerHistory.clear();
+        collectionsSinceStore = 0;
+    }
+
+    /**
+     * Record a ping sample for each player who is being recorded.
+     *
+     * @param time   Epoch ms of the sample.
+     * @param source Gives ping of the player, or {@link #PLAYER_OFFLINE} to stop recording the player.
+     */
+    public synchronized void collect(long time, PingSource source) {
+        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
+        while (starts.hasNext()) {
+            Map.Entry<UUID, Long> start = starts.next();
+            if (time >= start.getValue()) {
+                addPlayer(start.getKey());
+                starts.remove();
+            }
+        }
+
+        Iterator<Map.Entry<UUID, PingBuffer>> iterator = playerHistory.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, PingBuffer> entry = iterator.next();
+            int ping = source.getPing(entry.getKey());
+            if (ping == PLAYER_OFFLINE) {
+                iterator.remove();
+            } else if (ping > -1 && ping <= MAX_ACCEPTED_PING) { // Don't accept bad values
+                entry.getValue().add(time, ping);
+            }
+        }
+        collectionsSinceStore++;
+    }
+
+    /**
+     * Check if a minute of samples has been collected.
+     *
+     * @return true if {@link #createStoreTransaction(ServerUUID)} should be called.
+     */
+    public synchronized boolean isReadyToStore() {
+        return collectionsSinceStore >= SAMPLES_PER_STORE;
+    }
+
+    /**
+     * Aggregate the collected samples of all players and empty the buffers.
+     *
+     * @param serverUUID UUID of the server the ping was recorded on.
+     * @return Transaction that stores the aggregates of all players in a single batch.
+     */
+    public synchronized PingBatchStoreTransaction createStoreTransaction(ServerUUID serverUUID) {
+        collectionsSinceStore = 0;
+        Map<UUID, List<Ping>> aggregates = new HashMap<>();
+        for (Map.Entry<UUID, PingBuffer> entry : playerHistory.entrySet()) {
+            PingBuffer buffer = entry.getValue();
+            if (buffer.size == 0) continue;
+            aggregates.put(entry.getKey(), Collections.singletonList(aggregate(buffer, serverUUID)));
+            buffer.clear();
+        }
+        return new PingBatchStoreTransaction(aggregates);
+    }
+
+    // VisibleForTesting
+    synchronized Ping aggregate(PingBuffer buffer, ServerUUID serverUUID) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        int size = buffer.size;
+        for (int i = 0; i < size; i++) {
+            int value = buffer.get(i);
+            sortBuffer[i] = value;
+            if (Predicates.pingInRange(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        if (min == Integer.MAX_VALUE) {
+            min = -1;
+            max = -1;
+        }
+
+        Arrays.sort(sortBuffer, 0, size);
+        int half = size / 2;
+        double median = size % 2 == 0 ? (sortBuffer[half] + sortBuffer[half - 1]) / 2.0 : sortBuffer[half];
+
+        return new Ping(buffer.lastDate, serverUUID, min, max, (int) median);
+    }
+
+    /**
+     * Gives the current ping of a player.
+     */
+    public interface PingSource {
+        /**
+         * @param playerUUID UUID of the player
+         * @return Ping in ms, or {@link #PLAYER_OFFLINE} if the player is not online
+         */
+        int getPing(UUID playerUUID);
+    }
+
+    static class PingBuffer {
+        private final int[] values = new int[SAMPLES_PER_STORE];
+        private int start;
+        private int size;
+        private long lastDate;
+
+        void add(long date, int ping) {
+            if (size == values.length) {
+                // Overwrite the oldest sample
+                values[start] = ping;
+                start = (start + 1) % values.length;
+            } else {
+                values[(start + size) % values.length] = ping;
+                size++;
+            }
+            lastDate = date;
+        }
+
+        int get(int index) {
+            return values[(start + index) % values.length];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            start = 0;
+            size = 0;
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
     private final SystemUsageBuffer systemUsage;
     private final DBSystem dbSystem;
     private final ServerInfo serverInfo;
+    private final TickDurationRecorder tickDurations;
     private TPSCalculator indirectTPS;
     private TimerAverage directTPS;
     private final Maximum.ForInteger playersOnline;
@@ -57,6 +58,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
             SystemUsageBuffer systemUsage,
             DBSystem dbSystem,
             ServerInfo serverInfo,
+            TickDurationRecorder tickDurations,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
@@ -66,6 +68,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
         this.serverSensor = serverSensor;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
+        this.tickDurations = tickDurations;
         this.systemUsage = systemUsage;
         if (noDirectTPS) {
             indirectTPS = new TPSCalculator();
@@ -99,6 +102,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
             chunkCount += serverSensor.getChunkCount(world);
         }
         long freeDiskSpace = systemUsage.getFreeDiskSpace();
+        double[] mspt = tickDurations.getMsptPercentilesAndReset();
 
         dbSystem.getDatabase().executeTransaction(new TPSStoreTransaction(
                 logger,
@@ -112,6 +116,7 @@ public class ServerTPSCounter<W> extends TPSCounter {
                         .entities(entityCount)
                         .chunksLoaded(chunkCount)
                         .freeDiskSpace(freeDiskSpace)
+                        .msptPercentiles(mspt[0], mspt[1], mspt[2], mspt[3])
                         .toTPS()
         ));
     }
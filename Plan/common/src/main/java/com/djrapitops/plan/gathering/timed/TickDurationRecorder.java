@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.utilities.analysis.TickDurationHistogram;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long the server spent working on each tick (milliseconds per tick, MSPT).
+ * <p>
+ * The duration is the time between the start and the end of the tick's work, time the server sleeps while waiting for
+ * the next tick is not included, so an idle server records close to 0ms.
+ * Platforms that can measure this call {@link #recordTick(long)} from a tick end event, elsewhere nothing is recorded
+ * and the percentiles are stored as -1.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class TickDurationRecorder {
+
+    private final TickDurationHistogram histogram;
+
+    @Inject
+    public TickDurationRecorder() {
+        histogram = new TickDurationHistogram(TimeUnit.SECONDS.toMillis(1L));
+    }
+
+    /**
+     * Record the duration of a tick.
+     *
+     * @param durationNs Time the server spent working on the tick in nanoseconds.
+     */
+    public void recordTick(long durationNs) {
+        synchronized (histogram) {
+            histogram.add(durationNs);
+        }
+    }
+
+    /**
+     * Get percentiles of tick durations recorded since last call.
+     *
+     * @return p50, p95, p99 and max milliseconds per tick, all -1 if no ticks were recorded.
+     */
+    public double[] getMsptPercentilesAndReset() {
+        synchronized (histogram) {
+            double[] percentiles = {
+                    histogram.getPercentileMs(0.50),
+                    histogram.getPercentileMs(0.95),
+                    histogram.getPercentileMs(0.99),
+                    histogram.getMaxMs()
+            };
+            histogram.reset();
+            return percentiles;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit, miss and load time statistics of a single placeholder.
+ *
+ * @author AuroraLS3
+ */
+public class PlaceholderMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder failedLoads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder totalLoadTimeNs = new LongAdder();
+    private final AtomicLong maxLoadTimeNs = new AtomicLong();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordCoalescedLoad() {
+        coalescedLoads.increment();
+    }
+
+    void recordLoad(long loadTimeNs, boolean failed) {
+        loads.increment();
+        if (failed) failedLoads.increment();
+        totalLoadTimeNs.add(loadTimeNs);
+        maxLoadTimeNs.accumulateAndGet(loadTimeNs, Math::max);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getFailedLoads() {
+        return failedLoads.sum();
+    }
+
+    /**
+     * @return How many times a load was requested while the same value was already being loaded.
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public long getAverageLoadTimeMs() {
+        long loadCount = getLoads();
+        return loadCount != 0 ? TimeUnit.NANOSECONDS.toMillis(totalLoadTimeNs.sum() / loadCount) : 0L;
+    }
+
+    public long getMaxLoadTimeMs() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLoadTimeNs.get());
+    }
+
+    @Override
+    public String toString() {
+        return "PlaceholderMetrics{" +
+                "hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", loads=" + getLoads() +
+                ", failedLoads=" + getFailedLoads() +
+                ", coalescedLoads=" + getCoalescedLoads() +
+                ", averageLoadTimeMs=" + getAverageLoadTimeMs() +
+                ", maxLoadTimeMs=" + getMaxLoadTimeMs() +
+                '}';
+    }
+}
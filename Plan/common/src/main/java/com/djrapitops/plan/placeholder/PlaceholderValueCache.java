@@ -0,0 +1,164 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-memory store for placeholder values that are loaded in the background.
+ * <p>
+ * Missing and stale values are loaded on the given executor, while the caller is given
+ * the value that is currently in memory. Concurrent loads of the same key are coalesced into one.
+ *
+ * @author AuroraLS3
+ */
+class PlaceholderValueCache {
+
+    static final long UNUSED_VALUE_EXPIRY_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Executor executor;
+    private final LongSupplier clock;
+
+    private final Map<String, CachedValue> values;
+    private final Map<String, CompletableFuture<String>> loading;
+    private final Map<String, PlaceholderMetrics> metrics;
+    private final AtomicLong lastCleanup;
+
+    PlaceholderValueCache(Executor executor, LongSupplier clock) {
+        this.executor = executor;
+        this.clock = clock;
+        values = new ConcurrentHashMap<>();
+        loading = new ConcurrentHashMap<>();
+        metrics = new ConcurrentHashMap<>();
+        lastCleanup = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Get the value in memory without blocking.
+     *
+     * @param placeholder       Name of the placeholder, used for metrics.
+     * @param key               Key of the value, placeholder with its parameters and viewer.
+     * @param refreshIntervalMs How old the value can be before it is loaded again.
+     * @param loader            Loads the value, called on the executor.
+     * @return Value in memory, or null if it has not been loaded yet.
+     */
+    String getIfPresent(String placeholder, String key, long refreshIntervalMs, Supplier<String> loader) {
+        CompletableFuture<String> value = get(placeholder, key, refreshIntervalMs, loader);
+        if (!value.isDone() || value.isCompletedExceptionally()) return null;
+        return value.join();
+    }
+
+    /**
+     * Get the value in memory, or wait for it to be loaded if it is not in memory.
+     *
+     * @param placeholder       Name of the placeholder, used for metrics.
+     * @param key               Key of the value, placeholder with its parameters and viewer.
+     * @param refreshIntervalMs How old the value can be before it is loaded again.
+     * @param loader            Loads the value, called on the executor.
+     * @return Future that is already complete if the value was in memory.
+     */
+    CompletableFuture<String> get(String placeholder, String key, long refreshIntervalMs, Supplier<String> loader) {
+        long now = clock.getAsLong();
+        removeUnusedValues(now);
+
+        PlaceholderMetrics placeholderMetrics = getMetrics(placeholder);
+        CachedValue cached = values.get(key);
+        if (cached == null) {
+            placeholderMetrics.recordMiss();
+            return load(placeholderMetrics, key, loader);
+        }
+
+        placeholderMetrics.recordHit();
+        cached.lastAccess = now;
+        if (now - cached.loadedAt >= refreshIntervalMs) {
+            load(placeholderMetrics, key, loader); // Stale value is served while the new one loads
+        }
+        return CompletableFuture.completedFuture(cached.value);
+    }
+
+    private CompletableFuture<String> load(PlaceholderMetrics placeholderMetrics, String key, Supplier<String> loader) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> alreadyLoading = loading.putIfAbsent(key, created);
+        if (alreadyLoading != null) {
+            placeholderMetrics.recordCoalescedLoad();
+            return alreadyLoading;
+        }
+
+        try {
+            executor.execute(() -> runLoad(placeholderMetrics, key, loader, created));
+        } catch (RejectedExecutionException shuttingDown) {
+            loading.remove(key, created);
+            created.completeExceptionally(shuttingDown);
+        }
+        return created;
+    }
+
+    private void runLoad(PlaceholderMetrics placeholderMetrics, String key, Supplier<String> loader, CompletableFuture<String> result) {
+        long start = System.nanoTime();
+        try {
+            String value = loader.get();
+            values.put(key, new CachedValue(value, clock.getAsLong()));
+            placeholderMetrics.recordLoad(System.nanoTime() - start, false);
+            result.complete(value);
+        } catch (RuntimeException e) {
+            placeholderMetrics.recordLoad(System.nanoTime() - start, true);
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, result);
+        }
+    }
+
+    private void removeUnusedValues(long now) {
+        long previous = lastCleanup.get();
+        if (now - previous < UNUSED_VALUE_EXPIRY_MS || !lastCleanup.compareAndSet(previous, now)) return;
+        values.values().removeIf(cached -> now - cached.lastAccess > UNUSED_VALUE_EXPIRY_MS);
+    }
+
+    private PlaceholderMetrics getMetrics(String placeholder) {
+        return metrics.computeIfAbsent(placeholder, name -> new PlaceholderMetrics());
+    }
+
+    Map<String, PlaceholderMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    void clear() {
+        values.clear();
+    }
+
+    private static class CachedValue {
+        private final String value;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        CachedValue(String value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+    }
+}
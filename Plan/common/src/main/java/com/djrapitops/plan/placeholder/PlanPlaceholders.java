@@ -20,6 +20,7 @@ import com.djrapitops.plan.commands.use.Arguments;
 import com.djrapitops.plan.delivery.domain.container.PlayerContainer;
 import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.identification.Identifiers;
+import com.djrapitops.plan.processing.Processing;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.containers.ContainerFetchQueries;
@@ -31,6 +32,9 @@ import javax.inject.Singleton;
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -47,17 +51,22 @@ import java.util.function.Supplier;
 @Singleton
 public final class PlanPlaceholders {
 
+    private static final long DEFAULT_REFRESH_INTERVAL_MS = TimeUnit.SECONDS.toMillis(30);
+
     private final Map<String, PlayerPlaceholderLoader> playerPlaceholders;
     private final Map<String, StaticPlaceholderLoader> staticPlaceholders;
 
     private final Map<String, Function<String, Serializable>> rawHandlers;
+    private final Map<String, Long> refreshIntervals;
 
     private final DBSystem dbSystem;
     private final Identifiers identifiers;
+    private final PlaceholderValueCache valueCache;
 
     @Inject
     public PlanPlaceholders(
             DBSystem dbSystem,
+            Processing processing,
             Set<Placeholders> placeholderRegistries,
             Identifiers identifiers
     ) {
@@ -67,6 +76,12 @@ public final class PlanPlaceholders {
         this.playerPlaceholders = new HashMap<>();
         this.staticPlaceholders = new HashMap<>();
         this.rawHandlers = new HashMap<>();
+        this.refreshIntervals = new HashMap<>();
+        this.valueCache = new PlaceholderValueCache(runnable -> {
+            if (processing.submitNonCritical(runnable) == null) {
+                throw new RejectedExecutionException("Processing has been shut down");
+            }
+        }, System::currentTimeMillis);
 
         for (Placeholders registry : placeholderRegistries) {
             registry.register(this);
@@ -93,6 +108,18 @@ public final class PlanPlaceholders {
         rawHandlers.put(name, loader);
     }
 
+    /**
+     * Change how often the cached value of a placeholder is loaded again.
+     *
+     * @param name   Name of the placeholder
+     * @param amount Amount of time
+     * @param unit   Unit of the amount
+     * @see #onCachedPlaceholderRequest(UUID, String, List)
+     */
+    public void setRefreshInterval(String name, long amount, TimeUnit unit) {
+        refreshIntervals.put(name, unit.toMillis(amount));
+    }
+
     public Map<String, PlayerPlaceholderLoader> getPlaceholders() {
         return playerPlaceholders;
     }
@@ -122,6 +149,68 @@ public final class PlanPlaceholders {
         }
     }
 
+    /**
+     * Look up the value of the placeholder from memory without blocking.
+     * <p>
+     * Missing values and values older than the refresh interval of the placeholder are loaded in the background,
+     * concurrent requests for the same value share the load.
+     *
+     * @param uuid        the player who is viewing the placeholder
+     * @param placeholder the placeholder to look up to.
+     * @param parameters  additional placeholder parameters
+     * @return the value of the placeholder if it is in memory, otherwise {@code null}
+     */
+    public String onCachedPlaceholderRequest(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters) {
+        String registeredName = getRegisteredName(placeholder);
+        if (registeredName == null) return null;
+        return valueCache.getIfPresent(registeredName, getCacheKey(uuid, placeholder, parameters), getRefreshInterval(registeredName),
+                () -> onPlaceholderRequest(uuid, placeholder, parameters));
+    }
+
+    /**
+     * Look up the value of the placeholder from memory, or load it if it is not in memory.
+     *
+     * @param uuid        the player who is viewing the placeholder
+     * @param placeholder the placeholder to look up to.
+     * @param parameters  additional placeholder parameters
+     * @return Future of the value, completed if the value was in memory or completed with null if placeholder is not registered.
+     * @see #onCachedPlaceholderRequest(UUID, String, List)
+     */
+    public CompletableFuture<String> loadPlaceholderValue(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters) {
+        String registeredName = getRegisteredName(placeholder);
+        if (registeredName == null) return CompletableFuture.completedFuture(null);
+        return valueCache.get(registeredName, getCacheKey(uuid, placeholder, parameters), getRefreshInterval(registeredName),
+                () -> onPlaceholderRequest(uuid, placeholder, parameters));
+    }
+
+    /**
+     * Get hit, miss and load time statistics of cached placeholder requests.
+     *
+     * @return Map: placeholder name - metrics.
+     */
+    public Map<String, PlaceholderMetrics> getMetrics() {
+        return valueCache.getMetrics();
+    }
+
+    @Nullable
+    private String getRegisteredName(@Untrusted String placeholder) {
+        if (staticPlaceholders.containsKey(placeholder) || playerPlaceholders.containsKey(placeholder)) {
+            return placeholder;
+        }
+        for (String rawPrefix : rawHandlers.keySet()) {
+            if (placeholder.startsWith(rawPrefix)) return rawPrefix;
+        }
+        return null;
+    }
+
+    private String getCacheKey(UUID uuid, @Untrusted String placeholder, @Untrusted List<String> parameters) {
+        return placeholder + ':' + String.join(":", parameters) + '-' + uuid;
+    }
+
+    private long getRefreshInterval(String registeredName) {
+        return refreshIntervals.getOrDefault(registeredName, DEFAULT_REFRESH_INTERVAL_MS);
+    }
+
     @Nullable
     private String tryReplacePlaceholder(UUID uuid, String placeholder, List<String> parameters) {
         for (Entry<String, Function<String, Serializable>> entry : rawHandlers.entrySet()) {
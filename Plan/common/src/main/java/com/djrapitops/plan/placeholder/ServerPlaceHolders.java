@@ -200,6 +200,18 @@ public class ServerPlaceHolders implements Placeholders {
                 serverInfo::getServerUUID);
 
         registerDynamicCategoryPlaceholders(placeholders, database);
+        setRefreshIntervals(placeholders);
+    }
+
+    private void setRefreshIntervals(PlanPlaceholders placeholders) {
+        // Values over long time spans change slowly, so they don't need to be queried as often.
+        for (String placeholder : placeholders.getStaticPlaceholders().keySet()) {
+            if (placeholder.contains("_month") || placeholder.contains("_total")) {
+                placeholders.setRefreshInterval(placeholder, 5, TimeUnit.MINUTES);
+            } else if (placeholder.contains("_week")) {
+                placeholders.setRefreshInterval(placeholder, 1, TimeUnit.MINUTES);
+            }
+        }
     }
 
     private ServerUUID getServerUUID(@Untrusted Arguments parameters) {
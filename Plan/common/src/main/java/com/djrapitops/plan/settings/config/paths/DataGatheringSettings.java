@@ -18,6 +18,9 @@ package com.djrapitops.plan.settings.config.paths;
 
 import com.djrapitops.plan.settings.config.paths.key.BooleanSetting;
 import com.djrapitops.plan.settings.config.paths.key.Setting;
+import com.djrapitops.plan.settings.config.paths.key.TimeSetting;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * {@link Setting} values that are in "Data_gathering" section.
@@ -33,6 +36,8 @@ public class DataGatheringSettings {
     public static final Setting<Boolean> LOG_UNKNOWN_COMMANDS = new BooleanSetting("Data_gathering.Commands.Log_unknown");
     public static final Setting<Boolean> COMBINE_COMMAND_ALIASES = new BooleanSetting("Data_gathering.Commands.Log_aliases_as_main_command");
     public static final Setting<Boolean> PRESERVE_JOIN_ADDRESS_CASE = new BooleanSetting("Data_gathering.Preserve_join_address_case");
+    public static final Setting<Boolean> INCREMENTAL_WORLD_COUNTS = new BooleanSetting("Data_gathering.Entity_and_chunk_counts.Incremental");
+    public static final Setting<Long> WORLD_COUNTS_FULL_COUNT_PERIOD = new TimeSetting("Data_gathering.Entity_and_chunk_counts.Full_count_every", TimeUnit.MINUTES.toMillis(30L));
 
     private DataGatheringSettings() {
         /* static variable class */
@@ -51,8 +51,13 @@ public class WebserverSettings {
     public static final Setting<Long> INVALIDATE_QUERY_RESULTS = new TimeSetting("Webserver.Cache.Invalidate_query_results_on_disk_after");
     public static final Setting<Long> INVALIDATE_DISK_CACHE = new TimeSetting("Webserver.Cache.Invalidate_disk_cache_after");
     public static final Setting<Long> INVALIDATE_MEMORY_CACHE = new TimeSetting("Webserver.Cache.Invalidate_memory_cache_after", TimeUnit.MINUTES.toMillis(5L));
+    public static final Setting<Long> WAIT_FOR_DATA_TIMEOUT = new TimeSetting("Webserver.Cache.Wait_for_data_timeout", TimeUnit.SECONDS.toMillis(30L));
+    public static final Setting<Boolean> STALE_WHILE_REVALIDATE = new BooleanSetting("Webserver.Cache.Stale_while_revalidate.Enabled");
+    public static final Setting<Long> STALE_WHILE_REVALIDATE_MAX_AGE = new TimeSetting("Webserver.Cache.Stale_while_revalidate.Max_stale_age", TimeUnit.MINUTES.toMillis(30L));
     public static final Setting<Long> COOKIES_EXPIRE_AFTER = new TimeSetting("Webserver.Security.Cookies_expire_after", TimeUnit.HOURS.toMillis(2L));
     public static final Setting<Integer> REMOVE_ACCESS_LOG_AFTER_DAYS = new IntegerSetting("Webserver.Security.Access_log.Remove_logs_after_days");
+    public static final Setting<Long> ACCESS_LOG_STORE_INTERVAL = new TimeSetting("Webserver.Security.Access_log.Store_interval", TimeUnit.SECONDS.toMillis(5L));
+    public static final Setting<Integer> ACCESS_LOG_BUFFER_SIZE = new IntegerSetting("Webserver.Security.Access_log.Buffer_size", value -> value > 0);
     private WebserverSettings() {
         /* static variable class */
     }
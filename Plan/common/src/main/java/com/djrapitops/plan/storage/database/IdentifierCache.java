@@ -0,0 +1,215 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache for identifiers of players and servers in a database.
+ * <p>
+ * Holds UUID - user_id - name of players and ServerUUID - server_id - name of servers, so that turning one identifier
+ * into another does not require a query every time.
+ * <p>
+ * Values are cached by queries and invalidated by transactions that change them after the change has been committed.
+ * Each invalidation increments a generation, and values read from the database before the invalidation are not cached.
+ * <p>
+ * Invalidation only sees transactions of this server. When a network shares one database, other servers can change
+ * player names or uninstall servers, so names and server identifier matches expire a minute
+ * after they were cached. A player or server removed by another server gets a new id when it is stored again, so
+ * UUID - id mappings expire as well, after five minutes.
+ *
+ * @author AuroraLS3
+ */
+public class IdentifierCache {
+
+    static final int MAX_PLAYERS = 10000;
+    static final int MAX_SERVER_IDENTIFIERS = 1000;
+    static final long NAME_EXPIRY_MINUTES = 1L;
+    static final long ID_EXPIRY_MINUTES = 5L;
+
+    private final AtomicLong generation = new AtomicLong(0L);
+
+    private final Cache<UUID, Integer> userIds = Caffeine.newBuilder()
+            .expireAfterWrite(ID_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_PLAYERS)
+            .build();
+    private final Cache<Integer, UUID> playerUUIDsById = Caffeine.newBuilder()
+            .expireAfterWrite(ID_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_PLAYERS)
+            .build();
+    private final Cache<UUID, String> playerNames = Caffeine.newBuilder()
+            .expireAfterWrite(NAME_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_PLAYERS)
+            .build();
+    private final Cache<String, UUID> playerUUIDsByName = Caffeine.newBuilder()
+            .expireAfterWrite(NAME_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_PLAYERS)
+            .build();
+
+    private final Cache<ServerUUID, Integer> serverIds = Caffeine.newBuilder()
+            .expireAfterWrite(ID_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_SERVER_IDENTIFIERS)
+            .build();
+    private final Cache<Integer, ServerUUID> serverUUIDsById = Caffeine.newBuilder()
+            .expireAfterWrite(ID_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_SERVER_IDENTIFIERS)
+            .build();
+    private final Cache<String, Server> serversByIdentifier = Caffeine.newBuilder()
+            .expireAfterWrite(NAME_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_SERVER_IDENTIFIERS)
+            .build();
+
+    private static String nameKey(String playerName) {
+        return playerName.toUpperCase(Locale.ROOT);
+    }
+
+    private static String identifierKey(String serverIdentifier) {
+        return serverIdentifier.toLowerCase(Locale.ROOT);
+    }
+
+    private static Server copy(Server server) {
+        return new Server(server.getId().orElse(null), server.getUuid(), server.getName(), server.getWebAddress(),
+                server.isProxy(), server.getPlanVersion());
+    }
+
+    /**
+     * Get the current generation, call before querying the database for a value that is going to be cached.
+     *
+     * @return Generation that is given to the cache methods.
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    public Optional<Integer> getUserId(UUID playerUUID) {
+        return Optional.ofNullable(userIds.getIfPresent(playerUUID));
+    }
+
+    public Optional<UUID> getPlayerUUID(int userId) {
+        return Optional.ofNullable(playerUUIDsById.getIfPresent(userId));
+    }
+
+    public Optional<String> getPlayerName(UUID playerUUID) {
+        return Optional.ofNullable(playerNames.getIfPresent(playerUUID));
+    }
+
+    /**
+     * Get UUID of a player by name.
+     *
+     * @param playerName Name of the player, case does not matter.
+     * @return Optional: UUID if cached.
+     */
+    public Optional<UUID> getPlayerUUID(String playerName) {
+        return Optional.ofNullable(playerUUIDsByName.getIfPresent(nameKey(playerName)));
+    }
+
+    public Optional<Integer> getServerId(ServerUUID serverUUID) {
+        return Optional.ofNullable(serverIds.getIfPresent(serverUUID));
+    }
+
+    public Optional<ServerUUID> getServerUUID(int serverId) {
+        return Optional.ofNullable(serverUUIDsById.getIfPresent(serverId));
+    }
+
+    /**
+     * Get a server matching an identifier given to {@link com.djrapitops.plan.storage.database.queries.objects.ServerQueries#fetchServerMatchingIdentifier(String)}.
+     *
+     * @param identifier Name, uuid or id of the server, case does not matter.
+     * @return Optional: Copy of the cached server.
+     */
+    public Optional<Server> getServer(String identifier) {
+        return Optional.ofNullable(serversByIdentifier.getIfPresent(identifierKey(identifier))).map(IdentifierCache::copy);
+    }
+
+    public synchronized void cacheUserId(long readGeneration, UUID playerUUID, int userId) {
+        if (readGeneration != generation.get()) return;
+        userIds.put(playerUUID, userId);
+        playerUUIDsById.put(userId, playerUUID);
+    }
+
+    public synchronized void cachePlayerName(long readGeneration, UUID playerUUID, String playerName) {
+        if (readGeneration != generation.get()) return;
+        String previousName = playerNames.getIfPresent(playerUUID);
+        if (previousName != null) removeName(previousName, playerUUID);
+        playerNames.put(playerUUID, playerName);
+        playerUUIDsByName.put(nameKey(playerName), playerUUID);
+    }
+
+    public synchronized void cacheServerId(long readGeneration, ServerUUID serverUUID, int serverId) {
+        if (readGeneration != generation.get()) return;
+        serverIds.put(serverUUID, serverId);
+        serverUUIDsById.put(serverId, serverUUID);
+    }
+
+    public synchronized void cacheServer(long readGeneration, String identifier, Server server) {
+        if (readGeneration != generation.get()) return;
+        serversByIdentifier.put(identifierKey(identifier), copy(server));
+        server.getId().ifPresent(serverId -> cacheServerId(readGeneration, server.getUuid(), serverId));
+    }
+
+    /**
+     * Remove cached identifiers of a player.
+     *
+     * @param playerUUID UUID of the player whose name, uuid or user_id changed or who was removed.
+     */
+    public synchronized void invalidatePlayer(UUID playerUUID) {
+        generation.incrementAndGet();
+        Integer userId = userIds.asMap().remove(playerUUID);
+        if (userId != null) playerUUIDsById.asMap().remove(userId, playerUUID);
+        String playerName = playerNames.getIfPresent(playerUUID);
+        playerNames.invalidate(playerUUID);
+        if (playerName != null) removeName(playerName, playerUUID);
+    }
+
+    private void removeName(String playerName, UUID playerUUID) {
+        playerUUIDsByName.asMap().remove(nameKey(playerName), playerUUID);
+    }
+
+    /**
+     * Remove cached identifiers of all servers.
+     * <p>
+     * Servers are few and can be matched by name, uuid or id, so all of them are removed when any server changes.
+     */
+    public synchronized void invalidateServers() {
+        generation.incrementAndGet();
+        serverIds.invalidateAll();
+        serverUUIDsById.invalidateAll();
+        serversByIdentifier.invalidateAll();
+    }
+
+    public synchronized void invalidateAll() {
+        generation.incrementAndGet();
+        clearPlayers();
+        invalidateServers();
+    }
+
+    private void clearPlayers() {
+        userIds.invalidateAll();
+        playerUUIDsById.invalidateAll();
+        playerNames.invalidateAll();
+        playerUUIDsByName.invalidateAll();
+    }
+}
@@ -207,6 +207,17 @@ public class MySQLDB extends SQLDB {
         }
     }
 
+    @Override
+    protected int getTransactionLaneCount() {
+        if (config.isFalse(DatabaseSettings.PARALLEL_TRANSACTIONS)) return 1;
+        try {
+            // One connection is left free for queries.
+            return Math.max(1, config.get(DatabaseSettings.MAX_CONNECTIONS) - 1);
+        } catch (IllegalStateException e) {
+            return 1;
+        }
+    }
+
     @Override
     public synchronized Connection getConnection() throws SQLException {
         Connection connection = dataSource.getConnection();
@@ -22,6 +22,7 @@ import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.exceptions.database.FatalDBException;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DatabaseSettings;
 import com.djrapitops.plan.settings.config.paths.PluginSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.settings.locale.Locale;
@@ -29,10 +30,16 @@ import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingBatchStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionBatchTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateIndexTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.CreateTablesTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.OperationCriticalTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.ReadPatchLedgerTransaction;
 import com.djrapitops.plan.storage.database.transactions.init.RemoveIncorrectTebexPackageDataPatch;
+import com.djrapitops.plan.storage.database.transactions.init.StoreAppliedPatchesTransaction;
 import com.djrapitops.plan.storage.database.transactions.patches.*;
 import com.djrapitops.plan.storage.file.PlanFiles;
 import com.djrapitops.plan.utilities.java.ThrowableUtils;
@@ -44,6 +51,7 @@ import dev.vankka.dependencydownload.repository.Repository;
 import dev.vankka.dependencydownload.repository.StandardRepository;
 import net.playeranalytics.plugin.scheduling.PluginRunnable;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.Task;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.PluginLogger;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
@@ -83,11 +91,14 @@ public abstract class SQLDB extends AbstractDatabase {
     protected ClassLoader driverClassLoader;
 
     private Supplier<ExecutorService> transactionExecutorServiceProvider;
-    private ExecutorService transactionExecutor;
+    private TransactionLanes transactionLanes;
+    private TransactionCoalescer transactionCoalescer;
+    private Task coalescedTransactionFlushTask;
 
     private final AtomicInteger transactionQueueSize = new AtomicInteger(0);
     private final AtomicBoolean dropUnimportantTransactions = new AtomicBoolean(false);
     private final AtomicBoolean ranIntoFatalError = new AtomicBoolean(false);
+    private final IdentifierCache identifierCache = new IdentifierCache();
 
     protected SQLDB(
             Supplier<ServerUUID> serverUUIDSupplier,
@@ -148,16 +159,17 @@ public abstract class SQLDB extends AbstractDatabase {
 
     @Override
     public void init() {
-        List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionExecutor);
-        this.transactionExecutor = transactionExecutorServiceProvider.get();
+        List<Runnable> unfinishedTransactions = closeTransactionExecutor(transactionLanes);
+        this.transactionLanes = createTransactionLanes();
 
         setState(State.PATCHING);
 
         setupDataSource();
         setupDatabase();
+        startTransactionCoalescing();
 
         for (Runnable unfinishedTransaction : unfinishedTransactions) {
-            transactionExecutor.submit(unfinishedTransaction);
+            transactionLanes.getFirstLane().getExecutor().submit(unfinishedTransaction);
         }
 
         // If an OperationCriticalTransaction fails open is set to false.
@@ -167,11 +179,27 @@ public abstract class SQLDB extends AbstractDatabase {
         }
     }
 
-    private List<Runnable> closeTransactionExecutor(ExecutorService transactionExecutor) {
-        if (transactionExecutor == null || transactionExecutor.isShutdown() || transactionExecutor.isTerminated()) {
+    private TransactionLanes createTransactionLanes() {
+        return new TransactionLanes(getTransactionLaneCount(), transactionExecutorServiceProvider);
+    }
+
+    /**
+     * Get the amount of lanes that transactions can be executed in parallel.
+     * <p>
+     * Override to allow parallel writes, transactions with same {@link Transaction#getOrderingKey()} are still
+     * executed in order.
+     *
+     * @return 1 by default, all transactions executed one at a time.
+     */
+    protected int getTransactionLaneCount() {
+        return 1;
+    }
+
+    private List<Runnable> closeTransactionExecutor(TransactionLanes lanes) {
+        if (lanes == null || lanes.isShutdown()) {
             return Collections.emptyList();
         }
-        transactionExecutor.shutdown();
+        lanes.shutdown();
         try {
             logger.info(locale.getString(PluginLang.DISABLED_WAITING_TRANSACTIONS));
             Long waitMs = config.getOrDefault(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY, TimeUnit.SECONDS.toMillis(20L));
@@ -179,8 +207,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 logger.warn(TimeSettings.DB_TRANSACTION_FINISH_WAIT_DELAY.getPath() + " was set to over 5 minutes, using 5 min instead.");
                 waitMs = TimeUnit.MINUTES.toMillis(5L);
             }
-            if (!transactionExecutor.awaitTermination(waitMs, TimeUnit.MILLISECONDS)) {
-                List<Runnable> unfinished = transactionExecutor.shutdownNow();
+            if (!lanes.awaitTermination(waitMs)) {
+                List<Runnable> unfinished = lanes.shutdownNow();
                 int unfinishedCount = unfinished.size();
                 if (unfinishedCount > 0) {
                     logger.warn(unfinishedCount + " unfinished database transactions were not executed.");
@@ -247,7 +275,8 @@ public abstract class SQLDB extends AbstractDatabase {
                 new WebGroupDefaultGroupsPatch(),
                 new WebGroupAddMissingAdminGroupPatch(),
                 new LegacyPermissionLevelGroupsPatch(),
-                new SecurityTableGroupPatch()
+                new SecurityTableGroupPatch(),
+                new TickDurationPatch()
         };
     }
 
@@ -257,27 +286,81 @@ public abstract class SQLDB extends AbstractDatabase {
      * Updates to latest schema.
      */
     private void setupDatabase() {
+        Patch[] patches = patches();
+        SchemaSetupTimings timings = new SchemaSetupTimings();
         executeTransaction(new OperationCriticalTransaction() {
             @Override
             protected void performOperations() {
                 logger.info(locale.getString(PluginLang.DB_SCHEMA_PATCH));
+                timings.start();
             }
         });
         executeTransaction(new CreateTablesTransaction());
-        for (Patch patch : patches()) {
+        endSetupPhase(timings, "Create tables");
+        executeTransaction(new ReadPatchLedgerTransaction(patches));
+        endSetupPhase(timings, "Read patch ledger");
+        for (Patch patch : patches) {
             executeTransaction(patch);
         }
+        endSetupPhase(timings, "Patches");
+        executeTransaction(StoreAppliedPatchesTransaction.ofPatches(patches));
+        endSetupPhase(timings, "Store patch ledger");
         executeTransaction(new OperationCriticalTransaction() {
             @Override
             protected void performOperations() {
-                logger.info(locale.getString(PluginLang.DB_APPLIED_PATCHES));
+                boolean anyApplied = Arrays.stream(patches).anyMatch(Patch::wasApplied);
+                logger.info(locale.getString(anyApplied ? PluginLang.DB_APPLIED_PATCHES : PluginLang.DB_APPLIED_PATCHES_ALREADY));
+                logger.info(timings.createReport(patches));
+                // Patches may have changed identifiers that were cached by queries during patching.
+                identifierCache.invalidateAll();
                 if (getState() == State.PATCHING) setState(State.OPEN);
             }
         });
-        registerIndexCreationTask();
+        registerIndexCreationTask(patches);
+    }
+
+    private void endSetupPhase(SchemaSetupTimings timings, String phase) {
+        // Runs after the previous transactions of the phase, without needing a connection.
+        getTransactionLanes().getFirstLane().getExecutor().submit(() -> timings.endPhase(phase));
+    }
+
+    private void startTransactionCoalescing() {
+        stopTransactionCoalescing();
+        if (config.isFalse(DatabaseSettings.COMBINE_FREQUENT_WRITES)) return;
+
+        TransactionCoalescer coalescer = new TransactionCoalescer(this::queueTransaction)
+                .register(PingStoreTransaction.class, PingBatchStoreTransaction::combine)
+                .register(StoreSessionTransaction.class, StoreSessionBatchTransaction::combine);
+        long period = Math.max(1L, TimeAmount.toTicks(config.get(TimeSettings.DB_COMBINE_WRITES_DELAY), TimeUnit.MILLISECONDS));
+        try {
+            coalescedTransactionFlushTask = runnableFactory.create(new PluginRunnable() {
+                @Override
+                public void run() {
+                    coalescer.flush();
+                }
+            }).runTaskTimerAsynchronously(period, period);
+            transactionCoalescer = coalescer;
+        } catch (Exception ignore) {
+            // Task failed to register because plugin is being disabled
+        }
+    }
+
+    private void stopTransactionCoalescing() {
+        TransactionCoalescer coalescer = transactionCoalescer;
+        transactionCoalescer = null;
+        if (coalescedTransactionFlushTask != null) {
+            try {
+                coalescedTransactionFlushTask.cancel();
+            } catch (Exception ignored) {
+                // Sometimes task systems fail to cancel a task,
+                // usually this is called on disable, so no need for users to report this.
+            }
+            coalescedTransactionFlushTask = null;
+        }
+        if (coalescer != null) coalescer.flush();
     }
 
-    private void registerIndexCreationTask() {
+    private void registerIndexCreationTask(Patch[] patches) {
         try {
             runnableFactory.create(new PluginRunnable() {
                 @Override
@@ -287,7 +370,9 @@ public abstract class SQLDB extends AbstractDatabase {
                         return;
                     }
                     try {
-                        executeTransaction(new CreateIndexTransaction());
+                        // Patches that were applied now may have recreated tables without their indexes.
+                        boolean useLedger = Arrays.stream(patches).noneMatch(Patch::wasApplied);
+                        executeTransaction(new CreateIndexTransaction(useLedger));
                     } catch (DBOpException e) {
                         errorLogger.warn(e);
                     }
@@ -308,8 +393,10 @@ public abstract class SQLDB extends AbstractDatabase {
     @Override
     public void close() {
         if (getState() == State.OPEN) setState(State.CLOSING);
-        closeTransactionExecutor(transactionExecutor);
+        stopTransactionCoalescing();
+        closeTransactionExecutor(transactionLanes);
         unloadDriverClassloader();
+        identifierCache.invalidateAll();
         setState(State.CLOSED);
     }
 
@@ -339,6 +426,15 @@ public abstract class SQLDB extends AbstractDatabase {
             throw new DBClosedException("Transaction tried to execute although database is closed.");
         }
 
+        TransactionCoalescer coalescer = transactionCoalescer;
+        if (coalescer != null && getState() == State.OPEN) {
+            Optional<CompletableFuture<?>> buffered = coalescer.offer(transaction);
+            if (buffered.isPresent()) return buffered.get();
+        }
+        return queueTransaction(transaction);
+    }
+
+    private CompletableFuture<?> queueTransaction(Transaction transaction) {
         Exception origin = new Exception();
 
         if (determineIfShouldDropUnimportantTransactions(transactionQueueSize.incrementAndGet())
@@ -347,22 +443,47 @@ public abstract class SQLDB extends AbstractDatabase {
             return CompletableFuture.completedFuture(null);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                accessLock.performDatabaseOperation(() -> {
-                    if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
-                }, transaction);
-                return CompletableFuture.completedFuture(null);
-            } finally {
-                transactionQueueSize.decrementAndGet();
-            }
-        }, getTransactionExecutor()).exceptionally(errorHandler(transaction, origin));
+        TransactionLanes.Lane lane = getTransactionLane(transaction);
+        long queuedAt = lane.queued();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                lane.started(queuedAt);
+                try {
+                    accessLock.performDatabaseOperation(() -> {
+                        if (!ranIntoFatalError.get()) {transaction.executeTransaction(this);}
+                    }, transaction);
+                    return CompletableFuture.completedFuture(null);
+                } finally {
+                    lane.finished();
+                    transactionQueueSize.decrementAndGet();
+                }
+            }, lane.getExecutor()).exceptionally(errorHandler(transaction, origin));
+        } catch (RejectedExecutionException rejected) {
+            // Lane was shut down or is full, the transaction never entered the queue.
+            lane.rejected();
+            transactionQueueSize.decrementAndGet();
+            throw rejected;
+        }
+    }
+
+    private TransactionLanes.Lane getTransactionLane(Transaction transaction) {
+        TransactionLanes lanes = getTransactionLanes();
+        // Schema needs to be fully patched before anything is allowed to run in parallel.
+        if (getState() != State.OPEN || transaction instanceof OperationCriticalTransaction) {
+            return lanes.getFirstLane();
+        }
+        return lanes.getLane(transaction.getOrderingKey());
     }
 
     private boolean determineIfShouldDropUnimportantTransactions(int queueSize) {
         boolean dropTransactions = dropUnimportantTransactions.get();
         if (queueSize >= 500 && !dropTransactions) {
             logger.warn("Database queue size: " + queueSize + ", dropping some unimportant transactions. If this keeps happening disable some extensions or optimize MySQL.");
+            if (transactionLanes != null && transactionLanes.getLaneCount() > 1) {
+                for (TransactionLanes.LaneStatistics statistics : transactionLanes.getStatistics()) {
+                    logger.warn(statistics.toString());
+                }
+            }
             dropUnimportantTransactions.set(true);
             return true;
         } else if (queueSize < 50 && dropTransactions) {
@@ -403,11 +524,11 @@ public abstract class SQLDB extends AbstractDatabase {
         };
     }
 
-    private ExecutorService getTransactionExecutor() {
-        if (transactionExecutor == null) {
-            transactionExecutor = transactionExecutorServiceProvider.get();
+    private TransactionLanes getTransactionLanes() {
+        if (transactionLanes == null) {
+            transactionLanes = createTransactionLanes();
         }
-        return transactionExecutor;
+        return transactionLanes;
     }
 
     @Override
@@ -423,6 +544,10 @@ public abstract class SQLDB extends AbstractDatabase {
         return Objects.hash(getType().getName());
     }
 
+    public IdentifierCache getIdentifierCache() {
+        return identifierCache;
+    }
+
     public Supplier<ServerUUID> getServerUUIDSupplier() {
         return serverUUIDSupplier;
     }
@@ -450,4 +575,13 @@ public abstract class SQLDB extends AbstractDatabase {
     public int getTransactionQueueSize() {
         return transactionQueueSize.get();
     }
+
+    /**
+     * Get queue depth and waiting times of each transaction lane.
+     *
+     * @return Statistics for each lane, only one lane if transactions are not executed in parallel.
+     */
+    public List<TransactionLanes.LaneStatistics> getTransactionLaneStatistics() {
+        return getTransactionLanes().getStatistics();
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.patches.Patch;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each phase of database schema set up takes.
+ * <p>
+ * Phases are executed one after another in the same transaction lane, so the time between phase ends is the duration.
+ *
+ * @author AuroraLS3
+ */
+class SchemaSetupTimings {
+
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+    private long start;
+    private long phaseStart;
+
+    void start() {
+        start = System.nanoTime();
+        phaseStart = start;
+    }
+
+    void endPhase(String phase) {
+        long now = System.nanoTime();
+        phaseDurations.put(phase, now - phaseStart);
+        phaseStart = now;
+    }
+
+    String createReport(Patch[] patches) {
+        int applied = 0;
+        int skipped = 0;
+        for (Patch patch : patches) {
+            if (patch.wasApplied()) {
+                applied++;
+            } else if (patch.isInLedger()) {
+                skipped++;
+            }
+        }
+        int checked = patches.length - applied - skipped;
+
+        StringJoiner phases = new StringJoiner(", ");
+        for (Map.Entry<String, Long> phase : phaseDurations.entrySet()) {
+            phases.add(phase.getKey() + ": " + toMs(phase.getValue()) + " ms");
+        }
+        return "Database schema set up in " + toMs(phaseStart - start) + " ms (" + phases + ")" +
+                " - Patches: " + applied + " applied, " + checked + " checked, " + skipped + " skipped using ledger";
+    }
+
+    private static long toMs(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
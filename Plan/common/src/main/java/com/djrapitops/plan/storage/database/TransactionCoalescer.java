@@ -0,0 +1,178 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Buffers frequent transactions of the same type so that they can be written with a single batched transaction.
+ * <p>
+ * Only transactions of registered classes are buffered, and the buffers are emptied by calling {@link #flush()}.
+ * The futures returned for buffered transactions are completed when the combined transaction has been executed.
+ *
+ * @author AuroraLS3
+ */
+public class TransactionCoalescer {
+
+    private final Function<Transaction, CompletableFuture<?>> executor;
+    private final Map<Class<? extends Transaction>, Buffer<? extends Transaction>> buffers;
+
+    /**
+     * Create a new TransactionCoalescer.
+     *
+     * @param executor Function that queues the combined transactions for execution.
+     */
+    public TransactionCoalescer(Function<Transaction, CompletableFuture<?>> executor) {
+        this.executor = executor;
+        this.buffers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Register a transaction type that can be combined.
+     *
+     * @param transactionClass Exact class of the transactions to buffer, subclasses are not buffered.
+     * @param combiner         Function that creates a single transaction that performs the operations of all given transactions.
+     * @param <T>              Type of the transaction.
+     * @return this coalescer for chaining.
+     */
+    public <T extends Transaction> TransactionCoalescer register(Class<T> transactionClass, Function<List<T>, Transaction> combiner) {
+        buffers.put(transactionClass, new Buffer<>(transactionClass, combiner));
+        return this;
+    }
+
+    /**
+     * Buffer the transaction if it can be combined.
+     * <p>
+     * If the transaction is not buffered, buffered transactions with the same {@link Transaction#getOrderingKey()}
+     * are queued first, so that for example a player removal is not followed by a buffered write of that player.
+     *
+     * @param transaction Transaction to execute.
+     * @return Future that is completed after the next flush, or empty if the transaction should be executed normally.
+     */
+    public Optional<CompletableFuture<?>> offer(Transaction transaction) {
+        Buffer<? extends Transaction> buffer = buffers.get(transaction.getClass());
+        if (buffer != null) return Optional.of(buffer.add(transaction));
+
+        Object orderingKey = transaction.getOrderingKey();
+        if (orderingKey != null) {
+            for (Buffer<? extends Transaction> other : buffers.values()) {
+                other.flushKey(orderingKey, executor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Queue all buffered transactions for execution.
+     */
+    public void flush() {
+        for (Buffer<? extends Transaction> buffer : buffers.values()) {
+            buffer.flush(executor);
+        }
+    }
+
+    private static void completeWhenExecuted(CompletableFuture<?> execution, List<CompletableFuture<Object>> toComplete) {
+        execution.whenComplete((result, throwable) -> {
+            for (CompletableFuture<Object> future : toComplete) {
+                if (throwable != null) {
+                    future.completeExceptionally(throwable);
+                } else {
+                    future.complete(null);
+                }
+            }
+        });
+    }
+
+    private static class Buffer<T extends Transaction> {
+        private final Class<T> transactionClass;
+        private final Function<List<T>, Transaction> combiner;
+
+        private List<T> pending;
+        private List<CompletableFuture<Object>> waiting;
+
+        Buffer(Class<T> transactionClass, Function<List<T>, Transaction> combiner) {
+            this.transactionClass = transactionClass;
+            this.combiner = combiner;
+            this.pending = new ArrayList<>();
+            this.waiting = new ArrayList<>();
+        }
+
+        synchronized CompletableFuture<?> add(Transaction transaction) {
+            pending.add(transactionClass.cast(transaction));
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            waiting.add(future);
+            return future;
+        }
+
+        void flush(Function<Transaction, CompletableFuture<?>> executor) {
+            List<T> toCombine;
+            List<CompletableFuture<Object>> toComplete;
+            synchronized (this) {
+                if (pending.isEmpty()) return;
+                toCombine = pending;
+                toComplete = waiting;
+                pending = new ArrayList<>();
+                waiting = new ArrayList<>();
+            }
+
+            try {
+                Transaction combined = toCombine.size() == 1 ? toCombine.get(0) : combiner.apply(toCombine);
+                completeWhenExecuted(executor.apply(combined), toComplete);
+            } catch (RuntimeException e) {
+                for (CompletableFuture<Object> future : toComplete) {
+                    future.completeExceptionally(e);
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Queue buffered transactions with the given key one by one, so that they end up in the lane of the key.
+         */
+        void flushKey(Object orderingKey, Function<Transaction, CompletableFuture<?>> executor) {
+            List<T> toExecute = new ArrayList<>();
+            List<CompletableFuture<Object>> toComplete = new ArrayList<>();
+            synchronized (this) {
+                for (int i = pending.size() - 1; i >= 0; i--) {
+                    if (orderingKey.equals(pending.get(i).getOrderingKey())) {
+                        toExecute.add(0, pending.remove(i));
+                        toComplete.add(0, waiting.remove(i));
+                    }
+                }
+            }
+
+            for (int i = 0; i < toExecute.size(); i++) {
+                try {
+                    completeWhenExecuted(executor.apply(toExecute.get(i)), List.of(toComplete.get(i)));
+                } catch (RuntimeException e) {
+                    for (CompletableFuture<Object> future : toComplete.subList(i, toComplete.size())) {
+                        future.completeExceptionally(e);
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Group of single threaded executors that transactions are routed to by an ordering key.
+ * <p>
+ * Transactions with the same key always end up in the same lane, so they are executed in the order they were
+ * submitted. Transactions without a key are executed in the first lane.
+ *
+ * @author AuroraLS3
+ * @see com.djrapitops.plan.storage.database.transactions.Transaction#getOrderingKey()
+ */
+public class TransactionLanes {
+
+    private final List<Lane> lanes;
+
+    public TransactionLanes(int laneCount, Supplier<ExecutorService> executorProvider) {
+        int count = Math.max(1, laneCount);
+        List<Lane> created = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            created.add(new Lane(i, executorProvider.get()));
+        }
+        this.lanes = Collections.unmodifiableList(created);
+    }
+
+    public Lane getLane(Object orderingKey) {
+        if (orderingKey == null || lanes.size() == 1) return lanes.get(0);
+        return lanes.get(Math.floorMod(orderingKey.hashCode(), lanes.size()));
+    }
+
+    public Lane getFirstLane() {
+        return lanes.get(0);
+    }
+
+    public int getLaneCount() {
+        return lanes.size();
+    }
+
+    public List<LaneStatistics> getStatistics() {
+        List<LaneStatistics> statistics = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes) {
+            statistics.add(lane.getStatistics());
+        }
+        return statistics;
+    }
+
+    public void shutdown() {
+        for (Lane lane : lanes) {
+            lane.executor.shutdown();
+        }
+    }
+
+    /**
+     * Wait for all lanes to finish.
+     *
+     * @param waitMs Maximum time to wait for all lanes combined.
+     * @return true if all lanes terminated within the given time.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitTermination(long waitMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + waitMs;
+        for (Lane lane : lanes) {
+            long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+            if (!lane.executor.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Runnable> shutdownNow() {
+        List<Runnable> unfinished = new ArrayList<>();
+        for (Lane lane : lanes) {
+            unfinished.addAll(lane.executor.shutdownNow());
+        }
+        return unfinished;
+    }
+
+    public boolean isShutdown() {
+        return lanes.stream().allMatch(lane -> lane.executor.isShutdown());
+    }
+
+    /**
+     * Single ordered lane of transaction execution.
+     */
+    public static class Lane {
+        private final int index;
+        private final ExecutorService executor;
+
+        private final AtomicInteger queueSize = new AtomicInteger(0);
+        private final AtomicLong executedCount = new AtomicLong(0L);
+        private final AtomicLong totalWaitNanos = new AtomicLong(0L);
+        private final AtomicLong maxWaitNanos = new AtomicLong(0L);
+
+        Lane(int index, ExecutorService executor) {
+            this.index = index;
+            this.executor = executor;
+        }
+
+        public ExecutorService getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Mark that a transaction was added to the queue of this lane.
+         *
+         * @return {@link System#nanoTime()} at the time of queueing, to give to {@link #started(long)}.
+         */
+        public long queued() {
+            queueSize.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void started(long queuedAtNanos) {
+            long waited = System.nanoTime() - queuedAtNanos;
+            executedCount.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+        }
+
+        public void finished() {
+            queueSize.decrementAndGet();
+        }
+
+        /**
+         * Mark that a transaction given to {@link #queued()} was rejected by the executor of this lane.
+         */
+        public void rejected() {
+            queueSize.decrementAndGet();
+        }
+
+        public LaneStatistics getStatistics() {
+            long executed = executedCount.get();
+            long averageWaitMs = executed > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / executed) : 0L;
+            return new LaneStatistics(index, queueSize.get(), executed, averageWaitMs, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        }
+    }
+
+    /**
+     * Snapshot of queue depth and waiting times of a single lane.
+     */
+    public static class LaneStatistics {
+        private final int lane;
+        private final int queueSize;
+        private final long executedCount;
+        private final long averageWaitMs;
+        private final long maxWaitMs;
+
+        public LaneStatistics(int lane, int queueSize, long executedCount, long averageWaitMs, long maxWaitMs) {
+            this.lane = lane;
+            this.queueSize = queueSize;
+            this.executedCount = executedCount;
+            this.averageWaitMs = averageWaitMs;
+            this.maxWaitMs = maxWaitMs;
+        }
+
+        public int getLane() {
+            return lane;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public long getExecutedCount() {
+            return executedCount;
+        }
+
+        public long getAverageWaitMs() {
+            return averageWaitMs;
+        }
+
+        public long getMaxWaitMs() {
+            return maxWaitMs;
+        }
+
+        @Override
+        public String toString() {
+            return "Lane " + lane + ": queue " + queueSize + ", executed " + executedCount +
+                    ", avg wait " + averageWaitMs + "ms, max wait " + maxWaitMs + "ms";
+        }
+    }
+}
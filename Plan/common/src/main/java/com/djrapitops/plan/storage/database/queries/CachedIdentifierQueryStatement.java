@@ -0,0 +1,54 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.storage.database.IdentifierCache;
+import com.djrapitops.plan.storage.database.SQLDB;
+
+import java.util.Optional;
+
+/**
+ * Query for an identifier of a player or a server that uses {@link IdentifierCache}.
+ * <p>
+ * The cache is only used when the query is executed on the database. Inside a transaction the query is executed with
+ * the connection of the transaction, so that values that have not yet been committed are never cached.
+ *
+ * @param <T> Type of the identifier.
+ * @author AuroraLS3
+ */
+public abstract class CachedIdentifierQueryStatement<T> extends QueryStatement<Optional<T>> {
+
+    protected CachedIdentifierQueryStatement(String sql) {
+        super(sql);
+    }
+
+    @Override
+    public Optional<T> executeQuery(SQLDB db) {
+        IdentifierCache cache = db.getIdentifierCache();
+        Optional<T> cached = getCached(cache);
+        if (cached.isPresent()) return cached;
+
+        long generation = cache.getGeneration();
+        Optional<T> found = super.executeQuery(db);
+        found.ifPresent(value -> cache(cache, generation, value));
+        return found;
+    }
+
+    protected abstract Optional<T> getCached(IdentifierCache cache);
+
+    protected abstract void cache(IdentifierCache cache, long generation, T value);
+}
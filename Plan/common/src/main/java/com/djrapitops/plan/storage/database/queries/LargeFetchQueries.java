@@ -62,6 +62,10 @@ public class LargeFetchQueries {
                 TPSTable.ENTITIES + ',' +
                 TPSTable.CHUNKS + ',' +
                 TPSTable.FREE_DISK + ',' +
+                TPSTable.MSPT_P50 + ',' +
+                TPSTable.MSPT_P95 + ',' +
+                TPSTable.MSPT_P99 + ',' +
+                TPSTable.MSPT_MAX + ',' +
                 serverUUIDColumn +
                 FROM + TPSTable.TABLE_NAME +
                 INNER_JOIN + ServerTable.TABLE_NAME + " on " + serverIDColumn + "=" + TPSTable.SERVER_ID;
@@ -84,6 +88,12 @@ public class LargeFetchQueries {
                             .entities(set.getInt(TPSTable.ENTITIES))
                             .chunksLoaded(set.getInt(TPSTable.CHUNKS))
                             .freeDiskSpace(set.getLong(TPSTable.FREE_DISK))
+                            .msptPercentiles(
+                                    set.getDouble(TPSTable.MSPT_P50),
+                                    set.getDouble(TPSTable.MSPT_P95),
+                                    set.getDouble(TPSTable.MSPT_P99),
+                                    set.getDouble(TPSTable.MSPT_MAX)
+                            )
                             .toTPS();
 
                     tpsList.add(tps);
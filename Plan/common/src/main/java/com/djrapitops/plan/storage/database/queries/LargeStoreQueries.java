@@ -192,6 +192,10 @@ public class LargeStoreQueries {
                         statement.setDouble(7, tps.getEntityCount());
                         statement.setDouble(8, tps.getChunksLoaded());
                         statement.setLong(9, tps.getFreeDiskSpace());
+                        statement.setDouble(10, tps.getMsptP50());
+                        statement.setDouble(11, tps.getMsptP95());
+                        statement.setDouble(12, tps.getMsptP99());
+                        statement.setDouble(13, tps.getMsptMax());
                         statement.addBatch();
                     }
                 }
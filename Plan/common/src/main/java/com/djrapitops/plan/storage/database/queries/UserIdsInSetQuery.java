@@ -0,0 +1,135 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Query that limits its results to a set of user ids.
+ * <p>
+ * Small sets are given to the query as an {@code IN (1,2,3)} list.
+ * On MySQL large sets are inserted into temporary tables instead, and the query joins
+ * against them with {@code IN (SELECT user_id FROM temp)} so that the SQL stays small.
+ * A temporary table can only be referred to once per statement in MySQL, so a table is created
+ * for each time the IN clause is requested.
+ * <p>
+ * SQLite shares a single connection between all threads, so temporary tables are not used there.
+ *
+ * @author AuroraLS3
+ */
+public class UserIdsInSetQuery<T> implements Query<T> {
+
+    public static final int TEMP_TABLE_THRESHOLD = 2500;
+    private static final int INSERT_BATCH_SIZE = 10000;
+    private static final AtomicInteger TEMP_TABLE_COUNTER = new AtomicInteger();
+
+    private final Collection<Integer> userIds;
+    private final Function<Supplier<String>, QueryStatement<T>> queryBuilder;
+
+    /**
+     * Create a new query.
+     *
+     * @param userIds      User ids to limit the query to.
+     * @param queryBuilder Function that builds the query, given a supplier for {@code " IN (...)"} SQL to use
+     *                     after the user id column.
+     */
+    public UserIdsInSetQuery(Collection<Integer> userIds, Function<Supplier<String>, QueryStatement<T>> queryBuilder) {
+        this.userIds = userIds;
+        this.queryBuilder = queryBuilder;
+    }
+
+    public static String inClause(Collection<Integer> userIds) {
+        StringBuilder sql = new StringBuilder(" IN (");
+        if (userIds instanceof UserIdBitmap) {
+            ((UserIdBitmap) userIds).forEachUserId(userId -> sql.append(userId).append(','));
+        } else {
+            for (Integer userId : userIds) sql.append(userId).append(',');
+        }
+        if (sql.charAt(sql.length() - 1) == ',') sql.setLength(sql.length() - 1);
+        return sql.append(')').toString();
+    }
+
+    @Override
+    public T executeQuery(SQLDB db) {
+        if (db.getType() != DBType.MYSQL || userIds.size() < TEMP_TABLE_THRESHOLD) {
+            String userIdsInSet = inClause(userIds);
+            return queryBuilder.apply(() -> userIdsInSet).executeQuery(db);
+        }
+
+        List<String> tempTables = new ArrayList<>();
+        QueryStatement<T> query = queryBuilder.apply(() -> {
+            String tempTable = "plan_temp_user_ids_" + TEMP_TABLE_COUNTER.incrementAndGet();
+            tempTables.add(tempTable);
+            return " IN (SELECT user_id FROM " + tempTable + ')';
+        });
+
+        Connection connection = null;
+        try {
+            connection = db.getConnection();
+            for (String tempTable : tempTables) {
+                createTempTable(connection, tempTable);
+            }
+            return query.executeWithConnection(connection);
+        } catch (SQLException e) {
+            throw DBOpException.forCause(query.getSql(), e);
+        } finally {
+            dropTempTables(connection, tempTables);
+            db.returnToPool(connection);
+        }
+    }
+
+    private void createTempTable(Connection connection, String tempTable) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE " + tempTable + " (user_id integer NOT NULL PRIMARY KEY)");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + tempTable + " (user_id) VALUES (?)")) {
+            int batched = 0;
+            for (Integer userId : userIds) {
+                statement.setInt(1, userId);
+                statement.addBatch();
+                batched++;
+                if (batched % INSERT_BATCH_SIZE == 0) statement.executeBatch();
+            }
+            if (batched % INSERT_BATCH_SIZE != 0) statement.executeBatch();
+        }
+    }
+
+    private void dropTempTables(Connection connection, List<String> tempTables) {
+        if (connection == null) return;
+        for (String tempTable : tempTables) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TEMPORARY TABLE IF EXISTS " + tempTable);
+            } catch (SQLException ignored) {
+                // Temporary tables are removed when the connection closes at the latest.
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.analysis;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ActivityIndexHistoryTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Queries for the materialized activity index snapshots in {@link ActivityIndexHistoryTable}.
+ *
+ * @author AuroraLS3
+ */
+public class ActivityIndexHistoryQueries {
+
+    private ActivityIndexHistoryQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Get the dates of past activity graph points that are served from snapshots.
+     * <p>
+     * Points are a week apart going back two months, aligned to the start of a day (UTC) so that
+     * the same snapshot can be used for the whole day.
+     *
+     * @param now Epoch ms of the current point of the graph, not included in the result.
+     * @return Snapshot dates, newest first.
+     */
+    public static List<Long> getSnapshotDates(long now) {
+        long day = TimeUnit.DAYS.toMillis(1L);
+        long week = TimeAmount.WEEK.toMillis(1L);
+        long oldest = now - TimeAmount.MONTH.toMillis(2L);
+        long today = now - Math.floorMod(now, day);
+
+        List<Long> dates = new ArrayList<>();
+        for (long time = today - week; time >= oldest; time -= week) {
+            dates.add(time);
+        }
+        return dates;
+    }
+
+    /**
+     * Fetch stored activity index groupings of a server.
+     *
+     * @param serverUUID UUID of the server.
+     * @param dates      Snapshot dates to fetch, see {@link #getSnapshotDates(long)}.
+     * @param threshold  Playtime threshold the snapshot was calculated with.
+     * @return Map: Snapshot date - Map: Activity group - Player count. Dates without a snapshot are missing.
+     */
+    public static Query<Map<Long, Map<String, Integer>>> fetchActivityIndexGroupings(ServerUUID serverUUID, Collection<Long> dates, long threshold) {
+        if (dates.isEmpty()) return db -> new HashMap<>();
+
+        String sql = SELECT + ActivityIndexHistoryTable.DATE + ',' +
+                ActivityIndexHistoryTable.ACTIVITY_GROUP + ',' +
+                ActivityIndexHistoryTable.PLAYER_COUNT +
+                FROM + ActivityIndexHistoryTable.TABLE_NAME +
+                WHERE + ActivityIndexHistoryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + ActivityIndexHistoryTable.THRESHOLD + "=?" +
+                AND + ActivityIndexHistoryTable.DATE + " IN (" + nParameters(dates.size()) + ')';
+
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, threshold);
+                setDates(statement, 3, dates);
+            }
+
+            @Override
+            public Map<Long, Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                return extractGroupings(set);
+            }
+        };
+    }
+
+    /**
+     * Fetch stored network-wide activity index groupings.
+     *
+     * @param dates     Snapshot dates to fetch, see {@link #getSnapshotDates(long)}.
+     * @param threshold Playtime threshold the snapshot was calculated with.
+     * @return Map: Snapshot date - Map: Activity group - Player count. Dates without a snapshot are missing.
+     */
+    public static Query<Map<Long, Map<String, Integer>>> fetchActivityIndexGroupings(Collection<Long> dates, long threshold) {
+        if (dates.isEmpty()) return db -> new HashMap<>();
+
+        String sql = SELECT + ActivityIndexHistoryTable.DATE + ',' +
+                ActivityIndexHistoryTable.ACTIVITY_GROUP + ',' +
+                ActivityIndexHistoryTable.PLAYER_COUNT +
+                FROM + ActivityIndexHistoryTable.TABLE_NAME +
+                WHERE + ActivityIndexHistoryTable.SERVER_ID + IS_NULL +
+                AND + ActivityIndexHistoryTable.THRESHOLD + "=?" +
+                AND + ActivityIndexHistoryTable.DATE + " IN (" + nParameters(dates.size()) + ')';
+
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, threshold);
+                setDates(statement, 2, dates);
+            }
+
+            @Override
+            public Map<Long, Map<String, Integer>> processResults(ResultSet set) throws SQLException {
+                return extractGroupings(set);
+            }
+        };
+    }
+
+    private static void setDates(PreparedStatement statement, int startIndex, Collection<Long> dates) throws SQLException {
+        int index = startIndex;
+        for (Long date : dates) {
+            statement.setLong(index, date);
+            index++;
+        }
+    }
+
+    private static Map<Long, Map<String, Integer>> extractGroupings(ResultSet set) throws SQLException {
+        Map<Long, Map<String, Integer>> groupings = new HashMap<>();
+        while (set.next()) {
+            long date = set.getLong(ActivityIndexHistoryTable.DATE);
+            // Snapshot stores empty groups so that the date is known to be calculated.
+            Map<String, Integer> groups = groupings.computeIfAbsent(date, key -> new HashMap<>());
+            int count = set.getInt(ActivityIndexHistoryTable.PLAYER_COUNT);
+            if (count > 0) groups.put(set.getString(ActivityIndexHistoryTable.ACTIVITY_GROUP), count);
+        }
+        return groupings;
+    }
+}
@@ -20,6 +20,7 @@ import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.UserIdsInSetQuery;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -179,14 +180,17 @@ public class NetworkActivityIndexQueries {
     }
 
     public static Query<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold, Collection<Integer> userIds, List<ServerUUID> serverUUIDs) {
+        return new UserIdsInSetQuery<>(userIds, userIdsInSet -> fetchActivityIndexGroupingsOn(date, threshold, userIdsInSet.get(), serverUUIDs));
+    }
+
+    private static QueryStatement<Map<String, Integer>> fetchActivityIndexGroupingsOn(long date, long threshold, String userIdsInSet, List<ServerUUID> serverUUIDs) {
         String selectActivityIndex = selectActivityIndexSQL(serverUUIDs);
 
         String selectIndexes = SELECT + "activity_index" +
                 FROM + UsersTable.TABLE_NAME + " u" +
                 LEFT_JOIN + '(' + selectActivityIndex + ") s on s." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "u." + UsersTable.REGISTERED + "<=?" +
-                AND + "u." + UsersTable.ID + " IN (" +
-                new TextStringBuilder().appendWithSeparators(userIds, ",").build() + ")";
+                AND + "u." + UsersTable.ID + userIdsInSet;
 
         return new QueryStatement<>(selectIndexes) {
             @Override
@@ -47,9 +47,9 @@ public interface Filter {
 
     default Result apply(@Untrusted InputFilterDto query) {
         try {
-            return new Result(null, getKind(), getMatchingUserIds(query));
+            return new Result(null, getKind(), UserIdBitmap.of(getMatchingUserIds(query)));
         } catch (CompleteSetException allMatch) {
-            return new Result(null, getKind() + " (skip)", new HashSet<>());
+            return new Result(null, getKind() + " (skip)", new UserIdBitmap());
         }
     }
 
@@ -58,9 +58,9 @@ public interface Filter {
 
         private final String filterKind;
         private final int resultSize;
-        private final Set<Integer> currentUserIds;
+        private final UserIdBitmap currentUserIds;
 
-        private Result(Result previous, String filterKind, Set<Integer> currentUserIds) {
+        private Result(Result previous, String filterKind, UserIdBitmap currentUserIds) {
             this.previous = previous;
             this.filterKind = filterKind;
             this.resultSize = currentUserIds.size();
@@ -69,8 +69,8 @@ public interface Filter {
 
         public Result apply(Filter filter, InputFilterDto query) {
             try {
-                Set<Integer> got = filter.getMatchingUserIds(query);
-                currentUserIds.retainAll(got);
+                UserIdBitmap got = UserIdBitmap.of(filter.getMatchingUserIds(query));
+                currentUserIds.and(got);
                 return new Result(this, filter.getKind(), currentUserIds);
             } catch (CompleteSetException allMatch) {
                 return notApplied(filter);
@@ -85,7 +85,7 @@ public interface Filter {
             return resultSize <= 0;
         }
 
-        public Set<Integer> getResultUserIds() {
+        public UserIdBitmap getResultUserIds() {
             return currentUserIds;
         }
 
@@ -0,0 +1,210 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Set of user ids stored as a bitmap.
+ * <p>
+ * User ids are auto-incremented from 1, so a bitmap takes one bit per registered user instead of
+ * a boxed Integer and hash table entry per id. Intersections ({@link #and(UserIdBitmap)}) and
+ * differences ({@link #andNot(UserIdBitmap)}) are word-wise operations.
+ * <p>
+ * Implements {@link Set} so that it can be passed to queries that accept a collection of user ids.
+ *
+ * @author AuroraLS3
+ */
+public class UserIdBitmap extends AbstractSet<Integer> {
+
+    private final BitSet bits;
+
+    public UserIdBitmap() {
+        this(new BitSet());
+    }
+
+    private UserIdBitmap(BitSet bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Get the given user ids as a bitmap.
+     *
+     * @param userIds Collection of user ids, returned as is if it is already a bitmap.
+     * @return UserIdBitmap with the same ids.
+     */
+    public static UserIdBitmap of(Collection<Integer> userIds) {
+        if (userIds instanceof UserIdBitmap) return (UserIdBitmap) userIds;
+        UserIdBitmap bitmap = new UserIdBitmap();
+        bitmap.addAll(userIds);
+        return bitmap;
+    }
+
+    public static UserIdBitmap of(int... userIds) {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (int userId : userIds) bitmap.add(userId);
+        return bitmap;
+    }
+
+    public boolean add(int userId) {
+        if (userId < 0) throw new IllegalArgumentException("User id can not be negative: " + userId);
+        boolean had = bits.get(userId);
+        bits.set(userId);
+        return !had;
+    }
+
+    @Override
+    public boolean add(Integer userId) {
+        return add(userId.intValue());
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> userIds) {
+        if (userIds instanceof UserIdBitmap) {
+            int sizeBefore = size();
+            bits.or(((UserIdBitmap) userIds).bits);
+            return size() != sizeBefore;
+        }
+        return super.addAll(userIds);
+    }
+
+    public boolean contains(int userId) {
+        return userId >= 0 && bits.get(userId);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && contains(((Integer) o).intValue());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!contains(o)) return false;
+        bits.clear((Integer) o);
+        return true;
+    }
+
+    /**
+     * Keep only the user ids that are also in the other bitmap.
+     *
+     * @param other Other bitmap.
+     * @return this bitmap.
+     */
+    public UserIdBitmap and(UserIdBitmap other) {
+        bits.and(other.bits);
+        return this;
+    }
+
+    /**
+     * Remove the user ids that are in the other bitmap.
+     *
+     * @param other Other bitmap.
+     * @return this bitmap.
+     */
+    public UserIdBitmap andNot(UserIdBitmap other) {
+        bits.andNot(other.bits);
+        return this;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        int sizeBefore = size();
+        if (c instanceof UserIdBitmap) {
+            and((UserIdBitmap) c);
+        } else {
+            // Collected to an array first to avoid modifying the bitset while streaming it
+            for (int userId : bits.stream().filter(id -> !c.contains(id)).toArray()) {
+                bits.clear(userId);
+            }
+        }
+        return size() != sizeBefore;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        if (c instanceof UserIdBitmap) {
+            int sizeBefore = size();
+            andNot((UserIdBitmap) c);
+            return size() != sizeBefore;
+        }
+        return super.removeAll(c);
+    }
+
+    @Override
+    public void clear() {
+        bits.clear();
+    }
+
+    public UserIdBitmap copy() {
+        return new UserIdBitmap((BitSet) bits.clone());
+    }
+
+    /**
+     * Number of user ids in the bitmap.
+     *
+     * @return cardinality of the bitmap.
+     */
+    @Override
+    public int size() {
+        return bits.cardinality();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return bits.isEmpty();
+    }
+
+    public IntStream userIds() {
+        return bits.stream();
+    }
+
+    public void forEachUserId(IntConsumer action) {
+        for (int userId = bits.nextSetBit(0); userId >= 0; userId = bits.nextSetBit(userId + 1)) {
+            action.accept(userId);
+        }
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return new Iterator<>() {
+            private int current = -1;
+            private int next = bits.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                if (next < 0) throw new NoSuchElementException();
+                current = next;
+                next = bits.nextSetBit(current + 1);
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                if (current < 0) throw new IllegalStateException();
+                bits.clear(current);
+                current = -1;
+            }
+        };
+    }
+}
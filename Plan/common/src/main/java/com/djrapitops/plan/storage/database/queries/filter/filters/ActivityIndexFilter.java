@@ -24,6 +24,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.filter.CompleteSetException;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
 import javax.inject.Inject;
@@ -32,7 +33,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Singleton
 public class ActivityIndexFilter extends MultiOptionFilter {
@@ -84,9 +84,10 @@ public class ActivityIndexFilter extends MultiOptionFilter {
         long playtimeThreshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
         Map<Integer, ActivityIndex> indexes = dbSystem.getDatabase().query(NetworkActivityIndexQueries.activityIndexForAllPlayers(date, playtimeThreshold));
 
-        return indexes.entrySet().stream()
-                .filter(entry -> selected.contains(entry.getValue().getGroup(locale)))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet());
+        UserIdBitmap userIds = new UserIdBitmap();
+        for (Map.Entry<Integer, ActivityIndex> entry : indexes.entrySet()) {
+            if (selected.contains(entry.getValue().getGroup(locale))) userIds.add(entry.getKey());
+        }
+        return userIds;
     }
 }
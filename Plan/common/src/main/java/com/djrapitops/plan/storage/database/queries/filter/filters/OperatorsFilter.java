@@ -21,6 +21,7 @@ import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.settings.locale.lang.FilterLang;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.queries.filter.CompleteSetException;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.queries.objects.UserInfoQueries;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 
@@ -60,7 +61,7 @@ public class OperatorsFilter extends MultiOptionFilter {
     @Override
     public Set<Integer> getMatchingUserIds(@Untrusted InputFilterDto query) {
         @Untrusted List<String> selected = getSelected(query);
-        Set<Integer> userIds = new HashSet<>();
+        UserIdBitmap userIds = new UserIdBitmap();
         String[] options = getOptionsArray();
 
         boolean includeOperators = selected.contains(options[0]);
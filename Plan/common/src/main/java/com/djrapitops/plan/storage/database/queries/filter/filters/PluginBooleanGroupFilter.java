@@ -24,6 +24,7 @@ import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.utilities.dev.Untrusted;
@@ -91,7 +92,7 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
             Map<String, ServerUUID> namesToUUIDs
     ) {
         return db -> {
-            Set<Integer> userIds = new HashSet<>();
+            UserIdBitmap userIds = new UserIdBitmap();
             for (Map.Entry<PluginBooleanOption, SelectedBoolean> option : selected.entrySet()) {
                 @Untrusted PluginBooleanOption pluginBooleanOption = option.getKey();
                 SelectedBoolean selectedBoolean = option.getValue();
@@ -112,7 +113,7 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
             @Nullable ServerUUID serverUUID, @Untrusted String pluginName, @Untrusted String providerText, SelectedBoolean selectedBoolean
     ) {
         if (serverUUID == null) {
-            return db -> Collections.emptySet();
+            return db -> new UserIdBitmap();
         }
 
         String selectUUIDsWithBooleanValues = SELECT + DISTINCT + "u." + UsersTable.ID + " as id" +
@@ -138,7 +139,7 @@ public class PluginBooleanGroupFilter extends MultiOptionFilter {
 
             @Override
             public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
+                UserIdBitmap userIds = new UserIdBitmap();
                 while (set.next()) {
                     userIds.add(set.getInt("id"));
                 }
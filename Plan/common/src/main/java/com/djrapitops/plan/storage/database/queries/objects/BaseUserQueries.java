@@ -20,6 +20,7 @@ import com.djrapitops.plan.gathering.domain.BaseUser;
 import com.djrapitops.plan.gathering.domain.UserInfo;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import org.apache.commons.text.TextStringBuilder;
@@ -92,7 +93,7 @@ public class BaseUserQueries {
                 WHERE + UsersTable.REGISTERED + ">=?" +
                 AND + UsersTable.REGISTERED + "<=?";
 
-        return db -> db.querySet(sql, RowExtractors.getInt(UsersTable.ID), after, before);
+        return db -> db.queryCollection(sql, RowExtractors.getInt(UsersTable.ID), UserIdBitmap::new, after, before);
     }
 
     public static Query<Optional<Long>> minimumRegisterDate() {
@@ -20,7 +20,10 @@ import com.djrapitops.plan.gathering.domain.GeoInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.queries.RowExtractors;
+import com.djrapitops.plan.storage.database.queries.UserIdsInSetQuery;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -28,7 +31,6 @@ import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
 import com.djrapitops.plan.utilities.dev.Untrusted;
 import com.djrapitops.plan.utilities.java.Lists;
-import org.apache.commons.text.TextStringBuilder;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -126,6 +128,10 @@ public class GeoInfoQueries {
     }
 
     public static Query<Map<String, Integer>> networkGeolocationCounts(Collection<Integer> userIds) {
+        return new UserIdsInSetQuery<>(userIds, userIdsInSet -> networkGeolocationCounts(userIdsInSet.get()));
+    }
+
+    private static QueryStatement<Map<String, Integer>> networkGeolocationCounts(String userIdsInSet) {
         String sql = SELECT +
                 "a." + GeoInfoTable.GEOLOCATION + ", " +
                 "COUNT(1) as c" +
@@ -136,11 +142,19 @@ public class GeoInfoQueries {
                 LEFT_JOIN + GeoInfoTable.TABLE_NAME + " b ON a." + GeoInfoTable.USER_ID + "=b." + GeoInfoTable.USER_ID + AND + "a." + GeoInfoTable.LAST_USED + "<b." + GeoInfoTable.LAST_USED +
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on a." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
                 WHERE + "b." + GeoInfoTable.LAST_USED + IS_NULL +
-                AND + "u." + UsersTable.ID + " IN (" +
-                new TextStringBuilder().appendWithSeparators(userIds, ",").build() + ")" +
+                AND + "u." + UsersTable.ID + userIdsInSet +
                 GROUP_BY + "a." + GeoInfoTable.GEOLOCATION;
 
-        return db -> db.queryMap(sql, GeoInfoQueries::extractGeolocationCounts);
+        return new QueryAllStatement<>(sql, 100) {
+            @Override
+            public Map<String, Integer> processResults(ResultSet set) throws SQLException {
+                Map<String, Integer> geolocationCounts = new HashMap<>();
+                while (set.next()) {
+                    extractGeolocationCounts(set, geolocationCounts);
+                }
+                return geolocationCounts;
+            }
+        };
     }
 
     public static Query<Map<String, Integer>> serverGeolocationCounts(ServerUUID serverUUID) {
@@ -174,6 +188,6 @@ public class GeoInfoQueries {
                 INNER_JOIN + UsersTable.TABLE_NAME + " u on u.id=g." + GeoInfoTable.USER_ID +
                 WHERE + GeoInfoTable.GEOLOCATION +
                 " IN (" + Sql.nParameters(selected.size()) + ")";
-        return db -> db.querySet(sql, RowExtractors.getInt(UsersTable.ID), selected);
+        return db -> db.queryCollection(sql, RowExtractors.getInt(UsersTable.ID), UserIdBitmap::new, selected);
     }
 }
\ No newline at end of file
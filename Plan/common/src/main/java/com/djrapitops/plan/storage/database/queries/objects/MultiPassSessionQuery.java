@@ -0,0 +1,334 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.delivery.domain.PlayerName;
+import com.djrapitops.plan.delivery.domain.ServerIdentifier;
+import com.djrapitops.plan.delivery.domain.ServerName;
+import com.djrapitops.plan.gathering.domain.*;
+import com.djrapitops.plan.gathering.domain.event.JoinAddress;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.SQLDB;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Query that loads {@link FinishedSession}s with kill and world data in three passes.
+ * <p>
+ * Sessions, world times and kills are fetched as separate result sets ordered by session id and merged
+ * in a single walk, instead of joining them in one statement that multiplies the row count.
+ * Repeated player, server and world identifiers are shared between the loaded sessions.
+ *
+ * @author AuroraLS3
+ */
+class MultiPassSessionQuery implements Query<List<FinishedSession>> {
+
+    private static final String[] GM_KEYS = GMTimes.getGMKeyArray();
+
+    private final String whereSql;
+    private final Parameters parameters;
+    private final boolean registerDateFromUsersTable;
+    private final int fetchSize;
+
+    /**
+     * Create the query.
+     *
+     * @param whereSql                   WHERE clause with {@code ?} parameters, using {@code s} as alias of the sessions table. Empty for all sessions.
+     * @param parameters                 Sets the parameters of the WHERE clause, called once for each pass.
+     * @param registerDateFromUsersTable Use register date of the network instead of the server when marking first sessions.
+     * @param fetchSize                  Fetch size of the session result set.
+     */
+    MultiPassSessionQuery(String whereSql, Parameters parameters, boolean registerDateFromUsersTable, int fetchSize) {
+        this.whereSql = whereSql;
+        this.parameters = parameters;
+        this.registerDateFromUsersTable = registerDateFromUsersTable;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public List<FinishedSession> executeQuery(SQLDB db) {
+        Identifiers identifiers = new Identifiers();
+        List<LoadedSession> sessions = db.query(fetchSessions(identifiers));
+        if (sessions.isEmpty()) return Collections.emptyList();
+
+        db.query(fetchWorldTimes(sessions, identifiers));
+        db.query(fetchKills(sessions, identifiers));
+
+        List<FinishedSession> results = new ArrayList<>(sessions.size());
+        for (LoadedSession loaded : sessions) {
+            // Sessions without world times were left out by the previous joined query as well.
+            if (loaded.worldTimes.isEmpty()) continue;
+            DataMap extraData = loaded.session.getExtraData();
+            extraData.put(WorldTimes.class, loaded.worldTimes);
+            extraData.put(PlayerKills.class, loaded.playerKills);
+            results.add(loaded.session);
+        }
+        results.sort(new DateHolderRecentComparator());
+        return results;
+    }
+
+    private Query<List<LoadedSession>> fetchSessions(Identifiers identifiers) {
+        String registered = registerDateFromUsersTable ? "u." + UsersTable.REGISTERED : "u_info." + UserInfoTable.REGISTERED;
+        String sql = SELECT +
+                "s." + SessionsTable.ID + ',' +
+                "u." + UsersTable.USER_NAME + " as name," +
+                "u." + UsersTable.USER_UUID + ',' +
+                registered + " as registered," +
+                "server." + ServerTable.NAME + " as server_name," +
+                "server." + ServerTable.ID + " as server_id," +
+                "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+                "s." + SessionsTable.SESSION_START + ',' +
+                "s." + SessionsTable.SESSION_END + ',' +
+                "s." + SessionsTable.MOB_KILLS + ',' +
+                "s." + SessionsTable.DEATHS + ',' +
+                "s." + SessionsTable.AFK_TIME + ',' +
+                "j." + JoinAddressTable.JOIN_ADDRESS + " as join_address" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                INNER_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+                INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+                (registerDateFromUsersTable ? "" : LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')') +
+                whereSql +
+                ORDER_BY + "s." + SessionsTable.ID;
+
+        return new QueryStatement<>(sql, fetchSize) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                parameters.prepare(statement);
+            }
+
+            @Override
+            public List<LoadedSession> processResults(ResultSet set) throws SQLException {
+                List<LoadedSession> sessions = new ArrayList<>();
+                while (set.next()) {
+                    int serverId = set.getInt("server_id");
+                    ServerIdentifier server = identifiers.server(serverId, set.getString("server_uuid"), set.getString("server_name"));
+                    UUID playerUUID = identifiers.uuid(set.getString(UsersTable.USER_UUID));
+
+                    DataMap extraData = new DataMap();
+                    int id = set.getInt(SessionsTable.ID);
+                    extraData.put(FinishedSession.Id.class, new FinishedSession.Id(id));
+                    extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
+                    extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
+                    extraData.put(JoinAddress.class, identifiers.joinAddress(set.getString("join_address")));
+                    extraData.put(ServerName.class, identifiers.serverName(serverId));
+                    extraData.put(PlayerName.class, identifiers.playerName(playerUUID, set.getString("name")));
+
+                    FinishedSession session = new FinishedSession(
+                            playerUUID,
+                            server.getUuid(),
+                            set.getLong(SessionsTable.SESSION_START),
+                            set.getLong(SessionsTable.SESSION_END),
+                            set.getLong(SessionsTable.AFK_TIME),
+                            extraData
+                    );
+                    session.setAsFirstSessionIfMatches(set.getLong("registered"));
+                    sessions.add(new LoadedSession(id, server, session));
+                }
+                return sessions;
+            }
+        };
+    }
+
+    private Query<Void> fetchWorldTimes(List<LoadedSession> sessions, Identifiers identifiers) {
+        String sql = SELECT +
+                "wt." + WorldTimesTable.SESSION_ID + ',' +
+                "wt." + WorldTimesTable.SURVIVAL + ',' +
+                "wt." + WorldTimesTable.CREATIVE + ',' +
+                "wt." + WorldTimesTable.ADVENTURE + ',' +
+                "wt." + WorldTimesTable.SPECTATOR + ',' +
+                "w." + WorldTable.NAME +
+                FROM + WorldTimesTable.TABLE_NAME + " wt" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.ID + "=wt." + WorldTimesTable.SESSION_ID +
+                INNER_JOIN + WorldTable.TABLE_NAME + " w on w." + WorldTable.ID + "=wt." + WorldTimesTable.WORLD_ID +
+                whereSql +
+                ORDER_BY + "wt." + WorldTimesTable.SESSION_ID;
+
+        return new QueryStatement<>(sql, fetchSize) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                parameters.prepare(statement);
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                Cursor cursor = new Cursor(sessions);
+                while (set.next()) {
+                    LoadedSession session = cursor.seek(set.getInt(WorldTimesTable.SESSION_ID));
+                    if (session == null) continue;
+
+                    Map<String, Long> gmMap = new HashMap<>();
+                    gmMap.put(GM_KEYS[0], set.getLong(WorldTimesTable.SURVIVAL));
+                    gmMap.put(GM_KEYS[1], set.getLong(WorldTimesTable.CREATIVE));
+                    gmMap.put(GM_KEYS[2], set.getLong(WorldTimesTable.ADVENTURE));
+                    gmMap.put(GM_KEYS[3], set.getLong(WorldTimesTable.SPECTATOR));
+                    session.worldTimes.setGMTimesForWorld(identifiers.worldName(set.getString(WorldTable.NAME)), new GMTimes(gmMap));
+                }
+                return null;
+            }
+        };
+    }
+
+    private Query<Void> fetchKills(List<LoadedSession> sessions, Identifiers identifiers) {
+        String sql = SELECT +
+                "ki." + KillsTable.SESSION_ID + ',' +
+                "ki." + KillsTable.KILLER_UUID + ',' +
+                "ki." + KillsTable.VICTIM_UUID + ',' +
+                "v." + UsersTable.USER_NAME + " as victim_name," +
+                "v." + UsersTable.REGISTERED + " as victim_" + UsersTable.REGISTERED + ',' +
+                "k." + UsersTable.USER_NAME + " as killer_name," +
+                "ki." + KillsTable.DATE + ',' +
+                "ki." + KillsTable.WEAPON +
+                FROM + KillsTable.TABLE_NAME + " ki" +
+                INNER_JOIN + SessionsTable.TABLE_NAME + " s on s." + SessionsTable.ID + "=ki." + KillsTable.SESSION_ID +
+                INNER_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + "=ki." + KillsTable.VICTIM_UUID +
+                LEFT_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + "=ki." + KillsTable.KILLER_UUID +
+                whereSql +
+                ORDER_BY + "ki." + KillsTable.SESSION_ID + ",ki." + KillsTable.ID;
+
+        return new QueryStatement<>(sql, fetchSize) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                parameters.prepare(statement);
+            }
+
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                Cursor cursor = new Cursor(sessions);
+                while (set.next()) {
+                    LoadedSession session = cursor.seek(set.getInt(KillsTable.SESSION_ID));
+                    if (session == null) continue;
+
+                    UUID killerUUID = identifiers.uuid(set.getString(KillsTable.KILLER_UUID));
+                    UUID victimUUID = identifiers.uuid(set.getString(KillsTable.VICTIM_UUID));
+                    PlayerKill.Killer killer = new PlayerKill.Killer(killerUUID, set.getString("killer_name"));
+                    PlayerKill.Victim victim = new PlayerKill.Victim(
+                            victimUUID,
+                            set.getString("victim_name"),
+                            set.getLong("victim_" + UsersTable.REGISTERED)
+                    );
+                    String weapon = set.getString(KillsTable.WEAPON);
+                    long date = set.getLong(KillsTable.DATE);
+                    session.playerKills.add(new PlayerKill(killer, victim, session.server, weapon, date));
+                }
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Sets parameters of the WHERE clause.
+     */
+    interface Parameters {
+        Parameters NONE = statement -> {};
+
+        void prepare(PreparedStatement statement) throws SQLException;
+    }
+
+    private static class LoadedSession {
+        final int id;
+        final ServerIdentifier server;
+        final FinishedSession session;
+        final WorldTimes worldTimes;
+        final PlayerKills playerKills;
+
+        LoadedSession(int id, ServerIdentifier server, FinishedSession session) {
+            this.id = id;
+            this.server = server;
+            this.session = session;
+            this.worldTimes = new WorldTimes();
+            this.playerKills = new PlayerKills();
+        }
+    }
+
+    /**
+     * Walks the sessions ordered by id in step with another result set ordered by session id.
+     */
+    private static class Cursor {
+        private final List<LoadedSession> sessions;
+        private int index;
+
+        Cursor(List<LoadedSession> sessions) {
+            this.sessions = sessions;
+        }
+
+        LoadedSession seek(int sessionId) {
+            while (index < sessions.size()) {
+                LoadedSession session = sessions.get(index);
+                if (session.id == sessionId) return session;
+                if (session.id > sessionId) return null;
+                index++;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Shares identifier objects that repeat on many rows.
+     */
+    private static class Identifiers {
+        private final Map<String, UUID> uuids = new HashMap<>();
+        private final Map<String, String> worldNames = new HashMap<>();
+        private final Map<String, JoinAddress> joinAddresses = new HashMap<>();
+        private final Map<UUID, PlayerName> playerNames = new HashMap<>();
+        private final Map<Integer, ServerName> serverNames = new HashMap<>();
+        private final Map<Integer, ServerIdentifier> servers = new HashMap<>();
+
+        UUID uuid(String uuid) {
+            return uuids.computeIfAbsent(uuid, UUID::fromString);
+        }
+
+        String worldName(String worldName) {
+            return worldNames.computeIfAbsent(worldName, name -> name);
+        }
+
+        JoinAddress joinAddress(String joinAddress) {
+            return joinAddresses.computeIfAbsent(joinAddress, JoinAddress::new);
+        }
+
+        PlayerName playerName(UUID playerUUID, String name) {
+            PlayerName playerName = playerNames.get(playerUUID);
+            if (playerName == null || !Objects.equals(playerName.get(), name)) {
+                playerName = new PlayerName(name);
+                playerNames.put(playerUUID, playerName);
+            }
+            return playerName;
+        }
+
+        ServerIdentifier server(int serverId, String serverUUID, String serverName) {
+            return servers.computeIfAbsent(serverId, id -> {
+                ServerName name = new ServerName(Server.getIdentifiableName(serverName, id, false));
+                serverNames.put(id, name);
+                return new ServerIdentifier(ServerUUID.fromString(serverUUID), name);
+            });
+        }
+
+        ServerName serverName(int serverId) {
+            return serverNames.get(serverId);
+        }
+    }
+}
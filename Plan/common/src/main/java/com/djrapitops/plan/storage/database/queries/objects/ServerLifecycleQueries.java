@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+import static com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable.*;
+
+/**
+ * Queries for server start and stop events in {@link com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable}.
+ *
+ * @author AuroraLS3
+ */
+public class ServerLifecycleQueries {
+
+    private ServerLifecycleQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Fetch the latest start or stop event of a server.
+     *
+     * @param serverUUID UUID of the server
+     * @return Date and {@link com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable#EVENT_START} or
+     * {@link com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable#EVENT_STOP}, empty if none are stored.
+     */
+    public static Query<Optional<DateObj<String>>> fetchLatestEvent(ServerUUID serverUUID) {
+        String sql = SELECT + DATE + ',' + EVENT +
+                FROM + TABLE_NAME +
+                WHERE + SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                ORDER_BY + DATE + " DESC, " + ID + " DESC" +
+                LIMIT + "1";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Optional<DateObj<String>> processResults(ResultSet set) throws SQLException {
+                return set.next() ? Optional.of(new DateObj<>(set.getLong(DATE), set.getString(EVENT)))
+                        : Optional.empty();
+            }
+        };
+    }
+
+    /**
+     * Fetch the date the server was last started at, if it has not been stopped since.
+     *
+     * @param serverUUID UUID of the server
+     * @return Epoch ms, empty if the server has been stopped or no events are stored.
+     */
+    public static Query<Optional<Long>> fetchStartTimeIfRunning(ServerUUID serverUUID) {
+        return db -> db.query(fetchLatestEvent(serverUUID))
+                .filter(event -> EVENT_START.equals(event.getValue()))
+                .map(DateObj::getDate);
+    }
+}
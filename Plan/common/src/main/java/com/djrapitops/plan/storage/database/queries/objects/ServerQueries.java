@@ -18,6 +18,8 @@ package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.IdentifierCache;
+import com.djrapitops.plan.storage.database.queries.CachedIdentifierQueryStatement;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
@@ -119,7 +121,7 @@ public class ServerQueries {
                 OR + ServerTable.ID + "=?)" +
                 AND + ServerTable.INSTALLED + "=?" +
                 LIMIT + '1';
-        return new QueryStatement<>(sql) {
+        return new CachedIdentifierQueryStatement<>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, identifier);
@@ -143,6 +145,47 @@ public class ServerQueries {
                 }
                 return Optional.empty();
             }
+
+            @Override
+            protected Optional<Server> getCached(IdentifierCache cache) {
+                return cache.getServer(identifier);
+            }
+
+            @Override
+            protected void cache(IdentifierCache cache, long generation, Server server) {
+                cache.cacheServer(generation, identifier, server);
+            }
+        };
+    }
+
+    /**
+     * Query database for the id of a server, so that it can be bound directly instead of using {@link ServerTable#SELECT_SERVER_ID}.
+     *
+     * @param serverUUID UUID of the server.
+     * @return Optional: server_id if found, empty if not.
+     */
+    public static Query<Optional<Integer>> fetchServerId(ServerUUID serverUUID) {
+        String sql = SELECT + ServerTable.ID + FROM + ServerTable.TABLE_NAME + WHERE + ServerTable.SERVER_UUID + "=?";
+        return new CachedIdentifierQueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+            }
+
+            @Override
+            public Optional<Integer> processResults(ResultSet set) throws SQLException {
+                return set.next() ? Optional.of(set.getInt(ServerTable.ID)) : Optional.empty();
+            }
+
+            @Override
+            protected Optional<Integer> getCached(IdentifierCache cache) {
+                return cache.getServerId(serverUUID);
+            }
+
+            @Override
+            protected void cache(IdentifierCache cache, long generation, Integer serverId) {
+                cache.cacheServerId(generation, serverUUID, serverId);
+            }
         };
     }
 
@@ -16,21 +16,17 @@
  */
 package com.djrapitops.plan.storage.database.queries.objects;
 
-import com.djrapitops.plan.delivery.domain.DateHolder;
-import com.djrapitops.plan.delivery.domain.PlayerName;
-import com.djrapitops.plan.delivery.domain.ServerIdentifier;
-import com.djrapitops.plan.delivery.domain.ServerName;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.*;
-import com.djrapitops.plan.gathering.domain.event.JoinAddress;
 import com.djrapitops.plan.identification.Server;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.UserIdsInSetQuery;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.building.Sql;
 import com.djrapitops.plan.storage.database.sql.tables.*;
-import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plan.utilities.java.Maps;
 import org.apache.commons.text.TextStringBuilder;
 
@@ -38,7 +34,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
@@ -53,43 +48,6 @@ public class SessionQueries {
         /* Static method class */
     }
 
-    private static final String SELECT_SESSIONS_STATEMENT = SELECT +
-            "s." + SessionsTable.ID + ',' +
-            "u." + UsersTable.USER_NAME + " as name," +
-            "u." + UsersTable.USER_UUID + ',' +
-            "u_info." + UserInfoTable.REGISTERED + " as registered," +
-            "server." + ServerTable.NAME + " as server_name," +
-            "server." + ServerTable.ID + " as server_id," +
-            "server." + ServerTable.SERVER_UUID + " as server_uuid," +
-            SessionsTable.SESSION_START + ',' +
-            SessionsTable.SESSION_END + ',' +
-            SessionsTable.MOB_KILLS + ',' +
-            SessionsTable.DEATHS + ',' +
-            SessionsTable.AFK_TIME + ',' +
-            WorldTimesTable.SURVIVAL + ',' +
-            WorldTimesTable.CREATIVE + ',' +
-            WorldTimesTable.ADVENTURE + ',' +
-            WorldTimesTable.SPECTATOR + ',' +
-            WorldTable.NAME + ',' +
-            "j." + JoinAddressTable.JOIN_ADDRESS + " as join_address," +
-            KillsTable.KILLER_UUID + ',' +
-            KillsTable.VICTIM_UUID + ',' +
-            "v." + UsersTable.USER_NAME + " as victim_name, " +
-            "v." + UsersTable.REGISTERED + " as victim_" + UsersTable.REGISTERED + ", " +
-            "k." + UsersTable.USER_NAME + " as killer_name, " +
-            KillsTable.DATE + ',' +
-            KillsTable.WEAPON +
-            FROM + SessionsTable.TABLE_NAME + " s" +
-            INNER_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
-            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
-            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
-            LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')' +
-            LEFT_JOIN + KillsTable.TABLE_NAME + " ON " + "s." + SessionsTable.ID + '=' + KillsTable.TABLE_NAME + '.' + KillsTable.SESSION_ID +
-            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + '=' + KillsTable.VICTIM_UUID +
-            LEFT_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + '=' + KillsTable.KILLER_UUID +
-            INNER_JOIN + WorldTimesTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID +
-            INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID;
-
     private static final String ORDER_BY_SESSION_START_DESC = ORDER_BY + SessionsTable.SESSION_START + " DESC";
 
     /**
@@ -98,14 +56,7 @@ public class SessionQueries {
      * @return List of sessions
      */
     public static Query<List<FinishedSession>> fetchAllSessions() {
-        String sql = SELECT_SESSIONS_STATEMENT +
-                ORDER_BY_SESSION_START_DESC;
-        return new QueryAllStatement<>(sql, 50000) {
-            @Override
-            public List<FinishedSession> processResults(ResultSet set) throws SQLException {
-                return extractDataFromSessionSelectStatement(set);
-            }
-        };
+        return new MultiPassSessionQuery("", MultiPassSessionQuery.Parameters.NONE, false, 50000);
     }
 
     /**
@@ -115,120 +66,12 @@ public class SessionQueries {
      * @return Map: Server UUID - List of sessions on the server.
      */
     public static Query<Map<ServerUUID, List<FinishedSession>>> fetchSessionsOfPlayer(UUID playerUUID) {
-        String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
-                ORDER_BY_SESSION_START_DESC;
-        return new QueryStatement<>(sql, 1000) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-            }
-
-            @Override
-            public Map<ServerUUID, List<FinishedSession>> processResults(ResultSet set) throws SQLException {
-                List<FinishedSession> sessions = extractDataFromSessionSelectStatement(set);
-                return SessionsMutator.sortByServers(sessions);
-            }
-        };
-    }
-
-    private static List<FinishedSession> extractDataFromSessionSelectStatement(ResultSet set) throws SQLException {
-        // Server UUID - Player UUID - Session Start - Session
-        Map<ServerUUID, Map<UUID, SortedMap<Long, FinishedSession>>> byServer = new HashMap<>();
-
-        // Utilities
-        String[] gms = GMTimes.getGMKeyArray();
-        Comparator<DateHolder> mostRecentFirst = new DateHolderRecentComparator();
-        Comparator<Long> longRecentComparator = (one, two) -> Long.compare(two, one); // Descending order, most recent first.
-
-        while (set.next()) {
-            ServerUUID serverUUID = ServerUUID.fromString(set.getString("server_uuid"));
-            Map<UUID, SortedMap<Long, FinishedSession>> serverSessions = byServer.computeIfAbsent(serverUUID, Maps::create);
-
-            UUID playerUUID = UUID.fromString(set.getString(UsersTable.USER_UUID));
-            SortedMap<Long, FinishedSession> playerSessions = serverSessions.computeIfAbsent(playerUUID, key -> new TreeMap<>(longRecentComparator));
-
-            long sessionStart = set.getLong(SessionsTable.SESSION_START);
-            // id, uuid, serverUUID, sessionStart, sessionEnd, mobKills, deaths, afkTime
-            FinishedSession session = playerSessions.getOrDefault(sessionStart, new FinishedSession(
-                    playerUUID,
-                    serverUUID,
-                    sessionStart,
-                    set.getLong(SessionsTable.SESSION_END),
-                    set.getLong(SessionsTable.AFK_TIME),
-                    new DataMap()
-            ));
-
-            DataMap extraData = session.getExtraData();
-            extraData.put(FinishedSession.Id.class, new FinishedSession.Id(set.getInt(SessionsTable.ID)));
-            extraData.put(MobKillCounter.class, new MobKillCounter(set.getInt(SessionsTable.MOB_KILLS)));
-            extraData.put(DeathCounter.class, new DeathCounter(set.getInt(SessionsTable.DEATHS)));
-            extraData.put(JoinAddress.class, new JoinAddress(set.getString("join_address")));
-
-            Optional<WorldTimes> existingWorldTimes = extraData.get(WorldTimes.class);
-            Optional<PlayerKills> existingPlayerKills = extraData.get(PlayerKills.class);
-
-            WorldTimes worldTimes = existingWorldTimes.orElseGet(WorldTimes::new);
-            String worldName = set.getString(WorldTable.NAME);
-
-            if (!worldTimes.contains(worldName)) {
-                Map<String, Long> gmMap = new HashMap<>();
-                gmMap.put(gms[0], set.getLong(WorldTimesTable.SURVIVAL));
-                gmMap.put(gms[1], set.getLong(WorldTimesTable.CREATIVE));
-                gmMap.put(gms[2], set.getLong(WorldTimesTable.ADVENTURE));
-                gmMap.put(gms[3], set.getLong(WorldTimesTable.SPECTATOR));
-                GMTimes gmTimes = new GMTimes(gmMap);
-                worldTimes.setGMTimesForWorld(worldName, gmTimes);
-            }
-
-            if (existingWorldTimes.isEmpty()) extraData.put(WorldTimes.class, worldTimes);
-
-            ServerName serverName = new ServerName(
-                    Server.getIdentifiableName(
-                            set.getString("server_name"),
-                            set.getInt("server_id"),
-                            false
-                    ));
-            extraData.put(ServerName.class, serverName);
-
-            PlayerKills playerKills = existingPlayerKills.orElseGet(PlayerKills::new);
-
-            String victimName = set.getString("victim_name");
-            if (victimName != null) {
-                PlayerKill.Killer killer = new PlayerKill.Killer(
-                        UUID.fromString(set.getString(KillsTable.KILLER_UUID)),
-                        set.getString("killer_name")
-                );
-                PlayerKill.Victim victim = new PlayerKill.Victim(
-                        UUID.fromString(set.getString(KillsTable.VICTIM_UUID)),
-                        victimName,
-                        set.getLong("victim_" + UsersTable.REGISTERED)
-                );
-                ServerIdentifier serverIdentifier = new ServerIdentifier(serverUUID, serverName);
-                String weapon = set.getString(KillsTable.WEAPON);
-                long date = set.getLong(KillsTable.DATE);
-                PlayerKill newKill = new PlayerKill(killer, victim, serverIdentifier, weapon, date);
-
-                if (!playerKills.contains(newKill)) {
-                    playerKills.add(newKill);
-                }
-            }
-            if (existingPlayerKills.isEmpty()) extraData.put(PlayerKills.class, playerKills);
-
-            extraData.put(PlayerName.class, new PlayerName(set.getString("name")));
-
-            session.setAsFirstSessionIfMatches(set.getLong("registered"));
-
-            playerSessions.put(sessionStart, session);
-        }
-
-        return byServer.values().stream()
-                .map(Map::values)
-                .flatMap(Collection::stream)
-                .map(SortedMap::values)
-                .flatMap(Collection::stream)
-                .sorted(mostRecentFirst) // Disorder arises
-                .collect(Collectors.toList());
+        Query<List<FinishedSession>> query = new MultiPassSessionQuery(
+                WHERE + "s." + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID,
+                statement -> statement.setString(1, playerUUID.toString()),
+                false, 1000
+        );
+        return db -> SessionsMutator.sortByServers(db.query(query));
     }
 
     public static Query<List<FinishedSession>> fetchServerSessionsWithoutKillOrWorldData(long after, long before, ServerUUID serverUUID) {
@@ -324,48 +167,25 @@ public class SessionQueries {
     }
 
     public static Query<List<FinishedSession>> fetchLatestSessionsOfServer(ServerUUID serverUUID, int limit) {
-        String sql = SELECT_SESSIONS_STATEMENT +
-                WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                AND + "s." + SessionsTable.SESSION_START + ">=?" +
-                ORDER_BY_SESSION_START_DESC;
-
+        String where = WHERE + "s." + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + "s." + SessionsTable.SESSION_START + ">=?";
         return db -> {
             Long start = db.query(fetchLatestSessionStartLimitForServer(serverUUID, limit));
-            return db.query(new QueryStatement<List<FinishedSession>>(sql) {
-                @Override
-                public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setString(1, serverUUID.toString());
-                    statement.setLong(2, start != null ? start : 0L);
-                }
-
-                @Override
-                public List<FinishedSession> processResults(ResultSet set) throws SQLException {
-                    return extractDataFromSessionSelectStatement(set);
-                }
-            });
+            return db.query(new MultiPassSessionQuery(where, statement -> {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, start != null ? start : 0L);
+            }, false, 1000));
         };
     }
 
     public static Query<List<FinishedSession>> fetchLatestSessions(int limit) {
-        String sql = SELECT_SESSIONS_STATEMENT
-                // Fix for "First Session" icons in the Most recent sessions on network page
-                .replace(LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')', "")
-                .replace("u_info", "u") +
-                WHERE + "s." + SessionsTable.SESSION_START + ">=?" +
-                ORDER_BY_SESSION_START_DESC;
+        String where = WHERE + "s." + SessionsTable.SESSION_START + ">=?";
         return db -> {
             Long start = db.query(fetchLatestSessionStartLimit(limit));
-            return db.query(new QueryStatement<List<FinishedSession>>(sql) {
-                @Override
-                public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setLong(1, start != null ? start : 0L);
-                }
-
-                @Override
-                public List<FinishedSession> processResults(ResultSet set) throws SQLException {
-                    return extractDataFromSessionSelectStatement(set);
-                }
-            });
+            // Network register date, fix for "First Session" icons in the Most recent sessions on network page
+            return db.query(new MultiPassSessionQuery(where,
+                    statement -> statement.setLong(1, start != null ? start : 0L),
+                    true, 1000));
         };
     }
 
@@ -791,27 +611,23 @@ public class SessionQueries {
     public static Query<Long> lastSeen(UUID playerUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID;
-        return db -> db.queryOptional(sql, set -> set.getLong("last_seen"), playerUUID)
+                WHERE + SessionsTable.USER_ID + "=?";
+        return db -> db.query(UserIdentifierQueries.fetchUserId(playerUUID))
+                .flatMap(userId -> db.queryOptional(sql, set -> set.getLong("last_seen"), userId))
                 .orElse(0L);
     }
 
     public static Query<Long> lastSeen(UUID playerUUID, ServerUUID serverUUID) {
         String sql = SELECT + "MAX(" + SessionsTable.SESSION_END + ") as last_seen" +
                 FROM + SessionsTable.TABLE_NAME +
-                WHERE + SessionsTable.USER_ID + "=" + UsersTable.SELECT_USER_ID +
-                AND + SessionsTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID;
-        return new QueryStatement<>(sql) {
-            @Override
-            public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setString(1, playerUUID.toString());
-                statement.setString(2, serverUUID.toString());
-            }
-
-            @Override
-            public Long processResults(ResultSet set) throws SQLException {
-                return set.next() ? set.getLong("last_seen") : 0;
-            }
+                WHERE + SessionsTable.USER_ID + "=?" +
+                AND + SessionsTable.SERVER_ID + "=?";
+        return db -> {
+            Optional<Integer> userId = db.query(UserIdentifierQueries.fetchUserId(playerUUID));
+            Optional<Integer> serverId = db.query(ServerQueries.fetchServerId(serverUUID));
+            if (userId.isEmpty() || serverId.isEmpty()) return 0L;
+            return db.queryOptional(sql, set -> set.getLong("last_seen"), userId.get(), serverId.get())
+                    .orElse(0L);
         };
     }
 
@@ -857,7 +673,7 @@ public class SessionQueries {
 
             @Override
             public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
+                UserIdBitmap userIds = new UserIdBitmap();
                 while (set.next()) {
                     userIds.add(set.getInt(UsersTable.ID));
                 }
@@ -867,7 +683,11 @@ public class SessionQueries {
     }
 
     public static Query<Map<String, Long>> summaryOfPlayers(Set<Integer> userIds, List<ServerUUID> serverUUIDs, long after, long before) {
-        String uuidsInSet = " IN (" + new TextStringBuilder().appendWithSeparators(userIds, ",") + ")";
+        int playerCount = userIds.size();
+        return new UserIdsInSetQuery<>(userIds, userIdsInSet -> summaryOfPlayers(userIdsInSet.get(), playerCount, serverUUIDs, after, before));
+    }
+
+    private static QueryStatement<Map<String, Long>> summaryOfPlayers(String userIdsInSet, int playerCount, List<ServerUUID> serverUUIDs, long after, long before) {
         String selectServerIds = SELECT + ServerTable.ID +
                 FROM + ServerTable.TABLE_NAME +
                 WHERE + ServerTable.SERVER_UUID + " IN ('" + new TextStringBuilder().appendWithSeparators(serverUUIDs, "','") + "')";
@@ -879,7 +699,7 @@ public class SessionQueries {
                 FROM + SessionsTable.TABLE_NAME +
                 WHERE + SessionsTable.SESSION_START + ">?" +
                 AND + SessionsTable.SESSION_END + "<?" +
-                AND + SessionsTable.USER_ID + uuidsInSet +
+                AND + SessionsTable.USER_ID + userIdsInSet +
                 (serverUUIDs.isEmpty() ? "" : AND + SessionsTable.SERVER_ID + " IN (" + selectServerIds + ")");
 
         return new QueryStatement<>(selectAggregates) {
@@ -895,7 +715,6 @@ public class SessionQueries {
                     long sessionCount = set.getLong("session_count");
                     long playtime = set.getLong("playtime");
                     long activePlaytime = set.getLong("active_playtime");
-                    int playerCount = userIds.size();
                     return Maps.builder(String.class, Long.class)
                             .put("total_playtime", playtime)
                             .put("average_playtime", playerCount != 0 ? playtime / playerCount : -1L)
@@ -18,11 +18,13 @@ package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.gathering.domain.TPS;
+import com.djrapitops.plan.gathering.domain.TPSSeries;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSRollupTable;
 import com.djrapitops.plan.utilities.dev.Benchmark;
 import com.djrapitops.plan.utilities.java.Lists;
 import org.intellij.lang.annotations.Language;
@@ -48,42 +50,130 @@ public class TPSQueries {
         /* Static method class */
     }
 
+    /**
+     * Fetch TPS data of a server grouped into buckets of given resolution.
+     * <p>
+     * Data is read from the coarsest rollup table that satisfies the resolution. Newest data that has not yet been
+     * rolled up is read from the per-minute table.
+     *
+     * @param after      Epoch ms, inclusive
+     * @param before     Epoch ms, exclusive
+     * @param resolution Size of the buckets in ms.
+     * @param serverUUID UUID of the server
+     * @return Data points with lowest TPS and highest other values of each bucket.
+     */
     public static Query<List<TPS>> fetchTPSDataOfServerInResolution(long after, long before, long resolution, ServerUUID serverUUID) {
         return db -> {
-            String sql = SELECT +
-                    min("t." + DATE) + " as " + DATE + ',' +
-                    min("t." + TPS) + " as " + TPS + ',' +
-                    max("t." + PLAYERS_ONLINE) + " as " + PLAYERS_ONLINE + ',' +
-                    max("t." + RAM_USAGE) + " as " + RAM_USAGE + ',' +
-                    max("t." + CPU_USAGE) + " as " + CPU_USAGE + ',' +
-                    max("t." + ENTITIES) + " as " + ENTITIES + ',' +
-                    max("t." + CHUNKS) + " as " + CHUNKS + ',' +
-                    max("t." + FREE_DISK) + " as " + FREE_DISK +
-                    FROM + TABLE_NAME + " t" +
-                    WHERE + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                    AND + DATE + ">=?" +
-                    AND + DATE + "<?" +
-                    GROUP_BY + floor(DATE + "/?") +
-                    ORDER_BY + DATE;
-
-            return db.query(new QueryStatement<List<TPS>>(sql, 50000) {
-                @Override
-                public void prepare(PreparedStatement statement) throws SQLException {
-                    statement.setString(1, serverUUID.toString());
-                    statement.setLong(2, after);
-                    statement.setLong(3, before);
-                    statement.setLong(4, resolution);
-                }
+            long rollupResolution = getRollupResolution(resolution);
+            if (rollupResolution == -1) {
+                return db.query(fetchSampledTPSDataInResolution(after, before, resolution, serverUUID));
+            }
 
-                @Override
-                public List<TPS> processResults(ResultSet set) throws SQLException {
-                    List<TPS> data = new ArrayList<>();
-                    while (set.next()) {
-                        data.add(extractTPS(set));
-                    }
-                    return data;
+            long rolledUpUntil = db.query(fetchRolledUpUntil(rollupResolution, serverUUID));
+            List<TPS> data = new ArrayList<>();
+            if (rolledUpUntil > after) {
+                data.addAll(db.query(fetchRolledUpTPSDataInResolution(after, Math.min(before, rolledUpUntil), resolution, rollupResolution, serverUUID)));
+            }
+            if (rolledUpUntil < before) {
+                data.addAll(db.query(fetchSampledTPSDataInResolution(Math.max(after, rolledUpUntil), before, resolution, serverUUID)));
+            }
+            return data;
+        };
+    }
+
+    private static long getRollupResolution(long resolution) {
+        if (resolution >= TPSRollupTable.DAILY) return TPSRollupTable.DAILY;
+        if (resolution >= TPSRollupTable.HOURLY) return TPSRollupTable.HOURLY;
+        return -1;
+    }
+
+    private static Query<Long> fetchRolledUpUntil(long rollupResolution, ServerUUID serverUUID) {
+        String sql = SELECT + max(TPSRollupTable.DATE) + " as last_bucket" +
+                FROM + TPSRollupTable.TABLE_NAME +
+                WHERE + TPSRollupTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + TPSRollupTable.RESOLUTION + "=?";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, rollupResolution);
+            }
+
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return 0L;
+                long lastBucket = set.getLong("last_bucket");
+                return set.wasNull() ? 0L : lastBucket + rollupResolution;
+            }
+        };
+    }
+
+    private static Query<List<TPS>> fetchSampledTPSDataInResolution(long after, long before, long resolution, ServerUUID serverUUID) {
+        String sql = SELECT +
+                min("t." + DATE) + " as " + DATE + ',' +
+                min("t." + TPS) + " as " + TPS + ',' +
+                max("t." + PLAYERS_ONLINE) + " as " + PLAYERS_ONLINE + ',' +
+                max("t." + RAM_USAGE) + " as " + RAM_USAGE + ',' +
+                max("t." + CPU_USAGE) + " as " + CPU_USAGE + ',' +
+                max("t." + ENTITIES) + " as " + ENTITIES + ',' +
+                max("t." + CHUNKS) + " as " + CHUNKS + ',' +
+                max("t." + FREE_DISK) + " as " + FREE_DISK + ',' +
+                max("t." + MSPT_P50) + " as " + MSPT_P50 + ',' +
+                max("t." + MSPT_P95) + " as " + MSPT_P95 + ',' +
+                max("t." + MSPT_P99) + " as " + MSPT_P99 + ',' +
+                max("t." + MSPT_MAX) + " as " + MSPT_MAX +
+                FROM + TABLE_NAME + " t" +
+                WHERE + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + DATE + ">=?" +
+                AND + DATE + "<?" +
+                GROUP_BY + floor(DATE + "/?") +
+                ORDER_BY + DATE;
+        return inResolution(sql, after, before, resolution, serverUUID);
+    }
+
+    private static Query<List<TPS>> fetchRolledUpTPSDataInResolution(long after, long before, long resolution, long rollupResolution, ServerUUID serverUUID) {
+        String sql = SELECT +
+                min("r." + TPSRollupTable.DATE) + " as " + DATE + ',' +
+                min("r." + TPSRollupTable.minOf(TPS)) + " as " + TPS + ',' +
+                max("r." + TPSRollupTable.maxOf(PLAYERS_ONLINE)) + " as " + PLAYERS_ONLINE + ',' +
+                max("r." + TPSRollupTable.maxOf(RAM_USAGE)) + " as " + RAM_USAGE + ',' +
+                max("r." + TPSRollupTable.maxOf(CPU_USAGE)) + " as " + CPU_USAGE + ',' +
+                max("r." + TPSRollupTable.maxOf(ENTITIES)) + " as " + ENTITIES + ',' +
+                max("r." + TPSRollupTable.maxOf(CHUNKS)) + " as " + CHUNKS + ',' +
+                max("r." + TPSRollupTable.maxOf(FREE_DISK)) + " as " + FREE_DISK + ',' +
+                // Tick duration percentiles are not rolled up
+                "-1 as " + MSPT_P50 + ',' +
+                "-1 as " + MSPT_P95 + ',' +
+                "-1 as " + MSPT_P99 + ',' +
+                "-1 as " + MSPT_MAX +
+                FROM + TPSRollupTable.TABLE_NAME + " r" +
+                WHERE + TPSRollupTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + TPSRollupTable.RESOLUTION + "=" + rollupResolution +
+                AND + TPSRollupTable.DATE + ">=?" +
+                AND + TPSRollupTable.DATE + "<?" +
+                GROUP_BY + floor(TPSRollupTable.DATE + "/?") +
+                ORDER_BY + DATE;
+        return inResolution(sql, after, before, resolution, serverUUID);
+    }
+
+    private static QueryStatement<List<TPS>> inResolution(String sql, long after, long before, long resolution, ServerUUID serverUUID) {
+        return new QueryStatement<>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+                statement.setLong(4, resolution);
+            }
+
+            @Override
+            public List<TPS> processResults(ResultSet set) throws SQLException {
+                List<TPS> data = new ArrayList<>();
+                while (set.next()) {
+                    data.add(extractTPS(set));
                 }
-            });
+                return data;
+            }
         };
     }
 
@@ -97,6 +187,12 @@ public class TPSQueries {
                 .entities(set.getInt(ENTITIES))
                 .chunksLoaded(set.getInt(CHUNKS))
                 .freeDiskSpace(set.getLong(FREE_DISK))
+                .msptPercentiles(
+                        set.getDouble(MSPT_P50),
+                        set.getDouble(MSPT_P95),
+                        set.getDouble(MSPT_P99),
+                        set.getDouble(MSPT_MAX)
+                )
                 .toTPS();
     }
 
@@ -127,6 +223,54 @@ public class TPSQueries {
         };
     }
 
+    /**
+     * Fetch TPS data of a server into a columnar series, without creating a TPS object per row.
+     *
+     * @param after      Epoch ms, inclusive
+     * @param before     Epoch ms, inclusive
+     * @param serverUUID UUID of the server
+     * @return Series ordered by date.
+     */
+    public static Query<TPSSeries> fetchTPSSeriesOfServer(long after, long before, ServerUUID serverUUID) {
+        String sql = SELECT + "*" + FROM + TABLE_NAME +
+                WHERE + SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                AND + DATE + ">=?" +
+                AND + DATE + "<=?" +
+                ORDER_BY + DATE;
+
+        return new QueryStatement<>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, after);
+                statement.setLong(3, before);
+            }
+
+            @Override
+            public TPSSeries processResults(ResultSet set) throws SQLException {
+                TPSSeries series = new TPSSeries();
+                while (set.next()) {
+                    addToSeries(series, set);
+                }
+                series.trimToSize();
+                return series;
+            }
+        };
+    }
+
+    private static void addToSeries(TPSSeries series, ResultSet set) throws SQLException {
+        series.add(
+                set.getLong(DATE),
+                set.getDouble(TPS),
+                set.getInt(PLAYERS_ONLINE),
+                set.getDouble(CPU_USAGE),
+                set.getLong(RAM_USAGE),
+                set.getInt(ENTITIES),
+                set.getInt(CHUNKS),
+                set.getLong(FREE_DISK)
+        );
+    }
+
     public static Query<List<DateObj<Integer>>> fetchViewPreviewGraphData(ServerUUID serverUUID) {
         String sql = SELECT + min(DATE) + " as " + DATE + ',' +
                 max(PLAYERS_ONLINE) + " as " + PLAYERS_ONLINE +
@@ -456,8 +600,9 @@ public class TPSQueries {
 
     public static Query<Optional<Long>> fetchLastStoredTpsDate(ServerUUID serverUUID) {
         @Language("SQL")
-        String sql = "SELECT MAX(date) FROM plan_tps WHERE server_id=" + ServerTable.SELECT_SERVER_ID;
-        return db -> db.queryOptional(sql, resultSet -> resultSet.getLong(1), serverUUID);
+        String sql = "SELECT MAX(date) FROM plan_tps WHERE server_id=?";
+        return db -> db.query(ServerQueries.fetchServerId(serverUUID))
+                .flatMap(serverId -> db.queryOptional(sql, resultSet -> resultSet.getLong(1), serverId));
     }
 
     public static Query<Map<Integer, List<TPS>>> fetchTPSDataOfServers(long after, long before, Collection<ServerUUID> serverUUIDs) {
@@ -486,6 +631,32 @@ public class TPSQueries {
         };
     }
 
+    public static Query<Map<Integer, TPSSeries>> fetchTPSSeriesOfServers(long after, long before, Collection<ServerUUID> serverUUIDs) {
+        String sql = SELECT + "*" + FROM + TABLE_NAME +
+                WHERE + SERVER_ID + " IN " + ServerTable.selectServerIds(serverUUIDs) +
+                AND + DATE + ">=?" +
+                AND + DATE + "<=?" +
+                ORDER_BY + DATE;
+        return new QueryStatement<>(sql, 50000) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, after);
+                statement.setLong(2, before);
+            }
+
+            @Override
+            public Map<Integer, TPSSeries> processResults(ResultSet set) throws SQLException {
+                Map<Integer, TPSSeries> data = new HashMap<>();
+                while (set.next()) {
+                    int serverId = set.getInt(SERVER_ID);
+                    addToSeries(data.computeIfAbsent(serverId, id -> new TPSSeries()), set);
+                }
+                data.values().forEach(TPSSeries::trimToSize);
+                return data;
+            }
+        };
+    }
+
     @Benchmark.Slow("1s")
     public static Query<Optional<Long>> fetchLatestServerStartTime(ServerUUID serverUUID, long dataGapThreshold) {
         String selectPreviousRowNumber = SELECT +
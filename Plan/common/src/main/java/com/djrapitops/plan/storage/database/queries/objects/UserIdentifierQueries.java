@@ -17,9 +17,12 @@
 package com.djrapitops.plan.storage.database.queries.objects;
 
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.IdentifierCache;
+import com.djrapitops.plan.storage.database.queries.CachedIdentifierQueryStatement;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.building.Select;
 import com.djrapitops.plan.storage.database.sql.tables.NicknamesTable;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
@@ -127,11 +130,13 @@ public class UserIdentifierQueries {
      * @return Optional: UUID if found, empty if not.
      */
     public static Query<Optional<UUID>> fetchPlayerUUIDOf(@Untrusted String playerName) {
-        String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.USER_UUID)
+        String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.USER_UUID, UsersTable.USER_NAME)
                 .where("UPPER(" + UsersTable.USER_NAME + ")=UPPER(?)")
                 .toString();
 
-        return new QueryStatement<>(sql) {
+        return new CachedIdentifierQueryStatement<>(sql) {
+            private String foundName;
+
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, playerName);
@@ -140,11 +145,22 @@ public class UserIdentifierQueries {
             @Override
             public Optional<UUID> processResults(ResultSet set) throws SQLException {
                 if (set.next()) {
+                    foundName = set.getString(UsersTable.USER_NAME);
                     String uuidS = set.getString(UsersTable.USER_UUID);
                     return Optional.of(UUID.fromString(uuidS));
                 }
                 return Optional.empty();
             }
+
+            @Override
+            protected Optional<UUID> getCached(IdentifierCache cache) {
+                return cache.getPlayerUUID(playerName);
+            }
+
+            @Override
+            protected void cache(IdentifierCache cache, long generation, UUID playerUUID) {
+                cache.cachePlayerName(generation, playerUUID, foundName);
+            }
         };
     }
 
@@ -157,7 +173,7 @@ public class UserIdentifierQueries {
     public static Query<Optional<String>> fetchPlayerNameOf(UUID playerUUID) {
         String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.USER_NAME).where(UsersTable.USER_UUID + "=?").toString();
 
-        return new QueryStatement<>(sql) {
+        return new CachedIdentifierQueryStatement<>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, playerUUID.toString());
@@ -170,6 +186,16 @@ public class UserIdentifierQueries {
                 }
                 return Optional.empty();
             }
+
+            @Override
+            protected Optional<String> getCached(IdentifierCache cache) {
+                return cache.getPlayerName(playerUUID);
+            }
+
+            @Override
+            protected void cache(IdentifierCache cache, long generation, String playerName) {
+                cache.cachePlayerName(generation, playerUUID, playerName);
+            }
         };
     }
 
@@ -211,11 +237,11 @@ public class UserIdentifierQueries {
         return new QueryAllStatement<>(sql, 2000) {
             @Override
             public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> playerUUIDs = new HashSet<>();
+                UserIdBitmap userIds = new UserIdBitmap();
                 while (set.next()) {
-                    playerUUIDs.add(set.getInt(UsersTable.ID));
+                    userIds.add(set.getInt(UsersTable.ID));
                 }
-                return playerUUIDs;
+                return userIds;
             }
         };
     }
@@ -223,7 +249,7 @@ public class UserIdentifierQueries {
     public static Query<Optional<Integer>> fetchUserId(UUID playerUUID) {
         String sql = Select.from(UsersTable.TABLE_NAME, UsersTable.ID).where(UsersTable.USER_UUID + "=?").toString();
 
-        return new QueryStatement<>(sql) {
+        return new CachedIdentifierQueryStatement<>(sql) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setString(1, playerUUID.toString());
@@ -236,6 +262,16 @@ public class UserIdentifierQueries {
                 }
                 return Optional.empty();
             }
+
+            @Override
+            protected Optional<Integer> getCached(IdentifierCache cache) {
+                return cache.getUserId(playerUUID);
+            }
+
+            @Override
+            protected void cache(IdentifierCache cache, long generation, Integer userId) {
+                cache.cacheUserId(generation, playerUUID, userId);
+            }
         };
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
 import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.queries.filter.UserIdBitmap;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.sql.tables.UserInfoTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
@@ -185,7 +186,7 @@ public class UserInfoQueries {
     }
 
     public static Set<Integer> extractUserIds(ResultSet set, String column) throws SQLException {
-        Set<Integer> userIds = new HashSet<>();
+        UserIdBitmap userIds = new UserIdBitmap();
         while (set.next()) {
             userIds.add(set.getInt(column));
         }
@@ -224,7 +225,7 @@ public class UserInfoQueries {
 
             @Override
             public Set<Integer> processResults(ResultSet set) throws SQLException {
-                Set<Integer> userIds = new HashSet<>();
+                UserIdBitmap userIds = new UserIdBitmap();
                 while (set.next()) {
                     userIds.add(set.getInt(UsersTable.ID));
                 }
@@ -45,12 +45,40 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
 
     private final long date;
     private final long activeMsThreshold;
-    private final int xMostRecentPlayers;
+    private final PlayersTablePage page;
 
     public NetworkTablePlayersQuery(long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(date, activeMsThreshold, PlayersTablePage.mostRecentlySeen(xMostRecentPlayers));
+    }
+
+    public NetworkTablePlayersQuery(long date, long activeMsThreshold, PlayersTablePage page) {
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
-        this.xMostRecentPlayers = xMostRecentPlayers;
+        this.page = page;
+    }
+
+    /**
+     * Count how many players the table would have across all pages.
+     *
+     * @param page Page, of which only the search is used.
+     * @return Query for number of players in the network matching the search.
+     */
+    public static Query<Integer> countPlayers(PlayersTablePage page) {
+        String sql = SELECT + "COUNT(1) as player_count" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                (page.getSearch().isPresent() ? WHERE + page.searchCondition() : "");
+
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                page.setSearchParameter(statement, 1);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("player_count") : 0;
+            }
+        };
     }
 
     @Override
@@ -91,14 +119,16 @@ public class NetworkTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + selectLatestGeolocations + ") geo on geo." + GeoInfoTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + NetworkActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
-                ORDER_BY + "ses.last_seen DESC LIMIT ?";
+                (page.getSearch().isPresent() ? WHERE + page.searchCondition() : "") +
+                page.orderAndLimit();
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
                 statement.setBoolean(1, true);
                 NetworkActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, date);
-                statement.setInt(10, xMostRecentPlayers);
+                int index = page.setSearchParameter(statement, 10);
+                page.setLimitParameters(statement, index);
             }
 
             @Override
@@ -0,0 +1,167 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.objects.playertable;
+
+import com.djrapitops.plan.storage.database.sql.tables.GeoInfoTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.utilities.dev.Untrusted;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.ORDER_BY;
+
+/**
+ * Describes a page of the players table: which rows to show, in what order and filtered by what name.
+ * <p>
+ * Sorting is only allowed by columns in {@link SortBy} so that untrusted input is never placed into SQL.
+ *
+ * @author AuroraLS3
+ */
+public class PlayersTablePage {
+
+    private final int offset;
+    private final int limit;
+    private final SortBy sortBy;
+    private final boolean ascending;
+    @Untrusted
+    private final String search;
+
+    public PlayersTablePage(int offset, int limit, SortBy sortBy, boolean ascending, @Untrusted String search) {
+        if (offset < 0) throw new IllegalArgumentException("Offset can not be negative: " + offset);
+        if (limit < 0) throw new IllegalArgumentException("Limit can not be negative: " + limit);
+        this.offset = offset;
+        this.limit = limit;
+        this.sortBy = Objects.requireNonNull(sortBy, "sortBy");
+        this.ascending = ascending;
+        this.search = search == null || search.isBlank() ? null : search;
+    }
+
+    /**
+     * Page with the most recently seen players first, used when no paging is requested.
+     *
+     * @param xMostRecentPlayers How many players to include.
+     * @return The first page of players sorted by last seen date.
+     */
+    public static PlayersTablePage mostRecentlySeen(int xMostRecentPlayers) {
+        return new PlayersTablePage(0, xMostRecentPlayers, SortBy.LAST_SEEN, false, null);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public SortBy getSortBy() {
+        return sortBy;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public Optional<String> getSearch() {
+        return Optional.ofNullable(search);
+    }
+
+    /**
+     * Get the condition for matching players by name, without WHERE or AND keyword.
+     *
+     * @return SQL condition with one parameter, or empty if there is no search.
+     */
+    String searchCondition() {
+        return search != null ? "LOWER(u." + UsersTable.USER_NAME + ") LIKE LOWER(?)" : "";
+    }
+
+    String orderAndLimit() {
+        return ORDER_BY + sortBy.column + (ascending ? " ASC" : " DESC") +
+                ",u." + UsersTable.ID + " ASC" + // Stable order between pages
+                " LIMIT ? OFFSET ?";
+    }
+
+    int setSearchParameter(PreparedStatement statement, int index) throws SQLException {
+        if (search == null) return index;
+        statement.setString(index, '%' + search + '%');
+        return index + 1;
+    }
+
+    void setLimitParameters(PreparedStatement statement, int index) throws SQLException {
+        statement.setInt(index, limit);
+        statement.setInt(index + 1, offset);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlayersTablePage that = (PlayersTablePage) o;
+        return offset == that.offset && limit == that.limit && ascending == that.ascending && sortBy == that.sortBy && Objects.equals(search, that.search);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, sortBy, ascending, search);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayersTablePage{" +
+                "offset=" + offset +
+                ", limit=" + limit +
+                ", sortBy=" + sortBy +
+                ", ascending=" + ascending +
+                ", search='" + search + '\'' +
+                '}';
+    }
+
+    /**
+     * Columns of the players table that can be sorted in the database.
+     */
+    public enum SortBy {
+        NAME("name", "u." + UsersTable.USER_NAME),
+        ACTIVITY_INDEX("index", "act.activity_index"),
+        ACTIVE_PLAYTIME("activePlaytime", "ses.active_playtime"),
+        SESSIONS("sessions", "ses.count"),
+        REGISTERED("registered", "u." + UsersTable.REGISTERED),
+        LAST_SEEN("seen", "ses.last_seen"),
+        GEOLOCATION("geolocation", "geo." + GeoInfoTable.GEOLOCATION);
+
+        private final String name;
+        private final String column;
+
+        SortBy(String name, String column) {
+            this.name = name;
+            this.column = column;
+        }
+
+        public static Optional<SortBy> fromName(@Untrusted String name) {
+            return Arrays.stream(values())
+                    .filter(sortBy -> sortBy.name.equalsIgnoreCase(name))
+                    .findFirst();
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
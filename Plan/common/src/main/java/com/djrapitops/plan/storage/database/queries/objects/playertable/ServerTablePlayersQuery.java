@@ -44,7 +44,7 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
     private final ServerUUID serverUUID;
     private final long date;
     private final long activeMsThreshold;
-    private final int xMostRecentPlayers;
+    private final PlayersTablePage page;
 
     /**
      * Create a new query.
@@ -55,10 +55,50 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
      * @param xMostRecentPlayers Limit query size
      */
     public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, int xMostRecentPlayers) {
+        this(serverUUID, date, activeMsThreshold, PlayersTablePage.mostRecentlySeen(xMostRecentPlayers));
+    }
+
+    /**
+     * Create a new query for a page of the table.
+     *
+     * @param serverUUID        UUID of the Plan server.
+     * @param date              Date used for Activity Index calculation
+     * @param activeMsThreshold Playtime threshold for Activity Index calculation
+     * @param page              Which players to include and in which order
+     */
+    public ServerTablePlayersQuery(ServerUUID serverUUID, long date, long activeMsThreshold, PlayersTablePage page) {
         this.serverUUID = serverUUID;
         this.date = date;
         this.activeMsThreshold = activeMsThreshold;
-        this.xMostRecentPlayers = xMostRecentPlayers;
+        this.page = page;
+    }
+
+    /**
+     * Count how many players the table would have across all pages.
+     *
+     * @param serverUUID UUID of the Plan server.
+     * @param page       Page, of which only the search is used.
+     * @return Query for number of players registered on the server matching the search.
+     */
+    public static Query<Integer> countPlayers(ServerUUID serverUUID, PlayersTablePage page) {
+        String sql = SELECT + "COUNT(1) as player_count" +
+                FROM + UsersTable.TABLE_NAME + " u" +
+                INNER_JOIN + UserInfoTable.TABLE_NAME + " on u." + UsersTable.ID + "=" + UserInfoTable.TABLE_NAME + '.' + UserInfoTable.USER_ID +
+                WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
+                (page.getSearch().isPresent() ? AND + page.searchCondition() : "");
+
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                page.setSearchParameter(statement, 2);
+            }
+
+            @Override
+            public Integer processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getInt("player_count") : 0;
+            }
+        };
     }
 
     @Override
@@ -97,7 +137,8 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 LEFT_JOIN + '(' + selectSessionData + ") ses on ses." + SessionsTable.USER_ID + "=u." + UsersTable.ID +
                 LEFT_JOIN + '(' + ActivityIndexQueries.selectActivityIndexSQL() + ") act on u." + UsersTable.ID + "=act." + UserInfoTable.USER_ID +
                 WHERE + UserInfoTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID +
-                ORDER_BY + "ses.last_seen DESC LIMIT ?";
+                (page.getSearch().isPresent() ? AND + page.searchCondition() : "") +
+                page.orderAndLimit();
 
         return db.query(new QueryStatement<>(selectBaseUsers, 1000) {
             @Override
@@ -105,7 +146,8 @@ public class ServerTablePlayersQuery implements Query<List<TablePlayer>> {
                 statement.setString(1, serverUUID.toString()); // Session query
                 ActivityIndexQueries.setSelectActivityIndexSQLParameters(statement, 2, activeMsThreshold, serverUUID, date);
                 statement.setString(13, serverUUID.toString()); // Session query
-                statement.setInt(14, xMostRecentPlayers);
+                int index = page.setSearchParameter(statement, 14);
+                page.setLimitParameters(statement, index);
             }
 
             @Override
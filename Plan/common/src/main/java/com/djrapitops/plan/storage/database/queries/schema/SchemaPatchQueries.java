@@ -0,0 +1,61 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.schema;
+
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.sql.tables.SchemaPatchTable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.FROM;
+import static com.djrapitops.plan.storage.database.sql.building.Sql.SELECT;
+
+/**
+ * Static method class for queries on the applied schema patches ledger.
+ *
+ * @author AuroraLS3
+ */
+public class SchemaPatchQueries {
+
+    private SchemaPatchQueries() {
+        /* Static method class */
+    }
+
+    /**
+     * Fetch names of everything recorded in the ledger.
+     *
+     * @return Patch names and index ledger names.
+     * @see com.djrapitops.plan.storage.database.sql.tables.SchemaPatchTable
+     */
+    public static Query<Set<String>> fetchAppliedPatchNames() {
+        String sql = SELECT + SchemaPatchTable.PATCH_NAME + FROM + SchemaPatchTable.TABLE_NAME;
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Set<String> processResults(ResultSet set) throws SQLException {
+                Set<String> names = new HashSet<>();
+                while (set.next()) {
+                    names.add(set.getString(SchemaPatchTable.PATCH_NAME));
+                }
+                return names;
+            }
+        };
+    }
+}
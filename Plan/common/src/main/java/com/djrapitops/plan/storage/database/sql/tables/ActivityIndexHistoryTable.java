@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+/**
+ * Table information about 'plan_activity_index_history'.
+ * <p>
+ * Holds daily snapshots of activity index group sizes so that activity graphs do not need to
+ * recalculate the activity index of every player for every point in the graph.
+ * Rows with null server_id are network-wide snapshots.
+ *
+ * @author AuroraLS3
+ */
+public class ActivityIndexHistoryTable {
+
+    public static final String TABLE_NAME = "plan_activity_index_history";
+
+    public static final String ID = "id";
+    public static final String SERVER_ID = "server_id";
+    public static final String DATE = "date";
+    public static final String THRESHOLD = "playtime_threshold";
+    public static final String ACTIVITY_GROUP = "activity_group";
+    public static final String PLAYER_COUNT = "player_count";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + SERVER_ID + ','
+            + DATE + ','
+            + THRESHOLD + ','
+            + ACTIVITY_GROUP + ','
+            + PLAYER_COUNT
+            + ") VALUES (" + ServerTable.SELECT_SERVER_ID + ", ?, ?, ?, ?)";
+
+    public static final String INSERT_NETWORK_STATEMENT = "INSERT INTO " + TABLE_NAME + " ("
+            + DATE + ','
+            + THRESHOLD + ','
+            + ACTIVITY_GROUP + ','
+            + PLAYER_COUNT
+            + ") VALUES (?, ?, ?, ?)";
+
+    private ActivityIndexHistoryTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_ID, Sql.INT)
+                .column(DATE, Sql.LONG).notNull()
+                .column(THRESHOLD, Sql.LONG).notNull()
+                .column(ACTIVITY_GROUP, Sql.varchar(50)).notNull()
+                .column(PLAYER_COUNT, Sql.INT).notNull()
+                .foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
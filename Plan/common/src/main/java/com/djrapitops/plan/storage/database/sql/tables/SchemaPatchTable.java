@@ -0,0 +1,54 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+/**
+ * Table information about 'plan_schema_patches'.
+ * <p>
+ * Ledger of applied schema patches and created indexes, so that they do not need to be checked on every enable.
+ *
+ * @author AuroraLS3
+ */
+public class SchemaPatchTable {
+
+    public static final String TABLE_NAME = "plan_schema_patches";
+
+    public static final String ID = "id";
+    public static final String PATCH_NAME = "patch_name";
+    public static final String APPLIED_AT = "applied_at";
+
+    public static final String INSERT_STATEMENT = "INSERT INTO " + TABLE_NAME + " (" +
+            PATCH_NAME + ',' +
+            APPLIED_AT +
+            ") VALUES (?, ?)";
+
+    private SchemaPatchTable() {
+        /* Static information class */
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        return CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(PATCH_NAME, Sql.varchar(100)).notNull().unique()
+                .column(APPLIED_AT, Sql.LONG).notNull()
+                .toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.sql.tables;
+
+import com.djrapitops.plan.storage.database.DBType;
+import com.djrapitops.plan.storage.database.sql.building.CreateTableBuilder;
+import com.djrapitops.plan.storage.database.sql.building.Sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table information about 'plan_tps_rollup'.
+ * <p>
+ * Contains min, average and max values of {@link TPSTable} rows downsampled into hourly and daily buckets,
+ * so that they remain available after the per-minute rows are removed.
+ *
+ * @author AuroraLS3
+ */
+public class TPSRollupTable {
+
+    public static final String TABLE_NAME = "plan_tps_rollup";
+
+    public static final long HOURLY = TimeUnit.HOURS.toMillis(1L);
+    public static final long DAILY = TimeUnit.DAYS.toMillis(1L);
+
+    public static final String ID = "id";
+    public static final String SERVER_ID = "server_id";
+    public static final String RESOLUTION = "resolution";
+    public static final String DATE = "date";
+    public static final String SAMPLES = "samples";
+
+    /**
+     * Columns of {@link TPSTable} that are rolled up, each has a min_, avg_ and max_ column in this table.
+     */
+    public static final List<String> ROLLED_UP_COLUMNS = List.of(
+            TPSTable.TPS,
+            TPSTable.PLAYERS_ONLINE,
+            TPSTable.CPU_USAGE,
+            TPSTable.RAM_USAGE,
+            TPSTable.ENTITIES,
+            TPSTable.CHUNKS,
+            TPSTable.FREE_DISK
+    );
+
+    private TPSRollupTable() {
+        /* Static information class */
+    }
+
+    public static String minOf(String column) {
+        return "min_" + column;
+    }
+
+    public static String avgOf(String column) {
+        return "avg_" + column;
+    }
+
+    public static String maxOf(String column) {
+        return "max_" + column;
+    }
+
+    private static String typeOf(String column) {
+        switch (column) {
+            case TPSTable.TPS:
+            case TPSTable.CPU_USAGE:
+                return Sql.DOUBLE;
+            case TPSTable.RAM_USAGE:
+            case TPSTable.FREE_DISK:
+                return Sql.LONG;
+            default:
+                return Sql.INT;
+        }
+    }
+
+    public static String createTableSQL(DBType dbType) {
+        CreateTableBuilder builder = CreateTableBuilder.create(TABLE_NAME, dbType)
+                .column(ID, Sql.INT).primaryKey()
+                .column(SERVER_ID, Sql.INT).notNull()
+                .column(RESOLUTION, Sql.LONG).notNull()
+                .column(DATE, Sql.LONG).notNull()
+                .column(SAMPLES, Sql.INT).notNull();
+        for (String column : ROLLED_UP_COLUMNS) {
+            String type = typeOf(column);
+            builder = builder.column(minOf(column), type).notNull()
+                    .column(avgOf(column), Sql.DOUBLE).notNull()
+                    .column(maxOf(column), type).notNull();
+        }
+        return builder.foreignKey(SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID)
+                .toString();
+    }
+}
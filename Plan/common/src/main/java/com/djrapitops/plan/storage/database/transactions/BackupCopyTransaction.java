@@ -16,28 +16,87 @@
  */
 package com.djrapitops.plan.storage.database.transactions;
 
+import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
-import com.djrapitops.plan.storage.database.queries.LargeFetchQueries;
-import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.queries.Query;
-import com.djrapitops.plan.storage.database.queries.objects.*;
+import com.djrapitops.plan.storage.database.queries.QueryAllStatement;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import org.apache.commons.text.TextStringBuilder;
 
-import java.util.function.Function;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 
 /**
  * Transaction that performs a clear + copy operation to duplicate a source database in the current one.
+ * <p>
+ * Tables are copied row by row in chunks ordered by id, and each chunk is committed before the next is read,
+ * so memory use does not depend on the size of the database.
  *
  * @author AuroraLS3
  */
 public class BackupCopyTransaction extends RemoveEverythingTransaction {
 
+    private static final int CHUNK_SIZE = 10000;
+    private static final long PROGRESS_INTERVAL_MS = TimeUnit.SECONDS.toMillis(5L);
+
+    // Tables are copied in this order so that rows referenced by foreign keys exist before the rows referencing them.
+    private static final List<String> COPIED_TABLES = List.of(
+            ServerTable.TABLE_NAME,
+            UsersTable.TABLE_NAME,
+            JoinAddressTable.TABLE_NAME,
+            UserInfoTable.TABLE_NAME,
+            GeoInfoTable.TABLE_NAME,
+            NicknamesTable.TABLE_NAME,
+            SessionsTable.TABLE_NAME,
+            KillsTable.TABLE_NAME,
+            WorldTable.TABLE_NAME,
+            WorldTimesTable.TABLE_NAME,
+            PingTable.TABLE_NAME,
+            PingRollupTable.TABLE_NAME,
+            TPSTable.TABLE_NAME,
+            TPSRollupTable.TABLE_NAME,
+            ServerLifecycleTable.TABLE_NAME,
+            ActivityIndexHistoryTable.TABLE_NAME,
+            WebGroupTable.TABLE_NAME,
+            WebPermissionTable.TABLE_NAME,
+            WebGroupToPermissionTable.TABLE_NAME,
+            SecurityTable.TABLE_NAME
+    );
+
     private final Database sourceDB;
     private final Database destinationDB;
+    private final BiConsumer<Long, Long> progressListener;
+
+    private long totalRows;
+    private long copiedRows;
+    private long lastProgressReport;
 
     public BackupCopyTransaction(Database sourceDB, Database destinationDB) {
+        this(sourceDB, destinationDB, (copied, total) -> {});
+    }
+
+    /**
+     * Create a new copy transaction that reports its progress.
+     *
+     * @param sourceDB         Database to copy from
+     * @param destinationDB    Database to copy to, should be the database this transaction is executed on.
+     * @param progressListener Called with number of copied rows and total number of rows every few seconds.
+     */
+    public BackupCopyTransaction(Database sourceDB, Database destinationDB, BiConsumer<Long, Long> progressListener) {
         this.sourceDB = sourceDB;
         this.destinationDB = destinationDB;
+        this.progressListener = progressListener;
     }
 
     @Override
@@ -49,69 +108,148 @@ public class BackupCopyTransaction extends RemoveEverythingTransaction {
     protected void performOperations() {
         // Clear the database.
         super.performOperations();
-
-        copyPlanServerInformation();
-        copyCommonUserInformation();
-        copyWorldNames();
-        copyTPSData();
-        copyWebGroups();
-        copyPlanWebUsers();
-        copyGeoInformation();
-        copyNicknameData();
-        copySessionsWithKillAndWorldData();
-        copyPerServerUserInformation();
-        copyPingData();
-    }
-
-    private void copyWebGroups() {
-        copy(LargeStoreQueries::storeGroupNames, WebUserQueries.fetchGroupNames());
-        copy(LargeStoreQueries::storePermissions, WebUserQueries.fetchAvailablePermissions());
-        copy(LargeStoreQueries::storeGroupPermissionRelations, WebUserQueries.fetchAllGroupPermissions());
-    }
-
-    private <T> void copy(Function<T, Executable> executableCreator, Query<T> dataQuery) {
-        // Creates a new Executable from the queried data of the source database
-        execute(executableCreator.apply(sourceDB.query(dataQuery)));
-    }
-
-    private void copyPingData() {
-        copy(LargeStoreQueries::storeAllPingData, PingQueries.fetchAllPingData());
-    }
-
-    private void copyGeoInformation() {
-        copy(LargeStoreQueries::storeAllGeoInformation, GeoInfoQueries.fetchAllGeoInformation());
+        // The default join address was stored again after clearing, the source database contains it as well.
+        execute(DELETE_FROM + JoinAddressTable.TABLE_NAME);
+        commitMidTransaction();
+
+        for (String tableName : COPIED_TABLES) {
+            totalRows += sourceDB.query(countRows(tableName));
+        }
+        for (String tableName : COPIED_TABLES) {
+            copyTable(tableName);
+        }
+        progressListener.accept(copiedRows, totalRows);
     }
 
-    private void copyNicknameData() {
-        copy(LargeStoreQueries::storeAllNicknameData, NicknameQueries.fetchAllNicknameData());
+    private void copyTable(String tableName) {
+        List<String> destinationColumns = query(fetchColumnNames(tableName));
+        List<String> columns = new ArrayList<>();
+        for (String column : sourceDB.query(fetchColumnNames(tableName))) {
+            // Source database may have been created with an older schema
+            if (destinationColumns.contains(column)) columns.add(column);
+        }
+        if (columns.isEmpty()) return;
+
+        String columnList = new TextStringBuilder().appendWithSeparators(columns, ",").toString();
+        String insertSql = "INSERT INTO " + tableName + " (" + columnList + ") VALUES (" + nParameters(columns.size()) + ')';
+
+        int idIndex = columns.indexOf(ID);
+        if (idIndex != -1) {
+            copyInChunksById(tableName, columnList, columns.size(), idIndex, insertSql);
+        } else {
+            copyStreaming(tableName, columnList, columns.size(), insertSql);
+        }
     }
 
-    private void copyPlanWebUsers() {
-        copy(LargeStoreQueries::storeAllPlanWebUsers, WebUserQueries.fetchAllUsers());
+    private void copyInChunksById(String tableName, String columnList, int columnCount, int idIndex, String insertSql) {
+        String sql = SELECT + columnList + FROM + tableName +
+                WHERE + ID + ">?" +
+                ORDER_BY + ID +
+                LIMIT + CHUNK_SIZE;
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            List<Object[]> chunk = sourceDB.query(fetchChunkAfterId(sql, lastId, columnCount));
+            if (chunk.isEmpty()) return;
+            writeChunk(insertSql, chunk);
+            if (chunk.size() < CHUNK_SIZE) return;
+            lastId = ((Number) chunk.get(chunk.size() - 1)[idIndex]).longValue();
+        }
     }
 
-    private void copyPlanServerInformation() {
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchUninstalledServerInformation());
-        copy(LargeStoreQueries::storeAllPlanServerInformation, ServerQueries.fetchPlanServerInformationCollection());
+    // Tables created by old versions may not have an id column, they are read with a single streaming query.
+    private void copyStreaming(String tableName, String columnList, int columnCount, String insertSql) {
+        String sql = SELECT + columnList + FROM + tableName;
+        // MySQL drivers only stream results row by row with this fetch size.
+        int fetchSize = sourceDB.getType() == DBType.MYSQL ? Integer.MIN_VALUE : CHUNK_SIZE;
+        sourceDB.query(new QueryAllStatement<Long>(sql, fetchSize) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                long rows = 0;
+                List<Object[]> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (set.next()) {
+                    chunk.add(readRow(set, columnCount));
+                    rows++;
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        writeChunk(insertSql, chunk);
+                        chunk = new ArrayList<>(CHUNK_SIZE);
+                    }
+                }
+                if (!chunk.isEmpty()) writeChunk(insertSql, chunk);
+                return rows;
+            }
+        });
     }
 
-    private void copyTPSData() {
-        copy(LargeStoreQueries::storeAllTPSData, LargeFetchQueries.fetchAllTPSData());
+    private void writeChunk(String insertSql, List<Object[]> chunk) {
+        execute(new ExecBatchStatement(insertSql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                for (Object[] row : chunk) {
+                    for (int i = 0; i < row.length; i++) {
+                        statement.setObject(i + 1, row[i]);
+                    }
+                    statement.addBatch();
+                }
+            }
+        });
+        commitMidTransaction();
+
+        copiedRows += chunk.size();
+        long now = System.currentTimeMillis();
+        if (now - lastProgressReport >= PROGRESS_INTERVAL_MS) {
+            lastProgressReport = now;
+            progressListener.accept(copiedRows, totalRows);
+        }
     }
 
-    private void copyPerServerUserInformation() {
-        copy(LargeStoreQueries::storePerServerUserInformation, UserInfoQueries.fetchAllUserInformation());
+    private static Object[] readRow(ResultSet set, int columnCount) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = set.getObject(i + 1);
+        }
+        return row;
     }
 
-    private void copyWorldNames() {
-        copy(LargeStoreQueries::storeAllWorldNames, LargeFetchQueries.fetchAllWorldNames());
+    private static Query<List<Object[]>> fetchChunkAfterId(String sql, long afterId, int columnCount) {
+        return new QueryStatement<>(sql, CHUNK_SIZE) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, afterId);
+            }
+
+            @Override
+            public List<Object[]> processResults(ResultSet set) throws SQLException {
+                List<Object[]> rows = new ArrayList<>(CHUNK_SIZE);
+                while (set.next()) {
+                    rows.add(readRow(set, columnCount));
+                }
+                return rows;
+            }
+        };
     }
 
-    private void copyCommonUserInformation() {
-        copy(LargeStoreQueries::storeAllCommonUserInformation, BaseUserQueries.fetchAllBaseUsers());
+    private static Query<List<String>> fetchColumnNames(String tableName) {
+        String sql = SELECT + "*" + FROM + tableName + WHERE + "1=0";
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public List<String> processResults(ResultSet set) throws SQLException {
+                ResultSetMetaData metaData = set.getMetaData();
+                List<String> columns = new ArrayList<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    columns.add(metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+                }
+                return columns;
+            }
+        };
     }
 
-    private void copySessionsWithKillAndWorldData() {
-        copy(LargeStoreQueries::storeAllSessionsWithKillAndWorldData, SessionQueries.fetchAllSessions());
+    private static Query<Long> countRows(String tableName) {
+        String sql = SELECT + "COUNT(1) as c" + FROM + tableName;
+        return new QueryAllStatement<>(sql) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                return set.next() ? set.getLong("c") : 0L;
+            }
+        };
     }
-}
\ No newline at end of file
+}
@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions;
 
 import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.storage.database.IdentifierCache;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -42,6 +43,7 @@ public class StoreServerInformationTransaction extends Transaction {
         if (!execute(updateServerInformation())) {
             execute(insertServerInformation());
         }
+        invalidateIdentifiersOnCommit(IdentifierCache::invalidateServers);
     }
 
     private Executable updateServerInformation() {
@@ -21,6 +21,7 @@ import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.locale.lang.PluginLang;
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.IdentifierCache;
 import com.djrapitops.plan.storage.database.SQLDB;
 import com.djrapitops.plan.storage.database.queries.Query;
 import com.djrapitops.plan.storage.database.queries.QueryAPIQuery;
@@ -32,8 +33,11 @@ import com.djrapitops.plan.utilities.logging.ErrorContext;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Represents a database transaction.
@@ -52,6 +56,7 @@ public abstract class Transaction {
 
     private Connection connection;
     private Savepoint savepoint;
+    private List<Consumer<IdentifierCache>> identifierInvalidations = new ArrayList<>();
 
     protected boolean success;
     protected int attempts;
@@ -69,6 +74,7 @@ public abstract class Transaction {
         this.dbType = db.getType();
 
         attempts++; // Keeps track how many attempts have been made to avoid infinite recursion.
+        identifierInvalidations.clear();
 
         if (db.isUnderHeavyLoad()) {
             try {
@@ -88,6 +94,7 @@ public abstract class Transaction {
                 }
                 performOperations();
                 if (connection != null) connection.commit();
+                invalidateIdentifiers();
             }
             success = true;
         } catch (SQLException statementFail) {
@@ -151,6 +158,7 @@ public abstract class Transaction {
     protected void commitMidTransaction() {
         try {
             connection.commit();
+            invalidateIdentifiers();
             initializeTransaction();
         } catch (SQLException e) {
             manageFailure(e);
@@ -249,17 +257,39 @@ public abstract class Transaction {
     }
 
     protected void executeOther(Transaction transaction) {
+        List<Consumer<IdentifierCache>> ownInvalidations = transaction.identifierInvalidations;
         transaction.db = db;
         transaction.dbType = dbType;
         transaction.connection = this.connection;
+        transaction.identifierInvalidations = identifierInvalidations;
         if (transaction.shouldBeExecuted()) {
             transaction.performOperations();
         }
+        transaction.identifierInvalidations = ownInvalidations;
         transaction.connection = null;
         transaction.dbType = null;
         transaction.db = null;
     }
 
+    /**
+     * Invalidate cached identifiers after this transaction has been committed.
+     * <p>
+     * Invalidating after the commit prevents concurrent queries from caching the values that are being changed.
+     *
+     * @param invalidation Invalidation to perform, eg. {@code cache -> cache.invalidatePlayer(playerUUID)}
+     */
+    protected void invalidateIdentifiersOnCommit(Consumer<IdentifierCache> invalidation) {
+        identifierInvalidations.add(invalidation);
+    }
+
+    private void invalidateIdentifiers() {
+        if (identifierInvalidations.isEmpty()) return;
+        IdentifierCache identifierCache = db.getIdentifierCache();
+        for (Consumer<IdentifierCache> invalidation : identifierInvalidations) {
+            invalidation.accept(identifierCache);
+        }
+    }
+
     protected Database.State getDBState() {
         return db.getState();
     }
@@ -281,6 +311,19 @@ public abstract class Transaction {
         return !db.isUnderHeavyLoad() && !db.shouldDropUnimportantTransactions();
     }
 
+    /**
+     * Key used to determine which transactions need to be executed in order relative to each other.
+     * <p>
+     * When the database executes transactions in parallel, transactions with equal keys are executed in the order
+     * they were submitted. Transactions without a key are executed in order with each other.
+     * Override in transactions that only affect data of a single player or server.
+     *
+     * @return Key such as player UUID or ServerUUID, or null if the transaction should be kept in the default order.
+     */
+    public Object getOrderingKey() {
+        return null;
+    }
+
     public String getName() {
         String simpleName = getClass().getSimpleName();
         return simpleName.isEmpty() ? getClass().getName() : simpleName;
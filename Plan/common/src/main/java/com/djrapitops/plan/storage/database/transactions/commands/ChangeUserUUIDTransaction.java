@@ -42,8 +42,17 @@ public class ChangeUserUUIDTransaction extends Transaction {
         this.newUUID = newUUID;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return oldUUID;
+    }
+
     @Override
     protected void performOperations() {
+        invalidateIdentifiersOnCommit(cache -> {
+            cache.invalidatePlayer(oldUUID);
+            cache.invalidatePlayer(newUUID);
+        });
         execute(updateUUID(ExtensionGroupsTable.TABLE_NAME, ExtensionGroupsTable.USER_UUID));
         execute(updateUUID(ExtensionPlayerTableValueTable.TABLE_NAME, ExtensionPlayerTableValueTable.USER_UUID));
         execute(updateUUID(NicknamesTable.TABLE_NAME, NicknamesTable.USER_UUID));
@@ -50,6 +50,7 @@ public class CombineUserTransaction extends ChangeUserUUIDTransaction {
 
         execute(updateUserId(GeoInfoTable.TABLE_NAME, GeoInfoTable.USER_ID, oldId, newId));
         execute(updateUserId(PingTable.TABLE_NAME, PingTable.USER_ID, oldId, newId));
+        execute(updateUserId(PingRollupTable.TABLE_NAME, PingRollupTable.USER_ID, oldId, newId));
         execute(updateUserId(SessionsTable.TABLE_NAME, SessionsTable.USER_ID, oldId, newId));
         execute(updateUserId(WorldTimesTable.TABLE_NAME, WorldTimesTable.USER_ID, oldId, newId));
 
@@ -40,6 +40,11 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         this.playerUUID = playerUUID;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return playerUUID != null;
@@ -55,8 +60,10 @@ public class RemovePlayerTransaction extends ThrowawayTransaction {
         deleteFromUserIdTable(WorldTimesTable.TABLE_NAME);
         deleteFromUserIdTable(SessionsTable.TABLE_NAME);
         deleteFromUserIdTable(PingTable.TABLE_NAME);
+        deleteFromUserIdTable(PingRollupTable.TABLE_NAME);
         deleteFromUserIdTable(UserInfoTable.TABLE_NAME);
         deleteFromTable(UsersTable.TABLE_NAME);
+        invalidateIdentifiersOnCommit(cache -> cache.invalidatePlayer(playerUUID));
 
         deleteFromTable(ExtensionPlayerTableValueTable.TABLE_NAME);
         deleteFromTable(ExtensionPlayerValueTable.TABLE_NAME);
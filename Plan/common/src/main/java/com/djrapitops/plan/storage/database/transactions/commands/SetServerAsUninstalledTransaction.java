@@ -17,6 +17,7 @@
 package com.djrapitops.plan.storage.database.transactions.commands;
 
 import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.IdentifierCache;
 import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.Executable;
@@ -43,6 +44,7 @@ public class SetServerAsUninstalledTransaction extends ThrowawayTransaction {
     @Override
     protected void performOperations() {
         execute(updateServerAsUninstalled());
+        invalidateIdentifiersOnCommit(IdentifierCache::invalidateServers);
     }
 
     private Executable updateServerAsUninstalled() {
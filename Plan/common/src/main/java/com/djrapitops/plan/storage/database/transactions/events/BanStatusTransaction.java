@@ -51,6 +51,11 @@ public class BanStatusTransaction extends Transaction {
         this.banStatus = banStatus;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateBanStatus());
@@ -39,6 +39,11 @@ public class KickStoreTransaction extends ThrowawayTransaction {
         this.playerUUID = playerUUID;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         String sql = "UPDATE " + UsersTable.TABLE_NAME + " SET "
@@ -46,6 +46,11 @@ public class OperatorStatusTransaction extends ThrowawayTransaction {
         this.operatorStatus = operatorStatus;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         execute(updateOperatorStatus());
@@ -0,0 +1,82 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
+import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.util.*;
+
+/**
+ * Transaction to store aggregate Ping values of multiple players in a single batch.
+ * <p>
+ * All players are registered with one lookup before the ping is stored.
+ *
+ * @author AuroraLS3
+ */
+public class PingBatchStoreTransaction extends Transaction {
+
+    private final Map<UUID, List<Ping>> pingsOfPlayers;
+
+    public PingBatchStoreTransaction(Map<UUID, List<Ping>> pingsOfPlayers) {
+        this.pingsOfPlayers = pingsOfPlayers;
+    }
+
+    /**
+     * Combine multiple {@link PingStoreTransaction}s into one.
+     *
+     * @param transactions Transactions to combine.
+     * @return New transaction that stores all the ping values.
+     */
+    public static PingBatchStoreTransaction combine(List<PingStoreTransaction> transactions) {
+        Map<UUID, List<Ping>> pingsOfPlayers = new HashMap<>();
+        for (PingStoreTransaction transaction : transactions) {
+            pingsOfPlayers.computeIfAbsent(transaction.getPlayerUUID(), key -> new ArrayList<>())
+                    .add(transaction.calculateAggregatePing());
+        }
+        return new PingBatchStoreTransaction(pingsOfPlayers);
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !pingsOfPlayers.isEmpty();
+    }
+
+    @Override
+    protected void performOperations() {
+        ensureAllPlayersAreRegistered();
+
+        execute(LargeStoreQueries.storeAllPingData(pingsOfPlayers));
+    }
+
+    private void ensureAllPlayersAreRegistered() {
+        // Registration of a joining player can still be queued in the player's lane when the ping is stored.
+        Set<UUID> existingUUIDs = query(BaseUserQueries.fetchExistingUUIDs(pingsOfPlayers.keySet()));
+
+        for (Map.Entry<UUID, List<Ping>> entry : pingsOfPlayers.entrySet()) {
+            UUID playerUUID = entry.getKey();
+            if (existingUUIDs.contains(playerUUID)) continue;
+
+            long registerDate = entry.getValue().stream()
+                    .mapToLong(Ping::getDate)
+                    .min().orElseGet(System::currentTimeMillis);
+            executeOther(new PlayerRegisterTransaction(playerUUID, () -> registerDate, playerUUID.toString()));
+        }
+    }
+}
@@ -17,21 +17,21 @@
 package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.delivery.domain.DateObj;
-import com.djrapitops.plan.exceptions.database.DBOpException;
 import com.djrapitops.plan.gathering.domain.Ping;
 import com.djrapitops.plan.identification.ServerUUID;
-import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
-import com.djrapitops.plan.storage.database.queries.PlayerFetchQueries;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.utilities.Predicates;
 import com.djrapitops.plan.utilities.analysis.Median;
 import com.djrapitops.plan.utilities.java.Lists;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Transaction to store player's Ping value on a server.
+ * <p>
+ * The aggregate is stored with {@link PingBatchStoreTransaction}, which also registers the player if necessary.
  *
  * @author AuroraLS3
  */
@@ -48,48 +48,22 @@ public class PingStoreTransaction extends Transaction {
     }
 
     @Override
-    protected void performOperations() {
-        Ping ping = calculateAggregatePing();
-
-        DBOpException userInsertError = null;
-        if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(playerUUID)))) {
-            userInsertError = tryToRegisterUser(ping.getDate());
-        }
-
-        try {
-            execute(DataStoreQueries.storePing(playerUUID, serverUUID, ping));
-        } catch (DBOpException failed) {
-            if (userInsertError != null) failed.addSuppressed(userInsertError);
-            if (failed.isUserIdConstraintViolation()) {
-                retry(ping, failed);
-            } else {
-                throw failed;
-            }
-        }
+    public Object getOrderingKey() {
+        return playerUUID;
     }
 
-    private void retry(Ping ping, DBOpException failed) {
-        DBOpException userInsertError = null;
-        try {
-            userInsertError = tryToRegisterUser(ping.getDate());
-            execute(DataStoreQueries.storePing(playerUUID, serverUUID, ping));
-        } catch (DBOpException failedAgain) {
-            if (userInsertError != null) failedAgain.addSuppressed(userInsertError);
-            failedAgain.addSuppressed(failed);
-            throw failedAgain;
-        }
+    @Override
+    protected void performOperations() {
+        executeOther(new PingBatchStoreTransaction(
+                Collections.singletonMap(playerUUID, Collections.singletonList(calculateAggregatePing()))
+        ));
     }
 
-    private DBOpException tryToRegisterUser(long date) {
-        try {
-            execute(DataStoreQueries.registerBaseUser(playerUUID, date, playerUUID.toString()));
-            return null;
-        } catch (DBOpException failedInsert) {
-            return failedInsert;
-        }
+    UUID getPlayerUUID() {
+        return playerUUID;
     }
 
-    private Ping calculateAggregatePing() {
+    Ping calculateAggregatePing() {
         long lastDate = pingList.get(pingList.size() - 1).getDate();
 
         int minValue = getMinValue();
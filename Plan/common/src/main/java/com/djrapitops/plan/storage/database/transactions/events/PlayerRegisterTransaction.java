@@ -45,6 +45,11 @@ public class PlayerRegisterTransaction extends Transaction {
         this.playerName = playerName;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return playerUUID != null && playerName != null;
@@ -59,6 +64,7 @@ public class PlayerRegisterTransaction extends Transaction {
         }
         if (!playerUUID.toString().equals(playerName)) {
             execute(DataStoreQueries.updatePlayerName(playerUUID, playerName));
+            invalidateIdentifiersOnCommit(cache -> cache.invalidatePlayer(playerUUID));
         }
     }
 
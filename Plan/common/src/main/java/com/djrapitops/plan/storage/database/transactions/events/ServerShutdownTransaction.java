@@ -18,27 +18,39 @@ package com.djrapitops.plan.storage.database.transactions.events;
 
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
 import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
 
 import java.util.Collection;
 
 /**
- * Transaction to store sessions on server shutdown.
+ * Transaction to store sessions and the stop event on server shutdown.
  *
  * @author AuroraLS3
  */
 public class ServerShutdownTransaction extends ThrowawayTransaction {
 
+    private final ServerUUID serverUUID;
     private final Collection<FinishedSession> unsavedSessions;
+    private final long stopTime;
 
-    public ServerShutdownTransaction(Collection<FinishedSession> unsavedSessions) {
+    public ServerShutdownTransaction(ServerUUID serverUUID, Collection<FinishedSession> unsavedSessions, long stopTime) {
+        this.serverUUID = serverUUID;
         this.unsavedSessions = unsavedSessions;
+        this.stopTime = stopTime;
+    }
+
+    public ServerShutdownTransaction(Collection<FinishedSession> unsavedSessions) {
+        this(null, unsavedSessions, System.currentTimeMillis());
     }
 
     @Override
     protected void performOperations() {
         execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(unsavedSessions));
         SessionCache.clear();
+        if (serverUUID != null) {
+            executeOther(StoreServerLifecycleEventTransaction.stopped(serverUUID, stopTime));
+        }
     }
 }
\ No newline at end of file
@@ -16,68 +16,13 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
-import com.djrapitops.plan.delivery.domain.PlayerName;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
-import com.djrapitops.plan.gathering.domain.PlayerKill;
-import com.djrapitops.plan.gathering.domain.PlayerKills;
-import com.djrapitops.plan.storage.database.queries.LargeStoreQueries;
-import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
-import com.djrapitops.plan.storage.database.transactions.Transaction;
 
-import java.util.*;
-import java.util.function.LongSupplier;
+import java.util.List;
 
-public class ShutdownDataPreservationTransaction extends Transaction {
-
-    private final List<FinishedSession> finishedSessions;
+public class ShutdownDataPreservationTransaction extends StoreSessionBatchTransaction {
 
     public ShutdownDataPreservationTransaction(List<FinishedSession> finishedSessions) {
-        this.finishedSessions = finishedSessions;
-    }
-
-    @Override
-    protected void performOperations() {
-        ensureAllPlayersAreRegistered();
-
-        execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(finishedSessions));
-    }
-
-    private void ensureAllPlayersAreRegistered() {
-        Set<UUID> playerUUIDs = new HashSet<>();
-        Map<UUID, String> playerNames = new HashMap<>();
-        Map<UUID, Long> earliestDates = new HashMap<>();
-        for (FinishedSession finishedSession : finishedSessions) {
-            UUID playerUUID = finishedSession.getPlayerUUID();
-            playerUUIDs.add(playerUUID);
-            finishedSession.getExtraData(PlayerKills.class)
-                    .map(PlayerKills::asList)
-                    .ifPresent(kills -> {
-                        for (PlayerKill kill : kills) {
-                            playerUUIDs.add(kill.getKiller().getUuid());
-                            playerUUIDs.add(kill.getVictim().getUuid());
-                        }
-                    });
-
-            finishedSession.getExtraData(PlayerName.class)
-                    .map(PlayerName::get)
-                    .ifPresent(playerName -> playerNames.put(playerUUID, playerName));
-            long start = finishedSession.getStart();
-            Long previous = earliestDates.get(playerUUID);
-            if (previous == null || start < previous) {
-                earliestDates.put(playerUUID, start);
-            }
-        }
-
-        Set<UUID> existingUUIDs = query(BaseUserQueries.fetchExistingUUIDs(playerUUIDs));
-
-        for (UUID playerUUID : playerUUIDs) {
-            if (!existingUUIDs.contains(playerUUID)) {
-                LongSupplier registerDate = () -> Optional.ofNullable(earliestDates.get(playerUUID))
-                        .orElseGet(System::currentTimeMillis);
-                String playerName = Optional.ofNullable(playerNames.get(playerUUID))
-                        .orElseGet(playerUUID::toString);
-                executeOther(new PlayerRegisterTransaction(playerUUID, registerDate, playerName));
-            }
-        }
+        super(finishedSessions);
     }
 }
@@ -0,0 +1,111 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.sql.tables.ActivityIndexHistoryTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction to store a snapshot of activity index groupings on a date.
+ * <p>
+ * Previous snapshot of the same date and threshold is replaced.
+ *
+ * @author AuroraLS3
+ */
+public class StoreActivityIndexSnapshotTransaction extends Transaction {
+
+    private final ServerUUID serverUUID;
+    private final long date;
+    private final long threshold;
+    private final Map<String, Integer> groups;
+
+    /**
+     * Create the transaction.
+     *
+     * @param serverUUID UUID of the server, or null for a network-wide snapshot.
+     * @param date       Snapshot date.
+     * @param threshold  Playtime threshold used to calculate the groupings.
+     * @param groups     Map: Activity group - Player count.
+     */
+    public StoreActivityIndexSnapshotTransaction(ServerUUID serverUUID, long date, long threshold, Map<String, Integer> groups) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+        this.threshold = threshold;
+        this.groups = groups;
+    }
+
+    @Override
+    public Object getOrderingKey() {
+        return serverUUID;
+    }
+
+    @Override
+    protected void performOperations() {
+        deletePreviousSnapshot();
+        storeSnapshot();
+    }
+
+    private void deletePreviousSnapshot() {
+        String sql = DELETE_FROM + ActivityIndexHistoryTable.TABLE_NAME +
+                WHERE + ActivityIndexHistoryTable.DATE + "=?" +
+                AND + ActivityIndexHistoryTable.THRESHOLD + "=?" +
+                AND + (serverUUID != null
+                ? ActivityIndexHistoryTable.SERVER_ID + "=" + ServerTable.SELECT_SERVER_ID
+                : ActivityIndexHistoryTable.SERVER_ID + IS_NULL);
+
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, date);
+                statement.setLong(2, threshold);
+                if (serverUUID != null) statement.setString(3, serverUUID.toString());
+            }
+        });
+    }
+
+    private void storeSnapshot() {
+        String sql = serverUUID != null ? ActivityIndexHistoryTable.INSERT_STATEMENT
+                : ActivityIndexHistoryTable.INSERT_NETWORK_STATEMENT;
+
+        execute(new ExecBatchStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                // All groups are stored so that a snapshot with no players in a group is still found.
+                for (String group : ActivityIndex.getDefaultGroups()) {
+                    int index = 1;
+                    if (serverUUID != null) statement.setString(index++, serverUUID.toString());
+                    statement.setLong(index++, date);
+                    statement.setLong(index++, threshold);
+                    statement.setString(index++, group);
+                    statement.setInt(index, groups.getOrDefault(group, 0));
+                    statement.addBatch();
+                }
+            }
+        });
+    }
+}
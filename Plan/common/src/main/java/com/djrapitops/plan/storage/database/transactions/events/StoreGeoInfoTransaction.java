@@ -70,6 +70,11 @@ public class StoreGeoInfoTransaction extends Transaction {
         return new GeoInfo(country, time);
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected void performOperations() {
         if (geoInfo == null) geoInfo = createGeoInfo();
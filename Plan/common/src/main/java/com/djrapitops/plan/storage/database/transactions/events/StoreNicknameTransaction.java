@@ -40,6 +40,11 @@ public class StoreNicknameTransaction extends ThrowawayTransaction {
         this.isNicknameCachedCheck = isNicknameCachedCheck;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return playerUUID;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
         return !isNicknameCachedCheck.test(playerUUID, nickname.getName());
@@ -16,54 +16,52 @@
  */
 package com.djrapitops.plan.storage.database.transactions.events;
 
-import com.djrapitops.plan.delivery.web.resolver.Response;
-import com.djrapitops.plan.delivery.web.resolver.request.Request;
-import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
-import com.djrapitops.plan.delivery.webserver.http.InternalRequest;
+import com.djrapitops.plan.delivery.webserver.http.AccessLogEntry;
 import com.djrapitops.plan.storage.database.sql.tables.AccessLogTable;
-import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
-import org.apache.commons.lang3.StringUtils;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collection;
 
+/**
+ * Transaction to store a batch of requests to the access log.
+ *
+ * @author AuroraLS3
+ */
 public class StoreRequestTransaction extends Transaction {
 
-    private final WebserverConfiguration webserverConfiguration;
+    private final Collection<AccessLogEntry> entries;
 
-    private final InternalRequest internalRequest;
-    private final Request request; // can be null
-    private final Response response;
+    public StoreRequestTransaction(Collection<AccessLogEntry> entries) {
+        this.entries = entries;
+    }
 
-    public StoreRequestTransaction(WebserverConfiguration webserverConfiguration, InternalRequest internalRequest, Request request, Response response) {
-        this.webserverConfiguration = webserverConfiguration;
-        this.internalRequest = internalRequest;
-        this.request = request;
-        this.response = response;
+    @Override
+    public Object getOrderingKey() {
+        return AccessLogTable.TABLE_NAME;
+    }
+
+    @Override
+    protected boolean shouldBeExecuted() {
+        return !entries.isEmpty();
     }
 
     @Override
     protected void performOperations() {
-        execute(new ExecStatement(AccessLogTable.INSERT_NO_USER) {
+        execute(new ExecBatchStatement(AccessLogTable.INSERT_NO_USER) {
             @Override
             public void prepare(PreparedStatement statement) throws SQLException {
-                statement.setLong(1, internalRequest.getTimestamp());
-                statement.setString(2, internalRequest.getAccessAddress(webserverConfiguration));
-                String method = internalRequest.getMethod();
-                statement.setString(3, method != null ? method : "?");
-                statement.setString(4, getTruncatedURI());
-                statement.setInt(5, response.getCode());
+                for (AccessLogEntry entry : entries) {
+                    statement.setLong(1, entry.getTime());
+                    statement.setString(2, entry.getFromIp());
+                    statement.setString(3, entry.getRequestMethod());
+                    statement.setString(4, entry.getRequestUri());
+                    statement.setInt(5, entry.getResponseCode());
+                    statement.addBatch();
+                }
             }
         });
     }
-
-    private String getTruncatedURI() {
-        String uri = request != null ? request.getPath().asString() + request.getQuery().asString()
-                : internalRequest.getRequestedURIString();
-        if (uri == null) {
-            uri = "non-HTTP request, missing URI";
-        }
-        return StringUtils.truncate(uri, 65000);
-    }
 }
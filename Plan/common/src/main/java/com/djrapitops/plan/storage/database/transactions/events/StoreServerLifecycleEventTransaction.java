@@ -0,0 +1,81 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.events;
+
+import com.djrapitops.plan.delivery.domain.DateObj;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.objects.ServerLifecycleQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Transaction to store a server start or stop event.
+ * <p>
+ * The event is not stored again if the latest event of the server is the same event at the same date,
+ * which happens when Plan is reloaded.
+ *
+ * @author AuroraLS3
+ */
+public class StoreServerLifecycleEventTransaction extends Transaction {
+
+    private final ServerUUID serverUUID;
+    private final long date;
+    private final String event;
+
+    private StoreServerLifecycleEventTransaction(ServerUUID serverUUID, long date, String event) {
+        this.serverUUID = serverUUID;
+        this.date = date;
+        this.event = event;
+    }
+
+    public static StoreServerLifecycleEventTransaction started(ServerUUID serverUUID, long date) {
+        return new StoreServerLifecycleEventTransaction(serverUUID, date, ServerLifecycleTable.EVENT_START);
+    }
+
+    public static StoreServerLifecycleEventTransaction stopped(ServerUUID serverUUID, long date) {
+        return new StoreServerLifecycleEventTransaction(serverUUID, date, ServerLifecycleTable.EVENT_STOP);
+    }
+
+    @Override
+    public Object getOrderingKey() {
+        return serverUUID;
+    }
+
+    @Override
+    protected void performOperations() {
+        // Server might not be registered yet if the database was changed, first TPS gap records the start in that case.
+        if (query(ServerQueries.fetchServerMatchingIdentifier(serverUUID)).isEmpty()) return;
+
+        Optional<DateObj<String>> latest = query(ServerLifecycleQueries.fetchLatestEvent(serverUUID));
+        if (latest.isPresent() && latest.get().getDate() == date && event.equals(latest.get().getValue())) return;
+
+        execute(new ExecStatement(ServerLifecycleTable.INSERT_STATEMENT) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, date);
+                statement.setString(3, event);
+            }
+        });
+    }
+}
@@ -39,6 +39,15 @@ public class StoreSessionTransaction extends Transaction {
         this.session = session;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return session.getPlayerUUID();
+    }
+
+    public FinishedSession getSession() {
+        return session;
+    }
+
     @Override
     protected void performOperations() {
         if (Boolean.FALSE.equals(query(PlayerFetchQueries.isPlayerRegistered(session.getPlayerUUID())))) {
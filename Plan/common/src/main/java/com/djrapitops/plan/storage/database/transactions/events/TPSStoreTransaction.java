@@ -19,7 +19,9 @@ package com.djrapitops.plan.storage.database.transactions.events;
 import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.queries.DataStoreQueries;
+import com.djrapitops.plan.storage.database.queries.objects.ServerLifecycleQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import net.playeranalytics.plugin.server.PluginLogger;
 
@@ -32,6 +34,8 @@ import java.util.concurrent.TimeUnit;
  */
 public class TPSStoreTransaction extends Transaction {
 
+    private static final long SERVER_DOWN_THRESHOLD = TimeUnit.MINUTES.toMillis(3);
+
     private static long lastStorageCheck = 0L;
 
     private final PluginLogger logger;
@@ -54,20 +58,40 @@ public class TPSStoreTransaction extends Transaction {
         TPSStoreTransaction.lastStorageCheck = lastStorageCheck;
     }
 
+    @Override
+    public Object getOrderingKey() {
+        return serverUUID;
+    }
+
     @Override
     protected void performOperations() {
         long now = System.currentTimeMillis();
+        long lastStoredData = query(TPSQueries.fetchLastStoredTpsDate(serverUUID))
+                .orElse(0L);
         if (logger != null && now - lastStorageCheck > TimeUnit.MINUTES.toMillis(30)) {
-            performDuplicateServerUUIDServerCheck(now);
+            performDuplicateServerUUIDServerCheck(now, lastStoredData);
             TPSStoreTransaction.setLastStorageCheck(now);
         }
 
+        if (tps.getDate() - lastStoredData > SERVER_DOWN_THRESHOLD) {
+            recordStartAfterGap(lastStoredData);
+        }
+
         execute(DataStoreQueries.storeTPS(serverUUID, tps));
     }
 
-    private void performDuplicateServerUUIDServerCheck(long now) {
-        Long lastStoredData = query(TPSQueries.fetchLastStoredTpsDate(serverUUID))
-                .orElse(0L);
+    private void recordStartAfterGap(long lastStoredData) {
+        // Start is already known if the server was enabled after the last data point.
+        boolean startRecorded = query(ServerLifecycleQueries.fetchLatestEvent(serverUUID))
+                .filter(event -> ServerLifecycleTable.EVENT_START.equals(event.getValue()))
+                .filter(event -> event.getDate() > lastStoredData)
+                .isPresent();
+        if (!startRecorded) {
+            executeOther(StoreServerLifecycleEventTransaction.started(serverUUID, tps.getDate()));
+        }
+    }
+
+    private void performDuplicateServerUUIDServerCheck(long now, long lastStoredData) {
         long diff = now - lastStoredData;
         if (logger != null && diff < TimeUnit.SECONDS.toMillis(30)) {
             logger.warn("Database had TPS data which was stored " + diff + "ms ago, this is a sign that two servers are storing data as " + serverUUID +
@@ -18,19 +18,45 @@ package com.djrapitops.plan.storage.database.transactions.init;
 
 import com.djrapitops.plan.storage.database.DBType;
 import com.djrapitops.plan.storage.database.queries.schema.MySQLSchemaQueries;
+import com.djrapitops.plan.storage.database.queries.schema.SchemaPatchQueries;
 import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import org.apache.commons.text.TextStringBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Transaction that creates the database index if it has not yet been created.
+ * <p>
+ * Created and dropped indexes are recorded in the applied patches ledger, so they are not checked again.
  *
  * @author AuroraLS3
  */
 public class CreateIndexTransaction extends Transaction {
 
+    private final boolean useLedger;
+    private Set<String> inLedger;
+    private final List<String> toLedger = new ArrayList<>();
+
+    public CreateIndexTransaction() {
+        this(true);
+    }
+
+    /**
+     * Create the transaction.
+     *
+     * @param useLedger false if tables might have been recreated by patches since the ledger was last stored.
+     */
+    public CreateIndexTransaction(boolean useLedger) {
+        this.useLedger = useLedger;
+    }
+
     @Override
     protected void performOperations() {
+        inLedger = query(SchemaPatchQueries.fetchAppliedPatchNames());
+
         createIndex(UsersTable.TABLE_NAME, "plan_users_uuid_index",
                 UsersTable.USER_UUID
         );
@@ -63,15 +89,41 @@ public class CreateIndexTransaction extends Transaction {
         createIndex(TPSTable.TABLE_NAME, "plan_tps_date_index",
                 TPSTable.DATE
         );
+        createIndex(TPSRollupTable.TABLE_NAME, "plan_tps_rollup_date_index",
+                TPSRollupTable.SERVER_ID,
+                TPSRollupTable.RESOLUTION,
+                TPSRollupTable.DATE
+        );
+        createIndex(PingRollupTable.TABLE_NAME, "plan_ping_rollup_date_index",
+                PingRollupTable.SERVER_ID,
+                PingRollupTable.RESOLUTION,
+                PingRollupTable.DATE
+        );
+        createIndex(ServerLifecycleTable.TABLE_NAME, "plan_server_lifecycle_date_index",
+                ServerLifecycleTable.SERVER_ID,
+                ServerLifecycleTable.DATE
+        );
+        createIndex(ActivityIndexHistoryTable.TABLE_NAME, "plan_activity_index_history_date_index",
+                ActivityIndexHistoryTable.DATE
+        );
 
         createIndex(SessionsTable.TABLE_NAME, "plan_session_join_address_index",
                 SessionsTable.JOIN_ADDRESS_ID);
+
+        executeOther(StoreAppliedPatchesTransaction.ofNames(toLedger));
+    }
+
+    private boolean canBeSkipped(String ledgerName) {
+        boolean recorded = inLedger.contains(ledgerName);
+        if (!recorded) toLedger.add(ledgerName);
+        return useLedger && recorded;
     }
 
     private void createIndex(String tableName, String indexName, String... indexedColumns) {
         if (indexedColumns.length == 0) {
             throw new IllegalArgumentException("Can not create index without columns");
         }
+        if (canBeSkipped("create_index " + indexName)) return;
 
         boolean isMySQL = dbType == DBType.MYSQL;
         if (isMySQL) {
@@ -93,6 +145,8 @@ public class CreateIndexTransaction extends Transaction {
     }
 
     private void dropIndex(String tableName, String indexName) {
+        if (canBeSkipped("drop_index " + indexName)) return;
+
         boolean isMySQL = dbType == DBType.MYSQL;
         if (isMySQL) {
             boolean indexExists = query(MySQLSchemaQueries.doesIndexExist(indexName, tableName));
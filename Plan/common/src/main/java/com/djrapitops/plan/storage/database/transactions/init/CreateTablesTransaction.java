@@ -43,6 +43,10 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(KillsTable.createTableSQL(dbType));
         execute(PingTable.createTableSQL(dbType));
         execute(TPSTable.createTableSQL(dbType));
+        execute(PingRollupTable.createTableSQL(dbType));
+        execute(TPSRollupTable.createTableSQL(dbType));
+        execute(ServerLifecycleTable.createTableSQL(dbType));
+        execute(ActivityIndexHistoryTable.createTableSQL(dbType));
         execute(WorldTable.createTableSQL(dbType));
         execute(WorldTimesTable.createTableSQL(dbType));
         execute(SettingsTable.createTableSQL(dbType));
@@ -52,6 +56,7 @@ public class CreateTablesTransaction extends OperationCriticalTransaction {
         execute(WebPermissionTable.createTableSQL(dbType));
         execute(WebGroupToPermissionTable.createTableSQL(dbType));
         execute(SecurityTable.createTableSQL(dbType));
+        execute(SchemaPatchTable.createTableSQL(dbType));
 
         // DataExtension tables
         execute(ExtensionIconTable.createTableSQL(dbType));
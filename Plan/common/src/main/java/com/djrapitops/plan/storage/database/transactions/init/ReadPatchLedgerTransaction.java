@@ -0,0 +1,48 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.init;
+
+import com.djrapitops.plan.storage.database.queries.schema.SchemaPatchQueries;
+import com.djrapitops.plan.storage.database.transactions.patches.Patch;
+
+import java.util.Set;
+
+/**
+ * Transaction that reads the applied patches ledger once and marks the patches found in it.
+ * <p>
+ * Marked patches are not checked with {@link Patch#hasBeenApplied()}, which saves a schema query per patch.
+ *
+ * @author AuroraLS3
+ */
+public class ReadPatchLedgerTransaction extends OperationCriticalTransaction {
+
+    private final Patch[] patches;
+
+    public ReadPatchLedgerTransaction(Patch[] patches) {
+        this.patches = patches;
+    }
+
+    @Override
+    protected void performOperations() {
+        Set<String> appliedPatches = query(SchemaPatchQueries.fetchAppliedPatchNames());
+        for (Patch patch : patches) {
+            if (!patch.isCheckedOnEveryEnable() && appliedPatches.contains(patch.getName())) {
+                patch.markInLedger();
+            }
+        }
+    }
+}
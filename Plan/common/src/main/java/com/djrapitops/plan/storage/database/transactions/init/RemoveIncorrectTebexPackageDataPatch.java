@@ -28,6 +28,11 @@ public class RemoveIncorrectTebexPackageDataPatch extends Patch {
 
     private static final String TABLE_NAME = "plan_tebex_payments";
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         return !hasTable(TABLE_NAME) || !query(hasWrongRows());
@@ -0,0 +1,53 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.init;
+
+import com.djrapitops.plan.storage.database.sql.tables.ActivityIndexHistoryTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.ThrowawayTransaction;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction for removing activity index snapshots that are no longer shown in graphs.
+ *
+ * @author AuroraLS3
+ */
+public class RemoveOldActivityIndexHistoryTransaction extends ThrowawayTransaction {
+
+    private final long deleteOlderThan;
+
+    public RemoveOldActivityIndexHistoryTransaction(long deleteOlderThan) {
+        this.deleteOlderThan = deleteOlderThan;
+    }
+
+    @Override
+    protected void performOperations() {
+        String sql = DELETE_FROM + ActivityIndexHistoryTable.TABLE_NAME +
+                WHERE + ActivityIndexHistoryTable.DATE + "<?";
+
+        execute(new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setLong(1, deleteOlderThan);
+            }
+        });
+    }
+}
@@ -55,6 +55,9 @@ public class RemoveOldSampledDataTransaction extends ThrowawayTransaction {
 
     @Override
     protected void performOperations() {
+        // Downsample data before it is removed so that long-range graphs keep their history.
+        executeOther(new RollupSampledDataTransaction(serverUUID, System.currentTimeMillis()));
+
         Optional<Integer> allTimePeak = query(TPSQueries.fetchAllTimePeakPlayerCount(serverUUID)).map(DateObj::getValue);
 
         execute(cleanTPSTable(allTimePeak.orElse(-1)));
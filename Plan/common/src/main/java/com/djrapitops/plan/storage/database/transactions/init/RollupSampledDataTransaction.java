@@ -0,0 +1,238 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.init;
+
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.queries.Query;
+import com.djrapitops.plan.storage.database.queries.QueryStatement;
+import com.djrapitops.plan.storage.database.sql.tables.PingRollupTable;
+import com.djrapitops.plan.storage.database.sql.tables.PingTable;
+import com.djrapitops.plan.storage.database.sql.tables.ServerTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSRollupTable;
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
+import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.ExecStatement;
+import com.djrapitops.plan.storage.database.transactions.Executable;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+
+/**
+ * Transaction that downsamples per-minute TPS and ping data into hourly and daily rollups.
+ * <p>
+ * Hourly rollups are created from complete hours of {@link TPSTable} and {@link PingTable}, daily rollups from complete
+ * days of hourly rollups. This should be executed before {@link RemoveOldSampledDataTransaction} removes the original rows.
+ * <p>
+ * Rows can be stored after the bucket they belong to was rolled up (e.g. buffered ping), so the most recent complete
+ * bucket is recomputed on every run. Older buckets are not touched again, rows that arrive later than that are not
+ * included in the rollups.
+ * <p>
+ * SQLite does not enforce foreign keys, so rollup rows of removed servers and players are removed here as well.
+ *
+ * @author AuroraLS3
+ */
+public class RollupSampledDataTransaction extends Transaction {
+
+    private static final long HOURLY = TPSRollupTable.HOURLY;
+    private static final long DAILY = TPSRollupTable.DAILY;
+
+    private final ServerUUID serverUUID;
+    private final long now;
+
+    public RollupSampledDataTransaction(ServerUUID serverUUID, long now) {
+        this.serverUUID = serverUUID;
+        this.now = now;
+    }
+
+    @Override
+    protected void performOperations() {
+        execute(deleteDanglingRows(TPSRollupTable.TABLE_NAME, TPSRollupTable.SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID));
+        execute(deleteDanglingRows(PingRollupTable.TABLE_NAME, PingRollupTable.SERVER_ID, ServerTable.TABLE_NAME, ServerTable.ID));
+        execute(deleteDanglingRows(PingRollupTable.TABLE_NAME, PingRollupTable.USER_ID, UsersTable.TABLE_NAME, UsersTable.ID));
+
+        long hourlyUntil = now - now % HOURLY;
+        long dailyUntil = now - now % DAILY;
+
+        long tpsHourlyFrom = nextBucketStart(TPSRollupTable.TABLE_NAME, TPSRollupTable.SERVER_ID, TPSRollupTable.RESOLUTION, TPSRollupTable.DATE, HOURLY, hourlyUntil);
+        execute(rollupTPS(TPSTable.TABLE_NAME, HOURLY, tpsHourlyFrom, hourlyUntil));
+        long tpsDailyFrom = nextBucketStart(TPSRollupTable.TABLE_NAME, TPSRollupTable.SERVER_ID, TPSRollupTable.RESOLUTION, TPSRollupTable.DATE, DAILY, dailyUntil);
+        execute(rollupTPS(TPSRollupTable.TABLE_NAME, DAILY, tpsDailyFrom, dailyUntil));
+
+        long pingHourlyFrom = nextBucketStart(PingRollupTable.TABLE_NAME, PingRollupTable.SERVER_ID, PingRollupTable.RESOLUTION, PingRollupTable.DATE, HOURLY, hourlyUntil);
+        execute(rollupPing(PingTable.TABLE_NAME, HOURLY, pingHourlyFrom, hourlyUntil));
+        long pingDailyFrom = nextBucketStart(PingRollupTable.TABLE_NAME, PingRollupTable.SERVER_ID, PingRollupTable.RESOLUTION, PingRollupTable.DATE, DAILY, dailyUntil);
+        execute(rollupPing(PingRollupTable.TABLE_NAME, DAILY, pingDailyFrom, dailyUntil));
+    }
+
+    private long nextBucketStart(String tableName, String serverIdColumn, String resolutionColumn, String dateColumn, long resolution, long until) {
+        Long lastBucket = query(fetchLastBucket(tableName, serverIdColumn, resolutionColumn, dateColumn, resolution));
+        if (lastBucket == null) return 0L;
+        if (lastBucket + resolution >= until) {
+            // Most recent complete bucket is recomputed to include rows stored after it was rolled up.
+            execute(deleteBucket(tableName, serverIdColumn, resolutionColumn, dateColumn, resolution, lastBucket));
+            return lastBucket;
+        }
+        return lastBucket + resolution;
+    }
+
+    private static Executable deleteDanglingRows(String tableName, String column, String targetTable, String targetColumn) {
+        String sql = DELETE_FROM + tableName +
+                WHERE + column + " NOT IN (" + SELECT + targetColumn + FROM + targetTable + ')';
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) {
+                // No parameters needed
+            }
+        };
+    }
+
+    private Executable deleteBucket(String tableName, String serverIdColumn, String resolutionColumn, String dateColumn, long resolution, long bucket) {
+        String sql = DELETE_FROM + tableName +
+                WHERE + serverIdColumn + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + resolutionColumn + "=?" +
+                AND + dateColumn + "=?";
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, resolution);
+                statement.setLong(3, bucket);
+            }
+        };
+    }
+
+    private Query<Long> fetchLastBucket(String tableName, String serverIdColumn, String resolutionColumn, String dateColumn, long resolution) {
+        String sql = SELECT + max(dateColumn) + " as last_bucket" +
+                FROM + tableName +
+                WHERE + serverIdColumn + '=' + ServerTable.SELECT_SERVER_ID +
+                AND + resolutionColumn + "=?";
+        return new QueryStatement<>(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, resolution);
+            }
+
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                if (!set.next()) return null;
+                long lastBucket = set.getLong("last_bucket");
+                return set.wasNull() ? null : lastBucket;
+            }
+        };
+    }
+
+    private static String bucketStart(String dateColumn, long resolution) {
+        return min(dateColumn) + '-' + min(dateColumn) + '%' + resolution;
+    }
+
+    // -1 is stored when a value was not available, so it is left out of min and average values.
+    private static String minOfAvailable(String column) {
+        return "COALESCE(MIN(CASE WHEN " + column + ">=0 THEN " + column + " END),-1)";
+    }
+
+    private static String avgOfAvailable(String column) {
+        return "COALESCE(AVG(CASE WHEN " + column + ">=0 THEN " + column + " END),-1)";
+    }
+
+    private static String weightedAvgOfAvailable(String column, String weightColumn) {
+        return "COALESCE(SUM(CASE WHEN " + column + ">=0 THEN " + column + '*' + weightColumn + " END)" +
+                "/SUM(CASE WHEN " + column + ">=0 THEN " + weightColumn + " END),-1)";
+    }
+
+    private Executable rollupTPS(String fromTable, long resolution, long from, long until) {
+        boolean fromRollup = TPSRollupTable.TABLE_NAME.equals(fromTable);
+        StringBuilder columns = new StringBuilder()
+                .append(TPSRollupTable.SERVER_ID).append(',')
+                .append(TPSRollupTable.RESOLUTION).append(',')
+                .append(TPSRollupTable.DATE).append(',')
+                .append(TPSRollupTable.SAMPLES);
+        StringBuilder values = new StringBuilder()
+                .append(TPSTable.SERVER_ID).append(',')
+                .append(resolution).append(',')
+                .append(bucketStart(TPSTable.DATE, resolution)).append(',')
+                .append(fromRollup ? "SUM(" + TPSRollupTable.SAMPLES + ')' : "COUNT(1)");
+        for (String column : TPSRollupTable.ROLLED_UP_COLUMNS) {
+            String minColumn = TPSRollupTable.minOf(column);
+            String avgColumn = TPSRollupTable.avgOf(column);
+            String maxColumn = TPSRollupTable.maxOf(column);
+            columns.append(',').append(minColumn)
+                    .append(',').append(avgColumn)
+                    .append(',').append(maxColumn);
+            values.append(',').append(minOfAvailable(fromRollup ? minColumn : column))
+                    .append(',').append(fromRollup ? weightedAvgOfAvailable(avgColumn, TPSRollupTable.SAMPLES) : avgOfAvailable(column))
+                    .append(',').append(max(fromRollup ? maxColumn : column));
+        }
+
+        String sql = "INSERT INTO " + TPSRollupTable.TABLE_NAME + " (" + columns + ')' +
+                SELECT + values +
+                FROM + fromTable +
+                WHERE + TPSTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                (fromRollup ? AND + TPSRollupTable.RESOLUTION + '=' + HOURLY : "") +
+                AND + TPSTable.DATE + ">=?" +
+                AND + TPSTable.DATE + "<?" +
+                GROUP_BY + TPSTable.SERVER_ID + ',' + floor(TPSTable.DATE + '/' + resolution);
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, from);
+                statement.setLong(3, until);
+            }
+        };
+    }
+
+    private Executable rollupPing(String fromTable, long resolution, long from, long until) {
+        boolean fromRollup = PingRollupTable.TABLE_NAME.equals(fromTable);
+        String sql = "INSERT INTO " + PingRollupTable.TABLE_NAME + " (" +
+                PingRollupTable.USER_ID + ',' +
+                PingRollupTable.SERVER_ID + ',' +
+                PingRollupTable.RESOLUTION + ',' +
+                PingRollupTable.DATE + ',' +
+                PingRollupTable.SAMPLES + ',' +
+                PingRollupTable.MIN_PING + ',' +
+                PingRollupTable.AVG_PING + ',' +
+                PingRollupTable.MAX_PING + ')' +
+                SELECT + PingTable.USER_ID + ',' +
+                PingTable.SERVER_ID + ',' +
+                resolution + ',' +
+                bucketStart(PingTable.DATE, resolution) + ',' +
+                (fromRollup ? "SUM(" + PingRollupTable.SAMPLES + ')' : "COUNT(1)") + ',' +
+                min(PingTable.MIN_PING) + ',' +
+                (fromRollup ? weightedAvgOfAvailable(PingRollupTable.AVG_PING, PingRollupTable.SAMPLES) : "AVG(" + PingTable.AVG_PING + ')') + ',' +
+                max(PingTable.MAX_PING) +
+                FROM + fromTable +
+                WHERE + PingTable.SERVER_ID + '=' + ServerTable.SELECT_SERVER_ID +
+                (fromRollup ? AND + PingRollupTable.RESOLUTION + '=' + HOURLY : "") +
+                AND + PingTable.MIN_PING + ">=0" +
+                AND + PingTable.DATE + ">=?" +
+                AND + PingTable.DATE + "<?" +
+                GROUP_BY + PingTable.USER_ID + ',' + PingTable.SERVER_ID + ',' + floor(PingTable.DATE + '/' + resolution);
+        return new ExecStatement(sql) {
+            @Override
+            public void prepare(PreparedStatement statement) throws SQLException {
+                statement.setString(1, serverUUID.toString());
+                statement.setLong(2, from);
+                statement.setLong(3, until);
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.init;
+
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.storage.database.sql.tables.SchemaPatchTable;
+import com.djrapitops.plan.storage.database.transactions.ExecBatchStatement;
+import com.djrapitops.plan.storage.database.transactions.patches.Patch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Transaction that adds names to the applied patches ledger.
+ * <p>
+ * The ledger only speeds up enable, so failing to store it does not prevent the database from opening.
+ *
+ * @author AuroraLS3
+ */
+public class StoreAppliedPatchesTransaction extends OperationCriticalTransaction {
+
+    private final Supplier<Collection<String>> names;
+
+    private StoreAppliedPatchesTransaction(Supplier<Collection<String>> names) {
+        this.names = names;
+    }
+
+    /**
+     * Store patches that are applied but not yet in the ledger.
+     *
+     * @param patches Patches that have been executed before this transaction.
+     * @return the transaction.
+     */
+    public static StoreAppliedPatchesTransaction ofPatches(Patch[] patches) {
+        return new StoreAppliedPatchesTransaction(() -> {
+            List<String> applied = new ArrayList<>();
+            for (Patch patch : patches) {
+                if (patch.isApplied() && !patch.isInLedger() && !patch.isCheckedOnEveryEnable()) {
+                    applied.add(patch.getName());
+                }
+            }
+            return applied;
+        });
+    }
+
+    public static StoreAppliedPatchesTransaction ofNames(Collection<String> names) {
+        return new StoreAppliedPatchesTransaction(() -> names);
+    }
+
+    @Override
+    protected void performOperations() {
+        Collection<String> toStore = names.get();
+        if (toStore.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        try {
+            execute(new ExecBatchStatement(SchemaPatchTable.INSERT_STATEMENT) {
+                @Override
+                public void prepare(PreparedStatement statement) throws SQLException {
+                    for (String name : toStore) {
+                        statement.setString(1, name);
+                        statement.setLong(2, now);
+                        statement.addBatch();
+                    }
+                }
+            });
+        } catch (DBOpException ignored) {
+            // Patches are checked again on next enable.
+        }
+    }
+}
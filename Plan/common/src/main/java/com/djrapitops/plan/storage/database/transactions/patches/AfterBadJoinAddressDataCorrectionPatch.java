@@ -34,6 +34,11 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class AfterBadJoinAddressDataCorrectionPatch extends Patch {
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         return !hasBadAddressIds();
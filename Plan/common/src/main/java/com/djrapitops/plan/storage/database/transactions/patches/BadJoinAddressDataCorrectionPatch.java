@@ -41,6 +41,11 @@ import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
  */
 public class BadJoinAddressDataCorrectionPatch extends Patch {
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         return !hasBadAddressIds();
@@ -46,6 +46,11 @@ public class CorrectWrongCharacterEncodingPatch extends Patch {
         this.config = config;
     }
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         if (dbType != DBType.MYSQL) return true;
@@ -35,6 +35,7 @@ public abstract class Patch extends OperationCriticalTransaction {
     private static final String ALTER_TABLE = "ALTER TABLE ";
     private boolean appliedPreviously = false;
     private boolean appliedNow = false;
+    private boolean inLedger = false;
 
     public abstract boolean hasBeenApplied();
 
@@ -49,8 +50,34 @@ public abstract class Patch extends OperationCriticalTransaction {
         return appliedNow;
     }
 
+    /**
+     * Mark this patch as found in the applied patches ledger so that {@link #hasBeenApplied()} is not checked.
+     *
+     * @see com.djrapitops.plan.storage.database.sql.tables.SchemaPatchTable
+     */
+    public void markInLedger() {
+        inLedger = true;
+    }
+
+    public boolean isInLedger() {
+        return inLedger;
+    }
+
+    /**
+     * Override for patches that correct data which can become incorrect again, these are never added to the ledger.
+     *
+     * @return true if {@link #hasBeenApplied()} should be checked on every enable.
+     */
+    public boolean isCheckedOnEveryEnable() {
+        return false;
+    }
+
     @Override
     protected boolean shouldBeExecuted() {
+        if (inLedger) {
+            appliedPreviously = true;
+            return false;
+        }
         boolean hasBeenApplied = hasBeenApplied();
         if (hasBeenApplied) appliedPreviously = true;
         return !hasBeenApplied;
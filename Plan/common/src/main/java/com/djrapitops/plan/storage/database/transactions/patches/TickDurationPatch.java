@@ -0,0 +1,49 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.sql.tables.TPSTable;
+
+/**
+ * Adds tick duration percentiles to tps table.
+ *
+ * @author AuroraLS3
+ */
+public class TickDurationPatch extends Patch {
+
+    @Override
+    public boolean hasBeenApplied() {
+        return hasColumn(TPSTable.TABLE_NAME, TPSTable.MSPT_P50)
+                && hasColumn(TPSTable.TABLE_NAME, TPSTable.MSPT_P95)
+                && hasColumn(TPSTable.TABLE_NAME, TPSTable.MSPT_P99)
+                && hasColumn(TPSTable.TABLE_NAME, TPSTable.MSPT_MAX);
+    }
+
+    @Override
+    protected void applyPatch() {
+        addColumnIfMissing(TPSTable.MSPT_P50);
+        addColumnIfMissing(TPSTable.MSPT_P95);
+        addColumnIfMissing(TPSTable.MSPT_P99);
+        addColumnIfMissing(TPSTable.MSPT_MAX);
+    }
+
+    private void addColumnIfMissing(String column) {
+        if (!hasColumn(TPSTable.TABLE_NAME, column)) {
+            addColumn(TPSTable.TABLE_NAME, column + " double NOT NULL DEFAULT -1");
+        }
+    }
+}
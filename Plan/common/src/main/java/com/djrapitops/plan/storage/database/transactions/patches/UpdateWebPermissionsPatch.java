@@ -37,6 +37,11 @@ public class UpdateWebPermissionsPatch extends Patch {
 
     private List<String> missingPermissions;
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         List<String> defaultPermissions = Arrays.stream(WebPermission.values())
@@ -30,6 +30,11 @@ import java.util.stream.Collectors;
  */
 public class WebGroupAddMissingAdminGroupPatch extends Patch {
 
+    @Override
+    public boolean isCheckedOnEveryEnable() {
+        return true;
+    }
+
     @Override
     public boolean hasBeenApplied() {
         return !query(WebUserQueries.fetchGroupNamesWithPermission(WebPermission.MANAGE_GROUPS.getPermission())).isEmpty();
@@ -98,8 +98,6 @@ public class PlanFiles implements SubSystem {
 
     @Override
     public void enable() {
-        ResourceCache.invalidateAll();
-        ResourceCache.cleanUp();
         try {
             Path dir = getDataDirectory();
             if (!Files.isSymbolicLink(dir)) Files.createDirectories(dir);
@@ -0,0 +1,122 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.upkeep;
+
+import com.djrapitops.plan.TaskSystem;
+import com.djrapitops.plan.exceptions.database.DBOpException;
+import com.djrapitops.plan.identification.ServerInfo;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexHistoryQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
+import com.djrapitops.plan.storage.database.queries.analysis.NetworkActivityIndexQueries;
+import com.djrapitops.plan.storage.database.transactions.events.StoreActivityIndexSnapshotTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RemoveOldActivityIndexHistoryTransaction;
+import com.djrapitops.plan.utilities.logging.ErrorLogger;
+import net.playeranalytics.plugin.scheduling.RunnableFactory;
+import net.playeranalytics.plugin.scheduling.TimeAmount;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task that fills snapshots of activity index groupings used by the activity graphs.
+ * <p>
+ * Game servers calculate snapshots for themselves, proxies for the whole network.
+ * Only snapshots that are missing are calculated, so each run after the first
+ * calculates at most the snapshots that moved to a new day.
+ * <p>
+ * This is the only place snapshots are calculated, activity graphs leave out points that have no snapshot yet.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class ActivityIndexHistoryTask extends TaskSystem.Task {
+
+    private final PlanConfig config;
+    private final DBSystem dbSystem;
+    private final ServerInfo serverInfo;
+    private final ErrorLogger errorLogger;
+
+    @Inject
+    public ActivityIndexHistoryTask(
+            PlanConfig config,
+            DBSystem dbSystem,
+            ServerInfo serverInfo,
+            ErrorLogger errorLogger
+    ) {
+        this.config = config;
+        this.dbSystem = dbSystem;
+        this.serverInfo = serverInfo;
+        this.errorLogger = errorLogger;
+    }
+
+    @Override
+    public void run() {
+        Database database = dbSystem.getDatabase();
+        if (database.getState() != Database.State.OPEN) return;
+        try {
+            long now = System.currentTimeMillis();
+            long threshold = config.get(TimeSettings.ACTIVE_PLAY_THRESHOLD);
+            List<Long> dates = ActivityIndexHistoryQueries.getSnapshotDates(now);
+
+            if (serverInfo.getServer().isProxy()) {
+                storeMissingNetworkSnapshots(database, dates, threshold);
+            } else {
+                storeMissingServerSnapshots(database, serverInfo.getServerUUID(), dates, threshold);
+            }
+
+            if (!dates.isEmpty()) {
+                database.executeTransaction(new RemoveOldActivityIndexHistoryTransaction(dates.get(dates.size() - 1)));
+            }
+        } catch (DBOpException e) {
+            errorLogger.error(e);
+            cancel();
+        }
+    }
+
+    private void storeMissingServerSnapshots(Database database, ServerUUID serverUUID, List<Long> dates, long threshold) {
+        Map<Long, Map<String, Integer>> stored = database.query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(serverUUID, dates, threshold));
+        for (Long date : dates) {
+            if (stored.containsKey(date)) continue;
+            Map<String, Integer> groups = database.query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID, threshold));
+            database.executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID, date, threshold, groups));
+        }
+    }
+
+    private void storeMissingNetworkSnapshots(Database database, List<Long> dates, long threshold) {
+        Map<Long, Map<String, Integer>> stored = database.query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(dates, threshold));
+        for (Long date : dates) {
+            if (stored.containsKey(date)) continue;
+            Map<String, Integer> groups = database.query(NetworkActivityIndexQueries.fetchActivityIndexGroupingsOn(date, threshold));
+            database.executeTransaction(new StoreActivityIndexSnapshotTransaction(null, date, threshold, groups));
+        }
+    }
+
+    @Override
+    public void register(RunnableFactory runnableFactory) {
+        long delay = TimeAmount.toTicks(2, TimeUnit.MINUTES);
+        long period = TimeAmount.toTicks(1, TimeUnit.HOURS);
+        runnableFactory.create(this).runTaskTimerAsynchronously(delay, period);
+    }
+}
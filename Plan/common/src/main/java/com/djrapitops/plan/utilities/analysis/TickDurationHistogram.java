@@ -0,0 +1,108 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.analysis;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fixed bucket histogram of tick durations.
+ * <p>
+ * Buckets are allocated once, so adding a duration every tick does not create garbage.
+ * Durations longer than the tracked range go to an overflow bucket, the exact maximum is always kept.
+ *
+ * @author AuroraLS3
+ */
+public class TickDurationHistogram {
+
+    private static final long BUCKET_WIDTH_NS = TimeUnit.MICROSECONDS.toNanos(100L);
+
+    private final long[] buckets;
+    private long count;
+    private long max;
+
+    /**
+     * Create a new histogram.
+     *
+     * @param trackedRangeMs Durations up to this many milliseconds are placed in 0.1ms buckets.
+     */
+    public TickDurationHistogram(long trackedRangeMs) {
+        int bucketCount = (int) (TimeUnit.MILLISECONDS.toNanos(trackedRangeMs) / BUCKET_WIDTH_NS);
+        // Last bucket is the overflow bucket
+        buckets = new long[bucketCount + 1];
+        count = 0;
+        max = 0;
+    }
+
+    /**
+     * Add a new tick duration.
+     *
+     * @param durationNs Duration of the tick in nanoseconds.
+     */
+    public void add(long durationNs) {
+        if (durationNs < 0) return;
+        int bucket = (int) Math.min(durationNs / BUCKET_WIDTH_NS, buckets.length - 1L);
+        buckets[bucket]++;
+        count++;
+        if (durationNs > max) max = durationNs;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get a percentile of the added durations.
+     * <p>
+     * The upper bound of the bucket containing the percentile is returned, so the value is at most 0.1ms too high.
+     *
+     * @param percentile 0.0 - 1.0
+     * @return Milliseconds, or -1 if nothing has been added.
+     */
+    public double getPercentileMs(double percentile) {
+        if (count == 0) return -1.0;
+        long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length - 1; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return toMs(Math.min((i + 1) * BUCKET_WIDTH_NS, max));
+            }
+        }
+        // Percentile is in the overflow bucket
+        return getMaxMs();
+    }
+
+    /**
+     * Get the longest added duration.
+     *
+     * @return Milliseconds, or -1 if nothing has been added.
+     */
+    public double getMaxMs() {
+        return count == 0 ? -1.0 : toMs(max);
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public void reset() {
+        Arrays.fill(buckets, 0L);
+        count = 0;
+        max = 0;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan;
+
+import com.djrapitops.plan.exceptions.EnableException;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SubSystemEnabler}.
+ *
+ * @author AuroraLS3
+ */
+class SubSystemEnablerTest {
+
+    private final List<String> enableOrder = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void dependenciesAreEnabledFirst() {
+        TestSystem files = new TestSystem("files");
+        TestSystem locale = new TestSystem("locale");
+        TestSystem database = new TestSystem("database");
+        TestSystem listeners = new TestSystem("listeners");
+
+        Map<String, Long> times = new SubSystemEnabler(4)
+                .add("files", files)
+                .add("locale", locale, files)
+                .add("database", database, files, locale)
+                .addOnCallingThread("listeners", listeners, database)
+                .enable();
+
+        assertEquals(Arrays.asList("files", "locale", "database", "listeners"), enableOrder);
+        assertEquals(Arrays.asList("files", "locale", "database", "listeners"), new ArrayList<>(times.keySet()));
+    }
+
+    @Test
+    void callingThreadSystemIsEnabledOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        TestSystem files = new TestSystem("files");
+        TestSystem tasks = new TestSystem("tasks");
+
+        new SubSystemEnabler(2)
+                .add("files", files)
+                .addOnCallingThread("tasks", tasks, files)
+                .enable();
+
+        assertSame(caller, tasks.enabledOn);
+        assertNotSame(caller, files.enabledOn);
+    }
+
+    @Test
+    void failureIsThrownAndDependantsAreNotEnabled() {
+        TestSystem database = new TestSystem("database") {
+            @Override
+            public void enable() {
+                throw new EnableException("Database failed");
+            }
+        };
+        TestSystem webserver = new TestSystem("webserver");
+
+        SubSystemEnabler underTest = new SubSystemEnabler(2)
+                .add("database", database)
+                .add("webserver", webserver, database);
+        EnableException thrown = assertThrows(EnableException.class, underTest::enable);
+
+        assertEquals("Database failed", thrown.getMessage());
+        assertFalse(enableOrder.contains("webserver"));
+    }
+
+    @Test
+    void dependencyMustBeAddedFirst() {
+        TestSystem files = new TestSystem("files");
+        TestSystem locale = new TestSystem("locale");
+        SubSystemEnabler underTest = new SubSystemEnabler(1);
+
+        assertThrows(IllegalArgumentException.class, () -> underTest.add("locale", locale, files));
+    }
+
+    private class TestSystem implements SubSystem {
+        private final String name;
+        private volatile Thread enabledOn;
+
+        TestSystem(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void enable() {
+            enabledOn = Thread.currentThread();
+            enableOrder.add(name);
+        }
+
+        @Override
+        public void disable() {
+            // Nothing to disable
+        }
+    }
+}
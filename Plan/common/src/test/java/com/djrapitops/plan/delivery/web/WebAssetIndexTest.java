@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.web;
+
+import com.djrapitops.plan.delivery.web.resource.WebResource;
+import com.djrapitops.plan.storage.file.FileResource;
+import com.djrapitops.plan.storage.file.JarResource;
+import com.djrapitops.plan.storage.file.PlanFiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import utilities.TestPluginLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class WebAssetIndexTest {
+
+    private static final String BUNDLE_FILE = "static/js/main.123.js";
+    private static final long BUNDLE_VERSION = 1000L;
+
+    private WebAssetIndex underTest;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        PlanFiles files = Mockito.mock(PlanFiles.class);
+        when(files.getResourceFromJar(anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return new JarResource(name, () -> ("web/" + BUNDLE_FILE).equals(name)
+                    ? new ByteArrayInputStream("bundle".getBytes(StandardCharsets.UTF_8))
+                    : null, System::currentTimeMillis);
+        });
+        AssetVersions assetVersions = Mockito.mock(AssetVersions.class);
+        when(assetVersions.getAssetPaths()).thenReturn(List.of("static/js/main,123,js", "locale_EN,yml"));
+        when(assetVersions.getAssetVersion(anyString())).thenReturn(Optional.empty());
+        when(assetVersions.getAssetVersion(BUNDLE_FILE)).thenReturn(Optional.of(BUNDLE_VERSION));
+
+        underTest = new WebAssetIndex(files, assetVersions, new TestPluginLogger());
+        underTest.prepare();
+    }
+
+    @Test
+    void jarAssetsAreIndexed() {
+        WebResource found = underTest.getJarAsset(BUNDLE_FILE).orElseThrow(AssertionError::new);
+        assertEquals("bundle", found.asString());
+        assertEquals(Optional.of(BUNDLE_VERSION), found.getLastModified());
+        assertEquals(1, underTest.getIndexedAssetCount());
+    }
+
+    @Test
+    void jarAssetsAreServedFromSameBytes() {
+        byte[] first = underTest.getJarAsset(BUNDLE_FILE).map(WebResource::asBytes).orElseThrow(AssertionError::new);
+        byte[] second = underTest.getJarAsset(BUNDLE_FILE).map(WebResource::asBytes).orElseThrow(AssertionError::new);
+        assertSame(first, second);
+    }
+
+    @Test
+    void missingJarAssetsAreNotIndexed() {
+        assertFalse(underTest.getJarAsset("locale_EN.yml").isPresent());
+    }
+
+    @Test
+    void clearedIndexHasNoAssets() {
+        underTest.clear();
+        assertFalse(underTest.getJarAsset(BUNDLE_FILE).isPresent());
+    }
+
+    @Test
+    void customizedAssetIsReadAgainAfterModification(@TempDir Path tempDir) throws Exception {
+        File file = tempDir.resolve("index.html").toFile();
+        Files.writeString(file.toPath(), "first");
+        assertTrue(file.setLastModified(10000L));
+
+        FileResource customized = new FileResource("index.html", file);
+        WebResource first = underTest.getCustomizedAsset(customized);
+        assertSame(first, underTest.getCustomizedAsset(customized));
+        assertEquals("first", first.asString());
+
+        Files.writeString(file.toPath(), "second");
+        assertTrue(file.setLastModified(20000L));
+        assertEquals("second", underTest.getCustomizedAsset(customized).asString());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.cache;
+
+import com.djrapitops.plan.delivery.formatting.Formatters;
+import com.djrapitops.plan.processing.Processing;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.WebserverSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AsyncJSONResolverService} asynchronous resolution.
+ *
+ * @author AuroraLS3
+ */
+class AsyncJSONResolverServiceTest {
+
+    private PlanConfig config;
+    private Processing processing;
+    private JSONStorage jsonStorage;
+    private AsyncJSONResolverService underTest;
+
+    @BeforeEach
+    void setUp() {
+        config = Mockito.mock(PlanConfig.class);
+        when(config.get(WebserverSettings.REDUCED_REFRESH_BARRIER)).thenReturn(TimeUnit.SECONDS.toMillis(15L));
+        when(config.get(WebserverSettings.STALE_WHILE_REVALIDATE_MAX_AGE)).thenReturn(TimeUnit.MINUTES.toMillis(30L));
+        Formatters formatters = Mockito.mock(Formatters.class);
+        when(formatters.httpLastModifiedLong()).thenReturn(value -> Long.toString(value));
+        processing = Mockito.mock(Processing.class);
+        jsonStorage = Mockito.mock(JSONStorage.class);
+
+        underTest = new AsyncJSONResolverService(config, formatters, processing, jsonStorage);
+    }
+
+    @Test
+    void cachedJsonIsReturnedAsCompletedFuture() {
+        long timestamp = System.currentTimeMillis();
+        JSONStorage.StoredJSON stored = new JSONStorage.StoredJSON("{}", timestamp);
+        when(jsonStorage.fetchExactJson(DataID.SERVERS.name(), timestamp)).thenReturn(Optional.of(stored));
+
+        CompletableFuture<JSONStorage.StoredJSON> result = underTest.resolveAsync(Optional.of(timestamp), DataID.SERVERS, () -> "{}");
+
+        assertTrue(result.isDone());
+        assertSame(stored, result.join());
+        verify(processing, never()).submitNonCritical(any(Callable.class));
+    }
+
+    @Test
+    void missingJsonIsNotWaitedFor() {
+        CompletableFuture<JSONStorage.StoredJSON> processed = new CompletableFuture<>();
+        doReturn(processed).when(processing).submitNonCritical(any(Callable.class));
+
+        CompletableFuture<JSONStorage.StoredJSON> result = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+        assertFalse(result.isDone());
+
+        JSONStorage.StoredJSON created = new JSONStorage.StoredJSON("{}", System.currentTimeMillis());
+        processed.complete(created);
+        assertSame(created, result.join());
+    }
+
+    @Test
+    void missingJsonCompletesWithNullAfterShutdown() {
+        doReturn(null).when(processing).submitNonCritical(any(Callable.class));
+
+        CompletableFuture<JSONStorage.StoredJSON> result = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+
+        assertTrue(result.isDone());
+        assertNull(result.join());
+    }
+
+    @Test
+    void concurrentRequestsShareSingleCreation() {
+        CompletableFuture<JSONStorage.StoredJSON> processed = new CompletableFuture<>();
+        doReturn(processed).when(processing).submitNonCritical(any(Callable.class));
+
+        CompletableFuture<JSONStorage.StoredJSON> first = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+        CompletableFuture<JSONStorage.StoredJSON> second = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+
+        assertSame(first, second);
+        verify(processing, times(1)).submitNonCritical(any(Callable.class));
+
+        processed.complete(new JSONStorage.StoredJSON("{}", System.currentTimeMillis()));
+        underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+        verify(processing, times(2)).submitNonCritical(any(Callable.class));
+    }
+
+    @Test
+    void staleJsonIsReturnedWhileRefreshing() {
+        when(config.isTrue(WebserverSettings.STALE_WHILE_REVALIDATE)).thenReturn(true);
+        JSONStorage.StoredJSON stale = new JSONStorage.StoredJSON("{}", System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1L));
+        when(jsonStorage.fetchJsonMadeBefore(eq(DataID.SERVERS.name()), anyLong())).thenReturn(Optional.of(stale));
+        doReturn(new CompletableFuture<>()).when(processing).submitNonCritical(any(Callable.class));
+
+        CompletableFuture<JSONStorage.StoredJSON> result = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+
+        assertTrue(result.isDone());
+        assertSame(stale, result.join());
+        verify(processing, times(1)).submitNonCritical(any(Callable.class));
+    }
+
+    @Test
+    void tooOldStaleJsonIsNotReturned() {
+        when(config.isTrue(WebserverSettings.STALE_WHILE_REVALIDATE)).thenReturn(true);
+        JSONStorage.StoredJSON stale = new JSONStorage.StoredJSON("{}", System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L));
+        when(jsonStorage.fetchJsonMadeBefore(eq(DataID.SERVERS.name()), anyLong())).thenReturn(Optional.of(stale));
+        doReturn(new CompletableFuture<>()).when(processing).submitNonCritical(any(Callable.class));
+
+        CompletableFuture<JSONStorage.StoredJSON> result = underTest.resolveAsync(Optional.empty(), DataID.SERVERS, () -> "{}");
+
+        assertFalse(result.isDone());
+    }
+}
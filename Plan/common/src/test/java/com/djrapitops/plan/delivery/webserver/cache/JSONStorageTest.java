@@ -29,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -170,4 +171,54 @@ class JSONStorageTest {
         JSONStorage.StoredJSON stored = UNDER_TEST.storeJson(DataID.SESSIONS_OVERVIEW.name(), Collections.singletonList("data"), timestamp);
         assertFalse(UNDER_TEST.fetchJsonMadeBefore(DataID.SESSIONS.name(), timestamp + TimeUnit.DAYS.toMillis(1L)).isPresent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void previouslyStoredFilesAreFound() {
+        long timestamp = System.currentTimeMillis();
+        JSONStorage.StoredJSON stored = UNDER_TEST.storeJson("Identifier", Collections.singletonList("data"), timestamp);
+
+        PlanFiles files = Mockito.mock(PlanFiles.class);
+        when(files.getJSONStorageDirectory()).thenReturn(tempDir);
+        JSONStorage restarted = new JSONFileStorage(files, value -> Long.toString(value), new TestPluginLogger());
+
+        assertEquals(Optional.of(stored), restarted.fetchJSON("Identifier"));
+        assertEquals(Optional.of(timestamp), restarted.getTimestamp("Identifier"));
+    }
+
+    @Test
+    void newestIsFetched() {
+        long timestamp = System.currentTimeMillis();
+        UNDER_TEST.storeJson("Identifier", Collections.singletonList("old"), timestamp - 1000L);
+        JSONStorage.StoredJSON newest = UNDER_TEST.storeJson("Identifier", Collections.singletonList("new"), timestamp);
+
+        assertEquals(Optional.of(newest), UNDER_TEST.fetchJSON("Identifier"));
+        assertEquals(Optional.of(newest), UNDER_TEST.fetchJsonMadeAfter("Identifier", timestamp - 2000L));
+    }
+
+    @Test
+    void olderFilesAreInvalidated() {
+        long timestamp = System.currentTimeMillis();
+        UNDER_TEST.storeJson("Identifier", Collections.singletonList("data"), timestamp - 1000L);
+        UNDER_TEST.storeJson("Identifier-other", Collections.singletonList("data"), timestamp - 1000L);
+        JSONStorage.StoredJSON kept = UNDER_TEST.storeJson("Identifier", Collections.singletonList("data"), timestamp);
+
+        UNDER_TEST.invalidateOlder("Identifier", timestamp);
+
+        assertFalse(UNDER_TEST.fetchExactJson("Identifier", timestamp - 1000L).isPresent());
+        assertFalse(UNDER_TEST.fetchJSON("Identifier-other").isPresent());
+        assertEquals(Optional.of(kept), UNDER_TEST.fetchJSON("Identifier"));
+        assertEquals(1, Objects.requireNonNull(tempDir.toFile().listFiles()).length);
+    }
+
+    @Test
+    void identifiersWithoutFilesAreRemovedFromCatalog() {
+        JSONFileStorage underTest = (JSONFileStorage) UNDER_TEST;
+        long timestamp = System.currentTimeMillis();
+        underTest.storeJson("Identifier", Collections.singletonList("data"), timestamp - 1000L);
+        underTest.storeJson("Identifier-other", Collections.singletonList("data"), timestamp - 1000L);
+
+        underTest.invalidateOlder("Identifier", timestamp);
+
+        assertEquals(Collections.emptySet(), underTest.getCatalogedIdentifiers());
+    }
+}
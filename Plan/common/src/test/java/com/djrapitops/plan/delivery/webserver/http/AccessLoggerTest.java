@@ -0,0 +1,96 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import com.djrapitops.plan.delivery.webserver.configuration.WebserverConfiguration;
+import com.djrapitops.plan.storage.database.DBSystem;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.transactions.events.StoreRequestTransaction;
+import net.playeranalytics.plugin.server.PluginLogger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utilities.TestErrorLogger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for {@link AccessLogger} buffering.
+ *
+ * @author AuroraLS3
+ */
+class AccessLoggerTest {
+
+    private Database database;
+    private PluginLogger logger;
+    private AccessLogger underTest;
+
+    @BeforeEach
+    void setUp() {
+        WebserverConfiguration webserverConfiguration = mock(WebserverConfiguration.class);
+        when(webserverConfiguration.getAccessLogBufferSize()).thenReturn(3);
+        DBSystem dbSystem = mock(DBSystem.class);
+        database = mock(Database.class);
+        when(dbSystem.getDatabase()).thenReturn(database);
+
+        logger = mock(PluginLogger.class);
+
+        underTest = new AccessLogger(webserverConfiguration, dbSystem, logger, new TestErrorLogger());
+    }
+
+    private void logRequests(int count) {
+        InternalRequest request = mock(InternalRequest.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestedURIString()).thenReturn("/server");
+        Response response = Response.builder().setStatus(204).build();
+        for (int i = 0; i < count; i++) {
+            underTest.log(request, null, response);
+        }
+    }
+
+    @Test
+    void requestsAreStoredInOneBatch() {
+        logRequests(3);
+        verifyNoInteractions(database);
+
+        underTest.storeBufferedRequests();
+        underTest.storeBufferedRequests();
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+        assertEquals(0, underTest.getBufferedEntryCount());
+    }
+
+    @Test
+    void emptyBufferIsNotStored() {
+        underTest.storeBufferedRequests();
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void oldestRequestsAreDroppedWhenBufferIsFull() {
+        logRequests(5);
+        assertEquals(3, underTest.getBufferedEntryCount());
+        assertEquals(2, underTest.getDroppedEntryCount());
+
+        underTest.storeBufferedRequests();
+        verify(logger).warn(contains("2 requests were not stored"));
+        verify(database, times(1)).executeTransaction(any(StoreRequestTransaction.class));
+        assertEquals(2, underTest.getDroppedEntryCount());
+    }
+}
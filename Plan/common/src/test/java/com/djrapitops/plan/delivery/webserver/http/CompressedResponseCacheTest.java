@@ -0,0 +1,84 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.delivery.webserver.http;
+
+import com.djrapitops.plan.delivery.web.resolver.MimeType;
+import com.djrapitops.plan.delivery.web.resolver.Response;
+import org.eclipse.jetty.http.HttpHeader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link CompressedResponseCache} and Accept-Encoding negotiation in {@link JettyResponseSender}.
+ *
+ * @author AuroraLS3
+ */
+class CompressedResponseCacheTest {
+
+    @Test
+    void gzipIsAcceptedWhenListed() {
+        assertTrue(JettyResponseSender.acceptsGzip("gzip, deflate, br"));
+        assertTrue(JettyResponseSender.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertTrue(JettyResponseSender.acceptsGzip("*"));
+    }
+
+    @Test
+    void gzipIsNotAcceptedWhenMissingOrRefused() {
+        assertFalse(JettyResponseSender.acceptsGzip(null));
+        assertFalse(JettyResponseSender.acceptsGzip("identity"));
+        assertFalse(JettyResponseSender.acceptsGzip("gzip;q=0"));
+        assertFalse(JettyResponseSender.acceptsGzip("*;q=0, br"));
+    }
+
+    @Test
+    void responsesWithEtagAreCompressedOnce() throws IOException {
+        CompressedResponseCache underTest = new CompressedResponseCache();
+        Response response = Response.builder()
+                .setMimeType(MimeType.JSON)
+                .setContent("{\"value\":\"" + "a".repeat(1000) + "\"}")
+                .setHeader(HttpHeader.ETAG.asString(), 5L)
+                .build();
+
+        byte[] first = underTest.getGzipped("/v1/test", response);
+        byte[] second = underTest.getGzipped("/v1/test", response);
+
+        assertSame(first, second);
+        assertArrayEquals(response.getBytes(), gunzip(first));
+    }
+
+    @Test
+    void differentContentWithSameEtagIsNotMixed() throws IOException {
+        CompressedResponseCache underTest = new CompressedResponseCache();
+        Response first = Response.builder().setMimeType("text/plain").setContent("first").setHeader(HttpHeader.ETAG.asString(), 5L).build();
+        Response second = Response.builder().setMimeType("text/plain").setContent("second").setHeader(HttpHeader.ETAG.asString(), 5L).build();
+
+        assertEquals("first", new String(gunzip(underTest.getGzipped("/v1/test", first)), StandardCharsets.UTF_8));
+        assertEquals("second", new String(gunzip(underTest.getGzipped("/v1/test", second)), StandardCharsets.UTF_8));
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
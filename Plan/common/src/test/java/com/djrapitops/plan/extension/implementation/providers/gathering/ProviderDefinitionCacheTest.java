@@ -0,0 +1,97 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.extension.implementation.providers.gathering;
+
+import com.djrapitops.plan.extension.icon.Color;
+import com.djrapitops.plan.extension.icon.Icon;
+import com.djrapitops.plan.extension.implementation.ProviderInformation;
+import com.djrapitops.plan.extension.table.Table;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProviderDefinitionCacheTest {
+
+    private static ProviderInformation provider(String text, Color iconColor) {
+        return ProviderInformation.builder("Extension")
+                .setName("method")
+                .setText(text)
+                .setIcon(Icon.called("user").of(iconColor).build())
+                .build();
+    }
+
+    private static boolean storeAndCommit(ProviderDefinitionCache cache, ProviderInformation information, Table table, boolean forPlayer) {
+        Map<String, List<Object>> pending = new HashMap<>();
+        boolean needsToBeStored = cache.needsToBeStored(information, table, forPlayer, pending);
+        cache.recordDefinitions(pending);
+        return needsToBeStored;
+    }
+
+    @Test
+    void unchangedDefinitionIsNotStoredAgain() {
+        ProviderDefinitionCache cache = new ProviderDefinitionCache();
+        assertTrue(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+        assertFalse(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+    }
+
+    @Test
+    void changedDefinitionIsStoredAgain() {
+        ProviderDefinitionCache cache = new ProviderDefinitionCache();
+        assertTrue(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+        assertTrue(storeAndCommit(cache, provider("Other text", Color.RED), null, false));
+        assertTrue(storeAndCommit(cache, provider("Other text", Color.BLUE), null, false));
+        assertFalse(storeAndCommit(cache, provider("Other text", Color.BLUE), null, false));
+    }
+
+    @Test
+    void changedTableColumnsAreStoredAgain() {
+        ProviderDefinitionCache cache = new ProviderDefinitionCache();
+        ProviderInformation information = provider("Text", Color.RED);
+        Table table = Table.builder().columnOne("One", Icon.called("user").build()).build();
+        Table changed = Table.builder().columnOne("One", Icon.called("cube").build()).build();
+        assertTrue(storeAndCommit(cache, information, table, true));
+        assertFalse(storeAndCommit(cache, information, table, true));
+        assertTrue(storeAndCommit(cache, information, changed, true));
+    }
+
+    @Test
+    void forgottenDefinitionIsStoredAgain() {
+        ProviderDefinitionCache cache = new ProviderDefinitionCache();
+        assertTrue(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+        cache.forget(Collections.singleton("method"));
+        assertTrue(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+        cache.clear();
+        assertTrue(storeAndCommit(cache, provider("Text", Color.RED), null, false));
+    }
+
+    @Test
+    void uncommittedDefinitionIsStoredByOtherPasses() {
+        ProviderDefinitionCache cache = new ProviderDefinitionCache();
+        Map<String, List<Object>> firstPass = new HashMap<>();
+        assertTrue(cache.needsToBeStored(provider("Text", Color.RED), null, false, firstPass));
+        assertTrue(cache.needsToBeStored(provider("Text", Color.RED), null, false, new HashMap<>()));
+
+        cache.recordDefinitions(firstPass);
+        assertFalse(cache.needsToBeStored(provider("Text", Color.RED), null, false, new HashMap<>()));
+    }
+}
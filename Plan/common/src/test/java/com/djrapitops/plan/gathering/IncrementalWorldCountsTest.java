@@ -0,0 +1,107 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering;
+
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link IncrementalWorldCounts}.
+ *
+ * @author AuroraLS3
+ */
+class IncrementalWorldCountsTest {
+
+    private PlanConfig config;
+    private IncrementalWorldCounts underTest;
+
+    @BeforeEach
+    void setUp() {
+        config = Mockito.mock(PlanConfig.class);
+        when(config.get(DataGatheringSettings.WORLD_COUNTS_FULL_COUNT_PERIOD)).thenReturn(TimeUnit.MINUTES.toMillis(30L));
+        underTest = new IncrementalWorldCounts(config);
+    }
+
+    @Test
+    void firstCountIsFullCount() {
+        assertEquals(50, underTest.getEntityCount("world", () -> 50));
+        assertEquals(20, underTest.getChunkCount("world", () -> 20));
+    }
+
+    @Test
+    void eventsUpdateCountsWithoutFullCount() {
+        AtomicInteger fullCounts = new AtomicInteger();
+        underTest.getEntityCount("world", () -> {
+            fullCounts.incrementAndGet();
+            return 50;
+        });
+
+        underTest.entitiesAdded("world", 5);
+        underTest.entitiesRemoved("world", 2);
+        int result = underTest.getEntityCount("world", () -> {
+            fullCounts.incrementAndGet();
+            return 0;
+        });
+
+        assertEquals(53, result);
+        assertEquals(1, fullCounts.get());
+    }
+
+    @Test
+    void chunkEventsUpdateCounts() {
+        underTest.getChunkCount("world", () -> 20);
+        underTest.chunkLoaded("world");
+        underTest.chunkLoaded("world");
+        underTest.chunkUnloaded("world");
+
+        assertEquals(21, underTest.getChunkCount("world", () -> 0));
+    }
+
+    @Test
+    void countIsRecountedAfterPeriod() {
+        when(config.get(DataGatheringSettings.WORLD_COUNTS_FULL_COUNT_PERIOD)).thenReturn(0L);
+        underTest.getEntityCount("world", () -> 50);
+        underTest.entitiesAdded("world", 5);
+
+        assertEquals(40, underTest.getEntityCount("world", () -> 40));
+    }
+
+    @Test
+    void driftedCountIsNotNegative() {
+        underTest.getEntityCount("world", () -> 1);
+        underTest.entitiesRemoved("world", 3);
+
+        assertEquals(0, underTest.getEntityCount("world", () -> 1));
+    }
+
+    @Test
+    void unloadedWorldIsCountedAgain() {
+        underTest.getEntityCount("world", () -> 50);
+        underTest.worldUnloaded("world");
+
+        assertEquals(10, underTest.getEntityCount("world", () -> 10));
+    }
+}
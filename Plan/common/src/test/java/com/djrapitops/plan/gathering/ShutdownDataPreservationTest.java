@@ -52,7 +52,7 @@ class ShutdownDataPreservationTest {
                 system.getDatabaseSystem(),
                 abstractionLayer.getPluginLogger(),
                 errorLogger,
-                new ServerShutdownSave(system.getLocaleSystem().getLocale(), system.getDatabaseSystem(), new TestPluginLogger(), errorLogger) {
+                new ServerShutdownSave(system.getLocaleSystem().getLocale(), system.getDatabaseSystem(), system.getServerInfo(), new TestPluginLogger(), errorLogger) {
                     @Override
                     protected boolean checkServerShuttingDownStatus() {
                         return false;
@@ -17,17 +17,21 @@
 package com.djrapitops.plan.gathering;
 
 import com.djrapitops.plan.PlanSystem;
+import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.gathering.afk.AFKTracker;
 import com.djrapitops.plan.gathering.cache.SessionCache;
 import com.djrapitops.plan.gathering.domain.ActiveSession;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.gathering.domain.GMTimes;
 import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.queries.objects.ServerLifecycleQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.sql.tables.ServerLifecycleTable;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.PlayerRegisterTransaction;
@@ -80,9 +84,11 @@ class ShutdownSaveTest {
 
         DBSystem dbSystemMock = mock(DBSystem.class);
         when(dbSystemMock.getDatabase()).thenReturn(database);
+        ServerInfo serverInfoMock = mock(ServerInfo.class);
+        when(serverInfoMock.getServerUUIDSafe()).thenReturn(Optional.of(TestConstants.SERVER_UUID));
 
         TestPluginLogger logger = new TestPluginLogger();
-        underTest = new ServerShutdownSave(new Locale(), dbSystemMock, logger, new TestErrorLogger()) {
+        underTest = new ServerShutdownSave(new Locale(), dbSystemMock, serverInfoMock, logger, new TestErrorLogger()) {
             @Override
             protected boolean checkServerShuttingDownStatus() {
                 return shutdownStatus;
@@ -137,6 +143,33 @@ class ShutdownSaveTest {
         database.close();
     }
 
+    @Test
+    void stopEventIsStoredOnServerShutdown() throws Exception {
+        shutdownStatus = true;
+        Optional<Future<?>> save = underTest.performSave();
+        assertTrue(save.isPresent());
+        save.get().get();
+
+        database.init();
+        Optional<String> latestEvent = database.query(ServerLifecycleQueries.fetchLatestEvent(TestConstants.SERVER_UUID))
+                .map(DateObj::getValue);
+        assertEquals(Optional.of(ServerLifecycleTable.EVENT_STOP), latestEvent);
+        database.close();
+    }
+
+    @Test
+    void stopEventIsStoredOnServerShutdownWithoutSessions() throws Exception {
+        SessionCache.clear();
+        shutdownStatus = true;
+        Optional<Future<?>> save = underTest.performSave();
+        assertTrue(save.isPresent());
+        save.get().get();
+
+        Optional<String> latestEvent = database.query(ServerLifecycleQueries.fetchLatestEvent(TestConstants.SERVER_UUID))
+                .map(DateObj::getValue);
+        assertEquals(Optional.of(ServerLifecycleTable.EVENT_STOP), latestEvent);
+    }
+
     private void placeSessionToCache() {
         ServerUUID serverUUID = TestConstants.SERVER_UUID;
         UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
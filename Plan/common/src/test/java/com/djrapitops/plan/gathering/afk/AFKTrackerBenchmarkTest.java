@@ -0,0 +1,119 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.afk;
+
+import com.djrapitops.plan.gathering.cache.SessionCache;
+import com.djrapitops.plan.gathering.domain.ActiveSession;
+import com.djrapitops.plan.settings.config.PlanConfig;
+import com.djrapitops.plan.settings.config.paths.TimeSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares per-event cost of AFK tracking for 300 moving players.
+ * <p>
+ * "Before" mimics the earlier path that looked up the session (and refreshed its world times) on every event.
+ *
+ * @author AuroraLS3
+ */
+class AFKTrackerBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("Plan");
+
+    private static final int PLAYERS = 300;
+    private static final int EVENTS_PER_PLAYER = 2000;
+    private static final long EVENT_INTERVAL_MS = 50L;
+
+    private UUID[] playerUUIDs;
+    private AFKTracker underTest;
+
+    @BeforeEach
+    void setUp() {
+        PlanConfig config = Mockito.mock(PlanConfig.class);
+        when(config.get(TimeSettings.AFK_THRESHOLD)).thenReturn(TimeUnit.MINUTES.toMillis(3L));
+        underTest = new AFKTracker(config);
+
+        SessionCache sessionCache = new SessionCache();
+        playerUUIDs = new UUID[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            UUID playerUUID = UUID.randomUUID();
+            playerUUIDs[i] = playerUUID;
+            ActiveSession session = new ActiveSession(playerUUID, null, 0L, "world", "SURVIVAL");
+            for (int world = 0; world < 5; world++) {
+                session.changeState("world_" + world, world % 2 == 0 ? "SURVIVAL" : "CREATIVE", world * 1000L);
+            }
+            sessionCache.cacheSession(playerUUID, session);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionCache.clear();
+    }
+
+    @Test
+    void movementIsCheaperThanSessionLookupPerEvent() {
+        long before = perEventNanos(startTime -> {
+            for (int event = 0; event < EVENTS_PER_PLAYER; event++) {
+                long time = startTime + event * EVENT_INTERVAL_MS;
+                for (UUID playerUUID : playerUUIDs) {
+                    long lastMoved = SessionCache.getCachedSession(playerUUID)
+                            .map(ActiveSession::getLastMovementForAfkCalculation)
+                            .orElse(time);
+                    SessionCache.getCachedSession(playerUUID)
+                            .ifPresent(session -> session.setLastMovementForAfkCalculation(time));
+                    if (time - lastMoved >= underTest.getAfkThreshold()) {
+                        SessionCache.getCachedSession(playerUUID)
+                                .ifPresent(session -> session.addAfkTime(time - lastMoved));
+                    }
+                }
+            }
+        });
+        long after = perEventNanos(startTime -> {
+            for (int event = 0; event < EVENTS_PER_PLAYER; event++) {
+                long time = startTime + event * EVENT_INTERVAL_MS;
+                for (UUID playerUUID : playerUUIDs) {
+                    underTest.performedMovement(playerUUID, time);
+                }
+            }
+        });
+
+        LOGGER.log(Level.INFO, () -> "AFK tracking per movement event: before " + before + "ns, after " + after + "ns");
+        assertTrue(after < before, () -> "Movement tracking took " + after + "ns per event, session lookup took " + before + "ns");
+    }
+
+    private static long perEventNanos(LongConsumer events) {
+        long warmUpStart = 10_000L;
+        events.accept(warmUpStart);
+
+        long startTime = warmUpStart + EVENTS_PER_PLAYER * EVENT_INTERVAL_MS;
+        long start = System.nanoTime();
+        events.accept(startTime);
+        return (System.nanoTime() - start) / ((long) PLAYERS * EVENTS_PER_PLAYER);
+    }
+}
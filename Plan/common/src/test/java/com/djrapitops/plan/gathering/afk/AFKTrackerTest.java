@@ -105,4 +105,20 @@ class AFKTrackerTest {
         long afkTime = underTest.loggedOut(playerUUID, afkThreshold * 2);
         assertEquals(0L, afkTime);
     }
-}
\ No newline at end of file
+
+    @Test
+    void movementIsSampled() {
+        underTest.performedAction(playerUUID, 0L);
+        underTest.performedMovement(playerUUID, AFKTracker.MOVEMENT_SAMPLE_INTERVAL_MS / 2);
+        long afkTime = underTest.loggedOut(playerUUID, afkThreshold);
+        assertEquals(afkThreshold, afkTime);
+    }
+
+    @Test
+    void someoneIsAFKForAWhileAndMoves() {
+        underTest.performedAction(playerUUID, 0L);
+        long afkTime = underTest.performedMovement(playerUUID, afkThreshold * 2);
+        assertEquals(afkThreshold * 2, afkTime);
+        assertEquals(0L, underTest.loggedOut(playerUUID, afkThreshold * 2 + 1));
+    }
+}
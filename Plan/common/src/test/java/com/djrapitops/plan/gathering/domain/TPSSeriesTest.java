@@ -0,0 +1,158 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.domain;
+
+import com.djrapitops.plan.delivery.domain.mutators.TPSMutator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TPSSeries}, results are compared against {@link TPSMutator}.
+ *
+ * @author AuroraLS3
+ */
+class TPSSeriesTest {
+
+    private static final double THRESHOLD = 18.0;
+
+    private static List<TPS> testData;
+    private static TPSSeries series;
+    private static long time;
+
+    @BeforeAll
+    static void setUpTestData() {
+        Random random = new Random(5L);
+        testData = new ArrayList<>();
+        series = new TPSSeries(16);
+
+        time = System.currentTimeMillis();
+        long date = time - TimeUnit.DAYS.toMillis(10L);
+        while (date < time) {
+            TPS tps = new TPS(
+                    date,
+                    random.nextInt(10) == 0 ? -1 : random.nextDouble() * 20.0,
+                    random.nextInt(10) == 0 ? -1 : random.nextInt(100),
+                    random.nextInt(10) == 0 ? -1 : random.nextDouble() * 100.0,
+                    random.nextInt(10) == 0 ? -1 : random.nextInt(8000),
+                    random.nextInt(10) == 0 ? -1 : random.nextInt(5000),
+                    random.nextInt(10) == 0 ? -1 : random.nextInt(2000),
+                    random.nextInt(10) == 0 ? -1 : random.nextInt(100000)
+            );
+            testData.add(tps);
+            series.add(tps);
+            // Occasional gaps to create downtime
+            date += TimeUnit.MINUTES.toMillis(random.nextInt(50) == 0 ? 30L : 1L);
+        }
+    }
+
+    private static void assertSameAggregates(TPSMutator expected, TPSSeries.Aggregates result) {
+        assertEquals(expected.averagePlayers(), result.averagePlayers());
+        assertEquals(expected.averagePlayersOnline(), result.averagePlayersOnline(), 0.0001);
+        assertEquals(expected.averageTPS(), result.averageTPS(), 0.0001);
+        assertEquals(expected.averageCPU(), result.averageCPU(), 0.0001);
+        assertEquals(expected.averageRAM(), result.averageRAM(), 0.0001);
+        assertEquals(expected.averageEntities(), result.averageEntities(), 0.0001);
+        assertEquals(expected.averageChunks(), result.averageChunks(), 0.0001);
+        assertEquals(expected.averageFreeDisk(), result.averageFreeDisk(), 0.0001);
+        assertEquals(expected.maxFreeDisk(), result.maxFreeDisk());
+        assertEquals(expected.minFreeDisk(), result.minFreeDisk());
+        assertEquals(expected.lowTpsSpikeCount(THRESHOLD), result.lowTpsSpikeCount());
+        assertEquals(expected.serverDownTime(), result.serverDownTime());
+    }
+
+    @Test
+    void aggregatesMatchMutator() {
+        assertSameAggregates(new TPSMutator(new ArrayList<>(testData)), series.aggregate(THRESHOLD));
+    }
+
+    @Test
+    void lowTpsAggregatesMatchMutator() {
+        TPSMutator expected = new TPSMutator(new ArrayList<>(testData)).filterTPSBetween(-1, THRESHOLD);
+        TPSSeries.Aggregates result = series.aggregate(THRESHOLD).lowTps();
+
+        assertEquals(expected.averagePlayersOnline(), result.averagePlayersOnline(), 0.0001);
+        assertEquals(expected.averageTPS(), result.averageTPS(), 0.0001);
+        assertEquals(expected.averageCPU(), result.averageCPU(), 0.0001);
+        assertEquals(expected.averageEntities(), result.averageEntities(), 0.0001);
+        assertEquals(expected.averageChunks(), result.averageChunks(), 0.0001);
+    }
+
+    @Test
+    void betweenMatchesFilterDataBetween() {
+        long after = testData.get(100).getDate();
+        long before = time - TimeUnit.DAYS.toMillis(2L);
+        TPSMutator expected = new TPSMutator(new ArrayList<>(testData)).filterDataBetween(after, before);
+        TPSSeries view = series.between(after, before);
+
+        assertEquals(expected.all().size(), view.size());
+        assertEquals(after, view.getDate(0));
+        assertEquals(expected.all().get(0), view.get(0));
+        assertSameAggregates(expected, view.aggregate(THRESHOLD));
+    }
+
+    @Test
+    void betweenWithoutDataIsEmpty() {
+        TPSSeries view = series.between(time + 1, time + TimeUnit.DAYS.toMillis(1L));
+        assertTrue(view.isEmpty());
+
+        TPSSeries.Aggregates aggregates = view.aggregate(THRESHOLD);
+        assertEquals(-1, aggregates.averageTPS());
+        assertEquals(-1, aggregates.maxFreeDisk());
+        assertEquals(0, aggregates.serverDownTime());
+    }
+
+    @Test
+    void viewCanNotBeAddedTo() {
+        TPSSeries view = series.between(0, time);
+        TPS tps = testData.get(0);
+        assertThrows(IllegalStateException.class, () -> view.add(tps));
+    }
+
+    @Test
+    void trimmedSeriesKeepsDataPoints() {
+        TPSSeries trimmed = new TPSSeries();
+        testData.forEach(trimmed::add);
+        trimmed.trimToSize();
+
+        assertEquals(testData.size(), trimmed.size());
+        assertEquals(testData.get(testData.size() - 1).getDate(), trimmed.getDate(trimmed.size() - 1));
+        assertThrows(IllegalStateException.class, () -> trimmed.between(0, time).trimToSize());
+    }
+
+    @Test
+    void combinedAggregatesMatchMutatorOfConcatenatedData() {
+        int half = testData.size() / 2;
+        TPSSeries first = series.between(0, testData.get(half - 1).getDate());
+        TPSSeries second = series.between(testData.get(half).getDate(), time);
+
+        TPSSeries.Aggregates combined = TPSSeries.Aggregates.combine(List.of(first.aggregate(THRESHOLD), second.aggregate(THRESHOLD)));
+        TPSMutator expected = new TPSMutator(new ArrayList<>(testData));
+
+        assertEquals(expected.averageTPS(), combined.averageTPS(), 0.0001);
+        assertEquals(expected.averageRAM(), combined.averageRAM(), 0.0001);
+        assertEquals(expected.maxFreeDisk(), combined.maxFreeDisk());
+        assertEquals(expected.minFreeDisk(), combined.minFreeDisk());
+        assertEquals(expected.filterTPSBetween(-1, THRESHOLD).averageCPU(), combined.lowTps().averageCPU(), 0.0001);
+    }
+}
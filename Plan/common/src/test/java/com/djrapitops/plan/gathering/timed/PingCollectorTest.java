@@ -0,0 +1,130 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.timed;
+
+import com.djrapitops.plan.gathering.domain.Ping;
+import com.djrapitops.plan.utilities.analysis.Median;
+import org.junit.jupiter.api.Test;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link PingCollector}.
+ *
+ * @author AuroraLS3
+ */
+class PingCollectorTest {
+
+    private final UUID playerUUID = TestConstants.PLAYER_ONE_UUID;
+
+    @Test
+    void aggregateHasMinMaxAndMedian() {
+        PingCollector.PingBuffer buffer = new PingCollector.PingBuffer();
+        buffer.add(1L, 50);
+        buffer.add(2L, 10);
+        buffer.add(3L, 30);
+        buffer.add(4L, 20);
+
+        Ping ping = new PingCollector().aggregate(buffer, TestConstants.SERVER_UUID);
+        assertEquals(10, ping.getMin());
+        assertEquals(50, ping.getMax());
+        assertEquals(25, ping.getAverage());
+        assertEquals(4L, ping.getDate());
+    }
+
+    @Test
+    void medianCalculationIsCorrect() {
+        PingCollector.PingBuffer buffer = new PingCollector.PingBuffer();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < PingCollector.SAMPLES_PER_STORE; i++) {
+            int value = RandomData.randomInt(1, 4000);
+            buffer.add(i, value);
+            values.add(value);
+        }
+        Collections.sort(values);
+
+        int expected = (int) Median.forList(values).calculate();
+        int result = (int) new PingCollector().aggregate(buffer, TestConstants.SERVER_UUID).getAverage();
+        assertEquals(expected, result);
+    }
+
+    @Test
+    void medianCalculationForSingleEntryIsEntry() {
+        PingCollector.PingBuffer buffer = new PingCollector.PingBuffer();
+        buffer.add(0L, 50);
+
+        assertEquals(50, new PingCollector().aggregate(buffer, TestConstants.SERVER_UUID).getAverage(), 0.0);
+    }
+
+    @Test
+    void bufferOverwritesOldestSamples() {
+        PingCollector.PingBuffer buffer = new PingCollector.PingBuffer();
+        for (int i = 0; i < PingCollector.SAMPLES_PER_STORE + 5; i++) {
+            buffer.add(i, i + 1);
+        }
+        assertEquals(PingCollector.SAMPLES_PER_STORE, buffer.size());
+        assertEquals(6, buffer.get(0));
+        assertEquals(PingCollector.SAMPLES_PER_STORE + 5, buffer.get(buffer.size() - 1));
+    }
+
+    @Test
+    void offlinePlayersAreRemovedAndBadValuesIgnored() {
+        PingCollector collector = new PingCollector();
+        collector.startRecording(playerUUID, 10L);
+
+        collector.collect(5L, uuid -> 20);
+        assertFalse(collector.isRecording(playerUUID));
+        collector.collect(10L, uuid -> -1);
+        assertTrue(collector.isRecording(playerUUID));
+        collector.collect(12L, uuid -> PingCollector.PLAYER_OFFLINE);
+        assertFalse(collector.isRecording(playerUUID));
+    }
+
+    @Test
+    void readyToStoreAfterAMinuteOfSamples() {
+        PingCollector collector = new PingCollector();
+        collector.addPlayer(playerUUID);
+        for (int i = 0; i < PingCollector.SAMPLES_PER_STORE - 1; i++) {
+            collector.collect(i, uuid -> 20);
+            assertFalse(collector.isReadyToStore());
+        }
+        collector.collect(PingCollector.SAMPLES_PER_STORE, uuid -> 20);
+        assertTrue(collector.isReadyToStore());
+
+        assertNotNull(collector.createStoreTransaction(TestConstants.SERVER_UUID));
+        assertFalse(collector.isReadyToStore());
+    }
+
+    @Test
+    void clearForgetsPendingRecordings() {
+        PingCollector collector = new PingCollector();
+        collector.startRecording(playerUUID, 10L);
+        collector.collect(5L, uuid -> 20);
+
+        collector.clear();
+        collector.collect(10L, uuid -> 20);
+        assertFalse(collector.isRecording(playerUUID));
+        assertFalse(collector.isReadyToStore());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.placeholder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceholderValueCacheTest {
+
+    private static final long REFRESH_INTERVAL = 1000L;
+
+    private Queue<Runnable> scheduled;
+    private AtomicLong time;
+    private PlaceholderValueCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        scheduled = new ArrayDeque<>();
+        time = new AtomicLong(0L);
+        underTest = new PlaceholderValueCache(scheduled::add, time::get);
+    }
+
+    private void runScheduled() {
+        while (!scheduled.isEmpty()) {
+            scheduled.poll().run();
+        }
+    }
+
+    @Test
+    void missingValueIsLoadedInBackground() {
+        assertNull(underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value"));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals("value", underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value"));
+        assertTrue(scheduled.isEmpty());
+
+        PlaceholderMetrics metrics = underTest.getMetrics().get("test");
+        assertEquals(1, metrics.getMisses());
+        assertEquals(1, metrics.getHits());
+        assertEquals(1, metrics.getLoads());
+    }
+
+    @Test
+    void concurrentMissesAreCoalesced() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<String> loader = () -> String.valueOf(loadCount.incrementAndGet());
+
+        CompletableFuture<String> first = underTest.get("test", "test-key", REFRESH_INTERVAL, loader);
+        CompletableFuture<String> second = underTest.get("test", "test-key", REFRESH_INTERVAL, loader);
+        assertNull(underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, loader));
+        assertSame(first, second);
+        runScheduled();
+
+        assertEquals(1, loadCount.get());
+        assertEquals("1", first.join());
+        assertEquals(2, underTest.getMetrics().get("test").getCoalescedLoads());
+    }
+
+    @Test
+    void staleValueIsServedWhileRefreshing() {
+        underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "old");
+        runScheduled();
+
+        time.addAndGet(REFRESH_INTERVAL);
+        assertEquals("old", underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "new"));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals("new", underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "new"));
+    }
+
+    @Test
+    void failedLoadIsRecordedAndRetried() {
+        Supplier<String> failing = () -> {
+            throw new IllegalStateException("Test failure");
+        };
+        CompletableFuture<String> result = underTest.get("test", "test-key", REFRESH_INTERVAL, failing);
+        assertThrows(IllegalStateException.class, this::runScheduled);
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1, underTest.getMetrics().get("test").getFailedLoads());
+
+        assertNull(underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value"));
+        runScheduled();
+        assertEquals("value", underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value"));
+    }
+
+    @Test
+    void unusedValuesAreRemoved() {
+        underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value");
+        runScheduled();
+
+        time.addAndGet(PlaceholderValueCache.UNUSED_VALUE_EXPIRY_MS + 1);
+        assertNull(underTest.getIfPresent("test", "test-key", REFRESH_INTERVAL, () -> "value"));
+    }
+}
@@ -126,6 +126,29 @@ public interface DatabaseTest extends DatabaseTestPreparer {
         assertQueryIsEmpty(db(), SessionQueries.fetchSessionsOfPlayer(playerUUID));
     }
 
+    @Test
+    default void cachedPlayerIdentifiersAreInvalidatedOnRename() {
+        saveUserTwo();
+        assertEquals(Optional.of(TestConstants.PLAYER_TWO_NAME), db().query(UserIdentifierQueries.fetchPlayerNameOf(player2UUID)));
+        assertEquals(Optional.of(player2UUID), db().query(UserIdentifierQueries.fetchPlayerUUIDOf(TestConstants.PLAYER_TWO_NAME)));
+
+        db().executeTransaction(new PlayerRegisterTransaction(player2UUID, RandomData::randomTime, "Renamed"));
+
+        assertEquals(Optional.of("Renamed"), db().query(UserIdentifierQueries.fetchPlayerNameOf(player2UUID)));
+        assertEquals(Optional.of(player2UUID), db().query(UserIdentifierQueries.fetchPlayerUUIDOf("renamed")));
+        assertEquals(Optional.empty(), db().query(UserIdentifierQueries.fetchPlayerUUIDOf(TestConstants.PLAYER_TWO_NAME)));
+    }
+
+    @Test
+    default void cachedUserIdIsInvalidatedOnRemoval() {
+        saveUserTwo();
+        assertTrue(db().query(UserIdentifierQueries.fetchUserId(player2UUID)).isPresent());
+
+        db().executeTransaction(new RemovePlayerTransaction(player2UUID));
+
+        assertFalse(db().query(UserIdentifierQueries.fetchUserId(player2UUID)).isPresent());
+    }
+
     default <T extends Map<?, ?>> void assertQueryIsEmpty(Database database, Query<T> query) {
         assertTrue(database.query(query).isEmpty());
     }
@@ -24,6 +24,7 @@ import com.djrapitops.plan.storage.database.transactions.commands.ChangeUserUUID
 import com.djrapitops.plan.storage.database.transactions.commands.CombineUserTransactionTest;
 import com.djrapitops.plan.storage.database.transactions.patches.AfterBadJoinAddressDataCorrectionPatchTest;
 import com.djrapitops.plan.storage.database.transactions.patches.BadJoinAddressDataCorrectionPatchTest;
+import com.djrapitops.plan.storage.database.transactions.patches.PatchLedgerTest;
 
 public interface DatabaseTestAggregate extends
         ActivityIndexQueriesTest,
@@ -45,6 +46,7 @@ public interface DatabaseTestAggregate extends
         ExtensionQueryResultTableDataQueryTest,
         BadJoinAddressDataCorrectionPatchTest,
         AfterBadJoinAddressDataCorrectionPatchTest,
+        PatchLedgerTest,
         PlayerRetentionQueriesTest {
     /* Collects all query tests together so its easier to implement database tests */
 }
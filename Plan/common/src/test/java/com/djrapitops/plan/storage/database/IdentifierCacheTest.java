@@ -0,0 +1,89 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link IdentifierCache}.
+ *
+ * @author AuroraLS3
+ */
+class IdentifierCacheTest {
+
+    private final IdentifierCache underTest = new IdentifierCache();
+    private final UUID playerUUID = UUID.randomUUID();
+
+    @Test
+    void playerIdentifiersAreCachedBothWays() {
+        long generation = underTest.getGeneration();
+        underTest.cacheUserId(generation, playerUUID, 5);
+        underTest.cachePlayerName(generation, playerUUID, "Player");
+
+        assertEquals(Optional.of(5), underTest.getUserId(playerUUID));
+        assertEquals(Optional.of(playerUUID), underTest.getPlayerUUID(5));
+        assertEquals(Optional.of("Player"), underTest.getPlayerName(playerUUID));
+        assertEquals(Optional.of(playerUUID), underTest.getPlayerUUID("PLAYER"));
+    }
+
+    @Test
+    void invalidatedPlayerIsRemovedBothWays() {
+        long generation = underTest.getGeneration();
+        underTest.cacheUserId(generation, playerUUID, 5);
+        underTest.cachePlayerName(generation, playerUUID, "Player");
+
+        underTest.invalidatePlayer(playerUUID);
+
+        assertFalse(underTest.getUserId(playerUUID).isPresent());
+        assertFalse(underTest.getPlayerUUID(5).isPresent());
+        assertFalse(underTest.getPlayerName(playerUUID).isPresent());
+        assertFalse(underTest.getPlayerUUID("Player").isPresent());
+    }
+
+    @Test
+    void valueReadBeforeInvalidationIsNotCached() {
+        long generation = underTest.getGeneration();
+        underTest.invalidatePlayer(playerUUID);
+        underTest.cachePlayerName(generation, playerUUID, "OldName");
+
+        assertFalse(underTest.getPlayerName(playerUUID).isPresent());
+    }
+
+    @Test
+    void cachedServerIsCopied() {
+        ServerUUID serverUUID = ServerUUID.randomUUID();
+        Server server = new Server(1, serverUUID, "Server", "", false, "5.6");
+        underTest.cacheServer(underTest.getGeneration(), "server", server);
+        server.setName("Changed");
+
+        Server cached = underTest.getServer("SERVER").orElseThrow(AssertionError::new);
+        assertEquals("Server", cached.getName());
+        assertEquals(Optional.of(1), underTest.getServerId(serverUUID));
+        assertNotSame(cached, underTest.getServer("server").orElseThrow(AssertionError::new));
+
+        underTest.invalidateServers();
+        assertFalse(underTest.getServer("server").isPresent());
+        assertFalse(underTest.getServerUUID(1).isPresent());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionCoalescer}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionCoalescerTest {
+
+    @Test
+    void unregisteredTransactionsAreNotBuffered() {
+        TransactionCoalescer underTest = new TransactionCoalescer(transaction -> CompletableFuture.completedFuture(null));
+        assertFalse(underTest.offer(new BufferedTransaction()).isPresent());
+    }
+
+    @Test
+    void bufferedTransactionsAreCombinedOnFlush() {
+        List<Transaction> executed = new ArrayList<>();
+        List<Integer> combinedCounts = new ArrayList<>();
+        TransactionCoalescer underTest = new TransactionCoalescer(transaction -> {
+            executed.add(transaction);
+            return CompletableFuture.completedFuture(null);
+        }).register(BufferedTransaction.class, transactions -> {
+            combinedCounts.add(transactions.size());
+            return new BufferedTransaction();
+        });
+
+        CompletableFuture<?> first = underTest.offer(new BufferedTransaction()).orElseThrow(AssertionError::new);
+        CompletableFuture<?> second = underTest.offer(new BufferedTransaction()).orElseThrow(AssertionError::new);
+        CompletableFuture<?> third = underTest.offer(new BufferedTransaction()).orElseThrow(AssertionError::new);
+        assertTrue(executed.isEmpty());
+        assertFalse(first.isDone());
+
+        underTest.flush();
+
+        assertEquals(1, executed.size());
+        assertEquals(List.of(3), combinedCounts);
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        assertTrue(third.isDone());
+    }
+
+    @Test
+    void singleTransactionIsExecutedAsIs() {
+        List<Transaction> executed = new ArrayList<>();
+        TransactionCoalescer underTest = new TransactionCoalescer(transaction -> {
+            executed.add(transaction);
+            return CompletableFuture.completedFuture(null);
+        }).register(BufferedTransaction.class, transactions -> {
+            throw new AssertionError("Should not combine a single transaction");
+        });
+
+        BufferedTransaction transaction = new BufferedTransaction();
+        underTest.offer(transaction);
+        underTest.flush();
+        underTest.flush();
+
+        assertEquals(List.of(transaction), executed);
+    }
+
+    @Test
+    void failedExecutionFailsBufferedFutures() {
+        IllegalStateException failure = new IllegalStateException("Failed");
+        TransactionCoalescer underTest = new TransactionCoalescer(transaction -> CompletableFuture.failedFuture(failure))
+                .register(BufferedTransaction.class, transactions -> new BufferedTransaction());
+
+        CompletableFuture<?> first = underTest.offer(new BufferedTransaction()).orElseThrow(AssertionError::new);
+        CompletableFuture<?> second = underTest.offer(new BufferedTransaction()).orElseThrow(AssertionError::new);
+        underTest.flush();
+
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @Test
+    void bufferedTransactionsWithSameKeyAreQueuedBeforeUnbufferedTransaction() {
+        List<Transaction> executed = new ArrayList<>();
+        TransactionCoalescer underTest = new TransactionCoalescer(transaction -> {
+            executed.add(transaction);
+            return CompletableFuture.completedFuture(null);
+        }).register(BufferedTransaction.class, transactions -> new BufferedTransaction());
+
+        BufferedTransaction sameKey = new BufferedTransaction("key");
+        BufferedTransaction otherKey = new BufferedTransaction("other");
+        underTest.offer(sameKey);
+        underTest.offer(otherKey);
+
+        KeyedTransaction unbuffered = new KeyedTransaction("key");
+        assertFalse(underTest.offer(unbuffered).isPresent());
+        executed.add(unbuffered);
+
+        assertEquals(List.of(sameKey, unbuffered), executed);
+
+        underTest.flush();
+        assertEquals(List.of(sameKey, unbuffered, otherKey), executed);
+    }
+
+    static class BufferedTransaction extends KeyedTransaction {
+        BufferedTransaction() {
+            super(null);
+        }
+
+        BufferedTransaction(Object orderingKey) {
+            super(orderingKey);
+        }
+    }
+
+    static class KeyedTransaction extends Transaction {
+        private final Object orderingKey;
+
+        KeyedTransaction(Object orderingKey) {
+            this.orderingKey = orderingKey;
+        }
+
+        @Override
+        public Object getOrderingKey() {
+            return orderingKey;
+        }
+
+        @Override
+        protected void performOperations() {
+            // Not executed in this test
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TransactionLanes}.
+ *
+ * @author AuroraLS3
+ */
+class TransactionLanesTest {
+
+    @Test
+    void sameKeyIsRoutedToSameLane() {
+        TransactionLanes lanes = new TransactionLanes(4, Executors::newSingleThreadExecutor);
+        try {
+            UUID key = UUID.randomUUID();
+            assertSame(lanes.getLane(key), lanes.getLane(UUID.fromString(key.toString())));
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test
+    void keylessTransactionsUseFirstLane() {
+        TransactionLanes lanes = new TransactionLanes(4, Executors::newSingleThreadExecutor);
+        try {
+            assertSame(lanes.getFirstLane(), lanes.getLane(null));
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test
+    void atLeastOneLaneIsCreated() {
+        TransactionLanes lanes = new TransactionLanes(0, Executors::newSingleThreadExecutor);
+        try {
+            assertEquals(1, lanes.getLaneCount());
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test
+    void statisticsTrackQueueSize() {
+        TransactionLanes lanes = new TransactionLanes(2, Executors::newSingleThreadExecutor);
+        try {
+            TransactionLanes.Lane lane = lanes.getFirstLane();
+            long queuedAt = lane.queued();
+            assertEquals(1, lane.getStatistics().getQueueSize());
+
+            lane.started(queuedAt);
+            lane.finished();
+            List<TransactionLanes.LaneStatistics> statistics = lanes.getStatistics();
+            assertEquals(2, statistics.size());
+            assertEquals(0, statistics.get(0).getQueueSize());
+            assertEquals(1, statistics.get(0).getExecutedCount());
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectedTransactionIsRemovedFromQueueSize() {
+        TransactionLanes lanes = new TransactionLanes(1, Executors::newSingleThreadExecutor);
+        try {
+            TransactionLanes.Lane lane = lanes.getFirstLane();
+            lane.queued();
+            lane.rejected();
+
+            TransactionLanes.LaneStatistics statistics = lane.getStatistics();
+            assertEquals(0, statistics.getQueueSize());
+            assertEquals(0, statistics.getExecutedCount());
+        } finally {
+            lanes.shutdownNow();
+        }
+    }
+}
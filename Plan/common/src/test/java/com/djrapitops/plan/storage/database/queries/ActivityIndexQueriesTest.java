@@ -21,12 +21,14 @@ import com.djrapitops.plan.delivery.domain.mutators.ActivityIndex;
 import com.djrapitops.plan.delivery.domain.mutators.SessionsMutator;
 import com.djrapitops.plan.gathering.domain.FinishedSession;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexHistoryQueries;
 import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
 import com.djrapitops.plan.storage.database.sql.tables.SessionsTable;
 import com.djrapitops.plan.storage.database.sql.tables.UsersTable;
+import com.djrapitops.plan.storage.database.transactions.events.StoreActivityIndexSnapshotTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreSessionTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.StoreWorldNameTransaction;
@@ -38,9 +40,7 @@ import utilities.TestConstants;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -266,4 +266,46 @@ public interface ActivityIndexQueriesTest extends DatabaseTestPreparer {
         Integer result = db().query(ActivityIndexQueries.fetchRegularPlayerCount(System.currentTimeMillis(), serverUUID(), playtimeThreshold));
         assertEquals(expected, result);
     }
+
+    @Test
+    default void activityIndexSnapshotsMatchCalculatedGroupings() {
+        storeSessions(session -> true);
+        long threshold = TimeUnit.HOURS.toMillis(2L);
+        List<Long> dates = ActivityIndexHistoryQueries.getSnapshotDates(System.currentTimeMillis());
+        assertEquals(8, dates.size());
+
+        Map<Long, Map<String, Integer>> expected = new HashMap<>();
+        for (Long date : dates) {
+            Map<String, Integer> groupings = db().query(ActivityIndexQueries.fetchActivityIndexGroupingsOn(date, serverUUID(), threshold));
+            db().executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID(), date, threshold, groupings));
+            expected.put(date, groupings);
+        }
+
+        Map<Long, Map<String, Integer>> result = db().query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(serverUUID(), dates, threshold));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    default void activityIndexSnapshotsOfOtherThresholdAreNotFound() {
+        long threshold = TimeUnit.HOURS.toMillis(2L);
+        List<Long> dates = ActivityIndexHistoryQueries.getSnapshotDates(System.currentTimeMillis());
+        db().executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID(), dates.get(0), threshold, Collections.emptyMap()));
+
+        Map<Long, Map<String, Integer>> result = db().query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(serverUUID(), dates, threshold + 1L));
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    default void activityIndexSnapshotOfOtherThresholdIsNotReplaced() {
+        long threshold = TimeUnit.HOURS.toMillis(2L);
+        long otherThreshold = threshold + 1L;
+        List<Long> dates = ActivityIndexHistoryQueries.getSnapshotDates(System.currentTimeMillis());
+        Map<String, Integer> groupings = Collections.singletonMap(ActivityIndex.getDefaultGroups()[0], 1);
+        db().executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID(), dates.get(0), threshold, groupings));
+        db().executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID(), dates.get(0), otherThreshold, Collections.emptyMap()));
+
+        Map<Long, Map<String, Integer>> expected = Collections.singletonMap(dates.get(0), groupings);
+        Map<Long, Map<String, Integer>> result = db().query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(serverUUID(), dates, threshold));
+        assertEquals(expected, result);
+    }
 }
\ No newline at end of file
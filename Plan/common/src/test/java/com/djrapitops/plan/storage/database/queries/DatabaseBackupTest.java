@@ -24,6 +24,7 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.storage.database.Database;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
 import com.djrapitops.plan.storage.database.SQLiteDB;
+import com.djrapitops.plan.storage.database.queries.analysis.ActivityIndexHistoryQueries;
 import com.djrapitops.plan.storage.database.queries.objects.*;
 import com.djrapitops.plan.storage.database.transactions.BackupCopyTransaction;
 import com.djrapitops.plan.storage.database.transactions.commands.StoreWebUserTransaction;
@@ -36,13 +37,22 @@ import utilities.TestConstants;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public interface DatabaseBackupTest extends DatabaseTestPreparer {
 
+    long ACTIVITY_SNAPSHOT_DATE = ActivityIndexHistoryQueries.getSnapshotDates(System.currentTimeMillis()).get(0);
+    long ACTIVITY_THRESHOLD = TimeUnit.HOURS.toMillis(2L);
+
     default void saveDataForBackup() {
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[0]));
         db().executeTransaction(new StoreWorldNameTransaction(serverUUID(), worlds[1]));
@@ -69,6 +79,9 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
                 Collections.singletonList(new DateObj<>(System.currentTimeMillis(), RandomData.randomInt(-1, 40))))
         );
 
+        db().executeTransaction(new StoreActivityIndexSnapshotTransaction(serverUUID(), ACTIVITY_SNAPSHOT_DATE,
+                ACTIVITY_THRESHOLD, Map.of("Active", 2, "Inactive", 1)));
+
         User user = new User("test", "console", null, PassEncryptUtil.createHash("testPass"), "admin", Collections.emptyList());
         db().executeTransaction(new StoreWebUserTransaction(user));
     }
@@ -97,7 +110,44 @@ public interface DatabaseBackupTest extends DatabaseTestPreparer {
             assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchAllUsers());
             assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchGroupNames());
             assertQueryResultIsEqual(db(), backup, WebUserQueries.fetchAvailablePermissions());
+            assertQueryResultIsEqual(db(), backup, PingQueries.fetchAllPingData());
+            assertQueryResultIsEqual(db(), backup, ActivityIndexHistoryQueries.fetchActivityIndexGroupings(
+                    serverUUID(), List.of(ACTIVITY_SNAPSHOT_DATE), ACTIVITY_THRESHOLD));
+            assertFalse(backup.query(ActivityIndexHistoryQueries.fetchActivityIndexGroupings(
+                    serverUUID(), List.of(ACTIVITY_SNAPSHOT_DATE), ACTIVITY_THRESHOLD)).isEmpty());
+
+        } finally {
+            backup.close();
+        }
+    }
 
+    @Test
+    default void backupOfLargeTableIsCopiedInChunks() throws Exception {
+        File tempFile = Files.createTempFile(system().getPlanFiles().getDataFolder().toPath(), "backup-", ".db").toFile();
+        tempFile.deleteOnExit();
+        SQLiteDB backup = dbSystem().getSqLiteFactory().usingFile(tempFile);
+        backup.setTransactionExecutorServiceProvider(MoreExecutors::newDirectExecutorService);
+        try {
+            backup.init();
+
+            List<TPS> tpsData = new ArrayList<>();
+            long date = System.currentTimeMillis();
+            for (int i = 0; i < 25000; i++) {
+                tpsData.add(new TPS(date - TimeUnit.MINUTES.toMillis(i), 20.0, i % 100, 50.0, 1000L, 500, 200, 100000L));
+            }
+            execute(LargeStoreQueries.storeAllTPSData(Map.of(serverUUID(), tpsData)));
+
+            AtomicLong copied = new AtomicLong();
+            AtomicLong total = new AtomicLong();
+            backup.executeTransaction(new BackupCopyTransaction(db(), backup, (copiedRows, totalRows) -> {
+                copied.set(copiedRows);
+                total.set(totalRows);
+            }));
+
+            assertQueryResultIsEqual(db(), backup, LargeFetchQueries.fetchAllTPSData());
+            assertQueryResultIsEqual(db(), backup, ServerQueries.fetchPlanServerInformation());
+            assertEquals(total.get(), copied.get());
+            assertTrue(copied.get() >= tpsData.size());
         } finally {
             backup.close();
         }
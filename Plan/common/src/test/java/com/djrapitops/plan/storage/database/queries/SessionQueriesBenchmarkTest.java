@@ -0,0 +1,158 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries;
+
+import com.djrapitops.plan.gathering.domain.FinishedSession;
+import com.djrapitops.plan.identification.Server;
+import com.djrapitops.plan.identification.ServerUUID;
+import com.djrapitops.plan.storage.database.DaggerDatabaseTestComponent;
+import com.djrapitops.plan.storage.database.Database;
+import com.djrapitops.plan.storage.database.DatabaseTestComponent;
+import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
+import com.djrapitops.plan.storage.database.sql.tables.*;
+import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
+import com.djrapitops.plan.storage.database.transactions.Transaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerPlayerTransaction;
+import com.djrapitops.plan.utilities.dev.Benchmark;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import utilities.DBPreparer;
+import utilities.RandomData;
+import utilities.TestConstants;
+
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark for loading sessions with kill and world data from a synthetic database of 1 million sessions.
+ * <p>
+ * Compares the previous single statement that joined sessions, kills and world times against the multi-pass loader.
+ *
+ * @author AuroraLS3
+ */
+@Disabled("Benchmark, run manually. Generating the database takes several minutes.")
+class SessionQueriesBenchmarkTest {
+
+    private static final Logger LOGGER = Logger.getLogger("Plan");
+
+    private static final int SESSIONS = 1_000_000;
+    private static final int PLAYERS = 1000;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String JOINED_SESSIONS_SQL = SELECT + "s." + SessionsTable.ID + ',' +
+            "u." + UsersTable.USER_UUID + ',' +
+            "server." + ServerTable.SERVER_UUID + " as server_uuid," +
+            WorldTable.NAME + ',' +
+            KillsTable.VICTIM_UUID +
+            FROM + SessionsTable.TABLE_NAME + " s" +
+            INNER_JOIN + JoinAddressTable.TABLE_NAME + " j on s." + SessionsTable.JOIN_ADDRESS_ID + "=j." + JoinAddressTable.ID +
+            INNER_JOIN + UsersTable.TABLE_NAME + " u on u." + UsersTable.ID + "=s." + SessionsTable.USER_ID +
+            INNER_JOIN + ServerTable.TABLE_NAME + " server on server." + ServerTable.ID + "=s." + SessionsTable.SERVER_ID +
+            LEFT_JOIN + UserInfoTable.TABLE_NAME + " u_info on (u_info." + UserInfoTable.USER_ID + "=s." + SessionsTable.USER_ID + AND + "u_info." + UserInfoTable.SERVER_ID + "=s." + SessionsTable.SERVER_ID + ')' +
+            LEFT_JOIN + KillsTable.TABLE_NAME + " ON " + "s." + SessionsTable.ID + '=' + KillsTable.TABLE_NAME + '.' + KillsTable.SESSION_ID +
+            LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + '=' + KillsTable.VICTIM_UUID +
+            LEFT_JOIN + UsersTable.TABLE_NAME + " k on k." + UsersTable.USER_UUID + '=' + KillsTable.KILLER_UUID +
+            INNER_JOIN + WorldTimesTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID +
+            INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID +
+            ORDER_BY + SessionsTable.SESSION_START + " DESC";
+
+    private static Database database;
+    private static DBPreparer preparer;
+    private static UUID[] playerUUIDs;
+
+    @BeforeAll
+    static void generateDatabase(@TempDir Path temp) {
+        DatabaseTestComponent component = DaggerDatabaseTestComponent.builder()
+                .bindTemporaryDirectory(temp)
+                .build();
+        preparer = new DBPreparer(component, RandomData.randomInt(9005, 9500));
+        database = preparer.prepareSQLite().orElseThrow(IllegalStateException::new);
+
+        ServerUUID serverUUID = component.serverInfo().getServerUUID();
+        database.executeTransaction(new StoreServerInformationTransaction(new Server(serverUUID, "ServerName", "", TestConstants.VERSION)));
+
+        playerUUIDs = new UUID[PLAYERS];
+        for (int i = 0; i < PLAYERS; i++) {
+            playerUUIDs[i] = UUID.randomUUID();
+            database.executeTransaction(new StoreServerPlayerTransaction(playerUUIDs[i], RandomData::randomTime,
+                    RandomData.randomString(10), serverUUID, TestConstants.GET_PLAYER_HOSTNAME));
+        }
+
+        String[] worlds = {"world", "world_nether", "world_the_end", "creative"};
+        for (int stored = 0; stored < SESSIONS; stored += BATCH_SIZE) {
+            List<FinishedSession> sessions = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                UUID player = playerUUIDs[(stored + i) % PLAYERS];
+                UUID victim = playerUUIDs[(stored + i + 1) % PLAYERS];
+                sessions.add(RandomData.randomSession(serverUUID, worlds, player, victim));
+            }
+            database.executeTransaction(new Transaction() {
+                @Override
+                protected void performOperations() {
+                    execute(LargeStoreQueries.storeAllSessionsWithKillAndWorldData(sessions));
+                }
+            }).join();
+        }
+    }
+
+    @AfterAll
+    static void closeDatabase() {
+        if (database != null) database.close();
+        preparer.tearDown();
+    }
+
+    @Test
+    void joinedStatementBefore() {
+        long rows = Benchmark.bench(() -> database.query(new QueryAllStatement<Long>(JOINED_SESSIONS_SQL, 50000) {
+            @Override
+            public Long processResults(ResultSet set) throws SQLException {
+                long count = 0;
+                while (set.next()) {
+                    UUID.fromString(set.getString(UsersTable.USER_UUID));
+                    ServerUUID.fromString(set.getString("server_uuid"));
+                    count++;
+                }
+                return count;
+            }
+        }));
+        LOGGER.log(Level.INFO, () -> "Joined statement rows: " + rows);
+    }
+
+    @Test
+    void multiPassAfter() {
+        List<FinishedSession> sessions = Benchmark.bench(() -> database.query(SessionQueries.fetchAllSessions()));
+        LOGGER.log(Level.INFO, () -> "Loaded sessions: " + sessions.size());
+        assertEquals(SESSIONS, sessions.size());
+    }
+
+    @Test
+    void sessionsOfPlayerAfter() {
+        Benchmark.bench(() -> database.query(SessionQueries.fetchSessionsOfPlayer(playerUUIDs[0])));
+    }
+}
@@ -28,13 +28,16 @@ import com.djrapitops.plan.storage.database.queries.objects.BaseUserQueries;
 import com.djrapitops.plan.storage.database.queries.objects.KillQueries;
 import com.djrapitops.plan.storage.database.queries.objects.SessionQueries;
 import com.djrapitops.plan.storage.database.queries.objects.WorldTimesQueries;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.NetworkTablePlayersQuery;
+import com.djrapitops.plan.storage.database.queries.objects.playertable.PlayersTablePage;
 import com.djrapitops.plan.storage.database.queries.objects.playertable.ServerTablePlayersQuery;
-import com.djrapitops.plan.storage.database.sql.tables.WorldTable;
+import com.djrapitops.plan.storage.database.sql.tables.*;
 import com.djrapitops.plan.storage.database.transactions.ExecStatement;
 import com.djrapitops.plan.storage.database.transactions.StoreServerInformationTransaction;
 import com.djrapitops.plan.storage.database.transactions.Transaction;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.*;
+import com.djrapitops.plan.utilities.comparators.DateHolderRecentComparator;
 import com.djrapitops.plan.utilities.java.Maps;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import org.junit.jupiter.api.RepeatedTest;
@@ -43,9 +46,12 @@ import utilities.RandomData;
 import utilities.TestConstants;
 
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+import static com.djrapitops.plan.storage.database.sql.building.Sql.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 public interface SessionQueriesTest extends DatabaseTestPreparer {
@@ -219,6 +225,71 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(session, savedSessions.get(0));
     }
 
+    @Test
+    default void multipleSessionsAreLoadedWithTheirOwnKillsAndWorldTimes() {
+        prepareForSessionSave();
+        List<FinishedSession> stored = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FinishedSession session = RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID);
+            db().executeTransaction(new StoreSessionTransaction(session));
+            stored.add(session);
+        }
+        forcePersistenceCheck();
+
+        stored.sort(new DateHolderRecentComparator());
+        assertEquals(stored, db().query(SessionQueries.fetchSessionsOfPlayer(playerUUID)).get(serverUUID()));
+        assertEquals(stored, db().query(SessionQueries.fetchAllSessions()));
+    }
+
+    @Test
+    default void multiPassSessionsMatchJoinedStatement() {
+        prepareForSessionSave();
+        for (int i = 0; i < 5; i++) {
+            db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, playerUUID, player2UUID)));
+            db().executeTransaction(new StoreSessionTransaction(RandomData.randomSession(serverUUID(), worlds, player2UUID, playerUUID)));
+        }
+        forcePersistenceCheck();
+
+        // Single statement that loaded sessions before MultiPassSessionQuery
+        String joinedSql = SELECT + "s." + SessionsTable.ID + ',' +
+                WorldTable.NAME + ',' +
+                "v." + UsersTable.USER_UUID + " as victim_uuid" +
+                FROM + SessionsTable.TABLE_NAME + " s" +
+                LEFT_JOIN + KillsTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + KillsTable.TABLE_NAME + '.' + KillsTable.SESSION_ID +
+                LEFT_JOIN + UsersTable.TABLE_NAME + " v on v." + UsersTable.USER_UUID + '=' + KillsTable.VICTIM_UUID +
+                INNER_JOIN + WorldTimesTable.TABLE_NAME + " ON s." + SessionsTable.ID + '=' + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.SESSION_ID +
+                INNER_JOIN + WorldTable.TABLE_NAME + " ON " + WorldTimesTable.TABLE_NAME + '.' + WorldTimesTable.WORLD_ID + '=' + WorldTable.TABLE_NAME + '.' + WorldTable.ID;
+        Map<Integer, Set<String>> expectedWorlds = new HashMap<>();
+        Map<Integer, Set<UUID>> expectedVictims = new HashMap<>();
+        db().query(new QueryAllStatement<Void>(joinedSql) {
+            @Override
+            public Void processResults(ResultSet set) throws SQLException {
+                while (set.next()) {
+                    int sessionId = set.getInt(SessionsTable.ID);
+                    expectedWorlds.computeIfAbsent(sessionId, id -> new HashSet<>()).add(set.getString(WorldTable.NAME));
+                    Set<UUID> victims = expectedVictims.computeIfAbsent(sessionId, id -> new HashSet<>());
+                    String victim = set.getString("victim_uuid");
+                    if (victim != null) victims.add(UUID.fromString(victim));
+                }
+                return null;
+            }
+        });
+
+        Map<Integer, Set<String>> loadedWorlds = new HashMap<>();
+        Map<Integer, Set<UUID>> loadedVictims = new HashMap<>();
+        for (FinishedSession session : db().query(SessionQueries.fetchAllSessions())) {
+            int sessionId = session.getExtraData(FinishedSession.Id.class).map(FinishedSession.Id::get).orElseThrow(AssertionError::new);
+            loadedWorlds.put(sessionId, session.getExtraData(WorldTimes.class).map(times -> times.getWorldTimes().keySet()).orElseGet(Collections::emptySet));
+            Set<UUID> victims = new HashSet<>();
+            session.getExtraData(PlayerKills.class).map(PlayerKills::asList).ifPresent(kills -> kills.forEach(kill -> victims.add(kill.getVictim().getUuid())));
+            loadedVictims.put(sessionId, victims);
+        }
+
+        assertFalse(expectedWorlds.isEmpty());
+        assertEquals(expectedWorlds, loadedWorlds);
+        assertEquals(expectedVictims, loadedVictims);
+    }
+
     @Test
     default void mostRecentSessionsCanBeQueried() {
         prepareForSessionSave();
@@ -428,6 +499,34 @@ public interface SessionQueriesTest extends DatabaseTestPreparer {
         assertEquals(expected, got);
     }
 
+    @Test
+    default void playersTableIsPagedSortedAndSearchedInDatabase() {
+        prepareForSessionSave();
+        long now = System.currentTimeMillis();
+        long playtimeThreshold = TimeUnit.HOURS.toMillis(1L);
+
+        PlayersTablePage firstPage = new PlayersTablePage(0, 1, PlayersTablePage.SortBy.NAME, true, null);
+        PlayersTablePage secondPage = new PlayersTablePage(1, 1, PlayersTablePage.SortBy.NAME, true, null);
+        List<TablePlayer> first = db().query(new ServerTablePlayersQuery(serverUUID(), now, playtimeThreshold, firstPage));
+        List<TablePlayer> second = db().query(new ServerTablePlayersQuery(serverUUID(), now, playtimeThreshold, secondPage));
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+        assertEquals(TestConstants.PLAYER_ONE_NAME, first.get(0).getName().orElseThrow(AssertionError::new));
+        assertEquals(TestConstants.PLAYER_TWO_NAME, second.get(0).getName().orElseThrow(AssertionError::new));
+
+        PlayersTablePage descending = new PlayersTablePage(0, 1, PlayersTablePage.SortBy.NAME, false, null);
+        assertEquals(player2UUID, db().query(new ServerTablePlayersQuery(serverUUID(), now, playtimeThreshold, descending))
+                .get(0).getPlayerUUID());
+
+        PlayersTablePage search = new PlayersTablePage(0, 10, PlayersTablePage.SortBy.LAST_SEEN, false, "PLAYER_TWO");
+        List<TablePlayer> found = db().query(new ServerTablePlayersQuery(serverUUID(), now, playtimeThreshold, search));
+        assertEquals(1, found.size());
+        assertEquals(player2UUID, found.get(0).getPlayerUUID());
+        assertEquals(1, db().query(ServerTablePlayersQuery.countPlayers(serverUUID(), search)));
+        assertEquals(2, db().query(ServerTablePlayersQuery.countPlayers(serverUUID(), firstPage)));
+        assertEquals(1, db().query(NetworkTablePlayersQuery.countPlayers(search)));
+    }
+
     @RepeatedTest(value = 3, name = "Players table and player page Activity Index calculations match {currentRepetition}/{totalRepetitions}")
     default void playersTableAndPlayerPageActivityIndexMatches() {
         prepareForSessionSave();
@@ -21,9 +21,13 @@ import com.djrapitops.plan.gathering.domain.TPS;
 import com.djrapitops.plan.gathering.domain.builders.TPSBuilder;
 import com.djrapitops.plan.identification.ServerUUID;
 import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.objects.ServerLifecycleQueries;
 import com.djrapitops.plan.storage.database.queries.objects.TPSQueries;
 import com.djrapitops.plan.storage.database.transactions.commands.RemoveEverythingTransaction;
+import com.djrapitops.plan.storage.database.transactions.events.StoreServerLifecycleEventTransaction;
 import com.djrapitops.plan.storage.database.transactions.events.TPSStoreTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RemoveOldSampledDataTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.RollupSampledDataTransaction;
 import com.djrapitops.plan.utilities.comparators.TPSComparator;
 import com.djrapitops.plan.utilities.java.Lists;
 import net.playeranalytics.plugin.server.PluginLogger;
@@ -31,8 +35,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import utilities.RandomData;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
@@ -139,4 +145,92 @@ public interface TPSQueriesTest extends DatabaseTestPreparer {
         assertTrue(result.isPresent());
         assertEquals(stored2.getDate(), result.get());
     }
+
+    @Test
+    default void serverStartEventIsStoredAfterGapInTPSData() {
+        long start = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L);
+        TPS stored = TPSBuilder.get().date(start).toTPS();
+        TPS stored2 = TPSBuilder.get().date(start + TimeUnit.MINUTES.toMillis(1L)).toTPS();
+        TPS stored3 = TPSBuilder.get().date(start + TimeUnit.MINUTES.toMillis(5L)).toTPS();
+        TPS stored4 = TPSBuilder.get().date(start + TimeUnit.MINUTES.toMillis(6L)).toTPS();
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored));
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored2));
+        assertEquals(Optional.of(stored.getDate()), db().query(ServerLifecycleQueries.fetchStartTimeIfRunning(serverUUID())));
+
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored3));
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored4));
+        assertEquals(Optional.of(stored3.getDate()), db().query(ServerLifecycleQueries.fetchStartTimeIfRunning(serverUUID())));
+    }
+
+    @Test
+    default void serverStartEventIsNotStoredAgainWhenServerWasEnabled() {
+        long start = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L);
+        TPS stored = TPSBuilder.get().date(start).toTPS();
+        TPS stored2 = TPSBuilder.get().date(start + TimeUnit.MINUTES.toMillis(10L)).toTPS();
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored));
+        db().executeTransaction(StoreServerLifecycleEventTransaction.stopped(serverUUID(), start + 1L));
+        db().executeTransaction(StoreServerLifecycleEventTransaction.started(serverUUID(), stored2.getDate() - 1L));
+        db().executeTransaction(StoreServerLifecycleEventTransaction.started(serverUUID(), stored2.getDate() - 1L));
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), stored2));
+
+        assertEquals(Optional.of(stored2.getDate() - 1L), db().query(ServerLifecycleQueries.fetchStartTimeIfRunning(serverUUID())));
+    }
+
+    @Test
+    default void serverIsNotRunningAfterStopEvent() {
+        long start = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L);
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), TPSBuilder.get().date(start).toTPS()));
+        db().executeTransaction(StoreServerLifecycleEventTransaction.stopped(serverUUID(), start + 1L));
+
+        assertEquals(Optional.empty(), db().query(ServerLifecycleQueries.fetchStartTimeIfRunning(serverUUID())));
+    }
+
+    @Test
+    default void rolledUpTPSIsUsedAfterSampledDataIsRemoved() {
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        long day = TimeUnit.DAYS.toMillis(1L);
+        long now = System.currentTimeMillis();
+        long end = now - now % day - TimeUnit.DAYS.toMillis(2L);
+        long start = end - TimeUnit.DAYS.toMillis(3L);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TPS> tpsData = new ArrayList<>();
+        for (long date = start; date < end; date += TimeUnit.MINUTES.toMillis(1L)) {
+            tpsData.add(new TPS(date, random.nextDouble(20.0), random.nextInt(100), random.nextDouble(100.0),
+                    random.nextInt(8000), random.nextInt(5000), random.nextInt(2000), random.nextInt(100000)));
+        }
+        execute(LargeStoreQueries.storeAllTPSData(Map.of(serverUUID(), tpsData)));
+
+        List<TPS> expected = db().query(TPSQueries.fetchTPSDataOfServerInResolution(start, end, hour, serverUUID()));
+        assertEquals(72, expected.size());
+
+        // Rolling up twice should not duplicate buckets
+        db().executeTransaction(new RollupSampledDataTransaction(serverUUID(), now));
+        db().executeTransaction(new RemoveOldSampledDataTransaction(serverUUID(), day, day));
+        forcePersistenceCheck();
+
+        // Only rows with the all-time peak player count are left
+        assertTrue(db().query(TPSQueries.fetchTPSDataOfServer(start, end, serverUUID())).size() < tpsData.size() / 10);
+        assertEquals(expected, db().query(TPSQueries.fetchTPSDataOfServerInResolution(start, end, hour, serverUUID())));
+
+        List<TPS> daily = db().query(TPSQueries.fetchTPSDataOfServerInResolution(start, end, day, serverUUID()));
+        assertEquals(3, daily.size());
+    }
+
+    @Test
+    default void rowStoredAfterRollupIsIncludedInMostRecentBucket() {
+        long hour = TimeUnit.HOURS.toMillis(1L);
+        long now = System.currentTimeMillis();
+        long currentHour = now - now % hour;
+        long previousHour = currentHour - hour;
+
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), TPSBuilder.get().date(previousHour + TimeUnit.MINUTES.toMillis(1L)).playersOnline(10).toTPS()));
+        db().executeTransaction(new RollupSampledDataTransaction(serverUUID(), now));
+        db().executeTransaction(new TPSStoreTransaction(serverUUID(), TPSBuilder.get().date(previousHour + TimeUnit.MINUTES.toMillis(30L)).playersOnline(50).toTPS()));
+        db().executeTransaction(new RollupSampledDataTransaction(serverUUID(), now));
+        forcePersistenceCheck();
+
+        List<TPS> rolledUp = db().query(TPSQueries.fetchTPSDataOfServerInResolution(previousHour, currentHour, hour, serverUUID()));
+        assertEquals(1, rolledUp.size());
+        assertEquals(50, rolledUp.get(0).getPlayers());
+    }
 }
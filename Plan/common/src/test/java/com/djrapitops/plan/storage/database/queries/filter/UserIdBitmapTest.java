@@ -0,0 +1,86 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.queries.filter;
+
+import com.djrapitops.plan.storage.database.queries.UserIdsInSetQuery;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link UserIdBitmap}.
+ *
+ * @author AuroraLS3
+ */
+class UserIdBitmapTest {
+
+    @Test
+    void bitmapEqualsHashSetWithSameIds() {
+        Set<Integer> expected = new HashSet<>(Arrays.asList(1, 5, 64, 65, 400000));
+        UserIdBitmap bitmap = UserIdBitmap.of(expected);
+
+        assertEquals(expected, bitmap);
+        assertEquals(bitmap, expected);
+        assertEquals(expected.hashCode(), bitmap.hashCode());
+        assertEquals(5, bitmap.size());
+    }
+
+    @Test
+    void andKeepsIntersection() {
+        UserIdBitmap bitmap = UserIdBitmap.of(1, 2, 3, 100);
+        bitmap.and(UserIdBitmap.of(2, 3, 4, 100));
+
+        assertEquals(UserIdBitmap.of(2, 3, 100), bitmap);
+    }
+
+    @Test
+    void andNotRemovesOther() {
+        UserIdBitmap bitmap = UserIdBitmap.of(1, 2, 3, 100);
+        bitmap.andNot(UserIdBitmap.of(2, 100));
+
+        assertEquals(UserIdBitmap.of(1, 3), bitmap);
+    }
+
+    @Test
+    void retainAllWithRegularSet() {
+        UserIdBitmap bitmap = UserIdBitmap.of(1, 2, 3);
+        assertTrue(bitmap.retainAll(new HashSet<>(Arrays.asList(2, 3, 4))));
+
+        assertEquals(UserIdBitmap.of(2, 3), bitmap);
+    }
+
+    @Test
+    void iteratorReturnsIdsInOrder() {
+        UserIdBitmap bitmap = UserIdBitmap.of(70, 3, 1);
+        List<Integer> iterated = new ArrayList<>(bitmap);
+
+        assertEquals(Arrays.asList(1, 3, 70), iterated);
+    }
+
+    @Test
+    void negativeIdIsNotAllowed() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    void inClauseListsAllIds() {
+        assertEquals(" IN (1,3,70)", UserIdsInSetQuery.inClause(UserIdBitmap.of(70, 3, 1)));
+    }
+}
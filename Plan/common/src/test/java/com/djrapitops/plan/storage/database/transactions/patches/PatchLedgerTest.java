@@ -0,0 +1,112 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.storage.database.transactions.patches;
+
+import com.djrapitops.plan.storage.database.DatabaseTestPreparer;
+import com.djrapitops.plan.storage.database.queries.schema.SchemaPatchQueries;
+import com.djrapitops.plan.storage.database.transactions.init.ReadPatchLedgerTransaction;
+import com.djrapitops.plan.storage.database.transactions.init.StoreAppliedPatchesTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the applied patches ledger.
+ *
+ * @author AuroraLS3
+ */
+public interface PatchLedgerTest extends DatabaseTestPreparer {
+
+    @Test
+    default void appliedPatchesAreStoredInLedgerOnEnable() {
+        Set<String> ledger = db().query(SchemaPatchQueries.fetchAppliedPatchNames());
+        assertTrue(ledger.contains(new DiskUsagePatch().getName()), () -> "Ledger did not contain DiskUsagePatch: " + ledger);
+        assertFalse(ledger.contains(new UpdateWebPermissionsPatch().getName()), () -> "Ledger contained UpdateWebPermissionsPatch: " + ledger);
+        assertFalse(ledger.contains(new BadJoinAddressDataCorrectionPatch().getName()), () -> "Ledger contained BadJoinAddressDataCorrectionPatch: " + ledger);
+    }
+
+    @Test
+    default void patchInLedgerIsNotChecked() {
+        Patch patch = new Patch() {
+            @Override
+            public boolean hasBeenApplied() {
+                throw new AssertionError("Patch in ledger was checked");
+            }
+
+            @Override
+            protected void applyPatch() {
+                throw new AssertionError("Patch in ledger was applied");
+            }
+        };
+        executeTransactions(StoreAppliedPatchesTransaction.ofNames(List.of(patch.getName())));
+
+        executeTransactions(new ReadPatchLedgerTransaction(new Patch[]{patch}), patch);
+
+        assertTrue(patch.isInLedger());
+        assertTrue(patch.isApplied());
+        assertFalse(patch.wasApplied());
+    }
+
+    @Test
+    default void patchCheckedOnEveryEnableIsNotSkipped() {
+        Patch patch = new Patch() {
+            @Override
+            public boolean isCheckedOnEveryEnable() {
+                return true;
+            }
+
+            @Override
+            public boolean hasBeenApplied() {
+                return true;
+            }
+
+            @Override
+            protected void applyPatch() {
+                /* Nothing to apply */
+            }
+        };
+        executeTransactions(StoreAppliedPatchesTransaction.ofNames(List.of(patch.getName())));
+
+        executeTransactions(new ReadPatchLedgerTransaction(new Patch[]{patch}), patch);
+
+        assertFalse(patch.isInLedger());
+        assertTrue(patch.isApplied());
+    }
+
+    @Test
+    default void newlyAppliedPatchIsStoredInLedger() {
+        Patch patch = new Patch() {
+            @Override
+            public boolean hasBeenApplied() {
+                return false;
+            }
+
+            @Override
+            protected void applyPatch() {
+                /* Nothing to apply */
+            }
+        };
+        Patch[] patches = {patch};
+        executeTransactions(new ReadPatchLedgerTransaction(patches), patch, StoreAppliedPatchesTransaction.ofPatches(patches));
+
+        Set<String> ledger = db().query(SchemaPatchQueries.fetchAppliedPatchNames());
+        assertTrue(ledger.contains(patch.getName()));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.utilities.analysis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link TickDurationHistogram}.
+ *
+ * @author AuroraLS3
+ */
+class TickDurationHistogramTest {
+
+    private TickDurationHistogram underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new TickDurationHistogram(1000L);
+    }
+
+    private void addMs(long ms, int times) {
+        for (int i = 0; i < times; i++) {
+            underTest.add(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+    }
+
+    @Test
+    void emptyHistogramHasNoValues() {
+        assertEquals(-1.0, underTest.getPercentileMs(0.5), 0.01);
+        assertEquals(-1.0, underTest.getMaxMs(), 0.01);
+    }
+
+    @Test
+    void percentilesAreWithinBucketWidth() {
+        addMs(50L, 98);
+        addMs(120L, 1);
+        addMs(2000L, 1);
+
+        assertEquals(50.0, underTest.getPercentileMs(0.50), 0.11);
+        assertEquals(50.0, underTest.getPercentileMs(0.95), 0.11);
+        assertEquals(120.0, underTest.getPercentileMs(0.99), 0.11);
+        assertEquals(2000.0, underTest.getMaxMs(), 0.01);
+    }
+
+    @Test
+    void percentileInOverflowBucketIsMax() {
+        addMs(50L, 1);
+        addMs(1500L, 1);
+        addMs(3000L, 1);
+
+        assertEquals(3000.0, underTest.getPercentileMs(0.99), 0.01);
+    }
+
+    @Test
+    void percentileDoesNotExceedMax() {
+        underTest.add(TimeUnit.MILLISECONDS.toNanos(50L) + 1L);
+
+        assertEquals(underTest.getMaxMs(), underTest.getPercentileMs(0.5), 0.0);
+    }
+
+    @Test
+    void resetClearsValues() {
+        addMs(50L, 10);
+        underTest.reset();
+
+        assertEquals(0L, underTest.getCount());
+        assertEquals(-1.0, underTest.getPercentileMs(0.99), 0.01);
+    }
+}
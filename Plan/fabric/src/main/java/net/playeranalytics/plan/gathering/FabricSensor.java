@@ -16,10 +16,12 @@
  */
 package net.playeranalytics.plan.gathering;
 
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
 import com.djrapitops.plan.gathering.ServerSensor;
 import net.minecraft.entity.Entity;
 import net.minecraft.server.dedicated.MinecraftDedicatedServer;
 import net.minecraft.server.world.ServerWorld;
+import net.playeranalytics.plan.gathering.listeners.forge.WorldCountListener;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -31,12 +33,15 @@ import java.util.concurrent.TimeUnit;
 public class FabricSensor implements ServerSensor<ServerWorld> {
 
     private final MinecraftDedicatedServer server;
+    private final IncrementalWorldCounts worldCounts;
 
     @Inject
     public FabricSensor(
-            MinecraftDedicatedServer server
+            MinecraftDedicatedServer server,
+            IncrementalWorldCounts worldCounts
     ) {
         this.server = server;
+        this.worldCounts = worldCounts;
     }
 
     @Override
@@ -63,6 +68,13 @@ public class FabricSensor implements ServerSensor<ServerWorld> {
 
     @Override
     public int getEntityCount(ServerWorld world) {
+        if (worldCounts.isEnabled()) {
+            return worldCounts.getEntityCount(WorldCountListener.getWorldName(world), () -> countEntities(world));
+        }
+        return countEntities(world);
+    }
+
+    private int countEntities(ServerWorld world) {
         int entities = 0;
         for (Entity ignored : world.iterateEntities()) {
             entities++;
@@ -18,6 +18,7 @@ package net.playeranalytics.plan.gathering.listeners;
 
 import com.djrapitops.plan.PlanPlugin;
 import com.djrapitops.plan.capability.CapabilitySvc;
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
 import com.djrapitops.plan.gathering.listeners.ListenerSystem;
 import net.playeranalytics.plan.PlanFabric;
 import net.playeranalytics.plan.gathering.listeners.events.PlanFabricEvents;
@@ -39,6 +40,8 @@ public class FabricListenerSystem extends ListenerSystem {
     private final GameModeChangeListener gameModeChangeListener;
     private final PlayerOnlineListener playerOnlineListener;
     private final WorldChangeListener worldChangeListener;
+    private final WorldCountListener worldCountListener;
+    private final IncrementalWorldCounts worldCounts;
     private final Listeners listeners;
 
     @Inject
@@ -49,6 +52,8 @@ public class FabricListenerSystem extends ListenerSystem {
             GameModeChangeListener gameModeChangeListener,
             PlayerOnlineListener playerOnlineListener,
             WorldChangeListener worldChangeListener,
+            WorldCountListener worldCountListener,
+            IncrementalWorldCounts worldCounts,
             Listeners listeners
     ) {
         this.chatListener = chatListener;
@@ -57,6 +62,8 @@ public class FabricListenerSystem extends ListenerSystem {
         this.playerOnlineListener = playerOnlineListener;
         this.gameModeChangeListener = gameModeChangeListener;
         this.worldChangeListener = worldChangeListener;
+        this.worldCountListener = worldCountListener;
+        this.worldCounts = worldCounts;
         this.listeners = listeners;
 
     }
@@ -69,6 +76,9 @@ public class FabricListenerSystem extends ListenerSystem {
         listeners.registerListener(gameModeChangeListener);
         listeners.registerListener(playerOnlineListener);
         listeners.registerListener(worldChangeListener);
+        if (worldCounts.isEnabled()) {
+            listeners.registerListener(worldCountListener);
+        }
     }
 
     @Override
@@ -79,6 +89,7 @@ public class FabricListenerSystem extends ListenerSystem {
         listeners.unregisterListener(gameModeChangeListener);
         listeners.unregisterListener(playerOnlineListener);
         listeners.unregisterListener(worldChangeListener);
+        listeners.unregisterListener(worldCountListener);
     }
 
     @Override
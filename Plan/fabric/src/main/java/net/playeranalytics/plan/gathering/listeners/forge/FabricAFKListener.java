@@ -63,6 +63,10 @@ public class FabricAFKListener implements FabricListener {
     }
 
     private void event(ServerPlayerEntity player) {
+        event(player, false);
+    }
+
+    private void event(ServerPlayerEntity player, boolean movement) {
         try {
             UUID uuid = player.getUuid();
             long time = System.currentTimeMillis();
@@ -70,13 +74,14 @@ public class FabricAFKListener implements FabricListener {
             boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission()));
             if (ignored) {
                 afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
-            afkTracker.performedAction(uuid, time);
+            if (movement) {
+                afkTracker.performedMovement(uuid, time);
+            } else {
+                afkTracker.performedAction(uuid, time);
+            }
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(getClass(), player).build());
         }
@@ -123,7 +128,7 @@ public class FabricAFKListener implements FabricListener {
             if (!this.isEnabled) {
                 return;
             }
-            event(handler.player);
+            event(handler.player, true);
         });
 
         this.enable();
@@ -0,0 +1,93 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package net.playeranalytics.plan.gathering.listeners.forge;
+
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.playeranalytics.plan.gathering.listeners.FabricListener;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Listener that keeps {@link IncrementalWorldCounts} up to date so that entities don't need to be iterated every minute.
+ *
+ * @author AuroraLS3
+ */
+@Singleton
+public class WorldCountListener implements FabricListener {
+
+    private final IncrementalWorldCounts worldCounts;
+
+    private boolean isEnabled = false;
+    private boolean wasRegistered = false;
+
+    @Inject
+    public WorldCountListener(IncrementalWorldCounts worldCounts) {
+        this.worldCounts = worldCounts;
+    }
+
+    public static String getWorldName(ServerWorld world) {
+        return world.getRegistryKey().getValue().toString();
+    }
+
+    @Override
+    public void register() {
+        if (this.wasRegistered) {
+            return;
+        }
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (!this.isEnabled) {
+                return;
+            }
+            worldCounts.entitiesAdded(getWorldName(world), 1);
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            if (!this.isEnabled) {
+                return;
+            }
+            worldCounts.entitiesRemoved(getWorldName(world), 1);
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            if (!this.isEnabled) {
+                return;
+            }
+            worldCounts.worldUnloaded(getWorldName(world));
+        });
+
+        this.enable();
+        this.wasRegistered = true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    @Override
+    public void enable() {
+        this.isEnabled = true;
+    }
+
+    @Override
+    public void disable() {
+        this.isEnabled = false;
+    }
+}
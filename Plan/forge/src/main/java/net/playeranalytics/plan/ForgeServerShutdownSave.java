@@ -18,6 +18,7 @@ package net.playeranalytics.plan;
 
 import com.djrapitops.plan.gathering.ServerShutdownSave;
 import com.djrapitops.plan.gathering.afk.AFKTracker;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -44,10 +45,11 @@ public class ForgeServerShutdownSave extends ServerShutdownSave {
             MinecraftServer server,
             Locale locale,
             DBSystem dbSystem,
+            ServerInfo serverInfo,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
-        super(locale, dbSystem, logger, errorLogger);
+        super(locale, dbSystem, serverInfo, logger, errorLogger);
         this.server = server;
     }
 
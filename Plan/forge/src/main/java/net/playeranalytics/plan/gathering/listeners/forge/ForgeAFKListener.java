@@ -66,6 +66,10 @@ public class ForgeAFKListener implements ForgeListener {
     }
 
     private void event(ServerPlayer player) {
+        event(player, false);
+    }
+
+    private void event(ServerPlayer player, boolean movement) {
         try {
             UUID uuid = player.getUUID();
             long time = System.currentTimeMillis();
@@ -73,13 +77,14 @@ public class ForgeAFKListener implements ForgeListener {
             boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> checkPermission(player, com.djrapitops.plan.settings.Permissions.IGNORE_AFK.getPermission()));
             if (ignored) {
                 afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
-            afkTracker.performedAction(uuid, time);
+            if (movement) {
+                afkTracker.performedMovement(uuid, time);
+            } else {
+                afkTracker.performedAction(uuid, time);
+            }
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(ForgeAFKListener.class, player).build());
         }
@@ -147,7 +152,7 @@ public class ForgeAFKListener implements ForgeListener {
                 float yaw = (float) position[3];
                 float pitch = (float) position[4];
                 if (ForgePlayerPositionTracker.moved(playerUUID, moveEvent.getMovePlayerPacket().getX(x), moveEvent.getMovePlayerPacket().getY(y), moveEvent.getMovePlayerPacket().getZ(z), moveEvent.getMovePlayerPacket().getXRot(yaw), moveEvent.getMovePlayerPacket().getYRot(pitch))) {
-                    event(moveEvent.getServerGamePacketListener().getPlayer());
+                    event(moveEvent.getServerGamePacketListener().getPlayer(), true);
                 }
             }
         });
@@ -24,13 +24,11 @@
 package net.playeranalytics.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.common.MinecraftForge;
@@ -41,8 +39,7 @@ import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.Listeners;
 
 import javax.inject.Inject;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -52,8 +49,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
 
-    private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -76,8 +72,7 @@ public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
         this.server = server;
-        startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        pingCollector = new PingCollector();
         MinecraftForge.EVENT_BUS.addListener(this::onPlayerJoin);
         MinecraftForge.EVENT_BUS.addListener(this::onPlayerQuit);
     }
@@ -88,39 +83,9 @@ public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
             return;
         }
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            ServerPlayer player = server.getPlayerList().getPlayer(uuid);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
@@ -137,12 +102,16 @@ public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        pingCollector.addPlayer(uuid);
     }
 
     public void removePlayer(ServerPlayer player) {
-        playerHistory.remove(player.getUUID());
-        startRecording.remove(player.getUUID());
+        pingCollector.removePlayer(player.getUUID());
+    }
+
+    private int getPingOf(UUID playerUUID) {
+        ServerPlayer player = server.getPlayerList().getPlayer(playerUUID);
+        return player != null ? getPing(player) : PingCollector.PLAYER_OFFLINE;
     }
 
     private int getPing(ServerPlayer player) {
@@ -160,7 +129,7 @@ public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.getUUID(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.getUUID(), System.currentTimeMillis() + pingDelayMs);
     }
 
     public void onPlayerQuit(PlayerEvent.PlayerLoggedOutEvent event) {
@@ -172,7 +141,7 @@ public class ForgePingCounter extends TaskSystem.Task implements ForgeListener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.djrapitops.plan;
 import com.djrapitops.plan.gathering.ServerShutdownSave;
 import com.djrapitops.plan.gathering.afk.AFKTracker;
 import com.djrapitops.plan.gathering.listeners.nukkit.NukkitAFKListener;
+import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.locale.Locale;
 import com.djrapitops.plan.storage.database.DBSystem;
 import com.djrapitops.plan.utilities.logging.ErrorLogger;
@@ -40,10 +41,11 @@ public class NukkitServerShutdownSave extends ServerShutdownSave {
     public NukkitServerShutdownSave(
             Locale locale,
             DBSystem dbSystem,
+            ServerInfo serverInfo,
             PluginLogger logger,
             ErrorLogger errorLogger
     ) {
-        super(locale, dbSystem, logger, errorLogger);
+        super(locale, dbSystem, serverInfo, logger, errorLogger);
     }
 
     @Override
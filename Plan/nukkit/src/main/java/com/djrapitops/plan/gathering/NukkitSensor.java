@@ -29,12 +29,15 @@ import java.util.stream.Collectors;
 public class NukkitSensor implements ServerSensor<Level> {
 
     private final PlanNukkit plugin;
+    private final IncrementalWorldCounts worldCounts;
 
     @Inject
     public NukkitSensor(
-            PlanNukkit plugin
+            PlanNukkit plugin,
+            IncrementalWorldCounts worldCounts
     ) {
         this.plugin = plugin;
+        this.worldCounts = worldCounts;
     }
 
     @Override
@@ -49,11 +52,17 @@ public class NukkitSensor implements ServerSensor<Level> {
 
     @Override
     public int getChunkCount(Level world) {
+        if (worldCounts.isEnabled()) {
+            return worldCounts.getChunkCount(world.getName(), () -> world.getChunks().size());
+        }
         return world.getChunks().size();
     }
 
     @Override
     public int getEntityCount(Level world) {
+        if (worldCounts.isEnabled()) {
+            return worldCounts.getEntityCount(world.getName(), () -> world.getEntities().length);
+        }
         return world.getEntities().length;
     }
 
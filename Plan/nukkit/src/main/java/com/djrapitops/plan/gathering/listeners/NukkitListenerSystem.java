@@ -17,6 +17,7 @@
 package com.djrapitops.plan.gathering.listeners;
 
 import com.djrapitops.plan.PlanPlugin;
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
 import com.djrapitops.plan.gathering.listeners.nukkit.*;
 import net.playeranalytics.plugin.server.Listeners;
 
@@ -33,6 +34,8 @@ public class NukkitListenerSystem extends ListenerSystem {
     private final WorldChangeListener worldChangeListener;
     private final DeathEventListener deathEventListener;
     private final NukkitAFKListener afkListener;
+    private final WorldCountListener worldCountListener;
+    private final IncrementalWorldCounts worldCounts;
 
     @Inject
     public NukkitListenerSystem(
@@ -43,7 +46,9 @@ public class NukkitListenerSystem extends ListenerSystem {
             GameModeChangeListener gamemodeChangeListener,
             WorldChangeListener worldChangeListener,
             DeathEventListener deathEventListener,
-            NukkitAFKListener afkListener
+            NukkitAFKListener afkListener,
+            WorldCountListener worldCountListener,
+            IncrementalWorldCounts worldCounts
     ) {
         this.listeners = listeners;
         this.status = status;
@@ -54,6 +59,8 @@ public class NukkitListenerSystem extends ListenerSystem {
         this.worldChangeListener = worldChangeListener;
         this.deathEventListener = deathEventListener;
         this.afkListener = afkListener;
+        this.worldCountListener = worldCountListener;
+        this.worldCounts = worldCounts;
     }
 
     @Override
@@ -64,6 +71,9 @@ public class NukkitListenerSystem extends ListenerSystem {
         listeners.registerListener(worldChangeListener);
         listeners.registerListener(deathEventListener);
         listeners.registerListener(afkListener);
+        if (worldCounts.isEnabled()) {
+            listeners.registerListener(worldCountListener);
+        }
         status.setCountKicks(true);
     }
 
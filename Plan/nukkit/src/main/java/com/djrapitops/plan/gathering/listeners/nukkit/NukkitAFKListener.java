@@ -78,13 +78,14 @@ public class NukkitAFKListener implements Listener {
             boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
             if (ignored) {
                 afkTracker.hasIgnorePermission(uuid);
-                ignorePermissionInfo.put(uuid, true);
                 return;
-            } else {
-                ignorePermissionInfo.put(uuid, false);
             }
 
-            afkTracker.performedAction(uuid, time);
+            if (event instanceof PlayerMoveEvent) {
+                afkTracker.performedMovement(uuid, time);
+            } else {
+                afkTracker.performedAction(uuid, time);
+            }
         } catch (Exception e) {
             errorLogger.error(e, ErrorContext.builder().related(event).build());
         }
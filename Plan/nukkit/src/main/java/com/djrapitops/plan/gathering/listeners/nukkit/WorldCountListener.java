@@ -0,0 +1,76 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.nukkit;
+
+import cn.nukkit.event.EventHandler;
+import cn.nukkit.event.EventPriority;
+import cn.nukkit.event.Listener;
+import cn.nukkit.event.entity.EntityDespawnEvent;
+import cn.nukkit.event.entity.EntityLevelChangeEvent;
+import cn.nukkit.event.entity.EntitySpawnEvent;
+import cn.nukkit.event.level.ChunkLoadEvent;
+import cn.nukkit.event.level.ChunkUnloadEvent;
+import cn.nukkit.event.level.LevelUnloadEvent;
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
+
+import javax.inject.Inject;
+
+/**
+ * Listener that keeps {@link IncrementalWorldCounts} up to date so that entities and chunks don't need to be copied every minute.
+ *
+ * @author AuroraLS3
+ */
+public class WorldCountListener implements Listener {
+
+    private final IncrementalWorldCounts worldCounts;
+
+    @Inject
+    public WorldCountListener(IncrementalWorldCounts worldCounts) {
+        this.worldCounts = worldCounts;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        worldCounts.chunkLoaded(event.getLevel().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        worldCounts.chunkUnloaded(event.getLevel().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLevelUnload(LevelUnloadEvent event) {
+        worldCounts.worldUnloaded(event.getLevel().getName());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitySpawn(EntitySpawnEvent event) {
+        worldCounts.entitiesAdded(event.getEntity().getLevel().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDespawn(EntityDespawnEvent event) {
+        worldCounts.entitiesRemoved(event.getEntity().getLevel().getName(), 1);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLevelChange(EntityLevelChangeEvent event) {
+        worldCounts.entitiesRemoved(event.getOrigin().getName(), 1);
+        worldCounts.entitiesAdded(event.getTarget().getName(), 1);
+    }
+}
@@ -30,21 +30,18 @@ import cn.nukkit.event.Listener;
 import cn.nukkit.event.player.PlayerJoinEvent;
 import cn.nukkit.event.player.PlayerQuitEvent;
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.Listeners;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -58,8 +55,7 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class NukkitPingCounter extends TaskSystem.Task implements Listener {
 
-    private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -77,46 +73,15 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        pingCollector = new PingCollector();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            Optional<Player> player = Server.getInstance().getPlayer(uuid);
-            if (player.isPresent()) {
-                int ping = player.get().getPing();
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
@@ -131,13 +96,17 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
         }
     }
 
+    private int getPingOf(UUID playerUUID) {
+        Player player = Server.getInstance().getPlayer(playerUUID).orElse(null);
+        return player != null ? player.getPing() : PingCollector.PLAYER_OFFLINE;
+    }
+
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        pingCollector.addPlayer(uuid);
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
-        startRecording.remove(player.getUniqueId());
+        pingCollector.removePlayer(player.getUniqueId());
     }
 
     @EventHandler
@@ -147,7 +116,7 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
     }
 
     @EventHandler
@@ -156,6 +125,6 @@ public class NukkitPingCounter extends TaskSystem.Task implements Listener {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 }
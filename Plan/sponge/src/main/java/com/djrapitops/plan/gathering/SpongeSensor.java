@@ -31,10 +31,12 @@ import java.util.stream.Collectors;
 public class SpongeSensor implements ServerSensor<ServerWorld> {
 
     private final Game game;
+    private final IncrementalWorldCounts worldCounts;
 
     @Inject
-    public SpongeSensor(Game game) {
+    public SpongeSensor(Game game, IncrementalWorldCounts worldCounts) {
         this.game = game;
+        this.worldCounts = worldCounts;
     }
 
     @Override
@@ -59,10 +61,13 @@ public class SpongeSensor implements ServerSensor<ServerWorld> {
 
     @Override
     public int getChunkCount(ServerWorld world) {
+        if (worldCounts.isEnabled()) {
+            // Counting chunks causes lag, so it is only done when the count is reconciled.
+            return worldCounts.getChunkCount(world.key().formatted(), () -> getLaggyChunkCount(world));
+        }
         return -1;
     }
 
-    @SuppressWarnings("unused") // This remains here so that it is not enabled, it causes lag.
     private int getLaggyChunkCount(ServerWorld world) {
         Iterator<WorldChunk> chunks = world.loadedChunks().iterator();
         int count = 0;
@@ -75,6 +80,9 @@ public class SpongeSensor implements ServerSensor<ServerWorld> {
 
     @Override
     public int getEntityCount(ServerWorld world) {
+        if (worldCounts.isEnabled()) {
+            return worldCounts.getEntityCount(world.key().formatted(), () -> world.entities().size());
+        }
         return world.entities().size();
     }
 
@@ -21,6 +21,7 @@ import com.djrapitops.plan.PlanSponge;
 import com.djrapitops.plan.SpongeServerShutdownSave;
 import com.djrapitops.plan.api.events.PlanSpongeEnableEvent;
 import com.djrapitops.plan.capability.CapabilitySvc;
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
 import com.djrapitops.plan.gathering.listeners.sponge.*;
 import net.playeranalytics.plugin.server.Listeners;
 import org.spongepowered.api.Sponge;
@@ -38,6 +39,8 @@ public class SpongeListenerSystem extends ListenerSystem {
     private final SpongeGMChangeListener gmChangeListener;
     private final PlayerOnlineListener playerListener;
     private final SpongeWorldChangeListener worldChangeListener;
+    private final SpongeWorldCountListener worldCountListener;
+    private final IncrementalWorldCounts worldCounts;
     private final SpongeServerShutdownSave spongeServerShutdownSave;
 
     @Inject
@@ -49,6 +52,8 @@ public class SpongeListenerSystem extends ListenerSystem {
             SpongeGMChangeListener gmChangeListener,
             PlayerOnlineListener playerListener,
             SpongeWorldChangeListener worldChangeListener,
+            SpongeWorldCountListener worldCountListener,
+            IncrementalWorldCounts worldCounts,
             SpongeServerShutdownSave spongeServerShutdownSave
     ) {
         this.listeners = listeners;
@@ -59,6 +64,8 @@ public class SpongeListenerSystem extends ListenerSystem {
         this.gmChangeListener = gmChangeListener;
         this.playerListener = playerListener;
         this.worldChangeListener = worldChangeListener;
+        this.worldCountListener = worldCountListener;
+        this.worldCounts = worldCounts;
         this.spongeServerShutdownSave = spongeServerShutdownSave;
     }
 
@@ -70,6 +77,9 @@ public class SpongeListenerSystem extends ListenerSystem {
         listeners.registerListener(playerListener);
         listeners.registerListener(gmChangeListener);
         listeners.registerListener(worldChangeListener);
+        if (worldCounts.isEnabled()) {
+            listeners.registerListener(worldCountListener);
+        }
         listeners.registerListener(spongeServerShutdownSave);
     }
 
@@ -81,7 +81,7 @@ public class SpongeAFKListener {
 
     @Listener(order = Order.POST)
     public void onMove(MoveEntityEvent event, @First ServerPlayer player) {
-        performedAction(player);
+        performedAction(player, true);
     }
 
     @Listener(order = Order.POST)
@@ -90,19 +90,24 @@ public class SpongeAFKListener {
     }
 
     private void performedAction(ServerPlayer player) {
+        performedAction(player, false);
+    }
+
+    private void performedAction(ServerPlayer player, boolean movement) {
         UUID uuid = player.uniqueId();
         long time = System.currentTimeMillis();
 
         boolean ignored = ignorePermissionInfo.computeIfAbsent(uuid, keyUUID -> player.hasPermission(Permissions.IGNORE_AFK.getPermission()));
         if (ignored) {
             afkTracker.hasIgnorePermission(uuid);
-            ignorePermissionInfo.put(uuid, true);
             return;
-        } else {
-            ignorePermissionInfo.put(uuid, false);
         }
 
-        afkTracker.performedAction(uuid, time);
+        if (movement) {
+            afkTracker.performedMovement(uuid, time);
+        } else {
+            afkTracker.performedAction(uuid, time);
+        }
     }
 
     @Listener(order = Order.POST)
@@ -0,0 +1,73 @@
+/*
+ *  This file is part of Player Analytics (Plan).
+ *
+ *  Plan is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU Lesser General Public License v3 as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  Plan is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License
+ *  along with Plan. If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.djrapitops.plan.gathering.listeners.sponge;
+
+import com.djrapitops.plan.gathering.IncrementalWorldCounts;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.entity.DestructEntityEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.event.world.UnloadWorldEvent;
+import org.spongepowered.api.event.world.chunk.ChunkEvent;
+
+import javax.inject.Inject;
+
+/**
+ * Listener that keeps {@link IncrementalWorldCounts} up to date so that entities and chunks don't need to be counted every minute.
+ *
+ * @author AuroraLS3
+ */
+public class SpongeWorldCountListener {
+
+    private final IncrementalWorldCounts worldCounts;
+
+    @Inject
+    public SpongeWorldCountListener(IncrementalWorldCounts worldCounts) {
+        this.worldCounts = worldCounts;
+    }
+
+    @Listener(order = Order.POST)
+    public void onChunkLoad(ChunkEvent.Load event) {
+        worldCounts.chunkLoaded(event.worldKey().formatted());
+    }
+
+    @Listener(order = Order.POST)
+    public void onChunkUnload(ChunkEvent.Unload.Post event) {
+        worldCounts.chunkUnloaded(event.worldKey().formatted());
+    }
+
+    @Listener(order = Order.POST)
+    public void onWorldUnload(UnloadWorldEvent event) {
+        worldCounts.worldUnloaded(event.world().key().formatted());
+    }
+
+    @Listener(order = Order.POST)
+    public void onEntitySpawn(SpawnEntityEvent event) {
+        for (Entity entity : event.entities()) {
+            worldCounts.entitiesAdded(entity.serverLocation().worldKey().formatted(), 1);
+        }
+    }
+
+    @Listener(order = Order.POST)
+    public void onEntityDestruct(DestructEntityEvent event) {
+        Entity entity = event.entity();
+        if (entity instanceof ServerPlayer) return; // Players are not removed when they die
+        worldCounts.entitiesRemoved(entity.serverLocation().worldKey().formatted(), 1);
+    }
+}
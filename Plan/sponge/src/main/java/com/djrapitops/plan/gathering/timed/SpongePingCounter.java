@@ -24,13 +24,11 @@
 package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import net.playeranalytics.plugin.scheduling.RunnableFactory;
 import net.playeranalytics.plugin.scheduling.TimeAmount;
 import net.playeranalytics.plugin.server.Listeners;
@@ -41,8 +39,7 @@ import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
 
 import javax.inject.Inject;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -52,8 +49,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class SpongePingCounter extends TaskSystem.Task {
 
-    private final Map<UUID, Long> startRecording;
-    private final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    private final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanConfig config;
@@ -71,46 +67,15 @@ public class SpongePingCounter extends TaskSystem.Task {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        playerHistory = new HashMap<>();
-        startRecording = new ConcurrentHashMap<>();
+        pingCollector = new PingCollector();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            Optional<ServerPlayer> player = Sponge.server().player(uuid);
-            if (player.isPresent()) {
-                int ping = getPing(player.get());
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
@@ -126,12 +91,16 @@ public class SpongePingCounter extends TaskSystem.Task {
     }
 
     public void addPlayer(UUID uuid) {
-        playerHistory.put(uuid, new ArrayList<>());
+        pingCollector.addPlayer(uuid);
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.uniqueId());
-        startRecording.remove(player.uniqueId());
+        pingCollector.removePlayer(player.uniqueId());
+    }
+
+    private int getPingOf(UUID playerUUID) {
+        ServerPlayer player = Sponge.server().player(playerUUID).orElse(null);
+        return player != null ? getPing(player) : PingCollector.PLAYER_OFFLINE;
     }
 
     private int getPing(ServerPlayer player) {
@@ -145,7 +114,7 @@ public class SpongePingCounter extends TaskSystem.Task {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.uniqueId(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.uniqueId(), System.currentTimeMillis() + pingDelayMs);
     }
 
     @Listener
@@ -154,6 +123,6 @@ public class SpongePingCounter extends TaskSystem.Task {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 }
@@ -25,13 +25,11 @@ package com.djrapitops.plan.gathering.timed;
 
 import com.djrapitops.plan.PlanVelocity;
 import com.djrapitops.plan.TaskSystem;
-import com.djrapitops.plan.delivery.domain.DateObj;
 import com.djrapitops.plan.identification.ServerInfo;
 import com.djrapitops.plan.settings.config.PlanConfig;
 import com.djrapitops.plan.settings.config.paths.DataGatheringSettings;
 import com.djrapitops.plan.settings.config.paths.TimeSettings;
 import com.djrapitops.plan.storage.database.DBSystem;
-import com.djrapitops.plan.storage.database.transactions.events.PingStoreTransaction;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.DisconnectEvent;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
@@ -42,8 +40,7 @@ import net.playeranalytics.plugin.server.Listeners;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -56,8 +53,7 @@ import java.util.concurrent.TimeUnit;
 @Singleton
 public class VelocityPingCounter extends TaskSystem.Task {
 
-    private final Map<UUID, Long> startRecording;
-    final Map<UUID, List<DateObj<Integer>>> playerHistory;
+    final PingCollector pingCollector;
 
     private final Listeners listeners;
     private final PlanVelocity plugin;
@@ -78,46 +74,15 @@ public class VelocityPingCounter extends TaskSystem.Task {
         this.config = config;
         this.dbSystem = dbSystem;
         this.serverInfo = serverInfo;
-        startRecording = new ConcurrentHashMap<>();
-        playerHistory = new HashMap<>();
+        pingCollector = new PingCollector();
     }
 
     @Override
     public void run() {
         long time = System.currentTimeMillis();
-
-        Iterator<Map.Entry<UUID, Long>> starts = startRecording.entrySet().iterator();
-        while (starts.hasNext()) {
-            Map.Entry<UUID, Long> start = starts.next();
-            if (time >= start.getValue()) {
-                addPlayer(start.getKey());
-                starts.remove();
-            }
-        }
-
-        Iterator<Map.Entry<UUID, List<DateObj<Integer>>>> iterator = playerHistory.entrySet().iterator();
-
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, List<DateObj<Integer>>> entry = iterator.next();
-            UUID uuid = entry.getKey();
-            List<DateObj<Integer>> history = entry.getValue();
-            Player player = plugin.getProxy().getPlayer(uuid).orElse(null);
-            if (player != null) {
-                int ping = getPing(player);
-                if (ping <= -1 || ping > TimeUnit.SECONDS.toMillis(8L)) {
-                    // Don't accept bad values
-                    continue;
-                }
-                history.add(new DateObj<>(time, ping));
-                if (history.size() >= 30) {
-                    dbSystem.getDatabase().executeTransaction(
-                            new PingStoreTransaction(uuid, serverInfo.getServerUUID(), new ArrayList<>(history))
-                    );
-                    history.clear();
-                }
-            } else {
-                iterator.remove();
-            }
+        pingCollector.collect(time, this::getPingOf);
+        if (pingCollector.isReadyToStore()) {
+            dbSystem.getDatabase().executeTransaction(pingCollector.createStoreTransaction(serverInfo.getServerUUID()));
         }
     }
 
@@ -133,11 +98,16 @@ public class VelocityPingCounter extends TaskSystem.Task {
     }
 
     void addPlayer(UUID playerUuid) {
-        playerHistory.put(playerUuid, new ArrayList<>());
+        pingCollector.addPlayer(playerUuid);
     }
 
     public void removePlayer(Player player) {
-        playerHistory.remove(player.getUniqueId());
+        pingCollector.removePlayer(player.getUniqueId());
+    }
+
+    private int getPingOf(UUID playerUUID) {
+        Player player = plugin.getProxy().getPlayer(playerUUID).orElse(null);
+        return player != null ? getPing(player) : PingCollector.PLAYER_OFFLINE;
     }
 
     private int getPing(Player player) {
@@ -151,7 +121,7 @@ public class VelocityPingCounter extends TaskSystem.Task {
         if (pingDelayMs >= TimeUnit.HOURS.toMillis(2L)) {
             return;
         }
-        startRecording.put(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
+        pingCollector.startRecording(player.getUniqueId(), System.currentTimeMillis() + pingDelayMs);
     }
 
     @Subscribe
@@ -160,6 +130,6 @@ public class VelocityPingCounter extends TaskSystem.Task {
     }
 
     public void clear() {
-        playerHistory.clear();
+        pingCollector.clear();
     }
 }
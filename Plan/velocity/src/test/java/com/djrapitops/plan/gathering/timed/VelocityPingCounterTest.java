@@ -60,12 +60,12 @@ class VelocityPingCounterTest {
     void offlinePlayerIsRemovedFromPlayerHistory() {
         VelocityPingCounter counter = new VelocityPingCounter(Mockito.mock(Listeners.class), plugin, null, null, null);
 
-        assertTrue(counter.playerHistory.isEmpty());
+        assertFalse(counter.pingCollector.isRecording(player.getUniqueId()));
         counter.addPlayer(player.getUniqueId());
-        assertFalse(counter.playerHistory.isEmpty());
+        assertTrue(counter.pingCollector.isRecording(player.getUniqueId()));
 
         counter.run();
-        assertTrue(counter.playerHistory.isEmpty());
+        assertFalse(counter.pingCollector.isRecording(player.getUniqueId()));
     }
 
 }
\ No newline at end of file